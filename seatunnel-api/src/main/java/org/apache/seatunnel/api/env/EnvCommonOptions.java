@@ -102,6 +102,58 @@ public interface EnvCommonOptions {
                     .noDefaultValue()
                     .withDescription("custom parameters for run engine");
 
+    Option<String> INTERMEDIATE_QUEUE_TYPE =
+            Options.key("intermediate_queue.type")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The queue type between chained tasks of this job, support blockingqueue, disruptor and ringbuffer. "
+                                    + "When not specified, the queue-type of the engine config is used.");
+
+    Option<Integer> INTERMEDIATE_QUEUE_BATCH_SIZE =
+            Options.key("intermediate_queue.batch_size")
+                    .intType()
+                    .defaultValue(256)
+                    .withDescription(
+                            "The max number of records handed over at once by the ringbuffer queue");
+
+    Option<Long> INTERMEDIATE_QUEUE_LINGER_MS =
+            Options.key("intermediate_queue.linger_ms")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The max time (in milliseconds) the ringbuffer queue waits for a full batch before handing over a partial one");
+
+    Option<Boolean> SHUFFLE_BATCH_TRANSPORT =
+            Options.key("shuffle.batch_transport")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Ship the records of a multi-table shuffle as serialized batch frames instead of one queue item per record");
+
+    Option<Integer> SHUFFLE_MAX_INFLIGHT_BATCHES =
+            Options.key("shuffle.max_inflight_batches")
+                    .intType()
+                    .defaultValue(16)
+                    .withDescription(
+                            "The max number of unconsumed batch frames per shuffle channel when shuffle.batch_transport is enabled");
+
+    Option<Long> METRICS_FLUSH_INTERVAL_MS =
+            Options.key("metrics.flush_interval_ms")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The interval (in milliseconds) at which each task publishes the row count and bytes metrics it accumulated locally, "
+                                    + "0 publishes them for every row");
+
+    Option<Integer> METRICS_BYTES_SAMPLE_INTERVAL =
+            Options.key("metrics.bytes_sample_interval")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Measure the bytes of every Nth row only and count the other rows with the last measured size, "
+                                    + "1 measures every row");
+
     Option<Map<String, String>> NODE_TAG_FILTER =
             Options.key("tag_filter")
                     .mapType()
@@ -29,4 +29,15 @@ public class SinkCommonOptions {
                     .intType()
                     .defaultValue(1)
                     .withDescription("The replica number of multi table sink writer");
+
+    @Experimental
+    public static Option<Boolean> MULTI_TABLE_SINK_ADAPTIVE_REBALANCE =
+            Options.key("multi_table_sink_adaptive_rebalance")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the multi table sink writer moves busy tables onto more "
+                                    + "writer threads and quiet tables onto fewer at every "
+                                    + "checkpoint, based on the rows each table wrote since the "
+                                    + "previous checkpoint");
 }
@@ -29,4 +29,12 @@ public interface SupportMultiTableSinkWriter<T> extends SupportResourceShare<T>
     default Optional<Integer> primaryKey() {
         return Optional.empty();
     }
+
+    /**
+     * The indexes of all primary key fields of the table in SeaTunnelRow, rows are routed by the
+     * hash of all of them. Defaults to the single field of {@link #primaryKey()}.
+     */
+    default Optional<int[]> primaryKeys() {
+        return primaryKey().map(index -> new int[] {index});
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses the queue of {@link MultiTableSinkWriter} every row is written to.
+ *
+ * <p>Every table owns a set of lanes, the queues its rows may go to. Rows with a primary key are
+ * hashed over the lanes and the others go round-robin. By default every table uses all queues.
+ * With adaptive rebalance the router counts the rows of every table and, at each checkpoint,
+ * gives a table a number of lanes proportional to its share of the rows. Busy tables are spread
+ * over more writer threads, quiet tables are packed onto the least loaded ones. Rebalance only
+ * runs when every queue is empty, so rows with the same key are never reordered.
+ */
+@Slf4j
+class MultiTableRouter {
+
+    private final int queueSize;
+    private final boolean adaptive;
+    private final Map<String, TableRoute> routes = new HashMap<>();
+    private final long[] queueBlockedOffers;
+    private TableRoute singleTableRoute;
+
+    MultiTableRouter(int queueSize, boolean adaptive) {
+        this.queueSize = queueSize;
+        this.adaptive = adaptive;
+        this.queueBlockedOffers = new long[queueSize];
+    }
+
+    void addTable(String tableId, Optional<int[]> primaryKeys) {
+        routes.put(tableId, new TableRoute(tableId, primaryKeys.orElse(null), allQueues()));
+        // rows of a single table sink may carry a table id the sink doesn't know, they are
+        // written round-robin as before
+        singleTableRoute = routes.size() == 1 ? new TableRoute(tableId, null, allQueues()) : null;
+    }
+
+    /** The queue of the row, only called by the writer thread. */
+    int selectQueue(SeaTunnelRow row) {
+        TableRoute route = routes.get(row.getTableId());
+        if (route == null) {
+            if (singleTableRoute == null) {
+                throw new RuntimeException(
+                        "multi table sink can not write table: " + row.getTableId());
+            }
+            route = singleTableRoute;
+        }
+        return route.selectQueue(row);
+    }
+
+    /** Record that the writer had to wait for a free slot of the queue. */
+    void recordBlockedOffer(int queueIndex) {
+        queueBlockedOffers[queueIndex]++;
+    }
+
+    /** Reassign the lanes from the rows counted since the last call, the queues must be empty. */
+    void rebalance() {
+        if (!adaptive || queueSize == 1) {
+            return;
+        }
+        List<TableRoute> tables = new ArrayList<>(routes.values());
+        long total = tables.stream().mapToLong(route -> route.rows).sum();
+        if (total == 0) {
+            return;
+        }
+        tables.sort(Comparator.comparingLong((TableRoute route) -> route.rows).reversed());
+        long[] queueLoad = new long[queueSize];
+        for (TableRoute route : tables) {
+            long share = (route.rows * queueSize + total - 1) / total;
+            int laneCount = (int) Math.max(1, Math.min(queueSize, share));
+            int[] lanes =
+                    IntStream.range(0, queueSize)
+                            .boxed()
+                            .sorted(
+                                    Comparator.<Integer>comparingLong(queue -> queueLoad[queue])
+                                            .thenComparingLong(queue -> queueBlockedOffers[queue])
+                                            .thenComparingInt(queue -> queue))
+                            .limit(laneCount)
+                            .mapToInt(Integer::intValue)
+                            .sorted()
+                            .toArray();
+            for (int lane : lanes) {
+                queueLoad[lane] += route.rows / laneCount;
+            }
+            if (log.isDebugEnabled() && !Arrays.equals(lanes, route.lanes)) {
+                log.debug(
+                        "multi table sink table {} with {} rows moves from lanes {} to {}",
+                        route.tableId,
+                        route.rows,
+                        Arrays.toString(route.lanes),
+                        Arrays.toString(lanes));
+            }
+            route.lanes = lanes;
+            route.nextLane = 0;
+            route.rows = 0;
+        }
+        log.info(
+                "rebalanced multi table sink writer, rows per queue: {}, "
+                        + "blocked offers per queue: {}",
+                Arrays.toString(queueLoad),
+                Arrays.toString(queueBlockedOffers));
+        Arrays.fill(queueBlockedOffers, 0);
+    }
+
+    private int[] allQueues() {
+        return IntStream.range(0, queueSize).toArray();
+    }
+
+    /**
+     * Hash all primary key fields of the row. Array values are hashed by content so that the same
+     * key always goes to the same sub-writer, and the result is mixed so that sequential keys
+     * spread over the queues.
+     */
+    static int primaryKeyHash(SeaTunnelRow row, int[] primaryKeys) {
+        int hash = 0;
+        for (int primaryKey : primaryKeys) {
+            Object field = row.getField(primaryKey);
+            int fieldHash;
+            if (field == null) {
+                fieldHash = 0;
+            } else if (field instanceof byte[]) {
+                fieldHash = Arrays.hashCode((byte[]) field);
+            } else if (field instanceof Object[]) {
+                fieldHash = Arrays.deepHashCode((Object[]) field);
+            } else {
+                fieldHash = field.hashCode();
+            }
+            hash = 31 * hash + fieldHash;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static class TableRoute {
+        private final String tableId;
+        private final int[] primaryKeys;
+        private int[] lanes;
+        private int nextLane;
+        private long rows;
+
+        private TableRoute(String tableId, int[] primaryKeys, int[] lanes) {
+            this.tableId = tableId;
+            this.primaryKeys = primaryKeys;
+            this.lanes = lanes;
+        }
+
+        private int selectQueue(SeaTunnelRow row) {
+            rows++;
+            if (lanes.length == 1) {
+                return lanes[0];
+            }
+            if (primaryKeys == null) {
+                int lane = lanes[nextLane];
+                nextLane = nextLane + 1 == lanes.length ? 0 : nextLane + 1;
+                return lane;
+            }
+            return lanes[Math.floorMod(primaryKeyHash(row, primaryKeys), lanes.length)];
+        }
+    }
+}
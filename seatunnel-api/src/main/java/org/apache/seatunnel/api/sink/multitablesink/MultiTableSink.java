@@ -55,10 +55,13 @@ public class MultiTableSink
 
     @Getter private final Map<String, SeaTunnelSink> sinks;
     private final int replicaNum;
+    private final boolean adaptiveRebalance;
 
     public MultiTableSink(MultiTableFactoryContext context) {
         this.sinks = context.getSinks();
         this.replicaNum = context.getOptions().get(SinkCommonOptions.MULTI_TABLE_SINK_REPLICA);
+        this.adaptiveRebalance =
+                context.getOptions().get(SinkCommonOptions.MULTI_TABLE_SINK_ADAPTIVE_REBALANCE);
     }
 
     @Override
@@ -81,7 +84,8 @@ public class MultiTableSink
                 sinkWritersContext.put(SinkIdentifier.of(tableIdentifier, index), context);
             }
         }
-        return new MultiTableSinkWriter(writers, replicaNum, sinkWritersContext);
+        return new MultiTableSinkWriter(
+                writers, replicaNum, sinkWritersContext, adaptiveRebalance);
     }
 
     @Override
@@ -116,7 +120,8 @@ public class MultiTableSink
                 sinkWritersContext.put(SinkIdentifier.of(tableIdentifier, index), context);
             }
         }
-        return new MultiTableSinkWriter(writers, replicaNum, sinkWritersContext);
+        return new MultiTableSinkWriter(
+                writers, replicaNum, sinkWritersContext, adaptiveRebalance);
     }
 
     @Override
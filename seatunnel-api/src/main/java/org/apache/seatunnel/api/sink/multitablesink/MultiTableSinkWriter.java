@@ -33,14 +33,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -49,14 +46,16 @@ public class MultiTableSinkWriter
         implements SinkWriter<SeaTunnelRow, MultiTableCommitInfo, MultiTableState>,
                 SupportSchemaEvolutionSinkWriter {
 
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
     private final Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters;
     private final Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext;
-    private final Map<String, Optional<Integer>> sinkPrimaryKeys = new HashMap<>();
     private final List<ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>>
             sinkWritersWithIndex;
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
-    private final Random random = new Random();
-    private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    private final List<RowRingBuffer> queues = new ArrayList<>();
+    private final MultiTableRouter router;
     private final ExecutorService executorService;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
@@ -65,7 +64,16 @@ public class MultiTableSinkWriter
             Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters,
             int queueSize,
             Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext) {
+        this(sinkWriters, queueSize, sinkWritersContext, false);
+    }
+
+    public MultiTableSinkWriter(
+            Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters,
+            int queueSize,
+            Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext,
+            boolean adaptiveRebalance) {
         this.sinkWriters = sinkWriters;
+        this.router = new MultiTableRouter(queueSize, adaptiveRebalance);
         this.sinkWritersContext = sinkWritersContext;
         AtomicInteger cnt = new AtomicInteger(0);
         executorService =
@@ -86,7 +94,7 @@ public class MultiTableSinkWriter
                                 }));
         sinkWritersWithIndex = new ArrayList<>();
         for (int i = 0; i < queueSize; i++) {
-            BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
+            RowRingBuffer queue = new RowRingBuffer(QUEUE_CAPACITY);
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
             ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierMap =
                     new ConcurrentHashMap<>();
@@ -101,11 +109,14 @@ public class MultiTableSinkWriter
                             });
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
-            blockingQueues.add(queue);
+            queues.add(queue);
             MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
             runnable.add(r);
         }
-        log.info("init multi table sink writer, queue size: {}", queueSize);
+        log.info(
+                "init multi table sink writer, queue size: {}, adaptive rebalance: {}",
+                queueSize,
+                adaptiveRebalance);
         initResourceManager(queueSize);
     }
 
@@ -126,7 +137,7 @@ public class MultiTableSinkWriter
                 SupportMultiTableSinkWriter<?> sink =
                         ((SupportMultiTableSinkWriter<?>) entry.getValue());
                 sink.setMultiTableResourceManager(resourceManager, i);
-                sinkPrimaryKeys.put(entry.getKey().getTableIdentifier(), sink.primaryKey());
+                router.addTable(entry.getKey().getTableIdentifier(), sink.primaryKeys());
             }
         }
     }
@@ -156,15 +167,13 @@ public class MultiTableSinkWriter
                             "Start apply schema change for table {} sub-writer {}",
                             sinkWriterEntry.getKey().getTableIdentifier(),
                             sinkWriterEntry.getKey().getIndex());
-                    synchronized (runnable.get(i)) {
-                        if (sinkWriterEntry.getValue()
-                                instanceof SupportSchemaEvolutionSinkWriter) {
-                            ((SupportSchemaEvolutionSinkWriter) sinkWriterEntry.getValue())
-                                    .applySchemaChange(event);
-                        } else {
-                            // TODO remove deprecated method
-                            sinkWriterEntry.getValue().applySchemaChange(event);
-                        }
+                    awaitQueueWritten(queues.get(i));
+                    if (sinkWriterEntry.getValue() instanceof SupportSchemaEvolutionSinkWriter) {
+                        ((SupportSchemaEvolutionSinkWriter) sinkWriterEntry.getValue())
+                                .applySchemaChange(event);
+                    } else {
+                        // TODO remove deprecated method
+                        sinkWriterEntry.getValue().applySchemaChange(event);
                     }
                     log.info(
                             "Finish apply schema change for table {} sub-writer {}",
@@ -182,31 +191,13 @@ public class MultiTableSinkWriter
             runnable.forEach(executorService::submit);
         }
         subSinkErrorCheck();
-        Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
-        try {
-            if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
-                    || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            } else if (primaryKey == null) {
-                throw new RuntimeException(
-                        "multi table sink can not write table: " + element.getTableId());
-            } else {
-                Object object = element.getField(primaryKey.get());
-                int index = 0;
-                if (object != null) {
-                    index = Math.abs(object.hashCode()) % blockingQueues.size();
-                }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            }
-        } catch (InterruptedException e) {
-            throw new IOException(e);
+        int index = router.selectQueue(element);
+        RowRingBuffer queue = queues.get(index);
+        if (!queue.offer(element)) {
+            router.recordBlockedOffer(index);
+            do {
+                waitForQueue(queue);
+            } while (!queue.offer(element));
         }
     }
 
@@ -219,13 +210,14 @@ public class MultiTableSinkWriter
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
             for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriterEntry :
                     sinkWritersWithIndex.get(i).entrySet()) {
-                synchronized (runnable.get(i)) {
-                    List states = sinkWriterEntry.getValue().snapshotState(checkpointId);
-                    multiTableState.getStates().put(sinkWriterEntry.getKey(), states);
-                }
+                List states = sinkWriterEntry.getValue().snapshotState(checkpointId);
+                multiTableState.getStates().put(sinkWriterEntry.getKey(), states);
             }
         }
         multiTableStates.add(multiTableState);
+        // the queues are empty and prepare commit has flushed the sub-writers, so moving the
+        // tables to other queues can't reorder their rows
+        router.rebalance();
         return multiTableStates;
     }
 
@@ -246,26 +238,24 @@ public class MultiTableSinkWriter
             futures.add(
                     executorService.submit(
                             () -> {
-                                synchronized (runnable.get(subWriterIndex)) {
-                                    for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>
-                                            sinkWriterEntry :
-                                                    sinkWritersWithIndex
-                                                            .get(subWriterIndex)
-                                                            .entrySet()) {
-                                        Optional<?> commit;
-                                        try {
-                                            SinkWriter<SeaTunnelRow, ?, ?> sinkWriter =
-                                                    sinkWriterEntry.getValue();
-                                            commit = sinkWriter.prepareCommit(checkpointId);
-                                        } catch (IOException e) {
-                                            throw new RuntimeException(e);
-                                        }
-                                        commit.ifPresent(
-                                                o ->
-                                                        multiTableCommitInfo
-                                                                .getCommitInfo()
-                                                                .put(sinkWriterEntry.getKey(), o));
+                                for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>
+                                        sinkWriterEntry :
+                                                sinkWritersWithIndex
+                                                        .get(subWriterIndex)
+                                                        .entrySet()) {
+                                    Optional<?> commit;
+                                    try {
+                                        SinkWriter<SeaTunnelRow, ?, ?> sinkWriter =
+                                                sinkWriterEntry.getValue();
+                                        commit = sinkWriter.prepareCommit(checkpointId);
+                                    } catch (IOException e) {
+                                        throw new RuntimeException(e);
                                     }
+                                    commit.ifPresent(
+                                            o ->
+                                                    multiTableCommitInfo
+                                                            .getCommitInfo()
+                                                            .put(sinkWriterEntry.getKey(), o));
                                 }
                             }));
         }
@@ -291,17 +281,14 @@ public class MultiTableSinkWriter
             firstE = e;
         }
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
-            synchronized (runnable.get(i)) {
-                for (SinkWriter<SeaTunnelRow, ?, ?> sinkWriter :
-                        sinkWritersWithIndex.get(i).values()) {
-                    try {
-                        sinkWriter.abortPrepare();
-                    } catch (Throwable e) {
-                        if (firstE == null) {
-                            firstE = e;
-                        }
-                        log.error("abortPrepare error", e);
+            for (SinkWriter<SeaTunnelRow, ?, ?> sinkWriter : sinkWritersWithIndex.get(i).values()) {
+                try {
+                    sinkWriter.abortPrepare();
+                } catch (Throwable e) {
+                    if (firstE == null) {
+                        firstE = e;
                     }
+                    log.error("abortPrepare error", e);
                 }
             }
         }
@@ -321,22 +308,28 @@ public class MultiTableSinkWriter
             firstE[0] = e;
         }
         executorService.shutdownNow();
+        try {
+            // make sure no runnable is still inside a sub-writer before closing them
+            if (!executorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("multi table sink writer threads did not stop before close");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
-            synchronized (runnable.get(i)) {
-                Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierSinkWriterMap =
-                        sinkWritersWithIndex.get(i);
-                sinkIdentifierSinkWriterMap.forEach(
-                        (identifier, sinkWriter) -> {
-                            try {
-                                sinkWriter.close();
-                            } catch (Throwable e) {
-                                if (firstE[0] == null) {
-                                    firstE[0] = e;
-                                }
-                                log.error("close error", e);
+            Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierSinkWriterMap =
+                    sinkWritersWithIndex.get(i);
+            sinkIdentifierSinkWriterMap.forEach(
+                    (identifier, sinkWriter) -> {
+                        try {
+                            sinkWriter.close();
+                        } catch (Throwable e) {
+                            if (firstE[0] == null) {
+                                firstE[0] = e;
                             }
-                        });
-            }
+                            log.error("close error", e);
+                        }
+                    });
         }
         try {
             if (resourceManager != null) {
@@ -350,16 +343,29 @@ public class MultiTableSinkWriter
         }
     }
 
+    /**
+     * Wait until every sub-writer has written all rows of its queue. The runnables only touch the
+     * sub-writers while their queue is not empty, so afterwards the caller has exclusive access to
+     * them until it offers the next row.
+     */
     private void checkQueueRemain() {
+        for (RowRingBuffer queue : queues) {
+            awaitQueueWritten(queue);
+        }
+    }
+
+    private void awaitQueueWritten(RowRingBuffer queue) {
+        while (!queue.isEmpty()) {
+            waitForQueue(queue);
+        }
+    }
+
+    private void waitForQueue(RowRingBuffer queue) {
         try {
-            for (BlockingQueue<SeaTunnelRow> blockingQueue : blockingQueues) {
-                while (!blockingQueue.isEmpty()) {
-                    Thread.sleep(100);
-                    subSinkErrorCheck();
-                }
-            }
+            queue.awaitRelease();
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
+        subSinkErrorCheck();
     }
 }
@@ -23,49 +23,42 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class MultiTableWriterRunnable implements Runnable {
 
+    private static final int DRAIN_BATCH_SIZE = 128;
+
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
-    private final BlockingQueue<SeaTunnelRow> queue;
+    private final RowRingBuffer queue;
     private volatile Throwable throwable;
     private volatile String currentTableId;
 
     public MultiTableWriterRunnable(
-            Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
-            BlockingQueue<SeaTunnelRow> queue) {
+            Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap, RowRingBuffer queue) {
         this.tableIdWriterMap = tableIdWriterMap;
         this.queue = queue;
     }
 
     @Override
     public void run() {
+        SeaTunnelRow[] batch = new SeaTunnelRow[DRAIN_BATCH_SIZE];
         while (true) {
             SeaTunnelRow row = null;
             try {
-                row = queue.poll(100, TimeUnit.MILLISECONDS);
-                if (row == null) {
+                int count = queue.drainTo(batch, DRAIN_BATCH_SIZE);
+                if (count == 0) {
+                    queue.awaitRows();
                     continue;
                 }
-                SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
-                if (writer == null) {
-                    if (tableIdWriterMap.size() == 1) {
-                        writer = tableIdWriterMap.values().stream().findFirst().get();
-                        currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
-                    } else {
-                        throw new RuntimeException(
-                                "MultiTableWriterRunnable can't find writer for tableId: "
-                                        + row.getTableId());
-                    }
-                } else {
-                    currentTableId = row.getTableId();
-                }
-                synchronized (this) {
-                    writer.write(row);
+                for (int i = 0; i < count; i++) {
+                    row = batch[i];
+                    batch[i] = null;
+                    getWriter(row).write(row);
                 }
+                // the writer waits for the buffer to be empty before it touches the sub-writers,
+                // so the rows are only released after they have been written
+                queue.release(count);
             } catch (InterruptedException e) {
                 // When the job finished, the thread will be interrupted, so we ignore this
                 // exception.
@@ -80,6 +73,23 @@ public class MultiTableWriterRunnable implements Runnable {
         }
     }
 
+    private SinkWriter<SeaTunnelRow, ?, ?> getWriter(SeaTunnelRow row) {
+        SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
+        if (writer == null) {
+            if (tableIdWriterMap.size() == 1) {
+                writer = tableIdWriterMap.values().stream().findFirst().get();
+                currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
+            } else {
+                throw new RuntimeException(
+                        "MultiTableWriterRunnable can't find writer for tableId: "
+                                + row.getTableId());
+            }
+        } else if (!row.getTableId().equals(currentTableId)) {
+            currentTableId = row.getTableId();
+        }
+        return writer;
+    }
+
     public Throwable getThrowable() {
         return throwable;
     }
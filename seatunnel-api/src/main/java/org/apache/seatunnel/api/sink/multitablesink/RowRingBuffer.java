@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded single producer single consumer ring buffer between {@link MultiTableSinkWriter} and
+ * one {@link MultiTableWriterRunnable}.
+ *
+ * <p>The consumer reads a batch of rows with {@link #drainTo} and only gives the slots back with
+ * {@link #release} after the rows have been written, so an empty buffer means every offered row
+ * has reached its sub-writer. The writer relies on this to run barriers (snapshot, prepare commit,
+ * schema change) on the sub-writers without taking a monitor.
+ */
+public class RowRingBuffer {
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SeaTunnelRow[] buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    private final AtomicReference<Thread> parkedConsumer = new AtomicReference<>();
+    private final AtomicReference<Thread> parkedProducer = new AtomicReference<>();
+
+    /** Only accessed by the producer. */
+    private long cachedConsumerIndex;
+
+    /** Only accessed by the consumer. */
+    private long cachedProducerIndex;
+
+    public RowRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.buffer = new SeaTunnelRow[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publish the row if there is a free slot.
+     *
+     * @return false if the buffer is full
+     */
+    public boolean offer(SeaTunnelRow row) {
+        long index = producerIndex.get();
+        if (index - cachedConsumerIndex >= buffer.length) {
+            cachedConsumerIndex = consumerIndex.get();
+            if (index - cachedConsumerIndex >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) index & mask] = row;
+        producerIndex.lazySet(index + 1);
+        wakeUp(parkedConsumer);
+        return true;
+    }
+
+    /** True when every offered row has been drained and released by the consumer. */
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    /**
+     * Copy up to {@code maxRows} published rows into {@code output} without releasing them.
+     *
+     * @return the number of rows copied
+     */
+    public int drainTo(SeaTunnelRow[] output, int maxRows) {
+        long index = consumerIndex.get();
+        if (cachedProducerIndex - index < maxRows) {
+            cachedProducerIndex = producerIndex.get();
+        }
+        int count = (int) Math.min(cachedProducerIndex - index, maxRows);
+        for (int i = 0; i < count; i++) {
+            output[i] = buffer[(int) (index + i) & mask];
+        }
+        return count;
+    }
+
+    /** Give back the slots of the first {@code count} drained rows. */
+    public void release(int count) {
+        long index = consumerIndex.get();
+        for (int i = 0; i < count; i++) {
+            buffer[(int) (index + i) & mask] = null;
+        }
+        consumerIndex.lazySet(index + count);
+        wakeUp(parkedProducer);
+    }
+
+    /**
+     * Park the consumer until the producer publishes a row. The park is bounded, so a wakeup that
+     * races with the producer only delays the consumer by the park time.
+     */
+    public void awaitRows() throws InterruptedException {
+        parkedConsumer.set(Thread.currentThread());
+        if (consumerIndex.get() == producerIndex.get()) {
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+        parkedConsumer.lazySet(null);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    /**
+     * Park the producer until the consumer releases rows, used while the buffer is full or while
+     * waiting for it to become empty. The park is bounded like {@link #awaitRows()}, so the caller
+     * can check for errors of the consumer in between.
+     */
+    public void awaitRelease() throws InterruptedException {
+        long index = consumerIndex.get();
+        parkedProducer.set(Thread.currentThread());
+        if (consumerIndex.get() == index && !isEmpty()) {
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+        parkedProducer.lazySet(null);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    /** Unpark the other side once, it clears the reference itself if it wakes up on its own. */
+    private static void wakeUp(AtomicReference<Thread> parked) {
+        if (parked.get() != null) {
+            Thread thread = parked.getAndSet(null);
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.api.source;
 
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 
 /**
  * A {@link Collector} is used to collect data from {@link SourceReader}.
@@ -32,6 +33,18 @@ public interface Collector<T> {
 
     default void collect(SchemaChangeEvent event) {}
 
+    /**
+     * Collect a batch of {@link org.apache.seatunnel.api.table.type.SeaTunnelRow}, the rows of the
+     * batch are materialized and collected one by one by {@link #collect(Object)}. The batch is
+     * handed over to the collector, the caller must not modify it afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    default void collect(ColumnarBatch batch) {
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            collect((T) batch.getRow(i));
+        }
+    }
+
     default void markSchemaChangeAfterCheckpoint() {}
 
     /**
@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.state.CheckpointListener;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@link SourceReader} is used to generate source record, and it will be running at worker.
@@ -33,6 +34,9 @@ import java.util.List;
 public interface SourceReader<T, SplitT extends SourceSplit>
         extends AutoCloseable, CheckpointListener {
 
+    /** The availability of readers which do not report when data arrives. */
+    CompletableFuture<Void> AVAILABILITY_UNKNOWN = CompletableFuture.completedFuture(null);
+
     /** Open the source reader. */
     void open() throws Exception;
 
@@ -51,6 +55,20 @@ public interface SourceReader<T, SplitT extends SourceSplit>
      */
     void pollNext(Collector<T> output) throws Exception;
 
+    /**
+     * Get a future which is completed once the reader has data to emit, it is called after a
+     * {@link #pollNext(Collector)} that emitted nothing, and the engine parks the reader until the
+     * future completes instead of polling it again at a fixed interval.
+     *
+     * <p>Readers which can not tell when data arrives return {@link #AVAILABILITY_UNKNOWN}, then
+     * the engine waits for a fixed interval before polling again.
+     *
+     * @return a future completed once data is available.
+     */
+    default CompletableFuture<Void> isAvailable() {
+        return AVAILABILITY_UNKNOWN;
+    }
+
     /**
      * Get the current split checkpoint state by checkpointId.
      *
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source.filter;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/** A simple predicate comparing a field of the source table with literal values. */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class FieldPredicate implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String fieldName;
+
+    private final Operator operator;
+
+    /**
+     * The literal values, a single value for the comparison operators, one or more values for
+     * {@link Operator#IN} and none for {@link Operator#IS_NULL} and {@link Operator#IS_NOT_NULL}.
+     * The values are of type Long, Double or String.
+     */
+    private final List<Object> values;
+
+    public Object getValue() {
+        return values.get(0);
+    }
+
+    /**
+     * Render the predicate as a SQL condition.
+     *
+     * @param quoteIdentifier function to quote the field name
+     * @param quoteString function to quote a string literal, returns null if the value can't be
+     *     quoted safely
+     * @return the condition, null if a literal can't be quoted
+     */
+    public String toSql(
+            Function<String, String> quoteIdentifier, Function<String, String> quoteString) {
+        List<String> literals = new ArrayList<>(values.size());
+        for (Object value : values) {
+            String literal =
+                    value instanceof String
+                            ? quoteString.apply((String) value)
+                            : String.valueOf(value);
+            if (literal == null) {
+                return null;
+            }
+            literals.add(literal);
+        }
+        String field = quoteIdentifier.apply(fieldName);
+        switch (operator) {
+            case IS_NULL:
+                return field + " IS NULL";
+            case IS_NOT_NULL:
+                return field + " IS NOT NULL";
+            case IN:
+                return field + " IN (" + String.join(", ", literals) + ")";
+            default:
+                return field + " " + operator.getSymbol() + " " + literals.get(0);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public enum Operator {
+        EQUALS("="),
+        GREATER_THAN(">"),
+        GREATER_THAN_OR_EQUAL(">="),
+        LESS_THAN("<"),
+        LESS_THAN_OR_EQUAL("<="),
+        IS_NULL("IS NULL"),
+        IS_NOT_NULL("IS NOT NULL"),
+        IN("IN");
+
+        private final String symbol;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source.filter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The filter a transform offers to the source it directly reads from, see {@link
+ * org.apache.seatunnel.api.source.SupportFilterPushDown}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PushDownFilter implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** The predicates are combined with AND. */
+    private final List<FieldPredicate> predicates;
+
+    /** The fields the transform reads, null if all fields are required. */
+    private final List<String> projectedFields;
+
+    public boolean isEmpty() {
+        return predicates.isEmpty() && projectedFields == null;
+    }
+
+    /**
+     * Render the predicates as a SQL condition without the WHERE keyword, the predicates with a
+     * literal that can't be quoted are skipped.
+     *
+     * @return the condition, empty if no predicate is rendered
+     */
+    public String toSql(
+            Function<String, String> quoteIdentifier, Function<String, String> quoteString) {
+        return predicates.stream()
+                .map(predicate -> predicate.toSql(quoteIdentifier, quoteString))
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" AND "));
+    }
+}
@@ -27,7 +27,9 @@ import org.apache.seatunnel.api.sink.multitablesink.MultiTableSinkFactory;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceOptions;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
 import org.apache.seatunnel.api.table.catalog.Catalog;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
@@ -65,7 +67,17 @@ public final class FactoryUtil {
     public static <T, SplitT extends SourceSplit, StateT extends Serializable>
             Tuple2<SeaTunnelSource<T, SplitT, StateT>, List<CatalogTable>> createAndPrepareSource(
                     ReadonlyConfig options, ClassLoader classLoader, String factoryIdentifier) {
-        return restoreAndPrepareSource(options, classLoader, factoryIdentifier, null);
+        return restoreAndPrepareSource(options, classLoader, factoryIdentifier, null, null);
+    }
+
+    public static <T, SplitT extends SourceSplit, StateT extends Serializable>
+            Tuple2<SeaTunnelSource<T, SplitT, StateT>, List<CatalogTable>> createAndPrepareSource(
+                    ReadonlyConfig options,
+                    ClassLoader classLoader,
+                    String factoryIdentifier,
+                    PushDownFilter pushDownFilter) {
+        return restoreAndPrepareSource(
+                options, classLoader, factoryIdentifier, null, pushDownFilter);
     }
 
     public static <T, SplitT extends SourceSplit, StateT extends Serializable>
@@ -74,10 +86,32 @@ public final class FactoryUtil {
                     ClassLoader classLoader,
                     String factoryIdentifier,
                     ChangeStreamTableSourceCheckpoint checkpoint) {
+        return restoreAndPrepareSource(options, classLoader, factoryIdentifier, checkpoint, null);
+    }
+
+    /**
+     * Create the source and offer the filter of the downstream transform to it if the factory
+     * implements {@link SupportFilterPushDown}.
+     *
+     * @param checkpoint the checkpoint to restore the source from, may be null
+     * @param pushDownFilter the filter of the downstream transform, may be null
+     */
+    public static <T, SplitT extends SourceSplit, StateT extends Serializable>
+            Tuple2<SeaTunnelSource<T, SplitT, StateT>, List<CatalogTable>> restoreAndPrepareSource(
+                    ReadonlyConfig options,
+                    ClassLoader classLoader,
+                    String factoryIdentifier,
+                    ChangeStreamTableSourceCheckpoint checkpoint,
+                    PushDownFilter pushDownFilter) {
 
         try {
             final TableSourceFactory factory =
                     discoverFactory(classLoader, TableSourceFactory.class, factoryIdentifier);
+            if (!(factory instanceof SupportFilterPushDown)) {
+                pushDownFilter = null;
+            } else if (pushDownFilter != null) {
+                LOG.info("Push down filter into source {}: {}", factoryIdentifier, pushDownFilter);
+            }
             SeaTunnelSource<T, SplitT, StateT> source;
             if (factory instanceof ChangeStreamTableSourceFactory && checkpoint != null) {
                 ChangeStreamTableSourceFactory changeStreamTableSourceFactory =
@@ -86,9 +120,13 @@ public final class FactoryUtil {
                         changeStreamTableSourceFactory.deserializeTableSourceState(checkpoint);
                 source =
                         restoreAndPrepareSource(
-                                changeStreamTableSourceFactory, options, classLoader, state);
+                                changeStreamTableSourceFactory,
+                                options,
+                                classLoader,
+                                state,
+                                pushDownFilter);
             } else {
-                source = createAndPrepareSource(factory, options, classLoader);
+                source = createAndPrepareSource(factory, options, classLoader, pushDownFilter);
             }
             List<CatalogTable> catalogTables;
             try {
@@ -124,8 +162,12 @@ public final class FactoryUtil {
 
     private static <T, SplitT extends SourceSplit, StateT extends Serializable>
             SeaTunnelSource<T, SplitT, StateT> createAndPrepareSource(
-                    TableSourceFactory factory, ReadonlyConfig options, ClassLoader classLoader) {
-        TableSourceFactoryContext context = new TableSourceFactoryContext(options, classLoader);
+                    TableSourceFactory factory,
+                    ReadonlyConfig options,
+                    ClassLoader classLoader,
+                    PushDownFilter pushDownFilter) {
+        TableSourceFactoryContext context =
+                new TableSourceFactoryContext(options, classLoader, pushDownFilter);
         ConfigValidator.of(context.getOptions()).validate(factory.optionRule());
         TableSource<T, SplitT, StateT> tableSource = factory.createSource(context);
         return tableSource.createSource();
@@ -136,8 +178,10 @@ public final class FactoryUtil {
                     ChangeStreamTableSourceFactory factory,
                     ReadonlyConfig options,
                     ClassLoader classLoader,
-                    ChangeStreamTableSourceState state) {
-        TableSourceFactoryContext context = new TableSourceFactoryContext(options, classLoader);
+                    ChangeStreamTableSourceState state,
+                    PushDownFilter pushDownFilter) {
+        TableSourceFactoryContext context =
+                new TableSourceFactoryContext(options, classLoader, pushDownFilter);
         ConfigValidator.of(context.getOptions()).validate(factory.optionRule());
         LOG.info("Restore create source from checkpoint state: {}", state);
         TableSource<T, SplitT, StateT> tableSource = factory.restoreSource(context, state);
@@ -18,13 +18,26 @@
 package org.apache.seatunnel.api.table.factory;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
 
 import lombok.Getter;
 
 @Getter
 public class TableSourceFactoryContext extends TableFactoryContext {
 
+    /**
+     * The filter of the transform reading from the source, only offered to the factory implementing
+     * {@link org.apache.seatunnel.api.source.SupportFilterPushDown}, may be null.
+     */
+    private final PushDownFilter pushDownFilter;
+
     public TableSourceFactoryContext(ReadonlyConfig options, ClassLoader classLoader) {
+        this(options, classLoader, null);
+    }
+
+    public TableSourceFactoryContext(
+            ReadonlyConfig options, ClassLoader classLoader, PushDownFilter pushDownFilter) {
         super(options, classLoader);
+        this.pushDownFilter = pushDownFilter;
     }
 }
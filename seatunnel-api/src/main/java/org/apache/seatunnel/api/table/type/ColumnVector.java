@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * The values of one column of a {@link ColumnarBatch}.
+ *
+ * <p>Fixed width types are stored in primitive arrays without boxing: BOOLEAN, TINYINT, SMALLINT,
+ * INT, BIGINT, FLOAT, DOUBLE, DATE (epoch day in the int array), TIME (nano of day in the long
+ * array) and TIMESTAMP (epoch second in the long array, nano of second in the int array). All other
+ * types are stored as object references. Nulls are tracked in a bitmap.
+ *
+ * <p>The primitive accessors must match the storage of the column type, e.g. {@link #getInt(int)}
+ * is valid for INT and DATE columns.
+ */
+public final class ColumnVector implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final SeaTunnelDataType<?> dataType;
+    private final SqlType sqlType;
+    private final int capacity;
+    private final long[] nulls;
+    // whether SeaTunnelRow can estimate the size of a value of the column type
+    private final boolean measurable;
+
+    private boolean[] booleans;
+    private byte[] bytes;
+    private short[] shorts;
+    private int[] ints;
+    private long[] longs;
+    private float[] floats;
+    private double[] doubles;
+    private Object[] objects;
+
+    public ColumnVector(SeaTunnelDataType<?> dataType, int capacity) {
+        this.dataType = dataType;
+        this.sqlType = dataType.getSqlType();
+        this.capacity = capacity;
+        this.nulls = new long[(capacity + 63) >>> 6];
+        this.measurable = isMeasurable(dataType);
+        switch (sqlType) {
+            case BOOLEAN:
+                booleans = new boolean[capacity];
+                break;
+            case TINYINT:
+                bytes = new byte[capacity];
+                break;
+            case SMALLINT:
+                shorts = new short[capacity];
+                break;
+            case INT:
+            case DATE:
+                ints = new int[capacity];
+                break;
+            case BIGINT:
+            case TIME:
+                longs = new long[capacity];
+                break;
+            case TIMESTAMP:
+                longs = new long[capacity];
+                ints = new int[capacity];
+                break;
+            case FLOAT:
+                floats = new float[capacity];
+                break;
+            case DOUBLE:
+                doubles = new double[capacity];
+                break;
+            default:
+                objects = new Object[capacity];
+        }
+    }
+
+    public SeaTunnelDataType<?> getDataType() {
+        return dataType;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isNullAt(int rowId) {
+        return (nulls[rowId >>> 6] & (1L << rowId)) != 0;
+    }
+
+    public void setNull(int rowId) {
+        nulls[rowId >>> 6] |= 1L << rowId;
+        if (objects != null) {
+            objects[rowId] = null;
+        }
+    }
+
+    private void setNotNull(int rowId) {
+        nulls[rowId >>> 6] &= ~(1L << rowId);
+    }
+
+    public boolean getBoolean(int rowId) {
+        return booleans[rowId];
+    }
+
+    public void putBoolean(int rowId, boolean value) {
+        booleans[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    public byte getByte(int rowId) {
+        return bytes[rowId];
+    }
+
+    public void putByte(int rowId, byte value) {
+        bytes[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    public short getShort(int rowId) {
+        return shorts[rowId];
+    }
+
+    public void putShort(int rowId, short value) {
+        shorts[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    public int getInt(int rowId) {
+        return ints[rowId];
+    }
+
+    public void putInt(int rowId, int value) {
+        ints[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    public long getLong(int rowId) {
+        return longs[rowId];
+    }
+
+    public void putLong(int rowId, long value) {
+        longs[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    public float getFloat(int rowId) {
+        return floats[rowId];
+    }
+
+    public void putFloat(int rowId, float value) {
+        floats[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    public double getDouble(int rowId) {
+        return doubles[rowId];
+    }
+
+    public void putDouble(int rowId, double value) {
+        doubles[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    /** Put a TIMESTAMP value as epoch second and nano of second in UTC. */
+    public void putTimestamp(int rowId, long epochSecond, int nanoOfSecond) {
+        longs[rowId] = epochSecond;
+        ints[rowId] = nanoOfSecond;
+        setNotNull(rowId);
+    }
+
+    /** Get the value in the same representation as a {@link SeaTunnelRow} field. */
+    public Object getObject(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        switch (sqlType) {
+            case BOOLEAN:
+                return booleans[rowId];
+            case TINYINT:
+                return bytes[rowId];
+            case SMALLINT:
+                return shorts[rowId];
+            case INT:
+                return ints[rowId];
+            case DATE:
+                return LocalDate.ofEpochDay(ints[rowId]);
+            case BIGINT:
+                return longs[rowId];
+            case TIME:
+                return LocalTime.ofNanoOfDay(longs[rowId]);
+            case TIMESTAMP:
+                return LocalDateTime.ofEpochSecond(longs[rowId], ints[rowId], ZoneOffset.UTC);
+            case FLOAT:
+                return floats[rowId];
+            case DOUBLE:
+                return doubles[rowId];
+            default:
+                return objects[rowId];
+        }
+    }
+
+    /** Put a value in the same representation as a {@link SeaTunnelRow} field. */
+    public void putObject(int rowId, Object value) {
+        if (value == null) {
+            setNull(rowId);
+            return;
+        }
+        switch (sqlType) {
+            case BOOLEAN:
+                putBoolean(rowId, (Boolean) value);
+                break;
+            case TINYINT:
+                putByte(rowId, (Byte) value);
+                break;
+            case SMALLINT:
+                putShort(rowId, (Short) value);
+                break;
+            case INT:
+                putInt(rowId, (Integer) value);
+                break;
+            case DATE:
+                putInt(rowId, (int) ((LocalDate) value).toEpochDay());
+                break;
+            case BIGINT:
+                putLong(rowId, (Long) value);
+                break;
+            case TIME:
+                putLong(rowId, ((LocalTime) value).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) value;
+                putTimestamp(rowId, dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano());
+                break;
+            case FLOAT:
+                putFloat(rowId, (Float) value);
+                break;
+            case DOUBLE:
+                putDouble(rowId, (Double) value);
+                break;
+            default:
+                objects[rowId] = value;
+                setNotNull(rowId);
+        }
+    }
+
+    /**
+     * The estimated size of the first {@code numRows} values, it is the size {@link
+     * SeaTunnelRow#getBytesSize(SeaTunnelRowType)} counts for them. The values of a type it can not
+     * measure are not counted.
+     */
+    int getBytesSize(int numRows) {
+        if (!measurable) {
+            return 0;
+        }
+        if (objects == null) {
+            int nonNullCount = 0;
+            for (int i = 0; i < numRows; i++) {
+                if (!isNullAt(i)) {
+                    nonNullCount++;
+                }
+            }
+            return getFixedWidthBytes() * nonNullCount;
+        }
+        int size = 0;
+        for (int i = 0; i < numRows; i++) {
+            size += SeaTunnelRow.getBytesForValue(objects[i], dataType);
+        }
+        return size;
+    }
+
+    /** Whether {@link SeaTunnelRow#getBytesSize(SeaTunnelRowType)} supports the type. */
+    private static boolean isMeasurable(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case FLOAT:
+            case BIGINT:
+            case DOUBLE:
+            case DECIMAL:
+            case NULL:
+            case BYTES:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+            case FLOAT_VECTOR:
+            case FLOAT16_VECTOR:
+            case BFLOAT16_VECTOR:
+            case BINARY_VECTOR:
+            case SPARSE_FLOAT_VECTOR:
+            case ARRAY:
+                return true;
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                return isMeasurable(mapType.getKeyType()) && isMeasurable(mapType.getValueType());
+            case ROW:
+                for (SeaTunnelDataType<?> fieldType :
+                        ((SeaTunnelRowType) dataType).getFieldTypes()) {
+                    if (!isMeasurable(fieldType)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private int getFixedWidthBytes() {
+        switch (sqlType) {
+            case BOOLEAN:
+            case TINYINT:
+                return 1;
+            case SMALLINT:
+                return 2;
+            case INT:
+            case FLOAT:
+                return 4;
+            case BIGINT:
+            case DOUBLE:
+                return 8;
+            case DATE:
+                return 24;
+            case TIME:
+                return 12;
+            case TIMESTAMP:
+                return 48;
+            default:
+                throw new UnsupportedOperationException("Unsupported type: " + sqlType);
+        }
+    }
+
+    /** Clear all values so that the vector can be reused for the next batch. */
+    public void reset() {
+        Arrays.fill(nulls, 0L);
+        if (objects != null) {
+            Arrays.fill(objects, null);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A batch of rows of the same table stored column by column, see {@link ColumnVector}.
+ *
+ * <p>Readers and writers supporting it exchange whole batches without materializing a {@link
+ * SeaTunnelRow} per record, all other operators get the rows from {@link #getRow(int)}.
+ */
+public final class ColumnarBatch implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final SeaTunnelRowType rowType;
+    private final ColumnVector[] columns;
+    private final byte[] rowKinds;
+    private final int capacity;
+    /** Table identifier of all rows in the batch. */
+    private String tableId = "";
+
+    private int numRows;
+
+    public ColumnarBatch(SeaTunnelRowType rowType, int capacity) {
+        this.rowType = rowType;
+        this.capacity = capacity;
+        this.columns = new ColumnVector[rowType.getTotalFields()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new ColumnVector(rowType.getFieldType(i), capacity);
+        }
+        this.rowKinds = new byte[capacity];
+    }
+
+    public SeaTunnelRowType getRowType() {
+        return rowType;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getNumColumns() {
+        return columns.length;
+    }
+
+    public ColumnVector getColumn(int pos) {
+        return columns[pos];
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /** Set the number of rows after the columns are filled directly. */
+    public void setNumRows(int numRows) {
+        if (numRows < 0 || numRows > capacity) {
+            throw new IllegalArgumentException(
+                    String.format("Row count %s is out of capacity %s", numRows, capacity));
+        }
+        this.numRows = numRows;
+    }
+
+    public boolean isFull() {
+        return numRows == capacity;
+    }
+
+    public String getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(String tableId) {
+        this.tableId = tableId;
+    }
+
+    public RowKind getRowKind(int rowId) {
+        return RowKind.fromByteValue(rowKinds[rowId]);
+    }
+
+    public void setRowKind(int rowId, RowKind rowKind) {
+        rowKinds[rowId] = rowKind.toByteValue();
+    }
+
+    /** Append the fields of the row, the row must have the same table and row type as the batch. */
+    public void appendRow(SeaTunnelRow row) {
+        if (isFull()) {
+            throw new IllegalStateException("The batch is full, capacity: " + capacity);
+        }
+        int rowId = numRows;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].putObject(rowId, row.getField(i));
+        }
+        rowKinds[rowId] = row.getRowKind().toByteValue();
+        numRows++;
+    }
+
+    /** Materialize the row at the given position. */
+    public SeaTunnelRow getRow(int rowId) {
+        Object[] fields = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fields[i] = columns[i].getObject(rowId);
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableId);
+        row.setRowKind(getRowKind(rowId));
+        return row;
+    }
+
+    /** The estimated size of all rows, it is the sum of {@link SeaTunnelRow#getBytesSize}. */
+    public int getBytesSize() {
+        int size = 0;
+        for (ColumnVector column : columns) {
+            size += column.getBytesSize(numRows);
+        }
+        return size;
+    }
+
+    /** Clear the batch so that it can be reused, the table id is kept. */
+    public void reset() {
+        for (ColumnVector column : columns) {
+            column.reset();
+        }
+        Arrays.fill(rowKinds, 0, numRows, (byte) 0);
+        numRows = 0;
+    }
+}
@@ -125,7 +125,7 @@ public final class SeaTunnelRow implements Serializable {
     }
 
     /** faster version of {@link #getBytesSize(SeaTunnelRowType)}. */
-    private int getBytesForValue(Object v, SeaTunnelDataType<?> dataType) {
+    static int getBytesForValue(Object v, SeaTunnelDataType<?> dataType) {
         if (v == null) {
             return 0;
         }
@@ -208,7 +208,7 @@ public final class SeaTunnelRow implements Serializable {
         }
     }
 
-    private int getBytesForArray(Object v, SeaTunnelDataType<?> dataType) {
+    private static int getBytesForArray(Object v, SeaTunnelDataType<?> dataType) {
         switch (dataType.getSqlType()) {
             case STRING:
                 int s = 0;
@@ -236,7 +236,7 @@ public final class SeaTunnelRow implements Serializable {
         }
     }
 
-    private int getArrayNotNullSize(Object[] values) {
+    private static int getArrayNotNullSize(Object[] values) {
         int c = 0;
         for (Object value : values) {
             if (value != null) {
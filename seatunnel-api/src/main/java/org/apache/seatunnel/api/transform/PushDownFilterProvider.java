@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+
+import java.util.Optional;
+
+/**
+ * Implemented by the TableTransformFactory whose transform filters the rows or reads a subset of
+ * the fields, so that the planner can push the filter into the upstream source.
+ */
+public interface PushDownFilterProvider {
+
+    /**
+     * Extract the filter from the transform options.
+     *
+     * @param options the options of the transform
+     * @return the filter, or empty if nothing of the transform can be pushed down
+     */
+    Optional<PushDownFilter> getPushDownFilter(ReadonlyConfig options);
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+public class MultiTableRouterTest {
+
+    @Test
+    public void testPrimaryKeyHashUsesAllKeyFields() {
+        int[] primaryKeys = new int[] {0, 1};
+        SeaTunnelRow row1 = new SeaTunnelRow(new Object[] {1, new byte[] {1, 2}, "a"});
+        SeaTunnelRow row2 = new SeaTunnelRow(new Object[] {1, new byte[] {1, 2}, "b"});
+        SeaTunnelRow row3 = new SeaTunnelRow(new Object[] {1, new byte[] {1, 3}, "a"});
+        Assertions.assertEquals(
+                MultiTableRouter.primaryKeyHash(row1, primaryKeys),
+                MultiTableRouter.primaryKeyHash(row2, primaryKeys));
+        Assertions.assertNotEquals(
+                MultiTableRouter.primaryKeyHash(row1, primaryKeys),
+                MultiTableRouter.primaryKeyHash(row3, primaryKeys));
+    }
+
+    @Test
+    public void testStaticRoutingUsesAllQueues() {
+        MultiTableRouter router = new MultiTableRouter(4, false);
+        router.addTable("hot", Optional.of(new int[] {0}));
+        router.addTable("cold", Optional.empty());
+        write(router, "hot", 1000);
+        router.rebalance();
+        Assertions.assertEquals(4, queuesOf(router, "hot", 1000).size());
+        Assertions.assertEquals(4, queuesOf(router, "cold", 8).size());
+    }
+
+    @Test
+    public void testAdaptiveRebalanceSpreadsHotTables() {
+        MultiTableRouter router = new MultiTableRouter(4, true);
+        router.addTable("hot", Optional.of(new int[] {0}));
+        router.addTable("cold1", Optional.empty());
+        router.addTable("cold2", Optional.empty());
+        write(router, "hot", 950);
+        write(router, "cold1", 30);
+        write(router, "cold2", 20);
+        router.rebalance();
+
+        Assertions.assertEquals(4, queuesOf(router, "hot", 1000).size());
+        Set<Integer> cold1 = queuesOf(router, "cold1", 8);
+        Set<Integer> cold2 = queuesOf(router, "cold2", 8);
+        Assertions.assertEquals(1, cold1.size());
+        Assertions.assertEquals(1, cold2.size());
+        Assertions.assertNotEquals(cold1, cold2);
+    }
+
+    @Test
+    public void testUnknownTable() {
+        MultiTableRouter router = new MultiTableRouter(2, false);
+        router.addTable("a", Optional.empty());
+        Assertions.assertEquals(2, queuesOf(router, "unknown", 4).size());
+        router.addTable("b", Optional.empty());
+        Assertions.assertThrows(RuntimeException.class, () -> write(router, "unknown", 1));
+    }
+
+    private static void write(MultiTableRouter router, String tableId, int rows) {
+        for (int i = 0; i < rows; i++) {
+            router.selectQueue(row(tableId, i));
+        }
+    }
+
+    private static Set<Integer> queuesOf(MultiTableRouter router, String tableId, int rows) {
+        Set<Integer> queues = new HashSet<>();
+        for (int i = 0; i < rows; i++) {
+            queues.add(router.selectQueue(row(tableId, i)));
+        }
+        return queues;
+    }
+
+    private static SeaTunnelRow row(String tableId, int key) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {key});
+        row.setTableId(tableId);
+        return row;
+    }
+}
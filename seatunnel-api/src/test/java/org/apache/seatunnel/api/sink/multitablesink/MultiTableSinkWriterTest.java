@@ -26,6 +26,7 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import lombok.AllArgsConstructor;
@@ -37,6 +38,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MultiTableSinkWriterTest {
 
@@ -62,6 +64,51 @@ public class MultiTableSinkWriterTest {
         }
     }
 
+    @Test
+    public void testAllRowsWrittenBeforeSnapshot() throws IOException {
+        int threads = 4;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        CountingSinkWriter[] writers = new CountingSinkWriter[threads];
+        for (int i = 0; i < threads; i++) {
+            writers[i] = new CountingSinkWriter();
+            sinkWriters.put(SinkIdentifier.of(TablePath.DEFAULT.toString(), i), writers[i]);
+            sinkWritersContext.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+        int rows = 10000;
+        for (int i = 0; i < rows; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {i, "name" + (i % 7)});
+            row.setTableId(TablePath.DEFAULT.toString());
+            multiTableSinkWriter.write(row);
+        }
+        multiTableSinkWriter.snapshotState(1);
+        int written = 0;
+        for (CountingSinkWriter writer : writers) {
+            Assertions.assertTrue(writer.count.get() > 0);
+            written += writer.count.get();
+        }
+        Assertions.assertEquals(rows, written);
+        multiTableSinkWriter.close();
+    }
+
+    static class CountingSinkWriter extends TestSinkWriter {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void write(SeaTunnelRow seaTunnelRow) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public Optional<int[]> primaryKeys() {
+            return Optional.of(new int[] {0, 1});
+        }
+    }
+
     static class TestSinkWriter
             implements SinkWriter<SeaTunnelRow, TestSinkState, Object>,
                     SupportMultiTableSinkWriter {
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+
+public class ColumnarBatchTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_string",
+                        "c_decimal",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    @Test
+    void testAppendAndGetRow() {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            true,
+                            (byte) 1,
+                            (short) 2,
+                            3,
+                            4L,
+                            5.5F,
+                            6.6D,
+                            "test",
+                            new BigDecimal("7.77"),
+                            LocalDate.of(2024, 1, 2),
+                            LocalTime.of(1, 2, 3, 4),
+                            LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6)
+                        });
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        row.setTableId("db.table");
+        SeaTunnelRow nullRow = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        nullRow.setTableId("db.table");
+
+        ColumnarBatch batch = new ColumnarBatch(ROW_TYPE, 100);
+        batch.setTableId("db.table");
+        for (int i = 0; i < 50; i++) {
+            batch.appendRow(row);
+            batch.appendRow(nullRow);
+        }
+        Assertions.assertTrue(batch.isFull());
+        Assertions.assertThrows(IllegalStateException.class, () -> batch.appendRow(row));
+
+        for (int i = 0; i < batch.getNumRows(); i += 2) {
+            Assertions.assertEquals(row, batch.getRow(i));
+            Assertions.assertEquals(nullRow, batch.getRow(i + 1));
+        }
+        Assertions.assertEquals(3, batch.getColumn(3).getInt(0));
+        Assertions.assertTrue(batch.getColumn(3).isNullAt(1));
+        Assertions.assertEquals(
+                (row.getBytesSize(ROW_TYPE) + nullRow.getBytesSize(ROW_TYPE)) * 50,
+                batch.getBytesSize());
+
+        batch.reset();
+        Assertions.assertEquals(0, batch.getNumRows());
+        Assertions.assertEquals(0, batch.getBytesSize());
+    }
+
+    @Test
+    void testBytesSizeOfVariableWidthColumns() {
+        SeaTunnelRowType nestedType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_bytes", "c_array", "c_map", "c_row"},
+                        new SeaTunnelDataType<?>[] {
+                            PrimitiveByteArrayType.INSTANCE,
+                            ArrayType.INT_ARRAY_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                            nestedType
+                        });
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            new byte[] {1, 2, 3},
+                            new Integer[] {1, null, 2},
+                            Collections.singletonMap("key", 1),
+                            new SeaTunnelRow(new Object[] {1, "nested"})
+                        });
+        SeaTunnelRow nullRow = new SeaTunnelRow(rowType.getTotalFields());
+        ColumnarBatch batch = new ColumnarBatch(rowType, 2);
+        batch.appendRow(row);
+        batch.appendRow(nullRow);
+
+        Assertions.assertEquals(
+                row.getBytesSize(rowType) + nullRow.getBytesSize(rowType), batch.getBytesSize());
+    }
+
+    @Test
+    void testColumnOfUnmeasurableTypeIsNotCounted() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_int", "c_multiple"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.INT_TYPE,
+                            new MultipleRowType(
+                                    new String[] {"t"},
+                                    new SeaTunnelRowType[] {
+                                        new SeaTunnelRowType(
+                                                new String[] {"id"},
+                                                new SeaTunnelDataType<?>[] {BasicType.INT_TYPE})
+                                    })
+                        });
+        ColumnarBatch batch = new ColumnarBatch(rowType, 1);
+        batch.appendRow(new SeaTunnelRow(new Object[] {1, new Object()}));
+        Assertions.assertEquals(4, batch.getBytesSize());
+    }
+}
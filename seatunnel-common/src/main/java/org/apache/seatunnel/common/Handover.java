@@ -19,16 +19,20 @@ package org.apache.seatunnel.common;
 
 import java.io.Closeable;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
 
 public final class Handover<T> implements Closeable {
     private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final CompletableFuture<Void> AVAILABLE =
+            CompletableFuture.completedFuture(null);
     private final Object lock = new Object();
     private final LinkedBlockingQueue<T> blockingQueue =
             new LinkedBlockingQueue<>(DEFAULT_QUEUE_SIZE);
     private Throwable error;
+    private CompletableFuture<Void> availabilityFuture = AVAILABLE;
 
     public boolean isEmpty() throws Exception {
         if (error != null) {
@@ -51,6 +55,30 @@ public final class Handover<T> implements Closeable {
             throw new ClosedException();
         }
         blockingQueue.put(element);
+        notifyAvailable();
+    }
+
+    /**
+     * Get a future which is completed once an element is produced, an error is reported or the
+     * handover is closed.
+     */
+    public CompletableFuture<Void> getAvailabilityFuture() {
+        synchronized (lock) {
+            if (error != null || !blockingQueue.isEmpty()) {
+                return AVAILABLE;
+            }
+            if (availabilityFuture.isDone()) {
+                availabilityFuture = new CompletableFuture<>();
+            }
+            return availabilityFuture;
+        }
+    }
+
+    /** Wake up the consumer waiting on {@link #getAvailabilityFuture()}. */
+    public void notifyAvailable() {
+        synchronized (lock) {
+            availabilityFuture.complete(null);
+        }
     }
 
     public void reportError(Throwable t) {
@@ -61,6 +89,7 @@ public final class Handover<T> implements Closeable {
             if (error == null) {
                 error = t;
             }
+            availabilityFuture.complete(null);
             lock.notifyAll();
         }
     }
@@ -71,6 +100,7 @@ public final class Handover<T> implements Closeable {
             if (error == null) {
                 error = new ClosedException();
             }
+            availabilityFuture.complete(null);
             lock.notifyAll();
         }
     }
@@ -20,6 +20,8 @@ package org.apache.seatunnel.common;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+
 public class HandoverTest {
 
     @Test
@@ -28,4 +30,20 @@ public class HandoverTest {
         handover.reportError(new RuntimeException("test"));
         Assertions.assertThrows(RuntimeException.class, handover::isEmpty);
     }
+
+    @Test
+    public void testAvailabilityFuture() throws Exception {
+        Handover<Object> handover = new Handover<>();
+        CompletableFuture<Void> future = handover.getAvailabilityFuture();
+        Assertions.assertFalse(future.isDone());
+        handover.produce(new Object());
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertTrue(handover.getAvailabilityFuture().isDone());
+
+        handover.pollNext();
+        future = handover.getAvailabilityFuture();
+        Assertions.assertFalse(future.isDone());
+        handover.close();
+        Assertions.assertTrue(future.isDone());
+    }
 }
@@ -68,6 +68,14 @@ public class SourceOptions {
                     .defaultValue(1)
                     .withDescription("The number of parallel readers in the incremental phase.");
 
+    public static final Option<Integer> SNAPSHOT_READ_PARALLELISM =
+            Options.key("snapshot.read.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot splits read concurrently by each reader, "
+                                    + "every split is read with its own database connection.");
+
     public static final Option<Long> STOP_TIMESTAMP =
             Options.key("stop.timestamp")
                     .longType()
@@ -117,7 +125,7 @@ public class SourceOptions {
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
+                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE, SNAPSHOT_READ_PARALLELISM)
                 .optional(INCREMENTAL_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
@@ -54,6 +54,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 import org.apache.seatunnel.connectors.cdc.base.source.split.state.SourceSplitStateBase;
 import org.apache.seatunnel.connectors.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.seatunnel.connectors.cdc.debezium.DeserializeFormat;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.FutureCompletingBlockingQueue;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
@@ -70,7 +71,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -87,6 +87,7 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
     protected StartupConfig startupConfig;
 
     protected int incrementalParallelism;
+    protected int snapshotReadParallelism;
     protected StopConfig stopConfig;
     protected List<CatalogTable> catalogTables;
 
@@ -100,6 +101,7 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
         this.stopConfig = getStopConfig(readonlyConfig);
         this.stopMode = stopConfig.getStopMode();
         this.incrementalParallelism = readonlyConfig.get(SourceOptions.INCREMENTAL_PARALLELISM);
+        this.snapshotReadParallelism = readonlyConfig.get(SourceOptions.SNAPSHOT_READ_PARALLELISM);
         this.configFactory = createSourceConfigFactory(readonlyConfig);
         this.dataSourceDialect = createDataSourceDialect(readonlyConfig);
         this.deserializationSchema = createDebeziumDeserializationSchema(readonlyConfig);
@@ -159,7 +161,7 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
         // create source config for the given subtask (e.g. unique server id)
         C sourceConfig = configFactory.create(readerContext.getIndexOfSubtask());
         BlockingQueue<RecordsWithSplitIds<SourceRecords>> elementsQueue =
-                new LinkedBlockingQueue<>(2);
+                new FutureCompletingBlockingQueue<>(2);
 
         SchemaChangeResolver schemaChangeResolver = deserializationSchema.getSchemaChangeResolver();
         Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier =
@@ -168,7 +170,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                                 readerContext.getIndexOfSubtask(),
                                 dataSourceDialect,
                                 sourceConfig,
-                                schemaChangeResolver);
+                                schemaChangeResolver,
+                                snapshotReadParallelism);
         return new IncrementalSourceReader<>(
                 dataSourceDialect,
                 elementsQueue,
@@ -177,7 +180,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 new SourceReaderOptions(readonlyConfig),
                 readerContext,
                 sourceConfig,
-                deserializationSchema);
+                deserializationSchema,
+                snapshotReadParallelism);
     }
 
     protected RecordEmitter<SourceRecords, T, SourceSplitStateBase> createRecordEmitter(
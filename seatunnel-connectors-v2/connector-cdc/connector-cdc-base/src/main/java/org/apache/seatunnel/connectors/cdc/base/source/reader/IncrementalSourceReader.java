@@ -73,6 +73,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
 
     private final DataSourceDialect<C> dataSourceDialect;
 
+    private final int snapshotReadParallelism;
+
     private transient volatile Offset snapshotChangeLogOffset;
 
     private final AtomicBoolean needSendSplitRequest = new AtomicBoolean(false);
@@ -85,7 +87,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
             SourceReaderOptions options,
             SourceReader.Context context,
             C sourceConfig,
-            DebeziumDeserializationSchema<T> debeziumDeserializationSchema) {
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            int snapshotReadParallelism) {
         super(
                 elementsQueue,
                 new SingleThreadFetcherManager<>(elementsQueue, splitReaderSupplier::get),
@@ -97,6 +100,7 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         this.finishedUnackedSplits = new HashMap<>();
         this.subtaskId = context.getIndexOfSubtask();
         this.debeziumDeserializationSchema = debeziumDeserializationSchema;
+        this.snapshotReadParallelism = snapshotReadParallelism;
     }
 
     @Override
@@ -154,6 +158,12 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         // add all un-finished splits (including incremental split) to SourceReaderBase
         if (!unfinishedSplits.isEmpty()) {
             super.addSplits(unfinishedSplits);
+            // request more snapshot splits until the split reader can read as many as configured
+            // concurrently, the enumerator only answers one request at a time
+            if (unfinishedSplits.stream().allMatch(SourceSplitBase::isSnapshotSplit)
+                    && getNumberOfCurrentlyAssignedSplits() < snapshotReadParallelism) {
+                needSendSplitRequest.set(true);
+            }
         } else {
             // If the split received is 'isSnapshotReadFinished', we will not run this split, hence
             // we need to send the split request.
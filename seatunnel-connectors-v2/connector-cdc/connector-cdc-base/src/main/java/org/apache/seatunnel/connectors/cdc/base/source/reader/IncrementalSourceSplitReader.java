@@ -37,14 +37,28 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Queue;
 
+/**
+ * The split reader of the incremental source.
+ *
+ * <p>Snapshot splits are read by up to {@code snapshotReadParallelism} scan fetchers at the same
+ * time, each with its own {@link FetchTask.Context}. The running fetchers are polled in turn and
+ * every fetch only contains records of one split, so the records of a split are emitted in order
+ * between its low and high watermark. In exactly-once mode a scan fetcher returns empty batches
+ * until the change events up to the end watermark of its split are normalized, so the other
+ * fetchers are still polled in the meantime. The incremental split is started once all snapshot
+ * splits before it are finished.
+ */
 @Slf4j
 public class IncrementalSourceSplitReader<C extends SourceConfig>
         implements SplitReader<SourceRecords, SourceSplitBase> {
     private final Queue<SourceSplitBase> splits;
     private final int subtaskId;
+    private final int snapshotReadParallelism;
 
     private Fetcher<SourceRecords, SourceSplitBase> currentFetcher;
 
@@ -53,16 +67,29 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
     private final C sourceConfig;
     private final SchemaChangeResolver schemaChangeResolver;
 
+    /** Scan fetchers reading a snapshot split, mapped to the id of the split. */
+    private final Map<IncrementalSourceScanFetcher, String> runningScanFetchers;
+    /** Running scan fetchers in the order they are polled. */
+    private final Queue<IncrementalSourceScanFetcher> scanFetchersToPoll;
+
+    private final Queue<IncrementalSourceScanFetcher> idleScanFetchers;
+    private int numScanFetchers;
+
     public IncrementalSourceSplitReader(
             int subtaskId,
             DataSourceDialect<C> dataSourceDialect,
             C sourceConfig,
-            SchemaChangeResolver schemaChangeResolver) {
+            SchemaChangeResolver schemaChangeResolver,
+            int snapshotReadParallelism) {
         this.subtaskId = subtaskId;
         this.splits = new ArrayDeque<>();
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
         this.schemaChangeResolver = schemaChangeResolver;
+        this.snapshotReadParallelism = Math.max(1, snapshotReadParallelism);
+        this.runningScanFetchers = new HashMap<>();
+        this.scanFetchersToPoll = new ArrayDeque<>();
+        this.idleScanFetchers = new ArrayDeque<>();
     }
 
     @Override
@@ -77,9 +104,13 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             log.warn("fetch data failed.", e);
             throw new IOException(e);
         }
-        return dataIt == null
-                ? finishedSnapshotSplit()
-                : ChangeEventRecords.forRecords(currentSplitId, dataIt);
+        if (dataIt == null) {
+            return finishedSnapshotSplit();
+        }
+        if (currentFetcher instanceof IncrementalSourceScanFetcher) {
+            scanFetchersToPoll.add((IncrementalSourceScanFetcher) currentFetcher);
+        }
+        return ChangeEventRecords.forRecords(currentSplitId, dataIt);
     }
 
     @Override
@@ -100,9 +131,11 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
 
     @Override
     public void close() throws Exception {
+        closeScanFetchers();
         if (currentFetcher != null) {
             log.info("Close current fetcher {}", currentFetcher.getClass().getCanonicalName());
             currentFetcher.close();
+            currentFetcher = null;
             currentSplitId = null;
         }
     }
@@ -117,45 +150,82 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             return;
         }
 
-        if (canAssignNextSplit()) {
-            final SourceSplitBase nextSplit = splits.poll();
-            if (nextSplit == null) {
-                throw new IOException("Cannot fetch from another split - no split remaining.");
+        while (canAssignNextSplit()) {
+            SourceSplitBase nextSplit = splits.poll();
+            IncrementalSourceScanFetcher scanFetcher = idleScanFetchers.poll();
+            if (scanFetcher == null) {
+                scanFetcher = createScanFetcher(nextSplit);
+                numScanFetchers++;
+                log.info("Scan fetcher {} of subtask {} is created.", numScanFetchers, subtaskId);
             }
-            currentSplitId = nextSplit.splitId();
-
-            if (nextSplit.isSnapshotSplit()) {
-                if (currentFetcher == null) {
-                    final FetchTask.Context taskContext =
-                            dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
-                }
-            } else {
-                // point from snapshot split to incremental split
-                if (currentFetcher != null) {
-                    log.info(
-                            "It's turn to read incremental split, close current snapshot fetcher.");
-                    currentFetcher.close();
-                }
-                final FetchTask.Context taskContext =
-                        dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                currentFetcher =
-                        new IncrementalSourceStreamFetcher(
-                                taskContext, subtaskId, schemaChangeResolver);
-                log.info("Stream fetcher is created.");
-            }
-            currentFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+            scanFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+            runningScanFetchers.put(scanFetcher, nextSplit.splitId());
+            scanFetchersToPoll.add(scanFetcher);
         }
+
+        IncrementalSourceScanFetcher scanFetcher = scanFetchersToPoll.poll();
+        if (scanFetcher != null) {
+            currentFetcher = scanFetcher;
+            currentSplitId = runningScanFetchers.get(scanFetcher);
+            return;
+        }
+
+        final SourceSplitBase nextSplit = splits.poll();
+        if (nextSplit == null) {
+            throw new IOException("Cannot fetch from another split - no split remaining.");
+        }
+        // point from snapshot split to incremental split
+        if (numScanFetchers > 0) {
+            log.info("It's turn to read incremental split, close current snapshot fetchers.");
+            closeScanFetchers();
+        }
+        currentSplitId = nextSplit.splitId();
+        currentFetcher = createStreamFetcher(nextSplit);
+        log.info("Stream fetcher is created.");
+        currentFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+    }
+
+    protected IncrementalSourceScanFetcher createScanFetcher(SourceSplitBase split) {
+        final FetchTask.Context taskContext =
+                dataSourceDialect.createFetchTaskContext(split, sourceConfig);
+        return new IncrementalSourceScanFetcher(taskContext, subtaskId);
+    }
+
+    protected IncrementalSourceStreamFetcher createStreamFetcher(SourceSplitBase split) {
+        final FetchTask.Context taskContext =
+                dataSourceDialect.createFetchTaskContext(split, sourceConfig);
+        return new IncrementalSourceStreamFetcher(taskContext, subtaskId, schemaChangeResolver);
     }
 
+    /** Whether the next split is a snapshot split and there is a free scan fetcher for it. */
     public boolean canAssignNextSplit() {
-        return currentFetcher == null || currentFetcher.isFinished();
+        SourceSplitBase nextSplit = splits.peek();
+        return nextSplit != null
+                && nextSplit.isSnapshotSplit()
+                && runningScanFetchers.size() < snapshotReadParallelism;
     }
 
     private ChangeEventRecords finishedSnapshotSplit() {
         final ChangeEventRecords finishedRecords =
                 ChangeEventRecords.forFinishedSplit(currentSplitId);
+        if (currentFetcher instanceof IncrementalSourceScanFetcher) {
+            runningScanFetchers.remove(currentFetcher);
+            idleScanFetchers.add((IncrementalSourceScanFetcher) currentFetcher);
+            currentFetcher = null;
+        }
         currentSplitId = null;
         return finishedRecords;
     }
+
+    private void closeScanFetchers() {
+        runningScanFetchers.keySet().forEach(IncrementalSourceScanFetcher::close);
+        idleScanFetchers.forEach(IncrementalSourceScanFetcher::close);
+        if (currentFetcher instanceof IncrementalSourceScanFetcher) {
+            currentFetcher = null;
+        }
+        runningScanFetchers.clear();
+        scanFetchersToPoll.clear();
+        idleScanFetchers.clear();
+        numScanFetchers = 0;
+    }
 }
@@ -32,6 +32,7 @@ import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -65,6 +66,12 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
 
+    // the exactly-once split is normalized over several polls, so that the reader can poll the
+    // other scan fetchers while this one waits for the end watermark
+    private SourceRecord lowWatermark;
+    private SourceRecord highWatermark;
+    private Map<Struct, SourceRecord> outputBuffer;
+
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
     public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
@@ -86,6 +93,9 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         this.queue = taskContext.getQueue();
         this.hasNextElement.set(true);
         this.reachEnd.set(false);
+        this.lowWatermark = null;
+        this.highWatermark = null;
+        this.outputBuffer = new LinkedHashMap<>();
         executorService.submit(
                 () -> {
                     try {
@@ -150,45 +160,38 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         // data input: [low watermark event][snapshot events][high watermark event][change
         // events][end watermark event]
         // data output: [low watermark event][normalized events][high watermark event]
-        boolean reachChangeLogStart = false;
-        boolean reachChangeLogEnd = false;
-        SourceRecord lowWatermark = null;
-        SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
-        while (!reachChangeLogEnd) {
-            checkReadException();
-            List<DataChangeEvent> batch = queue.poll();
-            for (DataChangeEvent event : batch) {
-                SourceRecord record = event.getRecord();
-                if (lowWatermark == null) {
-                    lowWatermark = record;
-                    assertLowWatermark(lowWatermark);
-                    continue;
-                }
+        // the output is empty until the end watermark event is polled
+        List<DataChangeEvent> batch = queue.poll();
+        for (DataChangeEvent event : batch) {
+            SourceRecord record = event.getRecord();
+            if (lowWatermark == null) {
+                lowWatermark = record;
+                assertLowWatermark(lowWatermark);
+                continue;
+            }
 
-                if (highWatermark == null && isHighWatermarkEvent(record)) {
-                    highWatermark = record;
-                    // begin to capture binlog events
-                    reachChangeLogStart = true;
-                    continue;
-                }
+            if (highWatermark == null && isHighWatermarkEvent(record)) {
+                // begin to capture binlog events
+                highWatermark = record;
+                continue;
+            }
 
-                if (reachChangeLogStart && isEndWatermarkEvent(record)) {
-                    // capture to end watermark events, stop the loop
-                    reachChangeLogEnd = true;
-                    break;
-                }
+            if (highWatermark != null && isEndWatermarkEvent(record)) {
+                // capture to end watermark events, the split is normalized
+                return normalizedSplitRecords();
+            }
 
-                if (!reachChangeLogStart) {
-                    outputBuffer.put((Struct) record.key(), record);
-                } else {
-                    if (isChangeRecordInChunkRange(record)) {
-                        // rewrite overlapping snapshot records through the record key
-                        taskContext.rewriteOutputBuffer(outputBuffer, record);
-                    }
-                }
+            if (highWatermark == null) {
+                outputBuffer.put((Struct) record.key(), record);
+            } else if (isChangeRecordInChunkRange(record)) {
+                // rewrite overlapping snapshot records through the record key
+                taskContext.rewriteOutputBuffer(outputBuffer, record);
             }
         }
+        return Collections.singletonList(new SourceRecords(new ArrayList<>())).iterator();
+    }
+
+    private Iterator<SourceRecords> normalizedSplitRecords() {
         // snapshot split return its data once
         hasNextElement.set(false);
 
@@ -196,6 +199,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         normalizedRecords.add(lowWatermark);
         normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
         normalizedRecords.add(highWatermark);
+        outputBuffer = new LinkedHashMap<>();
 
         final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
         sourceRecordsSet.add(new SourceRecords(normalizedRecords));
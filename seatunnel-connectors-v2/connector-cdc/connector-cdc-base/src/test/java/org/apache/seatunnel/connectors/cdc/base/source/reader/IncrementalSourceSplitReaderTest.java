@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader;
+
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.FetchTask;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.IncrementalSourceScanFetcher;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.IncrementalSourceStreamFetcher;
+import org.apache.seatunnel.connectors.cdc.base.source.split.IncrementalSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.relational.TableId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSourceSplitReaderTest {
+
+    @Test
+    public void testReadSnapshotSplitsConcurrently() throws Exception {
+        TestSplitReader reader = new TestSplitReader(2);
+        reader.handleSplitsChanges(
+                new SplitsAddition<>(
+                        Arrays.asList(
+                                snapshotSplit("s1"),
+                                snapshotSplit("s2"),
+                                snapshotSplit("s3"),
+                                incrementalSplit())));
+        // the first fetcher reads s1 and s3, the second one reads s2
+        reader.scanFetcherRecords.add(Arrays.asList(records(), null, records(), null));
+        reader.scanFetcherRecords.add(Arrays.asList(records(), null));
+
+        // both scan fetchers are started and polled in turn
+        assertRecords("s1", reader.fetch());
+        Assertions.assertEquals(2, reader.scanFetchers.size());
+        Assertions.assertFalse(reader.canAssignNextSplit());
+        assertRecords("s2", reader.fetch());
+        assertFinished("s1", reader.fetch());
+        Assertions.assertTrue(reader.canAssignNextSplit());
+
+        // the idle fetcher of s1 reads s3
+        assertFinished("s2", reader.fetch());
+        Assertions.assertEquals(2, reader.scanFetchers.size());
+        // the incremental split waits for the running snapshot split
+        Assertions.assertFalse(reader.canAssignNextSplit());
+        assertRecords("s3", reader.fetch());
+        assertFinished("s3", reader.fetch());
+        IncrementalSourceScanFetcher first = reader.scanFetchers.get(0);
+        IncrementalSourceScanFetcher second = reader.scanFetchers.get(1);
+        verify(first, times(2)).submitTask(any());
+        verify(second, times(1)).submitTask(any());
+
+        // the scan fetchers are closed when it's turn to read the incremental split
+        assertRecords("incremental", reader.fetch());
+        verify(first).close();
+        verify(second).close();
+        Assertions.assertNotNull(reader.streamFetcher);
+        assertRecords("incremental", reader.fetch());
+        verify(reader.streamFetcher, times(1)).submitTask(any());
+    }
+
+    @Test
+    public void testReadSnapshotSplitsOneByOne() throws Exception {
+        TestSplitReader reader = new TestSplitReader(1);
+        reader.handleSplitsChanges(
+                new SplitsAddition<>(Arrays.asList(snapshotSplit("s1"), snapshotSplit("s2"))));
+        reader.scanFetcherRecords.add(Arrays.asList(records(), records(), null, records(), null));
+
+        assertRecords("s1", reader.fetch());
+        Assertions.assertFalse(reader.canAssignNextSplit());
+        assertRecords("s1", reader.fetch());
+        assertFinished("s1", reader.fetch());
+        assertRecords("s2", reader.fetch());
+        assertFinished("s2", reader.fetch());
+        Assertions.assertEquals(1, reader.scanFetchers.size());
+
+        Assertions.assertThrows(IOException.class, reader::fetch);
+    }
+
+    private static void assertRecords(
+            String splitId, RecordsWithSplitIds<SourceRecords> recordsWithSplitIds) {
+        Assertions.assertEquals(splitId, recordsWithSplitIds.nextSplit());
+        Assertions.assertNotNull(recordsWithSplitIds.nextRecordFromSplit());
+        Assertions.assertTrue(recordsWithSplitIds.finishedSplits().isEmpty());
+    }
+
+    private static void assertFinished(
+            String splitId, RecordsWithSplitIds<SourceRecords> recordsWithSplitIds) {
+        Assertions.assertNull(recordsWithSplitIds.nextSplit());
+        Assertions.assertEquals(
+                Collections.singleton(splitId), recordsWithSplitIds.finishedSplits());
+    }
+
+    private static Iterator<SourceRecords> records() {
+        return Collections.singletonList(new SourceRecords(new ArrayList<>())).iterator();
+    }
+
+    private static SnapshotSplit snapshotSplit(String splitId) {
+        return new SnapshotSplit(splitId, new TableId("db", null, "table"), null, null, null);
+    }
+
+    private static IncrementalSplit incrementalSplit() {
+        return new IncrementalSplit(
+                "incremental", Collections.emptyList(), null, null, Collections.emptyList());
+    }
+
+    /** Split reader creating mocked fetchers which return the given results of polls. */
+    private static class TestSplitReader extends IncrementalSourceSplitReader<SourceConfig> {
+        private final List<List<Iterator<SourceRecords>>> scanFetcherRecords = new ArrayList<>();
+        private final List<IncrementalSourceScanFetcher> scanFetchers = new ArrayList<>();
+        private IncrementalSourceStreamFetcher streamFetcher;
+
+        TestSplitReader(int snapshotReadParallelism) {
+            super(0, mockDialect(), null, null, snapshotReadParallelism);
+        }
+
+        @Override
+        protected IncrementalSourceScanFetcher createScanFetcher(SourceSplitBase split) {
+            IncrementalSourceScanFetcher scanFetcher = mock(IncrementalSourceScanFetcher.class);
+            List<Iterator<SourceRecords>> records = scanFetcherRecords.get(scanFetchers.size());
+            try {
+                when(scanFetcher.pollSplitRecords())
+                        .thenReturn(
+                                records.get(0),
+                                records.subList(1, records.size())
+                                        .toArray(new Iterator[0]));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            scanFetchers.add(scanFetcher);
+            return scanFetcher;
+        }
+
+        @Override
+        protected IncrementalSourceStreamFetcher createStreamFetcher(SourceSplitBase split) {
+            streamFetcher = mock(IncrementalSourceStreamFetcher.class);
+            try {
+                when(streamFetcher.pollSplitRecords()).thenReturn(records(), records());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return streamFetcher;
+        }
+
+        private static DataSourceDialect<SourceConfig> mockDialect() {
+            DataSourceDialect<SourceConfig> dialect = mock(DataSourceDialect.class);
+            when(dialect.createFetchTask(any())).thenReturn(mock(FetchTask.class));
+            return dialect;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkKind;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSourceScanFetcherTest {
+    private static final String SPLIT_ID = "split-1";
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+
+    @Test
+    public void testExactlyOnceSplitIsPolledInSteps() throws Exception {
+        SourceRecord lowWatermark = watermark(WatermarkKind.LOW);
+        SourceRecord highWatermark = watermark(WatermarkKind.HIGH);
+        SourceRecord endWatermark = watermark(WatermarkKind.END);
+        SourceRecord snapshot1 = record(1, "snapshot");
+        SourceRecord snapshot2 = record(2, "snapshot");
+        SourceRecord change2 = record(2, "change");
+
+        ChangeEventQueue<DataChangeEvent> queue = mock(ChangeEventQueue.class);
+        when(queue.poll())
+                .thenReturn(events(lowWatermark, snapshot1, snapshot2))
+                .thenReturn(events(highWatermark, change2))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(events(endWatermark));
+        FetchTask.Context taskContext = mockExactlyOnceContext(queue, change2);
+        IncrementalSourceScanFetcher fetcher = new IncrementalSourceScanFetcher(taskContext, 0);
+        fetcher.submitTask(mockFetchTask());
+
+        // the fetcher does not block until the end watermark
+        for (int i = 0; i < 3; i++) {
+            List<SourceRecords> records = poll(fetcher);
+            Assertions.assertEquals(1, records.size());
+            Assertions.assertTrue(records.get(0).getSourceRecordList().isEmpty());
+        }
+
+        List<SourceRecords> records = poll(fetcher);
+        Assertions.assertEquals(1, records.size());
+        Assertions.assertEquals(
+                Arrays.asList(lowWatermark, snapshot1, change2, highWatermark),
+                records.get(0).getSourceRecordList());
+        Assertions.assertNull(fetcher.pollSplitRecords());
+        fetcher.close();
+    }
+
+    private static FetchTask.Context mockExactlyOnceContext(
+            ChangeEventQueue<DataChangeEvent> queue, SourceRecord changeRecord) {
+        FetchTask.Context taskContext = mock(FetchTask.Context.class);
+        when(taskContext.isExactlyOnce()).thenReturn(true);
+        when(taskContext.getQueue()).thenReturn(queue);
+        when(taskContext.isDataChangeRecord(changeRecord)).thenReturn(true);
+        when(taskContext.isRecordBetween(any(), any(), any())).thenReturn(true);
+        doAnswer(
+                        invocation -> {
+                            Map<Struct, SourceRecord> outputBuffer = invocation.getArgument(0);
+                            SourceRecord record = invocation.getArgument(1);
+                            outputBuffer.put((Struct) record.key(), record);
+                            return null;
+                        })
+                .when(taskContext)
+                .rewriteOutputBuffer(any(), any());
+        when(taskContext.formatMessageTimestamp(any()))
+                .thenAnswer(
+                        invocation ->
+                                new ArrayList<>(
+                                        (Collection<SourceRecord>) invocation.getArgument(0)));
+        return taskContext;
+    }
+
+    private static FetchTask<SourceSplitBase> mockFetchTask() {
+        FetchTask<SourceSplitBase> fetchTask = mock(FetchTask.class);
+        when(fetchTask.getSplit())
+                .thenReturn(
+                        new SnapshotSplit(
+                                SPLIT_ID,
+                                new TableId("db", null, "table"),
+                                null,
+                                new Object[] {1},
+                                new Object[] {3}));
+        return fetchTask;
+    }
+
+    private static List<SourceRecords> poll(IncrementalSourceScanFetcher fetcher)
+            throws InterruptedException {
+        List<SourceRecords> records = new ArrayList<>();
+        Iterator<SourceRecords> iterator = fetcher.pollSplitRecords();
+        iterator.forEachRemaining(records::add);
+        return records;
+    }
+
+    private static List<DataChangeEvent> events(SourceRecord... records) {
+        List<DataChangeEvent> events = new ArrayList<>();
+        for (SourceRecord record : records) {
+            events.add(new DataChangeEvent(record));
+        }
+        return events;
+    }
+
+    private static SourceRecord watermark(WatermarkKind kind) {
+        Offset offset = mock(Offset.class);
+        when(offset.getOffset()).thenReturn(Collections.emptyMap());
+        return WatermarkEvent.create(Collections.emptyMap(), "topic", SPLIT_ID, kind, offset);
+    }
+
+    private static SourceRecord record(int id, String value) {
+        return new SourceRecord(
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                "topic",
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", id),
+                Schema.STRING_SCHEMA,
+                value);
+    }
+}
@@ -18,13 +18,23 @@
 package org.apache.seatunnel.connectors.seatunnel.common.source.arrow.reader;
 
 import org.apache.seatunnel.shade.org.apache.arrow.memory.RootAllocator;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.BigIntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.BitVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.DateDayVector;
 import org.apache.seatunnel.shade.org.apache.arrow.vector.FieldVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.Float4Vector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.Float8Vector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.IntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.SmallIntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.TinyIntVector;
 import org.apache.seatunnel.shade.org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.seatunnel.shade.org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.apache.seatunnel.shade.org.apache.arrow.vector.types.Types;
 import org.apache.seatunnel.shade.org.apache.arrow.vector.util.Text;
 
 import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.ColumnVector;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -54,6 +64,7 @@ import java.util.function.Function;
 @Slf4j
 public class ArrowToSeatunnelRowReader implements AutoCloseable {
 
+    private final SeaTunnelRowType seaTunnelRowType;
     private final SeaTunnelDataType<?>[] seaTunnelDataTypes;
     private int offsetInRowBatch = 0;
     private int rowCountInOneBatch = 0;
@@ -76,6 +87,7 @@ public class ArrowToSeatunnelRowReader implements AutoCloseable {
     }
 
     public ArrowToSeatunnelRowReader(byte[] byteArray, SeaTunnelRowType seaTunnelRowType) {
+        this.seaTunnelRowType = seaTunnelRowType;
         this.seaTunnelDataTypes = seaTunnelRowType.getFieldTypes();
         initFieldIndexMap(seaTunnelRowType);
         initArrowReader(byteArray);
@@ -118,6 +130,82 @@ public class ArrowToSeatunnelRowReader implements AutoCloseable {
         }
     }
 
+    /**
+     * Read the arrow stream as {@link ColumnarBatch}es instead of rows, one batch per arrow record
+     * batch. Fixed width vectors matching the SeaTunnel type are copied without boxing.
+     */
+    public List<ColumnarBatch> readColumnarBatches() {
+        try {
+            List<ColumnarBatch> batches = new ArrayList<>();
+            this.root = arrowStreamReader.getVectorSchemaRoot();
+            while (arrowStreamReader.loadNextBatch()) {
+                int rowCount = root.getRowCount();
+                if (root.getFieldVectors().isEmpty() || rowCount == 0) {
+                    log.debug("one batch in arrow has no data.");
+                    continue;
+                }
+                ColumnarBatch batch = new ColumnarBatch(seaTunnelRowType, rowCount);
+                boolean[] filled = new boolean[seaTunnelDataTypes.length];
+                for (FieldVector fieldVector : root.getFieldVectors()) {
+                    Integer fieldIndex = fieldIndexMap.get(fieldVector.getField().getName());
+                    // arrow field not in the Seatunnel Sechma field, skip it
+                    if (fieldIndex != null) {
+                        convertColumnVector(
+                                fieldVector, batch.getColumn(fieldIndex), rowCount, fieldIndex);
+                        filled[fieldIndex] = true;
+                    }
+                }
+                for (int i = 0; i < filled.length; i++) {
+                    if (!filled[i]) {
+                        for (int rowId = 0; rowId < rowCount; rowId++) {
+                            batch.getColumn(i).setNull(rowId);
+                        }
+                    }
+                }
+                batch.setNumRows(rowCount);
+                batches.add(batch);
+                this.readRowCount += rowCount;
+            }
+            return batches;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            close();
+        }
+    }
+
+    private void convertColumnVector(
+            FieldVector fieldVector, ColumnVector column, int rowCount, int fieldIndex) {
+        SeaTunnelDataType<?> seaTunnelDataType = seaTunnelDataTypes[fieldIndex];
+        SqlType sqlType = seaTunnelDataType.getSqlType();
+        Types.MinorType minorType = fieldVector.getMinorType();
+        for (int rowId = 0; rowId < rowCount; rowId++) {
+            if (fieldVector.isNull(rowId)) {
+                column.setNull(rowId);
+            } else if (sqlType == SqlType.BOOLEAN && fieldVector instanceof BitVector) {
+                column.putBoolean(rowId, ((BitVector) fieldVector).get(rowId) != 0);
+            } else if (sqlType == SqlType.TINYINT && fieldVector instanceof TinyIntVector) {
+                column.putByte(rowId, ((TinyIntVector) fieldVector).get(rowId));
+            } else if (sqlType == SqlType.SMALLINT && fieldVector instanceof SmallIntVector) {
+                column.putShort(rowId, ((SmallIntVector) fieldVector).get(rowId));
+            } else if (sqlType == SqlType.INT && fieldVector instanceof IntVector) {
+                column.putInt(rowId, ((IntVector) fieldVector).get(rowId));
+            } else if (sqlType == SqlType.BIGINT && fieldVector instanceof BigIntVector) {
+                column.putLong(rowId, ((BigIntVector) fieldVector).get(rowId));
+            } else if (sqlType == SqlType.FLOAT && fieldVector instanceof Float4Vector) {
+                column.putFloat(rowId, ((Float4Vector) fieldVector).get(rowId));
+            } else if (sqlType == SqlType.DOUBLE && fieldVector instanceof Float8Vector) {
+                column.putDouble(rowId, ((Float8Vector) fieldVector).get(rowId));
+            } else if (sqlType == SqlType.DATE && fieldVector instanceof DateDayVector) {
+                column.putInt(rowId, ((DateDayVector) fieldVector).get(rowId));
+            } else {
+                Object fieldValue =
+                        convertArrowData(rowId, minorType, fieldVector, seaTunnelDataType);
+                column.putObject(rowId, convertSeatunnelRowValue(sqlType, minorType, fieldValue));
+            }
+        }
+    }
+
     public boolean hasNext() {
         return offsetInRowBatch < readRowCount;
     }
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.apache.seatunnel.api.source.SourceReader;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link BlockingQueue} between the split fetchers and the {@link SourceReader} which completes
+ * an availability future whenever an element is enqueued, so the reader task can park while the
+ * queue is empty instead of polling it at a fixed interval.
+ *
+ * @param <T> The type of the queued elements.
+ */
+public class FutureCompletingBlockingQueue<T> extends AbstractQueue<T>
+        implements BlockingQueue<T> {
+
+    private static final CompletableFuture<Void> AVAILABLE =
+            CompletableFuture.completedFuture(null);
+
+    private final BlockingQueue<T> queue;
+
+    private final Object lock = new Object();
+
+    private CompletableFuture<Void> currentFuture = AVAILABLE;
+
+    public FutureCompletingBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public FutureCompletingBlockingQueue(int capacity) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Get a future which is completed once the queue is not empty or {@link #notifyAvailable()} is
+     * called, it is completed already when the queue holds elements.
+     */
+    public CompletableFuture<Void> getAvailabilityFuture() {
+        synchronized (lock) {
+            if (!queue.isEmpty()) {
+                return AVAILABLE;
+            }
+            if (currentFuture.isDone()) {
+                currentFuture = new CompletableFuture<>();
+            }
+            return currentFuture;
+        }
+    }
+
+    /** Wake up the consumer, e.g. when a fetcher finished or failed without enqueuing records. */
+    public void notifyAvailable() {
+        synchronized (lock) {
+            currentFuture.complete(null);
+        }
+    }
+
+    @Override
+    public boolean offer(T element) {
+        if (queue.offer(element)) {
+            notifyAvailable();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        if (queue.offer(element, timeout, unit)) {
+            notifyAvailable();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void put(T element) throws InterruptedException {
+        queue.put(element);
+        notifyAvailable();
+    }
+
+    @Override
+    public T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        return queue.take();
+    }
+
+    @Override
+    public T peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return queue.iterator();
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> collection) {
+        return queue.drainTo(collection);
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        return queue.drainTo(collection, maxElements);
+    }
+}
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -115,6 +116,15 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        if (elementsQueue instanceof FutureCompletingBlockingQueue) {
+            return ((FutureCompletingBlockingQueue<RecordsWithSplitIds<E>>) elementsQueue)
+                    .getAvailabilityFuture();
+        }
+        return AVAILABILITY_UNKNOWN;
+    }
+
     @Override
     public List<SplitT> snapshotState(long checkpointId) {
         List<SplitT> splits = new ArrayList<>();
@@ -140,6 +150,7 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
     public void handleNoMoreSplits() {
         log.info("Reader {} received NoMoreSplits event.", context.getIndexOfSubtask());
         noMoreSplitsAssignment = true;
+        notifyAvailable();
     }
 
     @Override
@@ -153,6 +164,14 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
                 && currentFetch == null;
     }
 
+    /** Wake up the reader parked on {@link #isAvailable()} without enqueuing records. */
+    protected void notifyAvailable() {
+        if (elementsQueue instanceof FutureCompletingBlockingQueue) {
+            ((FutureCompletingBlockingQueue<RecordsWithSplitIds<E>>) elementsQueue)
+                    .notifyAvailable();
+        }
+    }
+
     @Override
     public void close() {
         log.info("Closing Source Reader {}.", context.getIndexOfSubtask());
@@ -167,11 +186,14 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         splitFetcherManager.checkErrors();
         RecordsWithSplitIds<E> recordsWithSplitId = elementsQueue.poll();
         if (recordsWithSplitId == null || !moveToNextSplit(recordsWithSplitId, output)) {
-            try {
-                log.trace("Current fetch is finished.");
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                throw new SeaTunnelException(e);
+            log.trace("Current fetch is finished.");
+            if (!(elementsQueue instanceof FutureCompletingBlockingQueue)) {
+                // the engines wait on #isAvailable() or back off themselves after an empty poll
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    throw new SeaTunnelException(e);
+                }
             }
             return null;
         }
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
 
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.FutureCompletingBlockingQueue;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 
@@ -80,6 +81,8 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
                         // Add the exception to the exception list.
                         uncaughtFetcherException.get().addSuppressed(throwable);
                     }
+                    // let the reader surface the error
+                    notifyAvailable();
                 };
         String taskThreadName = Thread.currentThread().getName();
         this.executors =
@@ -108,6 +111,7 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
                         errorHandler,
                         () -> {
                             fetchers.remove(fetcherId);
+                            notifyAvailable();
                         },
                         this.splitFinishedHook);
         fetchers.put(fetcherId, splitFetcher);
@@ -140,6 +144,13 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
         }
     }
 
+    private void notifyAvailable() {
+        if (elementsQueue instanceof FutureCompletingBlockingQueue) {
+            ((FutureCompletingBlockingQueue<RecordsWithSplitIds<E>>) elementsQueue)
+                    .notifyAvailable();
+        }
+    }
+
     public void checkErrors() {
         if (uncaughtFetcherException.get() != null) {
             throw new RuntimeException(
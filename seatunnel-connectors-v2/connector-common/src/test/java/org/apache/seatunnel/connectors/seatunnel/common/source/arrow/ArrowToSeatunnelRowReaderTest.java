@@ -51,6 +51,7 @@ import org.apache.seatunnel.shade.org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.seatunnel.shade.org.apache.arrow.vector.types.pojo.Field;
 import org.apache.seatunnel.shade.org.apache.arrow.vector.types.pojo.Schema;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -397,6 +398,37 @@ public class ArrowToSeatunnelRowReaderTest {
         }
     }
 
+    @Test
+    public void testColumnarBatch() throws Exception {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ArrowStreamWriter writer =
+                        new ArrowStreamWriter(
+                                root, /*DictionaryProvider=*/ null, Channels.newChannel(out))) {
+            writer.writeBatch();
+            out.flush();
+            SeaTunnelRowType seatunnelRowType = getSeatunnelRowType(true);
+            List<SeaTunnelRow> rows = new ArrayList<>();
+            try (ArrowToSeatunnelRowReader reader =
+                    new ArrowToSeatunnelRowReader(out.toByteArray(), seatunnelRowType)
+                            .readArrow()) {
+                while (reader.hasNext()) {
+                    rows.add(reader.next());
+                }
+            }
+            List<ColumnarBatch> batches;
+            try (ArrowToSeatunnelRowReader reader =
+                    new ArrowToSeatunnelRowReader(out.toByteArray(), seatunnelRowType)) {
+                batches = reader.readColumnarBatches();
+            }
+            Assertions.assertEquals(1, batches.size());
+            ColumnarBatch batch = batches.get(0);
+            Assertions.assertEquals(10, batch.getNumRows());
+            for (int i = 0; i < batch.getNumRows(); i++) {
+                Assertions.assertEquals(rows.get(i), batch.getRow(i));
+            }
+        }
+    }
+
     @Test
     public void testConvertArrowSpeed() throws Exception {
         Stopwatch stopwatch = Stopwatch.createStarted();
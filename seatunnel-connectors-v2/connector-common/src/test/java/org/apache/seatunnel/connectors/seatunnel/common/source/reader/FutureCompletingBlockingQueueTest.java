@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class FutureCompletingBlockingQueueTest {
+
+    @Test
+    public void testFutureCompletedOnEnqueue() throws Exception {
+        FutureCompletingBlockingQueue<Integer> queue = new FutureCompletingBlockingQueue<>(1);
+        CompletableFuture<Void> future = queue.getAvailabilityFuture();
+        Assertions.assertFalse(future.isDone());
+
+        CompletableFuture.runAsync(() -> queue.offer(1));
+        future.get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(queue.getAvailabilityFuture().isDone());
+        Assertions.assertFalse(queue.offer(2, 10, TimeUnit.MILLISECONDS));
+
+        Assertions.assertEquals(1, queue.poll());
+        future = queue.getAvailabilityFuture();
+        Assertions.assertFalse(future.isDone());
+        queue.notifyAvailable();
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertFalse(queue.getAvailabilityFuture().isDone());
+    }
+}
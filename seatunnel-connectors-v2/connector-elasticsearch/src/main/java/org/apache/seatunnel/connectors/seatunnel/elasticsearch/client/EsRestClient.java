@@ -44,6 +44,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -51,6 +53,7 @@ import org.apache.http.util.EntityUtils;
 
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
@@ -66,6 +69,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -215,12 +219,7 @@ public class EsRestClient implements Closeable {
                         "bulk es Response is null");
             }
             if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                String entity = EntityUtils.toString(response.getEntity());
-                JsonNode json = objectMapper.readTree(entity);
-                int took = json.get("took").asInt();
-                boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                return parseBulkResponse(response);
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
@@ -239,6 +238,65 @@ public class EsRestClient implements Closeable {
         }
     }
 
+    /**
+     * Send a bulk request without blocking the caller. The body is read by the http client thread,
+     * so the caller must not touch {@code body} before the returned future completes.
+     */
+    public CompletableFuture<BulkResponse> bulkAsync(byte[] body, int length) {
+        Request request = new Request("POST", "/_bulk");
+        request.setEntity(new ByteArrayEntity(body, 0, length, ContentType.APPLICATION_JSON));
+        CompletableFuture<BulkResponse> future = new CompletableFuture<>();
+        restClient.performRequestAsync(
+                request,
+                new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        try {
+                            if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+                                future.complete(parseBulkResponse(response));
+                            } else {
+                                future.completeExceptionally(
+                                        new ElasticsearchConnectorException(
+                                                ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                                String.format(
+                                                        "bulk es response status=%s", response)));
+                            }
+                        } catch (Exception e) {
+                            future.completeExceptionally(e);
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        future.completeExceptionally(
+                                new ElasticsearchConnectorException(
+                                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                        "bulk es error",
+                                        exception));
+                    }
+                });
+        return future;
+    }
+
+    private static BulkResponse parseBulkResponse(Response response) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String entity = EntityUtils.toString(response.getEntity());
+        JsonNode json = objectMapper.readTree(entity);
+        int took = json.get("took").asInt();
+        boolean errors = json.get("errors").asBoolean();
+        if (!errors || !json.has("items")) {
+            return new BulkResponse(errors, took, entity);
+        }
+        JsonNode items = json.get("items");
+        int[] itemStatuses = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            // every item is an object with the action name as its only field
+            JsonNode result = items.get(i).elements().next();
+            itemStatuses[i] = result.path("status").asInt(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        }
+        return new BulkResponse(errors, took, entity, itemStatuses);
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
@@ -64,6 +64,20 @@ public class SinkConfig {
                     .defaultValue(10)
                     .withDescription("batch bulk doc max size");
 
+    public static final Option<Long> MAX_BATCH_BYTES =
+            Options.key("max_batch_bytes")
+                    .longType()
+                    .defaultValue(10L * 1024 * 1024)
+                    .withDescription(
+                            "batch bulk request max size in bytes, a batch is sent when it reaches either max_batch_size or max_batch_bytes");
+
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "max number of bulk requests in flight per writer, the writer keeps serializing rows while they are sent. More than one request can reorder writes of the same document across batches");
+
     public static final Option<Integer> MAX_RETRY_COUNT =
             Options.key("max_retry_count")
                     .intType()
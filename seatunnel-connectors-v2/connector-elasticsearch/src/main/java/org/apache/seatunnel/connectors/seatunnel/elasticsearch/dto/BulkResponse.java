@@ -23,6 +23,8 @@ public class BulkResponse {
     private boolean errors;
     private int took;
     private String response;
+    /** The http status of every item in request order, only filled when there are errors. */
+    private int[] itemStatuses;
 
     public BulkResponse() {}
 
@@ -32,6 +34,11 @@ public class BulkResponse {
         this.response = response;
     }
 
+    public BulkResponse(boolean errors, int took, String response, int[] itemStatuses) {
+        this(errors, took, response);
+        this.itemStatuses = itemStatuses;
+    }
+
     public boolean isErrors() {
         return errors;
     }
@@ -55,4 +62,12 @@ public class BulkResponse {
     public void setResponse(String response) {
         this.response = response;
     }
+
+    public int[] getItemStatuses() {
+        return itemStatuses;
+    }
+
+    public void setItemStatuses(int[] itemStatuses) {
+        this.itemStatuses = itemStatuses;
+    }
 }
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Collects serialized bulk items into reusable byte buffers and sends them as asynchronous bulk
+ * requests.
+ *
+ * <p>A batch is sent when it reaches {@code maxBatchSize} items or {@code maxBatchBytes} bytes, and
+ * at most {@code maxConcurrentRequests} batches are in flight. When a response reports failed
+ * items and all of them are rejected with a retryable status, the batch is sent again. Items with a
+ * document id are replayed from the first failed item on, so a later change of a document never
+ * overtakes an earlier one, the updates and deletes by id are idempotent. Items without a document
+ * id are not idempotent and have no order to keep, only the failed ones are sent again. A batch
+ * keeps its slot until all of its items are written, so with a single concurrent request the writes
+ * keep their order. Failures are rethrown on the writer thread by the next {@link #add} or {@link
+ * #flush}.
+ */
+@Slf4j
+public class ElasticsearchBulkProcessor implements AutoCloseable {
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final EsRestClient esRestClient;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final int maxConcurrentRequests;
+    private final RetryMaterial retryMaterial;
+    private final boolean keyedItems;
+    private final Semaphore inFlightRequests;
+    private final ConcurrentLinkedQueue<BulkBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final ScheduledExecutorService retryScheduler;
+    private BulkBuffer current = new BulkBuffer();
+
+    public ElasticsearchBulkProcessor(
+            EsRestClient esRestClient,
+            int maxBatchSize,
+            long maxBatchBytes,
+            int maxConcurrentRequests,
+            RetryMaterial retryMaterial,
+            boolean keyedItems) {
+        this.esRestClient = esRestClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.retryMaterial = retryMaterial;
+        this.keyedItems = keyedItems;
+        this.inFlightRequests = new Semaphore(maxConcurrentRequests);
+        this.retryScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "st-elasticsearch-bulk-retry");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /** Append one bulk item, the action line optionally followed by the source line. */
+    public void add(String item) {
+        checkFailure();
+        current.append(item);
+        if (current.size() >= maxBatchSize || current.length() >= maxBatchBytes) {
+            submit();
+        }
+    }
+
+    /** Send the pending items and wait until every in-flight batch is written. */
+    public void flush() {
+        checkFailure();
+        if (current.size() > 0) {
+            submit();
+        }
+        acquire(maxConcurrentRequests);
+        inFlightRequests.release(maxConcurrentRequests);
+        checkFailure();
+    }
+
+    @Override
+    public void close() {
+        retryScheduler.shutdownNow();
+    }
+
+    private void submit() {
+        BulkBuffer batch = current;
+        acquire(1);
+        BulkBuffer next = freeBuffers.poll();
+        current = next != null ? next : new BulkBuffer();
+        send(batch, 1);
+    }
+
+    private void send(BulkBuffer batch, int attempt) {
+        try {
+            esRestClient
+                    .bulkAsync(batch.data(), batch.length())
+                    .whenComplete(
+                            (response, error) -> {
+                                try {
+                                    onResponse(batch, attempt, response, error);
+                                } catch (Throwable e) {
+                                    fail(batch, e);
+                                }
+                            });
+        } catch (Throwable e) {
+            fail(batch, e);
+        }
+    }
+
+    private void onResponse(BulkBuffer batch, int attempt, BulkResponse response, Throwable error) {
+        if (error != null) {
+            if (attempt >= retryMaterial.getRetryTimes()) {
+                fail(batch, error);
+            } else {
+                retry(batch, attempt, error.getMessage());
+            }
+            return;
+        }
+        if (!response.isErrors()) {
+            complete(batch);
+            return;
+        }
+        int[] itemStatuses = response.getItemStatuses();
+        boolean retryable =
+                itemStatuses != null
+                        && itemStatuses.length == batch.size()
+                        && Arrays.stream(itemStatuses)
+                                .allMatch(status -> status < 300 || isRetryable(status));
+        if (!retryable || attempt >= retryMaterial.getRetryTimes()) {
+            fail(
+                    batch,
+                    new ElasticsearchConnectorException(
+                            ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                            "bulk es error: " + response.getResponse()));
+            return;
+        }
+        if (keyedItems) {
+            batch.retainItemsFrom(firstFailedItem(itemStatuses));
+        } else {
+            batch.retainFailedItems(itemStatuses);
+        }
+        retry(batch, attempt, batch.size() + " rejected items");
+    }
+
+    private void retry(BulkBuffer batch, int attempt, String reason) {
+        long backoff = retryMaterial.computeRetryWaitTimeMillis(attempt);
+        log.debug(
+                "Bulk request failed due to {}. Retrying attempt ({}/{}) after backoff of {} ms",
+                reason,
+                attempt,
+                retryMaterial.getRetryTimes(),
+                backoff);
+        retryScheduler.schedule(() -> send(batch, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+    }
+
+    private void complete(BulkBuffer batch) {
+        batch.clear();
+        freeBuffers.offer(batch);
+        inFlightRequests.release();
+    }
+
+    private void fail(BulkBuffer batch, Throwable error) {
+        failure.compareAndSet(null, error);
+        complete(batch);
+    }
+
+    private void acquire(int permits) {
+        try {
+            inFlightRequests.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "interrupted while waiting for bulk requests",
+                    e);
+        }
+    }
+
+    private void checkFailure() {
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "ElasticSearch execute batch statement error",
+                    error);
+        }
+    }
+
+    private static int firstFailedItem(int[] itemStatuses) {
+        for (int i = 0; i < itemStatuses.length; i++) {
+            if (itemStatuses[i] >= 300) {
+                return i;
+            }
+        }
+        return itemStatuses.length;
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == HTTP_TOO_MANY_REQUESTS || status == 502 || status == 503 || status == 504;
+    }
+
+    /** The bulk body as UTF-8 bytes with the start offset of every item. */
+    static class BulkBuffer {
+        private byte[] data = new byte[4096];
+        private int length;
+        private int[] itemOffsets = new int[64];
+        private int size;
+
+        void append(String item) {
+            if (size == itemOffsets.length) {
+                itemOffsets = Arrays.copyOf(itemOffsets, size * 2);
+            }
+            itemOffsets[size++] = length;
+            ensureCapacity(length + item.length() * 3 + 1);
+            int position = length;
+            for (int i = 0; i < item.length(); i++) {
+                char c = item.charAt(i);
+                if (c < 0x80) {
+                    data[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    data[position++] = (byte) (0xc0 | (c >> 6));
+                    data[position++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < item.length()
+                        && Character.isLowSurrogate(item.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, item.charAt(++i));
+                    data[position++] = (byte) (0xf0 | (codePoint >> 18));
+                    data[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    data[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    data[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    data[position++] = (byte) '?';
+                } else {
+                    data[position++] = (byte) (0xe0 | (c >> 12));
+                    data[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    data[position++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            data[position++] = '\n';
+            length = position;
+        }
+
+        /** Drop the items that succeeded, keeping the order of the remaining ones. */
+        void retainFailedItems(int[] itemStatuses) {
+            int newLength = 0;
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (itemStatuses[i] < 300) {
+                    continue;
+                }
+                int start = itemOffsets[i];
+                int end = i + 1 < size ? itemOffsets[i + 1] : length;
+                System.arraycopy(data, start, data, newLength, end - start);
+                itemOffsets[newSize++] = newLength;
+                newLength += end - start;
+            }
+            length = newLength;
+            size = newSize;
+        }
+
+        /** Drop the items before {@code first}, keeping the order of the remaining ones. */
+        void retainItemsFrom(int first) {
+            if (first >= size) {
+                clear();
+                return;
+            }
+            int start = itemOffsets[first];
+            System.arraycopy(data, start, data, 0, length - start);
+            for (int i = first; i < size; i++) {
+                itemOffsets[i - first] = itemOffsets[i] - start;
+            }
+            length -= start;
+            size -= first;
+        }
+
+        void clear() {
+            length = 0;
+            size = 0;
+        }
+
+        byte[] data() {
+            return data;
+        }
+
+        int length() {
+            return length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > data.length) {
+                data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+            }
+        }
+    }
+}
@@ -39,7 +39,9 @@ import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.Elasticsear
 import java.util.Optional;
 
 import static org.apache.seatunnel.api.table.factory.FactoryUtil.discoverFactory;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_BATCH_BYTES;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_CONCURRENT_REQUESTS;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_RETRY_COUNT;
 
 public class ElasticsearchSink
@@ -58,11 +60,17 @@ public class ElasticsearchSink
 
     private final int maxRetryCount;
 
+    private final long maxBatchBytes;
+
+    private final int maxConcurrentRequests;
+
     public ElasticsearchSink(ReadonlyConfig config, CatalogTable catalogTable) {
         this.config = config;
         this.catalogTable = catalogTable;
         maxBatchSize = config.get(MAX_BATCH_SIZE);
         maxRetryCount = config.get(MAX_RETRY_COUNT);
+        maxBatchBytes = config.get(MAX_BATCH_BYTES);
+        maxConcurrentRequests = config.get(MAX_CONCURRENT_REQUESTS);
     }
 
     @Override
@@ -73,7 +81,13 @@ public class ElasticsearchSink
     @Override
     public ElasticsearchSinkWriter createWriter(SinkWriter.Context context) {
         return new ElasticsearchSinkWriter(
-                context, catalogTable, config, maxBatchSize, maxRetryCount);
+                context,
+                catalogTable,
+                config,
+                maxBatchSize,
+                maxBatchBytes,
+                maxConcurrentRequests,
+                maxRetryCount);
     }
 
     @Override
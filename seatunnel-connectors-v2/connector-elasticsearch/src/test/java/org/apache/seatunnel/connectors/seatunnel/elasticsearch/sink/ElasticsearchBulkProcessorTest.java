@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class ElasticsearchBulkProcessorTest {
+
+    @Test
+    public void testBulkBufferEncodesUtf8() {
+        String item1 = "{ \"index\" :{\"_index\":\"st\"} }\n{\"name\":\"seatunnel\"}";
+        // chinese characters, an emoji made of a surrogate pair and a latin accent
+        String item2 = "{ \"delete\" :{\"_id\":\"\u4e2d\u6587\ud83d\ude00\u00e9\"} }";
+        ElasticsearchBulkProcessor.BulkBuffer buffer = new ElasticsearchBulkProcessor.BulkBuffer();
+        buffer.append(item1);
+        buffer.append(item2);
+
+        byte[] expected = (item1 + "\n" + item2 + "\n").getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(2, buffer.size());
+        Assertions.assertArrayEquals(expected, Arrays.copyOf(buffer.data(), buffer.length()));
+    }
+
+    @Test
+    public void testBulkBufferRetainsFailedItems() {
+        ElasticsearchBulkProcessor.BulkBuffer buffer = new ElasticsearchBulkProcessor.BulkBuffer();
+        for (int i = 0; i < 100; i++) {
+            buffer.append("{ \"index\" :{\"_id\":\"" + i + "\"} }\n{}");
+        }
+        int[] statuses = new int[100];
+        Arrays.fill(statuses, 201);
+        statuses[3] = 429;
+        statuses[50] = 503;
+        buffer.retainFailedItems(statuses);
+
+        String expected =
+                "{ \"index\" :{\"_id\":\"3\"} }\n{}\n{ \"index\" :{\"_id\":\"50\"} }\n{}\n";
+        Assertions.assertEquals(2, buffer.size());
+        Assertions.assertEquals(
+                expected, new String(buffer.data(), 0, buffer.length(), StandardCharsets.UTF_8));
+
+        buffer.clear();
+        Assertions.assertEquals(0, buffer.size());
+        Assertions.assertEquals(0, buffer.length());
+    }
+
+    @Test
+    public void testBulkBufferRetainsItemsFromIndex() {
+        ElasticsearchBulkProcessor.BulkBuffer buffer = new ElasticsearchBulkProcessor.BulkBuffer();
+        for (int i = 0; i < 100; i++) {
+            buffer.append("{ \"delete\" :{\"_id\":\"" + i + "\"} }");
+        }
+        buffer.retainItemsFrom(97);
+
+        Assertions.assertEquals(3, buffer.size());
+        Assertions.assertEquals(
+                "{ \"delete\" :{\"_id\":\"97\"} }\n"
+                        + "{ \"delete\" :{\"_id\":\"98\"} }\n"
+                        + "{ \"delete\" :{\"_id\":\"99\"} }\n",
+                new String(buffer.data(), 0, buffer.length(), StandardCharsets.UTF_8));
+
+        // the offsets are shifted too
+        buffer.retainItemsFrom(2);
+        Assertions.assertEquals(
+                "{ \"delete\" :{\"_id\":\"99\"} }\n",
+                new String(buffer.data(), 0, buffer.length(), StandardCharsets.UTF_8));
+
+        buffer.retainItemsFrom(1);
+        Assertions.assertEquals(0, buffer.size());
+        Assertions.assertEquals(0, buffer.length());
+    }
+
+    @Test
+    public void testKeyedItemsAreReplayedFromTheFirstRejectedItem() {
+        TestEsRestClient client = new TestEsRestClient();
+        client.respond(itemErrors(201, 429, 200, 503));
+        client.respond(success());
+        try (ElasticsearchBulkProcessor processor = createProcessor(client, 3, true)) {
+            for (int i = 0; i < 4; i++) {
+                processor.add(item(i));
+            }
+            processor.flush();
+        }
+
+        Assertions.assertEquals(
+                Arrays.asList(items(0, 1, 2, 3), items(1, 2, 3)), client.requests());
+    }
+
+    @Test
+    public void testItemsWithoutKeyRetryOnlyTheRejectedItems() {
+        TestEsRestClient client = new TestEsRestClient();
+        client.respond(itemErrors(201, 429, 201, 503));
+        client.respond(itemErrors(201, 429));
+        client.respond(success());
+        try (ElasticsearchBulkProcessor processor = createProcessor(client, 3, false)) {
+            for (int i = 0; i < 4; i++) {
+                processor.add(item(i));
+            }
+            processor.flush();
+        }
+
+        Assertions.assertEquals(
+                Arrays.asList(items(0, 1, 2, 3), items(1, 3), items(3)), client.requests());
+    }
+
+    @Test
+    public void testTransportErrorResendsTheWholeBatch() {
+        TestEsRestClient client = new TestEsRestClient();
+        CompletableFuture<BulkResponse> error = new CompletableFuture<>();
+        error.completeExceptionally(new RuntimeException("connection reset"));
+        client.respond(error);
+        client.respond(success());
+        try (ElasticsearchBulkProcessor processor = createProcessor(client, 3, true)) {
+            processor.add(item(0));
+            processor.add(item(1));
+            processor.flush();
+        }
+
+        Assertions.assertEquals(Arrays.asList(items(0, 1), items(0, 1)), client.requests());
+    }
+
+    @Test
+    public void testNonRetryableItemFailsTheWriter() {
+        TestEsRestClient client = new TestEsRestClient();
+        client.respond(itemErrors(201, 400));
+        try (ElasticsearchBulkProcessor processor = createProcessor(client, 3, true)) {
+            processor.add(item(0));
+            processor.add(item(1));
+            Assertions.assertThrows(ElasticsearchConnectorException.class, processor::flush);
+            Assertions.assertThrows(
+                    ElasticsearchConnectorException.class, () -> processor.add(item(2)));
+        }
+
+        Assertions.assertEquals(Collections.singletonList(items(0, 1)), client.requests());
+    }
+
+    @Test
+    public void testRetriesAreLimited() {
+        TestEsRestClient client = new TestEsRestClient();
+        client.respond(itemErrors(429, 201));
+        client.respond(itemErrors(429, 201));
+        client.respond(success());
+        try (ElasticsearchBulkProcessor processor = createProcessor(client, 2, true)) {
+            processor.add(item(0));
+            processor.add(item(1));
+            Assertions.assertThrows(ElasticsearchConnectorException.class, processor::flush);
+        }
+
+        Assertions.assertEquals(Arrays.asList(items(0, 1), items(0, 1)), client.requests());
+    }
+
+    private static ElasticsearchBulkProcessor createProcessor(
+            TestEsRestClient client, int retryTimes, boolean keyedItems) {
+        return new ElasticsearchBulkProcessor(
+                client.mock,
+                10,
+                Long.MAX_VALUE,
+                1,
+                new RetryMaterial(retryTimes, true, exception -> true, 1),
+                keyedItems);
+    }
+
+    private static String item(int id) {
+        return "{ \"update\" :{\"_id\":\""
+                + id
+                + "\"} }\n{ \"doc\" :{}, \"doc_as_upsert\" : true }";
+    }
+
+    private static String items(int... ids) {
+        StringBuilder body = new StringBuilder();
+        for (int id : ids) {
+            body.append(item(id)).append('\n');
+        }
+        return body.toString();
+    }
+
+    private static CompletableFuture<BulkResponse> success() {
+        return CompletableFuture.completedFuture(new BulkResponse(false, 1, "{}"));
+    }
+
+    private static CompletableFuture<BulkResponse> itemErrors(int... itemStatuses) {
+        return CompletableFuture.completedFuture(
+                new BulkResponse(true, 1, "{\"errors\":true}", itemStatuses));
+    }
+
+    /** Records the bodies of the bulk requests and answers them with the queued responses. */
+    private static class TestEsRestClient {
+        private final EsRestClient mock = mock(EsRestClient.class);
+        private final Queue<CompletableFuture<BulkResponse>> responses =
+                new ConcurrentLinkedQueue<>();
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+        private TestEsRestClient() {
+            doAnswer(
+                            invocation -> {
+                                byte[] body = invocation.getArgument(0);
+                                int length = invocation.getArgument(1);
+                                requests.add(
+                                        new String(body, 0, length, StandardCharsets.UTF_8));
+                                CompletableFuture<BulkResponse> response = responses.poll();
+                                return response != null ? response : success();
+                            })
+                    .when(mock)
+                    .bulkAsync(any(byte[].class), anyInt());
+        }
+
+        private void respond(CompletableFuture<BulkResponse> response) {
+            responses.add(response);
+        }
+
+        private List<String> requests() {
+            return new ArrayList<>(requests);
+        }
+    }
+}
@@ -172,4 +172,28 @@ public class BaseSourceConfigOptions {
                     .enumType(ArchiveCompressFormat.class)
                     .defaultValue(ArchiveCompressFormat.NONE)
                     .withDescription("Archive compression codec");
+
+    public static final Option<Boolean> ENABLE_FILE_SPLIT =
+            Options.key("enable_file_split")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split large files so that they are read by several readers, "
+                                    + "only valid for uncompressed text, csv and json files and for parquet and orc files.");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The size in bytes of a file split when enable_file_split is true. "
+                                    + "Text and json splits are aligned to lines, parquet and orc splits to row groups and stripes.");
+
+    public static final Option<Integer> DECODE_PARALLELISM =
+            Options.key("decode_parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of orc stripes or parquet row groups decoded concurrently by one reader, "
+                                    + "only valid for orc and parquet files.");
 }
@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.BasicType;
@@ -27,14 +28,18 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.commons.compress.utils.BoundedInputStream;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 
 import lombok.extern.slf4j.Slf4j;
@@ -44,10 +49,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,6 +78,9 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected static final BigDecimal[] TYPE_ARRAY_BIG_DECIMAL = new BigDecimal[0];
     protected static final LocalDate[] TYPE_ARRAY_LOCAL_DATE = new LocalDate[0];
     protected static final LocalDateTime[] TYPE_ARRAY_LOCAL_DATETIME = new LocalDateTime[0];
+    // the last byte range of a file may be up to 10% larger than the split size
+    private static final double FILE_SPLIT_SLOP = 1.1;
+    private static final int LINE_SCAN_BUFFER_SIZE = 4096;
 
     protected HadoopConf hadoopConf;
     protected SeaTunnelRowType seaTunnelRowType;
@@ -84,6 +95,10 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
     protected ArchiveCompressFormat archiveCompressFormat =
             BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC.defaultValue();
+    protected boolean enableFileSplit = BaseSourceConfigOptions.ENABLE_FILE_SPLIT.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
+    protected int decodeParallelism = BaseSourceConfigOptions.DECODE_PARALLELISM.defaultValue();
+    private transient ParallelBlockDecoder blockDecoder;
 
     protected Pattern pattern;
 
@@ -169,6 +184,146 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
             this.pattern = Pattern.compile(Matcher.quoteReplacement(filterPattern));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key())) {
+            enableFileSplit =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.DECODE_PARALLELISM.key())) {
+            decodeParallelism =
+                    Math.max(
+                            1,
+                            pluginConfig.getInt(BaseSourceConfigOptions.DECODE_PARALLELISM.key()));
+        }
+    }
+
+    /** The decoder of orc stripes and parquet row groups, created on first use. */
+    ParallelBlockDecoder getBlockDecoder() {
+        if (blockDecoder == null) {
+            blockDecoder = new ParallelBlockDecoder(decodeParallelism);
+        }
+        return blockDecoder;
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!enableFileSplit || fileSplitSize <= 0) {
+            return ReadStrategy.super.getFileSourceSplits(tableId, path);
+        }
+        List<FileSourceSplit> splits = splitFile(tableId, path);
+        log.info("Split file [{}] into {} splits", path, splits.size());
+        return splits;
+    }
+
+    /** Split the file when {@code enable_file_split} is true, the default is not to split it. */
+    protected List<FileSourceSplit> splitFile(String tableId, String path) throws IOException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
+    /** Split the file into byte ranges of {@code file_split_size}. */
+    protected List<FileSourceSplit> splitByByteRange(String tableId, String path)
+            throws IOException {
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        if (fileLength <= fileSplitSize * FILE_SPLIT_SLOP) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long start = 0;
+        while (fileLength - start > fileSplitSize * FILE_SPLIT_SLOP) {
+            splits.add(new FileSourceSplit(tableId, path, start, fileSplitSize));
+            start += fileSplitSize;
+        }
+        splits.add(new FileSourceSplit(tableId, path, start, fileLength - start));
+        return splits;
+    }
+
+    /**
+     * Group consecutive blocks of the file, e.g. row groups or stripes, into splits of at least
+     * {@code file_split_size}. A split covers whole blocks from the start of its first block to the
+     * end of its last block.
+     */
+    protected List<FileSourceSplit> splitByBlocks(
+            String tableId, String path, long[] blockStarts, long[] blockLengths) {
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long splitStart = -1;
+        long splitEnd = 0;
+        for (int i = 0; i < blockStarts.length; i++) {
+            if (splitStart < 0) {
+                splitStart = blockStarts[i];
+            }
+            splitEnd = blockStarts[i] + blockLengths[i];
+            if (splitEnd - splitStart >= fileSplitSize) {
+                splits.add(new FileSourceSplit(tableId, path, splitStart, splitEnd - splitStart));
+                splitStart = -1;
+            }
+        }
+        if (splitStart >= 0) {
+            splits.add(new FileSourceSplit(tableId, path, splitStart, splitEnd - splitStart));
+        }
+        if (splits.size() <= 1) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        return splits;
+    }
+
+    /**
+     * Whether the file can be split at line boundaries, it must not be compressed and the line feed
+     * must be a single byte in its encoding.
+     */
+    protected boolean isSplittableByLine() {
+        if (archiveCompressFormat != ArchiveCompressFormat.NONE) {
+            return false;
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.COMPRESS_CODEC.key())
+                && CompressFormat.valueOf(
+                                pluginConfig
+                                        .getString(BaseSourceConfigOptions.COMPRESS_CODEC.key())
+                                        .toUpperCase())
+                        != CompressFormat.NONE) {
+            return false;
+        }
+        String encoding =
+                ReadonlyConfig.fromConfig(pluginConfig)
+                        .getOptional(BaseSourceConfigOptions.ENCODING)
+                        .orElse(StandardCharsets.UTF_8.name());
+        return Arrays.equals("\n".getBytes(Charset.forName(encoding)), new byte[] {'\n'});
+    }
+
+    /**
+     * Limit the input stream to the lines starting in the byte range of the split. A line crossing
+     * the end of the range is read by the split it starts in, so the partial line at the start of a
+     * range is skipped.
+     */
+    protected InputStream getLineRangeInputStream(
+            FSDataInputStream inputStream, FileSourceSplit split) throws IOException {
+        long start = nextLineStart(inputStream, split.getStart());
+        long end = nextLineStart(inputStream, split.getStart() + split.getLength());
+        inputStream.seek(start);
+        return new BoundedInputStream(inputStream, Math.max(0, end - start));
+    }
+
+    private static long nextLineStart(FSDataInputStream inputStream, long position)
+            throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        // a line starts at the position if the previous byte is a line feed
+        inputStream.seek(position - 1);
+        byte[] buffer = new byte[LINE_SCAN_BUFFER_SIZE];
+        long offset = position - 1;
+        int read;
+        while ((read = inputStream.read(buffer)) > 0) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return offset;
     }
 
     @Override
@@ -372,6 +527,10 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
 
     @Override
     public void close() throws IOException {
+        if (blockDecoder != null) {
+            blockDecoder.close();
+            blockDecoder = null;
+        }
         try {
             if (hadoopFileSystemProxy != null) {
                 hadoopFileSystemProxy.close();
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.ArrayType;
@@ -33,6 +35,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -41,6 +44,7 @@ import org.apache.hadoop.io.Text;
 import org.apache.orc.OrcFile;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
+import org.apache.orc.StripeInformation;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
 import org.apache.orc.storage.ql.exec.vector.ColumnVector;
@@ -72,6 +76,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.DoubleFunction;
+import java.util.function.LongFunction;
 
 import static org.apache.seatunnel.api.table.type.TypeUtil.canConvert;
 import static org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWriteStrategy.buildFieldWithRowType;
@@ -80,9 +86,24 @@ import static org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWrit
 public class OrcReadStrategy extends AbstractReadStrategy {
     private static final long MIN_SIZE = 16 * 1024;
 
+    private transient Charset charset;
+
+    /** Convert a column vector of a batch into one field of the rows. */
+    @FunctionalInterface
+    interface OrcColumnConverter {
+        void convert(ColumnVector vector, Object[][] rows, int column, int size);
+    }
+
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(path), tableId, output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -105,49 +126,113 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
-            VectorizedRowBatch rowBatch = schema.createRowBatch();
-            while (rows.nextBatch(rowBatch)) {
-                int num = 0;
-                for (int i = 0; i < rowBatch.size; i++) {
-                    int numCols = rowBatch.numCols;
-                    Object[] fields;
-                    if (isMergePartition) {
-                        int index = numCols;
-                        fields = new Object[numCols + partitionsMap.size()];
-                        for (String value : partitionsMap.values()) {
-                            fields[index++] = value;
-                        }
-                    } else {
-                        fields = new Object[numCols];
-                    }
-                    ColumnVector[] cols = rowBatch.cols;
-                    for (int j = 0; j < numCols; j++) {
-                        if (cols[j] == null) {
-                            fields[j] = null;
-                        } else {
-                            fields[j] =
-                                    readColumn(
-                                            cols[j],
-                                            children.get(j),
-                                            seaTunnelRowType.getFieldType(j),
-                                            num);
-                        }
-                    }
-                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
-                    seaTunnelRow.setTableId(tableId);
-                    output.collect(seaTunnelRow);
-                    num++;
+            Charset charset = getCharset();
+            OrcColumnConverter[] converters = new OrcColumnConverter[children.size()];
+            for (int i = 0; i < converters.length; i++) {
+                converters[i] =
+                        createConverter(children.get(i), seaTunnelRowType.getFieldType(i), charset);
+            }
+            List<StripeInformation> stripes = new ArrayList<>();
+            for (StripeInformation stripe : reader.getStripes()) {
+                if (split.isWholeFile()
+                        || (stripe.getOffset() >= split.getStart()
+                                && stripe.getOffset() < split.getStart() + split.getLength())) {
+                    stripes.add(stripe);
                 }
             }
+            // every stripe gets its own record reader only when they are decoded concurrently
+            boolean decodeStripes = decodeParallelism > 1 && stripes.size() > 1;
+            getBlockDecoder()
+                    .decode(
+                            decodeStripes ? stripes.size() : 1,
+                            (block, consumer) -> {
+                                Reader.Options options = reader.options().schema(schema);
+                                if (decodeStripes) {
+                                    StripeInformation stripe = stripes.get(block);
+                                    options.range(stripe.getOffset(), stripe.getLength());
+                                } else if (!split.isWholeFile()) {
+                                    // read the stripes starting in the byte range of the split
+                                    options.range(split.getStart(), split.getLength());
+                                }
+                                try (RecordReader rows = reader.rows(options)) {
+                                    VectorizedRowBatch rowBatch = schema.createRowBatch();
+                                    while (rows.nextBatch(rowBatch)) {
+                                        consumer.accept(
+                                                convertBatch(
+                                                        rowBatch,
+                                                        converters,
+                                                        partitionsMap,
+                                                        tableId));
+                                    }
+                                }
+                            },
+                            rows -> {
+                                for (SeaTunnelRow row : rows) {
+                                    output.collect(row);
+                                }
+                            });
         }
     }
 
+    private SeaTunnelRow[] convertBatch(
+            VectorizedRowBatch rowBatch,
+            OrcColumnConverter[] converters,
+            Map<String, String> partitionsMap,
+            String tableId) {
+        int size = rowBatch.size;
+        int numCols = rowBatch.numCols;
+        Object[][] fields = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            if (isMergePartition) {
+                int index = numCols;
+                fields[i] = new Object[numCols + partitionsMap.size()];
+                for (String value : partitionsMap.values()) {
+                    fields[i][index++] = value;
+                }
+            } else {
+                fields[i] = new Object[numCols];
+            }
+        }
+        ColumnVector[] cols = rowBatch.cols;
+        for (int j = 0; j < numCols; j++) {
+            if (cols[j] != null) {
+                converters[j].convert(cols[j], fields, j, size);
+            }
+        }
+        SeaTunnelRow[] rows = new SeaTunnelRow[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new SeaTunnelRow(fields[i]);
+            rows[i].setTableId(tableId);
+        }
+        return rows;
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfoWithUserConfigRowType(path, null);
     }
 
+    @Override
+    protected List<FileSourceSplit> splitFile(String tableId, String path) throws IOException {
+        List<StripeInformation> stripes;
+        try (Reader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        (configuration, userGroupInformation) -> {
+                            OrcFile.ReaderOptions readerOptions =
+                                    OrcFile.readerOptions(configuration);
+                            return OrcFile.createReader(new Path(path), readerOptions);
+                        })) {
+            stripes = reader.getStripes();
+        }
+        long[] starts = new long[stripes.size()];
+        long[] lengths = new long[stripes.size()];
+        for (int i = 0; i < stripes.size(); i++) {
+            starts[i] = stripes.get(i).getOffset();
+            lengths[i] = stripes.get(i).getLength();
+        }
+        return splitByBlocks(tableId, path, starts, lengths);
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfoWithUserConfigRowType(
             String path, SeaTunnelRowType configRowType) throws FileConnectorException {
@@ -352,6 +437,134 @@ public class OrcReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    private Charset getCharset() {
+        if (charset == null) {
+            charset = StandardCharsets.UTF_8;
+            if (pluginConfig != null) {
+                charset =
+                        ReadonlyConfig.fromConfig(pluginConfig)
+                                .getOptional(BaseSourceConfigOptions.ENCODING)
+                                .map(Charset::forName)
+                                .orElse(StandardCharsets.UTF_8);
+            }
+        }
+        return charset;
+    }
+
+    /**
+     * Create the converter of a top level column, the type of the column is resolved once so that
+     * the values of a column vector are converted without a type dispatch per value. Nested types
+     * fall back to {@link #readColumn}.
+     */
+    @VisibleForTesting
+    OrcColumnConverter createConverter(
+            TypeDescription colType, @Nullable SeaTunnelDataType<?> dataType, Charset charset) {
+        boolean toStr = dataType != null && dataType.getSqlType().equals(SqlType.STRING);
+        switch (colType.getCategory()) {
+            case BOOLEAN:
+                return longConverter(value -> value == 1 ? Boolean.TRUE : Boolean.FALSE, toStr);
+            case BYTE:
+                return longConverter(value -> (byte) value, toStr);
+            case SHORT:
+                return longConverter(value -> (short) value, toStr);
+            case INT:
+                return longConverter(value -> (int) value, toStr);
+            case LONG:
+                return longConverter(value -> value, toStr);
+            case DATE:
+                return longConverter(LocalDate::ofEpochDay, toStr);
+            case FLOAT:
+                return doubleConverter(value -> (float) value, toStr);
+            case DOUBLE:
+                return doubleConverter(value -> value, toStr);
+            case STRING:
+            case VARCHAR:
+            case CHAR:
+                return bytesConverter(true, charset);
+            case BINARY:
+                return bytesConverter(toStr, charset);
+            case DECIMAL:
+                return (vector, rows, column, size) -> {
+                    DecimalColumnVector decimalVector = (DecimalColumnVector) vector;
+                    for (int i = 0; i < size; i++) {
+                        int index = decimalVector.isRepeating ? 0 : i;
+                        if (decimalVector.noNulls || !decimalVector.isNull[index]) {
+                            BigDecimal value =
+                                    decimalVector.vector[index].getHiveDecimal().bigDecimalValue();
+                            rows[i][column] = toStr ? value.toString() : value;
+                        }
+                    }
+                };
+            case TIMESTAMP:
+                boolean toTime = dataType != null && dataType.getSqlType() == SqlType.TIME;
+                return (vector, rows, column, size) -> {
+                    TimestampColumnVector timestampVector = (TimestampColumnVector) vector;
+                    for (int i = 0; i < size; i++) {
+                        int index = timestampVector.isRepeating ? 0 : i;
+                        if (timestampVector.noNulls || !timestampVector.isNull[index]) {
+                            Timestamp timestamp = new Timestamp(timestampVector.time[index]);
+                            timestamp.setNanos(timestampVector.nanos[index]);
+                            LocalDateTime dateTime = timestamp.toLocalDateTime();
+                            Object value = toTime ? dateTime.toLocalTime() : dateTime;
+                            rows[i][column] = toStr ? value.toString() : value;
+                        }
+                    }
+                };
+            default:
+                return (vector, rows, column, size) -> {
+                    for (int i = 0; i < size; i++) {
+                        rows[i][column] = readColumn(vector, colType, dataType, i);
+                    }
+                };
+        }
+    }
+
+    private static OrcColumnConverter longConverter(
+            LongFunction<Object> function, boolean toStr) {
+        return (vector, rows, column, size) -> {
+            LongColumnVector longVector = (LongColumnVector) vector;
+            for (int i = 0; i < size; i++) {
+                int index = longVector.isRepeating ? 0 : i;
+                if (longVector.noNulls || !longVector.isNull[index]) {
+                    Object value = function.apply(longVector.vector[index]);
+                    rows[i][column] = toStr ? value.toString() : value;
+                }
+            }
+        };
+    }
+
+    private static OrcColumnConverter doubleConverter(
+            DoubleFunction<Object> function, boolean toStr) {
+        return (vector, rows, column, size) -> {
+            DoubleColumnVector doubleVector = (DoubleColumnVector) vector;
+            for (int i = 0; i < size; i++) {
+                int index = doubleVector.isRepeating ? 0 : i;
+                if (doubleVector.noNulls || !doubleVector.isNull[index]) {
+                    Object value = function.apply(doubleVector.vector[index]);
+                    rows[i][column] = toStr ? value.toString() : value;
+                }
+            }
+        };
+    }
+
+    private static OrcColumnConverter bytesConverter(boolean toStr, Charset charset) {
+        return (vector, rows, column, size) -> {
+            BytesColumnVector bytesVector = (BytesColumnVector) vector;
+            for (int i = 0; i < size; i++) {
+                int index = bytesVector.isRepeating ? 0 : i;
+                if (bytesVector.noNulls || !bytesVector.isNull[index]) {
+                    byte[] bytes = bytesVector.vector[index];
+                    int start = bytesVector.start[index];
+                    int length = bytesVector.length[index];
+                    rows[i][column] =
+                            toStr
+                                    ? new String(bytes, start, length, charset)
+                                    : Arrays.copyOfRange(bytes, start, start + length);
+                }
+            }
+        };
+    }
+
     private Object readColumn(
             ColumnVector colVec,
             TypeDescription colType,
@@ -435,15 +648,7 @@ public class OrcReadStrategy extends AbstractReadStrategy {
             TypeDescription typeDescription,
             SeaTunnelDataType<?> dataType,
             int rowNum) {
-        Charset charset = StandardCharsets.UTF_8;
-        if (pluginConfig != null) {
-            charset =
-                    ReadonlyConfig.fromConfig(pluginConfig)
-                            .getOptional(BaseSourceConfigOptions.ENCODING)
-                            .map(Charset::forName)
-                            .orElse(StandardCharsets.UTF_8);
-        }
-
+        Charset charset = getCharset();
         Object bytesObj = null;
         if (!colVec.isNull[rowNum]) {
             BytesColumnVector bytesVector = (BytesColumnVector) colVec;
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Decode the blocks of a columnar file, e.g. orc stripes or parquet row groups, with several
+ * threads. At most {@code parallelism} blocks are decoded at the same time and the decoded rows
+ * are handed back to the reading thread in file order.
+ */
+class ParallelBlockDecoder implements Closeable {
+    private static final int QUEUED_BATCHES_PER_BLOCK = 4;
+
+    private static final Object END_OF_BLOCK = new Object();
+
+    private final int parallelism;
+
+    private final ExecutorService executor;
+
+    ParallelBlockDecoder(int parallelism) {
+        this.parallelism = parallelism;
+        this.executor =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("file-block-decoder-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /** Decode one block and hand every decoded batch of rows to the consumer in order. */
+    @FunctionalInterface
+    interface BlockDecoder {
+        void decode(int block, BatchConsumer consumer) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface BatchConsumer {
+        void accept(SeaTunnelRow[] rows) throws Exception;
+    }
+
+    /**
+     * Decode the blocks and hand the rows to the consumer on the calling thread, a single block is
+     * decoded on the calling thread directly.
+     */
+    void decode(int blockCount, BlockDecoder decoder, BatchConsumer consumer) throws IOException {
+        if (blockCount <= 1 || parallelism <= 1) {
+            for (int block = 0; block < blockCount; block++) {
+                runOnCallingThread(decoder, block, consumer);
+            }
+            return;
+        }
+        List<BlockingQueue<Object>> queues = new ArrayList<>(blockCount);
+        List<Future<?>> futures = new ArrayList<>(blockCount);
+        try {
+            for (int block = 0; block < Math.min(parallelism, blockCount); block++) {
+                submit(decoder, block, queues, futures);
+            }
+            for (int block = 0; block < blockCount; block++) {
+                BlockingQueue<Object> queue = queues.get(block);
+                Object item;
+                while ((item = queue.take()) != END_OF_BLOCK) {
+                    if (item instanceof Throwable) {
+                        throw rethrow((Throwable) item);
+                    }
+                    consumer.accept((SeaTunnelRow[]) item);
+                }
+                // the finished block frees a slot for the next one
+                if (queues.size() < blockCount) {
+                    submit(decoder, queues.size(), queues, futures);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.READER_OPERATION_FAILED,
+                    "Interrupted while decoding file blocks",
+                    e);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw rethrow(e);
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void submit(
+            BlockDecoder decoder,
+            int block,
+            List<BlockingQueue<Object>> queues,
+            List<Future<?>> futures) {
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUED_BATCHES_PER_BLOCK);
+        queues.add(queue);
+        futures.add(
+                executor.submit(
+                        () -> {
+                            try {
+                                decoder.decode(block, queue::put);
+                                queue.put(END_OF_BLOCK);
+                            } catch (InterruptedException e) {
+                                // cancelled by the reading thread
+                                Thread.currentThread().interrupt();
+                            } catch (Throwable e) {
+                                try {
+                                    queue.put(e);
+                                } catch (InterruptedException ignored) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                        }));
+    }
+
+    private static void runOnCallingThread(
+            BlockDecoder decoder, int block, BatchConsumer consumer) throws IOException {
+        try {
+            decoder.decode(block, consumer);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e) throws IOException {
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new FileConnectorException(
+                CommonErrorCodeDeprecated.READER_OPERATION_FAILED, "Decode file block failed", e);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
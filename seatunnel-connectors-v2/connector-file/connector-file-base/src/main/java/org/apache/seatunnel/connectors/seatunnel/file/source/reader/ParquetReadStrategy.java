@@ -33,6 +33,7 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
 import org.apache.avro.data.TimeConversions;
@@ -41,33 +42,51 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.example.data.simple.NanoTime;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.DecimalLogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.EnumLogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.StringLogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -79,12 +98,43 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
     private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
     private static final String PARQUET = "Parquet";
+    private static final int ROWS_PER_BATCH = 1024;
+
+    // the column readers are used to read values directly, the converters are never called
+    private static final GroupConverter NO_OP_CONVERTER =
+            new GroupConverter() {
+                private final PrimitiveConverter primitiveConverter = new PrimitiveConverter() {};
+
+                @Override
+                public Converter getConverter(int fieldIndex) {
+                    return primitiveConverter;
+                }
+
+                @Override
+                public void start() {}
+
+                @Override
+                public void end() {}
+            };
 
     private int[] indexes;
 
+    /** Read the current value of a column reader, it is called only for non null values. */
+    @FunctionalInterface
+    private interface ParquetColumnConverter {
+        Object read(ColumnReader reader);
+    }
+
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(path), tableId, output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -98,16 +148,23 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
+        if (readColumnChunks(split, tableId, output, partitionsMap, hadoopInputFile)) {
+            return;
+        }
         int fieldsCount = seaTunnelRowType.getTotalFields();
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        ParquetReader.Builder<GenericData.Record> readerBuilder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+                        .withDataModel(dataModel);
+        if (!split.isWholeFile()) {
+            // read the row groups whose midpoint is in the byte range of the split
+            readerBuilder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        try (ParquetReader<GenericData.Record> reader = readerBuilder.build()) {
             while ((record = reader.read()) != null) {
                 Object[] fields;
                 if (isMergePartition) {
@@ -130,6 +187,254 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    /**
+     * Read the projected columns by decoding their column chunks directly into the fields of the
+     * rows with a converter per column, row groups are decoded concurrently when {@code
+     * decode_parallelism} is greater than 1. Returns false when a column can only be read by the
+     * avro record reader, e.g. nested and repeated types.
+     */
+    private boolean readColumnChunks(
+            FileSourceSplit split,
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            Map<String, String> partitionsMap,
+            HadoopInputFile hadoopInputFile)
+            throws IOException {
+        ParquetReadOptions.Builder optionsBuilder = ParquetReadOptions.builder();
+        if (!split.isWholeFile()) {
+            // read the row groups whose midpoint is in the byte range of the split
+            optionsBuilder.withRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(hadoopInputFile, optionsBuilder.build())) {
+            FileMetaData fileMetaData = reader.getFooter().getFileMetaData();
+            MessageType requestedSchema = projectSchema(fileMetaData.getSchema());
+            if (requestedSchema == null) {
+                return false;
+            }
+            ParquetColumnConverter[] converters =
+                    new ParquetColumnConverter[seaTunnelRowType.getTotalFields()];
+            for (int i = 0; i < converters.length; i++) {
+                converters[i] =
+                        createConverter(
+                                requestedSchema.getType(i).asPrimitiveType(),
+                                seaTunnelRowType.getFieldType(i));
+                if (converters[i] == null) {
+                    return false;
+                }
+            }
+            reader.setRequestedSchema(requestedSchema);
+            String createdBy = fileMetaData.getCreatedBy();
+            List<BlockMetaData> rowGroups = reader.getRowGroups();
+            // every row group gets its own file reader only when they are decoded concurrently
+            boolean decodeRowGroups = decodeParallelism > 1 && rowGroups.size() > 1;
+            getBlockDecoder()
+                    .decode(
+                            decodeRowGroups ? rowGroups.size() : 1,
+                            (block, consumer) -> {
+                                if (!decodeRowGroups) {
+                                    decodeRowGroups(
+                                            reader,
+                                            requestedSchema,
+                                            createdBy,
+                                            converters,
+                                            partitionsMap,
+                                            tableId,
+                                            consumer);
+                                    return;
+                                }
+                                BlockMetaData rowGroup = rowGroups.get(block);
+                                ParquetReadOptions rowGroupOptions =
+                                        ParquetReadOptions.builder()
+                                                .withRange(
+                                                        rowGroup.getStartingPos(),
+                                                        rowGroup.getStartingPos()
+                                                                + rowGroup.getCompressedSize())
+                                                .build();
+                                try (ParquetFileReader rowGroupReader =
+                                        ParquetFileReader.open(hadoopInputFile, rowGroupOptions)) {
+                                    rowGroupReader.setRequestedSchema(requestedSchema);
+                                    decodeRowGroups(
+                                            rowGroupReader,
+                                            requestedSchema,
+                                            createdBy,
+                                            converters,
+                                            partitionsMap,
+                                            tableId,
+                                            consumer);
+                                }
+                            },
+                            rows -> {
+                                for (SeaTunnelRow row : rows) {
+                                    output.collect(row);
+                                }
+                            });
+        }
+        return true;
+    }
+
+    /** The schema of the read columns, null if one of them is not a flat column of the file. */
+    private MessageType projectSchema(MessageType fileSchema) {
+        int fieldsCount = seaTunnelRowType.getTotalFields();
+        if (fieldsCount == 0) {
+            return null;
+        }
+        List<Type> fields = new ArrayList<>(fieldsCount);
+        Set<String> fieldNames = new HashSet<>();
+        for (int i = 0; i < fieldsCount; i++) {
+            String fieldName = seaTunnelRowType.getFieldName(i);
+            if (!fileSchema.containsField(fieldName) || !fieldNames.add(fieldName)) {
+                return null;
+            }
+            Type type = fileSchema.getType(fieldName);
+            if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+                return null;
+            }
+            fields.add(type);
+        }
+        return new MessageType(fileSchema.getName(), fields);
+    }
+
+    private void decodeRowGroups(
+            ParquetFileReader reader,
+            MessageType requestedSchema,
+            String createdBy,
+            ParquetColumnConverter[] converters,
+            Map<String, String> partitionsMap,
+            String tableId,
+            ParallelBlockDecoder.BatchConsumer consumer)
+            throws Exception {
+        List<ColumnDescriptor> columns = requestedSchema.getColumns();
+        int fieldsCount = columns.size();
+        PageReadStore pages;
+        while ((pages = reader.readNextRowGroup()) != null) {
+            long rowCount = pages.getRowCount();
+            if (rowCount == 0) {
+                continue;
+            }
+            ColumnReadStoreImpl columnReadStore =
+                    new ColumnReadStoreImpl(pages, NO_OP_CONVERTER, requestedSchema, createdBy);
+            ColumnReader[] columnReaders = new ColumnReader[fieldsCount];
+            for (int j = 0; j < fieldsCount; j++) {
+                columnReaders[j] = columnReadStore.getColumnReader(columns.get(j));
+            }
+            for (long offset = 0; offset < rowCount; offset += ROWS_PER_BATCH) {
+                int size = (int) Math.min(ROWS_PER_BATCH, rowCount - offset);
+                Object[][] fields = new Object[size][];
+                for (int i = 0; i < size; i++) {
+                    if (isMergePartition) {
+                        int index = fieldsCount;
+                        fields[i] = new Object[fieldsCount + partitionsMap.size()];
+                        for (String value : partitionsMap.values()) {
+                            fields[i][index++] = value;
+                        }
+                    } else {
+                        fields[i] = new Object[fieldsCount];
+                    }
+                }
+                for (int j = 0; j < fieldsCount; j++) {
+                    ColumnReader columnReader = columnReaders[j];
+                    ParquetColumnConverter converter = converters[j];
+                    int maxDefinitionLevel = columns.get(j).getMaxDefinitionLevel();
+                    for (int i = 0; i < size; i++) {
+                        if (columnReader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                            fields[i][j] = converter.read(columnReader);
+                        }
+                        columnReader.consume();
+                    }
+                }
+                SeaTunnelRow[] rows = new SeaTunnelRow[size];
+                for (int i = 0; i < size; i++) {
+                    rows[i] = new SeaTunnelRow(fields[i]);
+                    rows[i].setTableId(tableId);
+                }
+                consumer.accept(rows);
+            }
+        }
+    }
+
+    /**
+     * Create the converter of a flat column, it returns the same values as the avro record reader
+     * followed by {@link #resolveObject}, null if the column is not supported.
+     */
+    private ParquetColumnConverter createConverter(
+            PrimitiveType type, SeaTunnelDataType<?> dataType) {
+        OriginalType originalType = type.getOriginalType();
+        LogicalTypeAnnotation logicalType = type.getLogicalTypeAnnotation();
+        SqlType sqlType = dataType.getSqlType();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return sqlType == SqlType.BOOLEAN ? ColumnReader::getBoolean : null;
+            case INT32:
+                if (originalType == null && sqlType == SqlType.INT) {
+                    return ColumnReader::getInteger;
+                }
+                if (originalType == OriginalType.INT_8 && sqlType == SqlType.TINYINT) {
+                    return reader -> (byte) reader.getInteger();
+                }
+                if (originalType == OriginalType.INT_16 && sqlType == SqlType.SMALLINT) {
+                    return reader -> (short) reader.getInteger();
+                }
+                if (originalType == OriginalType.DATE && sqlType == SqlType.DATE) {
+                    return reader -> LocalDate.ofEpochDay(reader.getInteger());
+                }
+                return null;
+            case INT64:
+                if ((originalType == null
+                                || originalType == OriginalType.INT_64
+                                || originalType == OriginalType.TIMESTAMP_MICROS)
+                        && sqlType == SqlType.BIGINT) {
+                    return ColumnReader::getLong;
+                }
+                if (originalType == OriginalType.TIMESTAMP_MILLIS
+                        && sqlType == SqlType.TIMESTAMP) {
+                    // the same zone as resolveObject, whether the timestamp is adjusted to UTC or not
+                    return reader ->
+                            LocalDateTime.ofInstant(
+                                    Instant.ofEpochMilli(reader.getLong()), ZoneId.systemDefault());
+                }
+                return null;
+            case INT96:
+                return sqlType == SqlType.TIMESTAMP
+                        ? reader -> int96ToLocalDateTime(reader.getBinary())
+                        : null;
+            case FLOAT:
+                return sqlType == SqlType.FLOAT ? ColumnReader::getFloat : null;
+            case DOUBLE:
+                return sqlType == SqlType.DOUBLE ? ColumnReader::getDouble : null;
+            case BINARY:
+                if (logicalType == null && sqlType == SqlType.BYTES) {
+                    return reader -> reader.getBinary().getBytes();
+                }
+                if ((logicalType instanceof StringLogicalTypeAnnotation
+                                || logicalType instanceof EnumLogicalTypeAnnotation)
+                        && sqlType == SqlType.STRING) {
+                    return reader -> reader.getBinary().toStringUsingUTF8();
+                }
+                return null;
+            case FIXED_LEN_BYTE_ARRAY:
+                if (logicalType instanceof DecimalLogicalTypeAnnotation
+                        && sqlType == SqlType.DECIMAL) {
+                    int scale = ((DecimalLogicalTypeAnnotation) logicalType).getScale();
+                    return reader ->
+                            new BigDecimal(new BigInteger(reader.getBinary().getBytes()), scale);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static LocalDateTime int96ToLocalDateTime(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        int julianDay = nanoTime.getJulianDay();
+        long nanosOfDay = nanoTime.getTimeOfDayNanos();
+        long timestamp =
+                (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanosOfDay / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -207,15 +512,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 return bytes;
             case TIMESTAMP:
                 if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
+                    return int96ToLocalDateTime(
+                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes()));
                 }
                 Instant instant = Instant.ofEpochMilli((long) field);
                 return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
@@ -241,6 +539,27 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         return getSeaTunnelRowTypeInfo(TablePath.DEFAULT, path);
     }
 
+    @Override
+    protected List<FileSourceSplit> splitFile(String tableId, String path) throws IOException {
+        List<BlockMetaData> rowGroups;
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        ((configuration, userGroupInformation) -> {
+                            HadoopInputFile hadoopInputFile =
+                                    HadoopInputFile.fromPath(new Path(path), configuration);
+                            return ParquetFileReader.open(hadoopInputFile);
+                        }))) {
+            rowGroups = reader.getFooter().getBlocks();
+        }
+        long[] starts = new long[rowGroups.size()];
+        long[] lengths = new long[rowGroups.size()];
+        for (int i = 0; i < rowGroups.size(); i++) {
+            starts[i] = rowGroups.get(i).getStartingPos();
+            lengths[i] = rowGroups.get(i).getCompressedSize();
+        }
+        return splitByBlocks(tableId, path, starts, lengths);
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
             throws FileConnectorException {
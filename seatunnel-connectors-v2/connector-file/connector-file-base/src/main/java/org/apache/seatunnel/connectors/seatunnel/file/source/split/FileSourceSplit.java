@@ -26,24 +26,41 @@ public class FileSourceSplit implements SourceSplit {
 
     @Getter private final String tableId;
     @Getter private final String filePath;
+    /** The start offset in bytes of the part of the file read by this split. */
+    @Getter private final long start;
+    /**
+     * The length in bytes of the part of the file read by this split, 0 if the whole file is read.
+     * Splits restored from the state of older versions have no length and read the whole file.
+     */
+    @Getter private final long length;
 
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, 0);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String fileSplitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return fileSplitId;
         }
-        return tableId + "_" + filePath;
+        return fileSplitId + "_" + start;
     }
 }
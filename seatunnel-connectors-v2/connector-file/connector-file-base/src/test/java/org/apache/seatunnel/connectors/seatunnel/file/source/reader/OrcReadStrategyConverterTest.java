@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.common.type.HiveDecimal;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.ColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DecimalColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class OrcReadStrategyConverterTest {
+
+    private static final int SIZE = 4;
+
+    private final OrcReadStrategy readStrategy = new OrcReadStrategy();
+
+    @Test
+    public void testLongColumn() {
+        LongColumnVector vector = new LongColumnVector(SIZE);
+        vector.noNulls = false;
+        for (int i = 0; i < SIZE; i++) {
+            vector.vector[i] = i * 10L;
+        }
+        vector.isNull[2] = true;
+
+        assertColumn(
+                convert(TypeDescription.createLong(), BasicType.LONG_TYPE, vector),
+                0L,
+                10L,
+                null,
+                30L);
+        assertColumn(
+                convert(TypeDescription.createInt(), BasicType.STRING_TYPE, vector),
+                "0",
+                "10",
+                null,
+                "30");
+    }
+
+    @Test
+    public void testRepeatingLongColumn() {
+        LongColumnVector vector = new LongColumnVector(SIZE);
+        vector.isRepeating = true;
+        vector.vector[0] = 7;
+        // only the first entry of a repeating vector is valid
+        vector.vector[1] = 8;
+
+        assertColumn(convert(TypeDescription.createInt(), BasicType.INT_TYPE, vector), 7, 7, 7, 7);
+        assertColumn(
+                convert(TypeDescription.createShort(), BasicType.SHORT_TYPE, vector),
+                (short) 7,
+                (short) 7,
+                (short) 7,
+                (short) 7);
+        assertColumn(
+                convert(TypeDescription.createDate(), LocalTimeType.LOCAL_DATE_TYPE, vector),
+                LocalDate.ofEpochDay(7),
+                LocalDate.ofEpochDay(7),
+                LocalDate.ofEpochDay(7),
+                LocalDate.ofEpochDay(7));
+
+        vector.vector[0] = 1;
+        assertColumn(
+                convert(TypeDescription.createBoolean(), BasicType.BOOLEAN_TYPE, vector),
+                true,
+                true,
+                true,
+                true);
+    }
+
+    @Test
+    public void testRepeatingNullColumn() {
+        LongColumnVector vector = new LongColumnVector(SIZE);
+        vector.isRepeating = true;
+        vector.noNulls = false;
+        vector.isNull[0] = true;
+        vector.vector[1] = 8;
+
+        assertColumn(
+                convert(TypeDescription.createLong(), BasicType.LONG_TYPE, vector),
+                null,
+                null,
+                null,
+                null);
+    }
+
+    @Test
+    public void testRepeatingDoubleColumn() {
+        DoubleColumnVector vector = new DoubleColumnVector(SIZE);
+        vector.isRepeating = true;
+        vector.vector[0] = 1.5;
+
+        assertColumn(
+                convert(TypeDescription.createDouble(), BasicType.DOUBLE_TYPE, vector),
+                1.5,
+                1.5,
+                1.5,
+                1.5);
+        assertColumn(
+                convert(TypeDescription.createFloat(), BasicType.FLOAT_TYPE, vector),
+                1.5f,
+                1.5f,
+                1.5f,
+                1.5f);
+    }
+
+    @Test
+    public void testBytesColumn() {
+        byte[] value = "seatunnel".getBytes(StandardCharsets.UTF_8);
+        BytesColumnVector vector = new BytesColumnVector(SIZE);
+        vector.isRepeating = true;
+        // a slice of a shared buffer, as the orc reader fills it
+        vector.setRef(0, value, 3, 6);
+
+        assertColumn(
+                convert(TypeDescription.createString(), BasicType.STRING_TYPE, vector),
+                "tunnel",
+                "tunnel",
+                "tunnel",
+                "tunnel");
+        Object[][] rows =
+                convert(TypeDescription.createBinary(), PrimitiveByteArrayType.INSTANCE, vector);
+        for (Object[] row : rows) {
+            Assertions.assertArrayEquals(
+                    "tunnel".getBytes(StandardCharsets.UTF_8), (byte[]) row[0]);
+        }
+
+        vector = new BytesColumnVector(SIZE);
+        vector.noNulls = false;
+        vector.setRef(0, value, 0, 3);
+        vector.isNull[1] = true;
+        vector.setRef(2, value, 3, 3);
+        vector.setRef(3, value, 6, 3);
+        assertColumn(
+                convert(TypeDescription.createVarchar(), BasicType.STRING_TYPE, vector),
+                "sea",
+                null,
+                "tun",
+                "nel");
+    }
+
+    @Test
+    public void testRepeatingDecimalColumn() {
+        DecimalColumnVector vector = new DecimalColumnVector(SIZE, 10, 2);
+        vector.isRepeating = true;
+        vector.set(0, HiveDecimal.create("12.34"));
+        BigDecimal expected = new BigDecimal("12.34");
+
+        assertColumn(
+                convert(TypeDescription.createDecimal(), new DecimalType(10, 2), vector),
+                expected,
+                expected,
+                expected,
+                expected);
+    }
+
+    @Test
+    public void testRepeatingTimestampColumn() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000);
+        TimestampColumnVector vector = new TimestampColumnVector(SIZE);
+        vector.isRepeating = true;
+        vector.set(0, Timestamp.valueOf(dateTime));
+
+        assertColumn(
+                convert(
+                        TypeDescription.createTimestamp(),
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        vector),
+                dateTime,
+                dateTime,
+                dateTime,
+                dateTime);
+        assertColumn(
+                convert(TypeDescription.createTimestamp(), LocalTimeType.LOCAL_TIME_TYPE, vector),
+                dateTime.toLocalTime(),
+                dateTime.toLocalTime(),
+                dateTime.toLocalTime(),
+                dateTime.toLocalTime());
+    }
+
+    private Object[][] convert(
+            TypeDescription type, SeaTunnelDataType<?> dataType, ColumnVector vector) {
+        Object[][] rows = new Object[SIZE][1];
+        readStrategy
+                .createConverter(type, dataType, StandardCharsets.UTF_8)
+                .convert(vector, rows, 0, SIZE);
+        return rows;
+    }
+
+    private static void assertColumn(Object[][] rows, Object... expected) {
+        Assertions.assertEquals(expected.length, rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            Assertions.assertEquals(expected[i], rows[i][0], "row " + i);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.AbstractReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.JsonReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class FileSplitReadStrategyTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testReadTextFileSplits() throws Exception {
+        StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            content.append(i).append(",name_").append(i).append('\n');
+        }
+        Path file = tempDir.resolve("test.csv");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "file_format_type = csv\n"
+                                + "skip_header_row_number = 1\n"
+                                + "enable_file_split = true\n"
+                                + "file_split_size = 1000\n"
+                                + "schema { fields { id = int, name = string } }");
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            assertSplitsReadAllRows(readStrategy, pluginConfig, file);
+        }
+    }
+
+    @Test
+    public void testReadJsonFileSplits() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            content.append(String.format("{\"id\":%d,\"name\":\"name_%d\"}\n", i, i));
+        }
+        // the last line has no line feed
+        content.setLength(content.length() - 1);
+        Path file = tempDir.resolve("test.json");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "file_format_type = json\n"
+                                + "enable_file_split = true\n"
+                                + "file_split_size = 1000\n"
+                                + "schema { fields { id = int, name = string } }");
+        try (JsonReadStrategy readStrategy = new JsonReadStrategy()) {
+            assertSplitsReadAllRows(readStrategy, pluginConfig, file);
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testReadParquetFileSplits() throws Exception {
+        String schemaString =
+                "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"},{\"name\":\"name\",\"type\":\"string\"}]}";
+        Schema schema = new Schema.Parser().parse(schemaString);
+        Path file = tempDir.resolve("test.parquet");
+        // a small row group size so that the file has several row groups
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(
+                                new org.apache.hadoop.fs.Path(file.toString()))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .withRowGroupSize(1024)
+                        .withPageSize(512)
+                        .build()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", "name_" + i);
+                writer.write(record);
+            }
+        }
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "file_format_type = parquet\n"
+                                + "enable_file_split = true\n"
+                                + "file_split_size = 1000");
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            assertSplitsReadAllRows(readStrategy, pluginConfig, file);
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testReadOrcFileSplits() throws Exception {
+        TypeDescription schema = TypeDescription.fromString("struct<id:int,name:string>");
+        Path file = tempDir.resolve("test.orc");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new org.apache.hadoop.fs.Path(file.toString()),
+                        OrcFile.writerOptions(new Configuration()).setSchema(schema))) {
+            VectorizedRowBatch batch = schema.createRowBatch(100);
+            LongColumnVector ids = (LongColumnVector) batch.cols[0];
+            BytesColumnVector names = (BytesColumnVector) batch.cols[1];
+            for (int i = 0; i < ROW_COUNT; i++) {
+                int row = batch.size++;
+                ids.vector[row] = i;
+                names.setVal(row, ("name_" + i).getBytes(StandardCharsets.UTF_8));
+                if (batch.size == batch.getMaxSize()) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                    // the intermediate footer flushes the stripe, so the file has several stripes
+                    writer.writeIntermediateFooter();
+                }
+            }
+        }
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "file_format_type = orc\n"
+                                + "enable_file_split = true\n"
+                                + "file_split_size = 1000");
+        try (OrcReadStrategy readStrategy = new OrcReadStrategy()) {
+            assertSplitsReadAllRows(readStrategy, pluginConfig, file);
+        }
+    }
+
+    private static void assertSplitsReadAllRows(
+            AbstractReadStrategy readStrategy, Config pluginConfig, Path file) throws IOException {
+        String path = file.toString();
+        readStrategy.setPluginConfig(pluginConfig);
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        readStrategy.getFileNamesByPath(path);
+        if (pluginConfig.hasPath("schema")) {
+            readStrategy.setCatalogTable(CatalogTableUtil.buildWithConfig(pluginConfig));
+        } else {
+            // the columnar formats take the schema of the file
+            readStrategy.getSeaTunnelRowTypeInfo(path);
+        }
+
+        List<FileSourceSplit> splits = readStrategy.getFileSourceSplits(null, path);
+        Assertions.assertTrue(splits.size() > 1);
+        TestCollector collector = new TestCollector();
+        for (FileSourceSplit split : splits) {
+            Assertions.assertFalse(split.isWholeFile());
+            readStrategy.read(split, "", collector);
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        for (SeaTunnelRow row : collector.getRows()) {
+            int id = (Integer) row.getField(0);
+            Assertions.assertEquals("name_" + id, row.getField(1));
+            ids.add(id);
+        }
+        Assertions.assertEquals(ROW_COUNT, ids.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i, ids.get(i));
+        }
+    }
+}
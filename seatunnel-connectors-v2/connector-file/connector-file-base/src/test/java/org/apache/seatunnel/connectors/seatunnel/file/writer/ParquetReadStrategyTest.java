@@ -36,8 +36,10 @@ import org.apache.avro.util.Utf8;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -50,7 +52,9 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TimeZone;
@@ -211,6 +215,82 @@ public class ParquetReadStrategyTest {
         AutoGenerateParquetData.deleteFile();
     }
 
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadRowGroupsConcurrently() throws Exception {
+        AutoGenerateParquetDataWithRowGroups.generateTestData();
+        String path = AutoGenerateParquetDataWithRowGroups.DATA_FILE_PATH;
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(
+                        HadoopInputFile.fromPath(new Path(path), new Configuration()))) {
+            Assertions.assertTrue(reader.getFooter().getBlocks().size() > 1);
+        }
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.setPluginConfig(
+                ConfigFactory.parseString("decode_parallelism = 4, read_columns = [name, id]"));
+        SeaTunnelRowType seaTunnelRowTypeInfo = parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+        Assertions.assertEquals(2, seaTunnelRowTypeInfo.getTotalFields());
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(path, "", testCollector);
+        parquetReadStrategy.close();
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(AutoGenerateParquetDataWithRowGroups.ROW_COUNT, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            SeaTunnelRow row = rows.get(i);
+            Assertions.assertEquals(2, row.getArity());
+            Assertions.assertEquals(i % 7 == 0 ? null : "name_" + i, row.getField(0));
+            Assertions.assertEquals((long) i, row.getField(1));
+        }
+        AutoGenerateParquetDataWithRowGroups.deleteFile();
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadTimestampColumnChunksAsAvro() throws Exception {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+        try {
+            AutoGenerateParquetDataWithTimestamp.generateTestData();
+            String path = AutoGenerateParquetDataWithTimestamp.DATA_FILE_PATH;
+            // the array column can only be read by the avro record reader
+            List<SeaTunnelRow> avroRows = readParquet(path, ConfigFactory.empty());
+            List<SeaTunnelRow> columnChunkRows =
+                    readParquet(path, ConfigFactory.parseString("read_columns = [id, ts]"));
+            Assertions.assertEquals(
+                    AutoGenerateParquetDataWithTimestamp.ROW_COUNT, avroRows.size());
+            Assertions.assertEquals(avroRows.size(), columnChunkRows.size());
+            for (int i = 0; i < avroRows.size(); i++) {
+                Object expected =
+                        i % 3 == 0
+                                ? null
+                                : LocalDateTime.ofInstant(
+                                        Instant.ofEpochMilli(
+                                                AutoGenerateParquetDataWithTimestamp.timestamp(i)),
+                                        ZoneId.of("Asia/Shanghai"));
+                Assertions.assertEquals(expected, avroRows.get(i).getField(1));
+                Assertions.assertEquals(expected, columnChunkRows.get(i).getField(1));
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+            AutoGenerateParquetDataWithTimestamp.deleteFile();
+        }
+    }
+
+    private static List<SeaTunnelRow> readParquet(String path, Config pluginConfig)
+            throws Exception {
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.setPluginConfig(pluginConfig);
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(path, "", testCollector);
+        parquetReadStrategy.close();
+        return testCollector.getRows();
+    }
+
     public static class TestCollector implements Collector<SeaTunnelRow> {
 
         private final List<SeaTunnelRow> rows = new ArrayList<>();
@@ -344,4 +424,88 @@ public class ParquetReadStrategyTest {
             }
         }
     }
+
+    public static class AutoGenerateParquetDataWithRowGroups {
+
+        public static final String DATA_FILE_PATH = "/tmp/data_row_groups.parquet";
+
+        public static final int ROW_COUNT = 5000;
+
+        public static void generateTestData() throws IOException {
+            deleteFile();
+            String schemaString =
+                    "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"},{\"name\":\"name\",\"type\":[\"null\",\"string\"]},{\"name\":\"salary\",\"type\":\"double\"}]}";
+            Schema schema = new Schema.Parser().parse(schemaString);
+
+            Path file = new Path(DATA_FILE_PATH);
+
+            // a small row group size so that the file has several row groups
+            try (ParquetWriter<GenericRecord> writer =
+                    AvroParquetWriter.<GenericRecord>builder(file)
+                            .withSchema(schema)
+                            .withConf(new Configuration())
+                            .withRowGroupSize(1024)
+                            .withPageSize(512)
+                            .build()) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    GenericRecord record = new GenericData.Record(schema);
+                    record.put("id", (long) i);
+                    record.put("name", i % 7 == 0 ? null : "name_" + i);
+                    record.put("salary", i * 1.5);
+                    writer.write(record);
+                }
+            }
+        }
+
+        public static void deleteFile() {
+            File parquetFile = new File(DATA_FILE_PATH);
+            if (parquetFile.exists()) {
+                parquetFile.delete();
+            }
+        }
+    }
+
+    public static class AutoGenerateParquetDataWithTimestamp {
+
+        public static final String DATA_FILE_PATH = "/tmp/data_timestamp.parquet";
+
+        public static final int ROW_COUNT = 100;
+
+        public static long timestamp(int row) {
+            return 1700000000123L + row * 3600_000L;
+        }
+
+        public static void generateTestData() throws IOException {
+            deleteFile();
+            String schemaString =
+                    "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"},{\"name\":\"ts\",\"type\":[\"null\",{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}]},{\"name\":\"skills\",\"type\":{\"type\":\"array\",\"items\":\"string\"}}]}";
+            Schema schema = new Schema.Parser().parse(schemaString);
+
+            Path file = new Path(DATA_FILE_PATH);
+
+            try (ParquetWriter<GenericRecord> writer =
+                    AvroParquetWriter.<GenericRecord>builder(file)
+                            .withSchema(schema)
+                            .withConf(new Configuration())
+                            .build()) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    GenericRecord record = new GenericData.Record(schema);
+                    record.put("id", (long) i);
+                    record.put("ts", i % 3 == 0 ? null : timestamp(i));
+                    GenericArray<Utf8> skills =
+                            new GenericData.Array<>(1, schema.getField("skills").schema());
+                    skills.add(new Utf8("skill_" + i));
+                    record.put("skills", skills);
+                    writer.write(record);
+                }
+            }
+        }
+
+        public static void deleteFile() {
+            File parquetFile = new File(DATA_FILE_PATH);
+            if (parquetFile.exists()) {
+                parquetFile.delete();
+            }
+        }
+    }
 }
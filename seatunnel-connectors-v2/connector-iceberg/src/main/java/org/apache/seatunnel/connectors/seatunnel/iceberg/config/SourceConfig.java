@@ -29,6 +29,7 @@ import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.scan.
 import org.apache.iceberg.expressions.Expression;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 import static org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.scan.IcebergStreamScanStrategy.FROM_LATEST_SNAPSHOT;
@@ -82,7 +83,9 @@ public class SourceConfig extends CommonConfig {
     private Long useSnapshotTimestamp;
 
     private IcebergStreamScanStrategy streamScanStrategy = KEY_STREAM_SCAN_STRATEGY.defaultValue();
-    private Expression filter;
+    /** The filter pushed down from the transform reading from the source. */
+    @Setter private Expression filter;
+
     private Long splitSize;
     private Integer splitLookback;
     private Long splitOpenFileCost;
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
 import org.apache.seatunnel.api.source.SupportParallelism;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.schema.TableSchemaOptions;
@@ -44,6 +45,7 @@ import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.Icebe
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.scan.IcebergScanContext;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.reader.IcebergSourceReader;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.split.IcebergFileScanTaskSplit;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.utils.ExpressionUtils;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.utils.SchemaUtils;
 
 import org.apache.iceberg.Schema;
@@ -73,8 +75,18 @@ public class IcebergSource
     private final CatalogTable catalogTable;
 
     public IcebergSource(ReadonlyConfig config, CatalogTable catalogTable) {
+        this(config, catalogTable, null);
+    }
+
+    public IcebergSource(
+            ReadonlyConfig config, CatalogTable catalogTable, PushDownFilter pushDownFilter) {
         this.sourceConfig = SourceConfig.loadConfig(config);
         this.tableSchema = loadIcebergSchema(sourceConfig);
+        if (pushDownFilter != null) {
+            sourceConfig.setFilter(
+                    ExpressionUtils.convert(
+                            pushDownFilter, tableSchema, sourceConfig.isCaseSensitive()));
+        }
         this.seaTunnelRowType = loadSeaTunnelRowType(tableSchema, config.toConfig());
         this.projectedSchema = tableSchema.select(seaTunnelRowType.getFieldNames());
         this.catalogTable = catalogTable;
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.TableIdentifier;
@@ -51,7 +52,7 @@ import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceCon
 
 @Slf4j
 @AutoService(Factory.class)
-public class IcebergSourceFactory implements TableSourceFactory {
+public class IcebergSourceFactory implements TableSourceFactory, SupportFilterPushDown {
 
     @Override
     public String factoryIdentifier() {
@@ -90,7 +91,9 @@ public class IcebergSourceFactory implements TableSourceFactory {
             TableIdentifier tableIdentifier =
                     TableIdentifier.of(catalogTable.getCatalogName(), tablePath);
             CatalogTable table = CatalogTable.of(tableIdentifier, catalogTable);
-            return () -> (SeaTunnelSource<T, SplitT, StateT>) new IcebergSource(options, table);
+            return () ->
+                    (SeaTunnelSource<T, SplitT, StateT>)
+                            new IcebergSource(options, table, context.getPushDownFilter());
         } else {
             // build iceberg catalog
             IcebergCatalogFactory icebergCatalogFactory = new IcebergCatalogFactory();
@@ -100,7 +103,8 @@ public class IcebergSourceFactory implements TableSourceFactory {
             catalog.open();
             catalogTable = catalog.getTable(tablePath);
             return () ->
-                    (SeaTunnelSource<T, SplitT, StateT>) new IcebergSource(options, catalogTable);
+                    (SeaTunnelSource<T, SplitT, StateT>)
+                            new IcebergSource(options, catalogTable, context.getPushDownFilter());
         }
     }
 
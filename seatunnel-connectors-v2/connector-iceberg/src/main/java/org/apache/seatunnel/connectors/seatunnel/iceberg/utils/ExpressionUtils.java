@@ -17,12 +17,18 @@
 
 package org.apache.seatunnel.connectors.seatunnel.iceberg.utils;
 
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.DateTimeUtil;
 
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.DoubleValue;
 import net.sf.jsqlparser.expression.LongValue;
@@ -57,6 +63,7 @@ import java.util.stream.Collectors;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
 
+@Slf4j
 public class ExpressionUtils {
     private static final DateTimeFormatter LOCAL_DATE_TIME_FORMATTER =
             new DateTimeFormatterBuilder()
@@ -72,6 +79,53 @@ public class ExpressionUtils {
         return convert(delete.getWhere(), null);
     }
 
+    /**
+     * Convert the filter pushed down from the transform, the predicates which can not be bound to
+     * the schema are skipped because the transform still evaluates them.
+     */
+    public static Expression convert(
+            PushDownFilter pushDownFilter,
+            org.apache.iceberg.Schema schema,
+            boolean caseSensitive) {
+        Expression expression = Expressions.alwaysTrue();
+        for (FieldPredicate fieldPredicate : pushDownFilter.getPredicates()) {
+            Expression predicate = convert(fieldPredicate);
+            try {
+                Binder.bind(schema.asStruct(), predicate, caseSensitive);
+            } catch (ValidationException e) {
+                log.warn("Skip the push down predicate {}", fieldPredicate, e);
+                continue;
+            }
+            expression = Expressions.and(expression, predicate);
+        }
+        return expression;
+    }
+
+    private static Expression convert(FieldPredicate fieldPredicate) {
+        String name = fieldPredicate.getFieldName();
+        switch (fieldPredicate.getOperator()) {
+            case IS_NULL:
+                return Expressions.isNull(name);
+            case IS_NOT_NULL:
+                return Expressions.notNull(name);
+            case EQUALS:
+                return Expressions.equal(name, fieldPredicate.getValue());
+            case GREATER_THAN:
+                return Expressions.greaterThan(name, fieldPredicate.getValue());
+            case GREATER_THAN_OR_EQUAL:
+                return Expressions.greaterThanOrEqual(name, fieldPredicate.getValue());
+            case LESS_THAN:
+                return Expressions.lessThan(name, fieldPredicate.getValue());
+            case LESS_THAN_OR_EQUAL:
+                return Expressions.lessThanOrEqual(name, fieldPredicate.getValue());
+            case IN:
+                return Expressions.in(name, fieldPredicate.getValues());
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported operator: " + fieldPredicate.getOperator());
+        }
+    }
+
     public static Expression convert(net.sf.jsqlparser.expression.Expression condition) {
         return convert(condition, null);
     }
@@ -17,6 +17,9 @@
 
 package org.apache.seatunnel.connectors.seatunnel.iceberg.utils;
 
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -30,6 +33,9 @@ import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.delete.Delete;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 public class ExpressionUtilsTest {
 
     @Test
@@ -128,4 +134,63 @@ public class ExpressionUtilsTest {
                         .toString(),
                 expression.toString());
     }
+
+    @Test
+    public void testConvertPushDownFilter() {
+        Schema schema =
+                new Schema(
+                        Types.NestedField.optional(1, "id", Types.LongType.get()),
+                        Types.NestedField.optional(2, "name", Types.StringType.get()));
+        PushDownFilter filter =
+                new PushDownFilter(
+                        Arrays.asList(
+                                new FieldPredicate(
+                                        "id",
+                                        FieldPredicate.Operator.GREATER_THAN_OR_EQUAL,
+                                        Collections.singletonList(10L)),
+                                new FieldPredicate(
+                                        "name",
+                                        FieldPredicate.Operator.IN,
+                                        Arrays.asList("a", "b\\'")),
+                                new FieldPredicate(
+                                        "name",
+                                        FieldPredicate.Operator.IS_NOT_NULL,
+                                        Collections.emptyList()),
+                                // skipped, the column does not exist
+                                new FieldPredicate(
+                                        "age",
+                                        FieldPredicate.Operator.EQUALS,
+                                        Collections.singletonList(1L)),
+                                // skipped, the literal can't be converted to a string
+                                new FieldPredicate(
+                                        "name",
+                                        FieldPredicate.Operator.LESS_THAN,
+                                        Collections.singletonList(1L))),
+                        null);
+
+        Expression expression = ExpressionUtils.convert(filter, schema, true);
+        Assertions.assertEquals(
+                Expressions.and(
+                                Expressions.greaterThanOrEqual("id", 10L),
+                                Expressions.in("name", "a", "b\\'"),
+                                Expressions.notNull("name"))
+                        .toString(),
+                expression.toString());
+
+        // the field names are resolved case insensitively when configured
+        PushDownFilter upperCaseFilter =
+                new PushDownFilter(
+                        Collections.singletonList(
+                                new FieldPredicate(
+                                        "ID",
+                                        FieldPredicate.Operator.EQUALS,
+                                        Collections.singletonList(1L))),
+                        null);
+        Assertions.assertEquals(
+                Expressions.alwaysTrue().toString(),
+                ExpressionUtils.convert(upperCaseFilter, schema, true).toString());
+        Assertions.assertEquals(
+                Expressions.equal("ID", 1L).toString(),
+                ExpressionUtils.convert(upperCaseFilter, schema, false).toString());
+    }
 }
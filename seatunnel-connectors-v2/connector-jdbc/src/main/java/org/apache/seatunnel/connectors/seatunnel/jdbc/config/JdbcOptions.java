@@ -81,6 +81,15 @@ public interface JdbcOptions {
     Option<Integer> BATCH_SIZE =
             Options.key("batch_size").intType().defaultValue(1000).withDescription("batch size");
 
+    Option<Integer> ASYNC_FLUSH_PARALLELISM =
+            Options.key("async_flush_parallelism")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of connections a sink writer flushes its batches on concurrently, "
+                                    + "0 to flush them synchronously on the writer thread. "
+                                    + "Records with the same primary key are always flushed in order.");
+
     Option<Integer> FETCH_SIZE =
             Options.key("fetch_size")
                     .intType()
@@ -164,6 +173,14 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<Boolean> USE_BULK_LOAD =
+            Options.key("use_bulk_load")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Insert the rows with the native bulk load path of the database instead of batched insert statements, "
+                                    + "supported by MySQL, PostgreSQL, SQL Server and Oracle");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
@@ -94,6 +94,16 @@ public interface JdbcSourceOptions {
                                     + "For example, a value of 1000 means a sampling rate of 1/1000. "
                                     + "This parameter is used when the sample sharding strategy is triggered.");
 
+    Option<Boolean> SPLIT_USE_COLUMN_STATISTICS =
+            Options.key("split.use-column-statistics")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Use the column histogram kept in the database statistics as the chunk boundaries of the dynamic splitter, "
+                                    + "instead of querying the min/max value and sampling the split key. "
+                                    + "Supported by MySQL 8.0 (information_schema.column_statistics), PostgreSQL (pg_stats) and Oracle (all_tab_histograms), "
+                                    + "tables without statistics fall back to the default strategies.");
+
     Option<Boolean> USE_SELECT_COUNT =
             Options.key("use_select_count")
                     .booleanType()
@@ -30,7 +30,17 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
@@ -46,19 +56,43 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
 
     private final JdbcConnectionConfig jdbcConnectionConfig;
     private final StatementExecutorFactory<E> statementExecutorFactory;
+    /** Creates the connections and flush threads of the async flush lanes. */
+    private final AsyncFlushLaneFactory asyncFlushLaneFactory;
+    /** Keeps records of the same key in one async flush lane, null to fill the lanes in turn. */
+    private final KeyExtractor<I> keyExtractor;
 
     private transient E jdbcStatementExecutor;
     private transient int batchCount = 0;
     private transient volatile boolean closed = false;
     private transient volatile Exception flushException;
 
+    private transient List<AsyncFlushLane> asyncFlushLanes;
+    private transient int nextLane;
+
+    /**
+     * Guards the batch instead of a monitor, a virtual thread blocked on JDBC I/O while holding a
+     * monitor pins its carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
     public JdbcOutputFormat(
             JdbcConnectionProvider connectionProvider,
             JdbcConnectionConfig jdbcConnectionConfig,
             StatementExecutorFactory<E> statementExecutorFactory) {
+        this(connectionProvider, jdbcConnectionConfig, statementExecutorFactory, null, null);
+    }
+
+    public JdbcOutputFormat(
+            JdbcConnectionProvider connectionProvider,
+            JdbcConnectionConfig jdbcConnectionConfig,
+            StatementExecutorFactory<E> statementExecutorFactory,
+            AsyncFlushLaneFactory asyncFlushLaneFactory,
+            KeyExtractor<I> keyExtractor) {
         this.connectionProvider = checkNotNull(connectionProvider);
         this.jdbcConnectionConfig = checkNotNull(jdbcConnectionConfig);
         this.statementExecutorFactory = checkNotNull(statementExecutorFactory);
+        this.asyncFlushLaneFactory = asyncFlushLaneFactory;
+        this.keyExtractor = keyExtractor;
     }
 
     /** Connects to the target database and initializes the prepared statement. */
@@ -71,10 +105,61 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                     "unable to open JDBC writer",
                     e);
         }
-        jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+        if (isAsyncFlush()) {
+            openAsyncFlushLanes(jdbcConnectionConfig.getAsyncFlushParallelism());
+        } else {
+            jdbcStatementExecutor =
+                    createAndOpenStatementExecutor(statementExecutorFactory, connectionProvider);
+        }
     }
 
-    private E createAndOpenStatementExecutor(StatementExecutorFactory<E> statementExecutorFactory) {
+    /** Whether the batches are flushed and committed by the async flush lanes. */
+    public boolean isAsyncFlush() {
+        return jdbcConnectionConfig.getAsyncFlushParallelism() > 0 && asyncFlushLaneFactory != null;
+    }
+
+    /**
+     * Every lane flushes its batches on its own connection and thread, at most one batch of a lane
+     * is in flight so the records of a key are written in order. The statements are prepared on the
+     * lane thread too, other output formats may share the connection of a lane. No lane uses the
+     * connection of the output format, which stays free for the writer, e.g. for schema changes.
+     */
+    private void openAsyncFlushLanes(int parallelism) {
+        asyncFlushLanes = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            JdbcConnectionProvider laneConnectionProvider =
+                    asyncFlushLaneFactory.createConnectionProvider(i);
+            ExecutorService laneExecutor = asyncFlushLaneFactory.getExecutor(i);
+            try {
+                E exec =
+                        laneExecutor
+                                .submit(
+                                        () -> {
+                                            laneConnectionProvider.getOrEstablishConnection();
+                                            return createAndOpenStatementExecutor(
+                                                    statementExecutorFactory,
+                                                    laneConnectionProvider);
+                                        })
+                                .get();
+                asyncFlushLanes.add(new AsyncFlushLane(laneConnectionProvider, laneExecutor, exec));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JdbcConnectorException(
+                        JdbcConnectorErrorCode.CONNECT_DATABASE_FAILED,
+                        "unable to open JDBC writer",
+                        e);
+            } catch (ExecutionException e) {
+                throw new JdbcConnectorException(
+                        JdbcConnectorErrorCode.CONNECT_DATABASE_FAILED,
+                        "unable to open JDBC writer",
+                        e.getCause());
+            }
+        }
+    }
+
+    private E createAndOpenStatementExecutor(
+            StatementExecutorFactory<E> statementExecutorFactory,
+            JdbcConnectionProvider connectionProvider) {
         E exec = statementExecutorFactory.get();
         try {
             exec.prepareStatements(connectionProvider.getConnection());
@@ -96,20 +181,29 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         }
     }
 
-    public final synchronized void writeRecord(I record) {
-        checkFlushException();
+    public final void writeRecord(I record) {
+        lock.lock();
         try {
-            addToBatch(record);
-            batchCount++;
-            if (jdbcConnectionConfig.getBatchSize() > 0
-                    && batchCount >= jdbcConnectionConfig.getBatchSize()) {
-                flush();
+            checkFlushException();
+            try {
+                if (asyncFlushLanes != null) {
+                    addToAsyncFlushLane(record);
+                    return;
+                }
+                addToBatch(record);
+                batchCount++;
+                if (jdbcConnectionConfig.getBatchSize() > 0
+                        && batchCount >= jdbcConnectionConfig.getBatchSize()) {
+                    flush();
+                }
+            } catch (Exception e) {
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                        "Writing records to JDBC failed.",
+                        e);
             }
-        } catch (Exception e) {
-            throw new JdbcConnectorException(
-                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
-                    "Writing records to JDBC failed.",
-                    e);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -117,24 +211,156 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         jdbcStatementExecutor.addToBatch(record);
     }
 
-    public synchronized void flush() throws IOException {
-        if (flushException != null) {
-            LOG.warn(
-                    String.format(
-                            "An exception occurred during the previous flush process %s, skipping this flush",
-                            ExceptionUtils.getMessage(flushException)));
+    private void addToAsyncFlushLane(I record) {
+        AsyncFlushLane lane;
+        if (keyExtractor != null) {
+            int hash = Objects.hashCode(keyExtractor.apply(record));
+            lane = asyncFlushLanes.get(Math.floorMod(hash, asyncFlushLanes.size()));
+        } else {
+            lane = asyncFlushLanes.get(nextLane);
+        }
+        lane.records.add(record);
+        batchCount++;
+        if (jdbcConnectionConfig.getBatchSize() > 0
+                && lane.records.size() >= jdbcConnectionConfig.getBatchSize()) {
+            submitAsyncFlush(lane);
+            if (keyExtractor == null) {
+                nextLane = (nextLane + 1) % asyncFlushLanes.size();
+            }
+        }
+    }
+
+    private void submitAsyncFlush(AsyncFlushLane lane) {
+        waitForAsyncFlush(lane);
+        checkFlushException();
+        List<I> records = lane.records;
+        lane.records = new ArrayList<>();
+        batchCount -= records.size();
+        lane.inFlight =
+                lane.flushExecutor.submit(
+                        () -> {
+                            try {
+                                for (I record : records) {
+                                    lane.executor.addToBatch(record);
+                                }
+                                executeBatchWithRetries(
+                                        lane.connectionProvider,
+                                        lane.executor::executeBatch,
+                                        () -> reconnect(lane.executor, lane.connectionProvider));
+                            } catch (Exception e) {
+                                LOG.error(
+                                        "Async flush of {} JDBC records failed.",
+                                        records.size(),
+                                        e);
+                                if (flushException == null) {
+                                    flushException = e;
+                                }
+                            }
+                        });
+    }
+
+    private void waitForAsyncFlush(AsyncFlushLane lane) {
+        if (lane.inFlight == null) {
             return;
         }
-        if (batchCount == 0) {
-            LOG.debug("No data to flush.");
+        try {
+            lane.inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "unable to flush; interrupted while waiting for the in-flight batch",
+                    e);
+        } catch (ExecutionException e) {
+            // the flush task keeps its exception in flushException, it should not get here
+            throw new JdbcConnectorException(CommonErrorCodeDeprecated.FLUSH_DATA_FAILED, e);
+        } finally {
+            lane.inFlight = null;
+        }
+    }
+
+    /**
+     * Submits the buffered records of all lanes, waits until every in-flight batch is done and
+     * commits the connections of the lanes.
+     */
+    private void flushAsync() {
+        if (flushException == null) {
+            for (AsyncFlushLane lane : asyncFlushLanes) {
+                if (!lane.records.isEmpty()) {
+                    submitAsyncFlush(lane);
+                }
+            }
+        }
+        for (AsyncFlushLane lane : asyncFlushLanes) {
+            waitForAsyncFlush(lane);
+        }
+        checkFlushException();
+        if (jdbcConnectionConfig.isAutoCommit()) {
             return;
         }
+        // the commit runs on the lane thread so it never overlaps a batch on the same connection
+        for (AsyncFlushLane lane : asyncFlushLanes) {
+            lane.inFlight =
+                    lane.flushExecutor.submit(
+                            () -> {
+                                try {
+                                    Connection connection = lane.connectionProvider.getConnection();
+                                    if (!connection.getAutoCommit()) {
+                                        connection.commit();
+                                    }
+                                } catch (SQLException e) {
+                                    if (flushException == null) {
+                                        flushException =
+                                                new JdbcConnectorException(
+                                                        JdbcConnectorErrorCode
+                                                                .TRANSACTION_OPERATION_FAILED,
+                                                        "commit failed," + e.getMessage(),
+                                                        e);
+                                    }
+                                }
+                            });
+        }
+        for (AsyncFlushLane lane : asyncFlushLanes) {
+            waitForAsyncFlush(lane);
+        }
+        checkFlushException();
+    }
+
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            if (asyncFlushLanes != null) {
+                flushAsync();
+                return;
+            }
+            if (flushException != null) {
+                LOG.warn(
+                        String.format(
+                                "An exception occurred during the previous flush process %s, skipping this flush",
+                                ExceptionUtils.getMessage(flushException)));
+                return;
+            }
+            if (batchCount == 0) {
+                LOG.debug("No data to flush.");
+                return;
+            }
 
+            executeBatchWithRetries(
+                    connectionProvider, this::attemptFlush, () -> updateExecutor(true));
+            batchCount = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void executeBatchWithRetries(
+            JdbcConnectionProvider connectionProvider,
+            JdbcAction<SQLException> executeBatch,
+            JdbcAction<Exception> reconnect) {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionConfig.getMaxRetries(); i++) {
             try {
-                attemptFlush();
-                batchCount = 0;
+                executeBatch.run();
                 break;
             } catch (SQLException e) {
                 LOG.error("JDBC executeBatch error, retry times = {}", i, e);
@@ -144,7 +370,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
                 try {
                     if (!connectionProvider.isConnectionValid()) {
-                        updateExecutor(true);
+                        reconnect.run();
                     }
                 } catch (Exception exception) {
                     LOG.error(
@@ -173,48 +399,107 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     }
 
     /** Executes prepared statement and closes all resources of this instance. */
-    public synchronized void close() {
-        if (!closed) {
-            closed = true;
+    public void close() {
+        lock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+
+                if (batchCount > 0 || asyncFlushLanes != null) {
+                    try {
+                        flush();
+                    } catch (Exception e) {
+                        LOG.warn("Writing records to JDBC failed.", e);
+                        flushException =
+                                new JdbcConnectorException(
+                                        CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                                        "Writing records to JDBC failed.",
+                                        e);
+                    }
+                }
 
-            if (batchCount > 0) {
                 try {
-                    flush();
-                } catch (Exception e) {
-                    LOG.warn("Writing records to JDBC failed.", e);
-                    flushException =
-                            new JdbcConnectorException(
-                                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
-                                    "Writing records to JDBC failed.",
-                                    e);
+                    if (jdbcStatementExecutor != null) {
+                        jdbcStatementExecutor.closeStatements();
+                    }
+                } catch (SQLException e) {
+                    LOG.warn("Close JDBC writer failed.", e);
                 }
+                shutdownAsyncFlush();
             }
+            connectionProvider.closeConnection();
+            checkFlushException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the statements of the async flush lanes on their flush threads and hands the lanes
+     * back to the factory, the records must have been flushed before.
+     */
+    public void shutdownAsyncFlush() {
+        lock.lock();
+        try {
+            if (asyncFlushLanes == null) {
+                return;
+            }
+            for (int i = 0; i < asyncFlushLanes.size(); i++) {
+                AsyncFlushLane lane = asyncFlushLanes.get(i);
+                closeLaneStatements(lane);
+                asyncFlushLaneFactory.releaseLane(i, lane.connectionProvider, lane.flushExecutor);
+            }
+            asyncFlushLanes = null;
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    /**
+     * The connection of a lane may be shared with other output formats, so its statements are
+     * closed on the flush thread of the lane, which is the only thread using that connection.
+     */
+    private void closeLaneStatements(AsyncFlushLane lane) {
+        try {
+            lane.flushExecutor
+                    .submit(
+                            () -> {
+                                lane.executor.closeStatements();
+                                return null;
+                            })
+                    .get();
+        } catch (RejectedExecutionException e) {
+            // the flush thread is already shut down, nothing else uses the connection
             try {
-                if (jdbcStatementExecutor != null) {
-                    jdbcStatementExecutor.closeStatements();
-                }
-            } catch (SQLException e) {
-                LOG.warn("Close JDBC writer failed.", e);
+                lane.executor.closeStatements();
+            } catch (SQLException ex) {
+                LOG.warn("Close JDBC writer failed.", ex);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while closing the statements of an async flush lane.", e);
+        } catch (ExecutionException e) {
+            LOG.warn("Close JDBC writer failed.", e.getCause());
         }
-        connectionProvider.closeConnection();
-        checkFlushException();
     }
 
     public void updateExecutor(boolean reconnect) throws SQLException, ClassNotFoundException {
+        if (reconnect) {
+            reconnect(jdbcStatementExecutor, connectionProvider);
+            return;
+        }
+        jdbcStatementExecutor.closeStatements();
+        jdbcStatementExecutor.prepareStatements(connectionProvider.getConnection());
+    }
+
+    private void reconnect(E executor, JdbcConnectionProvider connectionProvider)
+            throws SQLException, ClassNotFoundException {
         try {
-            jdbcStatementExecutor.closeStatements();
+            executor.closeStatements();
         } catch (SQLException e) {
-            if (!reconnect) {
-                throw e;
-            }
             LOG.error("Close JDBC statement failed on reconnect.", e);
         }
-        jdbcStatementExecutor.prepareStatements(
-                reconnect
-                        ? connectionProvider.reestablishConnection()
-                        : connectionProvider.getConnection());
+        executor.prepareStatements(connectionProvider.reestablishConnection());
     }
 
     /**
@@ -224,4 +509,53 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
      */
     public interface StatementExecutorFactory<T extends JdbcBatchStatementExecutor<?>>
             extends Supplier<T>, Serializable {}
+
+    /** Creates the connections and the flush threads of the async flush lanes. */
+    public interface AsyncFlushLaneFactory extends Serializable {
+
+        JdbcConnectionProvider createConnectionProvider(int lane);
+
+        /**
+         * Gets the single thread executor running the statements on the connection of the lane,
+         * output formats sharing a connection must share its executor too.
+         */
+        ExecutorService getExecutor(int lane);
+
+        /**
+         * Releases the connection and the executor of a lane once the output format is done with
+         * them, a connection shared with other output formats must stay open until its owner
+         * closes it.
+         */
+        void releaseLane(
+                int lane, JdbcConnectionProvider connectionProvider, ExecutorService executor);
+    }
+
+    /**
+     * Extracts the key of a record, records with equal keys are flushed in order.
+     *
+     * @param <T> The type of record.
+     */
+    public interface KeyExtractor<T> extends Function<T, Object>, Serializable {}
+
+    @FunctionalInterface
+    private interface JdbcAction<X extends Exception> {
+        void run() throws X;
+    }
+
+    private class AsyncFlushLane {
+        private final JdbcConnectionProvider connectionProvider;
+        private final ExecutorService flushExecutor;
+        private final E executor;
+        private List<I> records = new ArrayList<>();
+        private Future<?> inFlight;
+
+        private AsyncFlushLane(
+                JdbcConnectionProvider connectionProvider,
+                ExecutorService flushExecutor,
+                E executor) {
+            this.connectionProvider = connectionProvider;
+            this.flushExecutor = flushExecutor;
+            this.executor = executor;
+        }
+    }
 }
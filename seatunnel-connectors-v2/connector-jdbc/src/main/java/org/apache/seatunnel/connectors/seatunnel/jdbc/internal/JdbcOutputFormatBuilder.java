@@ -17,14 +17,20 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.AppendOnlyBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
@@ -44,6 +50,8 @@ import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.stream.Collectors;
@@ -56,9 +64,21 @@ public class JdbcOutputFormatBuilder {
     @NonNull private final JdbcSinkConfig jdbcSinkConfig;
     @NonNull private final TableSchema tableSchema;
     @Nullable private final TableSchema databaseTableSchema;
+    @Nullable private JdbcOutputFormat.AsyncFlushLaneFactory asyncFlushLaneFactory;
+
+    /**
+     * Sets the factory of the connections and threads used by the async flush lanes, by default
+     * every lane opens its own connection with the dialect and has its own thread.
+     */
+    public JdbcOutputFormatBuilder asyncFlushLaneFactory(
+            @Nullable JdbcOutputFormat.AsyncFlushLaneFactory asyncFlushLaneFactory) {
+        this.asyncFlushLaneFactory = asyncFlushLaneFactory;
+        return this;
+    }
 
     public JdbcOutputFormat build() {
         JdbcOutputFormat.StatementExecutorFactory statementExecutorFactory;
+        JdbcOutputFormat.KeyExtractor<SeaTunnelRow> keyExtractor = null;
 
         final String database = jdbcSinkConfig.getDatabase();
         final String table =
@@ -73,6 +93,21 @@ public class JdbcOutputFormatBuilder {
                             createCopyInBufferStatementExecutor(
                                     createCopyInBatchStatementExecutor(
                                             dialect, table, tableSchema));
+        } else if (jdbcSinkConfig.isUseBulkLoad()) {
+            // fail fast if the dialect has no bulk load path, the primary keys are ignored since
+            // the sink factory rejects configured keys and changelog rows are rejected on write
+            createBulkLoadExecutor(dialect, database, table, tableSchema, databaseTableSchema);
+            statementExecutorFactory =
+                    () ->
+                            new AppendOnlyBatchStatementExecutor(
+                                    new BufferedBatchStatementExecutor(
+                                            createBulkLoadExecutor(
+                                                    dialect,
+                                                    database,
+                                                    table,
+                                                    tableSchema,
+                                                    databaseTableSchema),
+                                            Function.identity()));
         } else if (StringUtils.isNotBlank(jdbcSinkConfig.getSimpleSql())) {
             statementExecutorFactory =
                     () ->
@@ -99,12 +134,22 @@ public class JdbcOutputFormatBuilder {
                                     jdbcSinkConfig.isEnableUpsert(),
                                     jdbcSinkConfig.isPrimaryKeyUpdated(),
                                     jdbcSinkConfig.isSupportUpsertByInsertOnly());
+            // the buffer reduced executor merges the changes of a key, they must stay in one lane
+            Function<SeaTunnelRow, SeaTunnelRow> primaryKeyExtractor =
+                    createKeyExtractor(
+                            getPrimaryKeyFields(tableSchema, primaryKeys.toArray(new String[0])));
+            keyExtractor = primaryKeyExtractor::apply;
         }
 
+        final JdbcConnectionConfig jdbcConnectionConfig = jdbcSinkConfig.getJdbcConnectionConfig();
         return new JdbcOutputFormat(
                 connectionProvider,
-                jdbcSinkConfig.getJdbcConnectionConfig(),
-                statementExecutorFactory);
+                jdbcConnectionConfig,
+                statementExecutorFactory,
+                asyncFlushLaneFactory != null
+                        ? asyncFlushLaneFactory
+                        : new DialectAsyncFlushLaneFactory(dialect, jdbcConnectionConfig),
+                keyExtractor);
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createSimpleBufferedExecutor(
@@ -139,10 +184,7 @@ public class JdbcOutputFormatBuilder {
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
             boolean supportUpsertByInsertOnly) {
-        int[] pkFields =
-                Arrays.stream(pkNames)
-                        .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
-                        .toArray();
+        int[] pkFields = getPrimaryKeyFields(tableSchema, pkNames);
 
         TableSchema pkSchema =
                 TableSchema.builder()
@@ -238,6 +280,22 @@ public class JdbcOutputFormatBuilder {
         return new CopyManagerBatchStatementExecutor(copyInSql, tableSchema);
     }
 
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createBulkLoadExecutor(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        return dialect.createBulkLoadExecutor(database, table, tableSchema, databaseTableSchema)
+                .orElseThrow(
+                        () ->
+                                new JdbcConnectorException(
+                                        JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                                        String.format(
+                                                "Dialect %s does not support bulk load. Please configure option use_bulk_load = false.",
+                                                dialect.dialectName())));
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertOnlyExecutor(
             JdbcDialect dialect,
             String database,
@@ -352,6 +410,12 @@ public class JdbcOutputFormatBuilder {
                 rowConverter);
     }
 
+    private static int[] getPrimaryKeyFields(TableSchema tableSchema, String[] pkNames) {
+        return Arrays.stream(pkNames)
+                .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
+                .toArray();
+    }
+
     static Function<SeaTunnelRow, SeaTunnelRow> createKeyExtractor(int[] pkFields) {
         return row -> {
             Object[] fields = new Object[pkFields.length];
@@ -363,4 +427,32 @@ public class JdbcOutputFormatBuilder {
             return newRow;
         };
     }
+
+    @RequiredArgsConstructor
+    private static class DialectAsyncFlushLaneFactory
+            implements JdbcOutputFormat.AsyncFlushLaneFactory {
+        private final JdbcDialect dialect;
+        private final JdbcConnectionConfig jdbcConnectionConfig;
+
+        @Override
+        public JdbcConnectionProvider createConnectionProvider(int lane) {
+            return dialect.getJdbcConnectionProvider(jdbcConnectionConfig);
+        }
+
+        @Override
+        public ExecutorService getExecutor(int lane) {
+            return Executors.newSingleThreadExecutor(
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("jdbc-async-flush-" + lane + "-%d")
+                            .setDaemon(true)
+                            .build());
+        }
+
+        @Override
+        public void releaseLane(
+                int lane, JdbcConnectionProvider connectionProvider, ExecutorService executor) {
+            executor.shutdown();
+            connectionProvider.closeConnection();
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
 import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
@@ -27,12 +28,15 @@ import org.apache.seatunnel.api.table.schema.event.AlterTableColumnsEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableDropColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableModifyColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.DefaultValueUtils;
 
@@ -41,6 +45,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -109,6 +115,22 @@ public interface JdbcDialect extends Serializable {
     default String quoteIdentifier(String identifier) {
         return identifier;
     }
+    /**
+     * Quotes the string literal of a predicate pushed down into the source.
+     *
+     * @param value the string value
+     * @return the quoted literal, null if the value can't be quoted safely, the predicate is not
+     *     pushed down then
+     */
+    default String quoteStringLiteral(String value) {
+        // whether the backslash escapes depends on the database and its settings, e.g. the
+        // NO_BACKSLASH_ESCAPES sql mode of MySQL
+        if (value.indexOf('\\') >= 0) {
+            return null;
+        }
+        return "'" + value.replace("'", "''") + "'";
+    }
+
     /** Quotes the identifier for database name or field name */
     default String quoteDatabaseIdentifier(String identifier) {
         return identifier;
@@ -143,6 +165,21 @@ public interface JdbcDialect extends Serializable {
                 tableIdentifier(database, tableName), columns, placeholders);
     }
 
+    /**
+     * Creates the executor writing rows with the native bulk load path of the database, it is used
+     * instead of the batched {@code INSERT} statements when the sink enables {@code use_bulk_load}.
+     * Only {@code INSERT} rows are passed to it, the sink rejects any other row kind.
+     *
+     * @return the bulk load executor, empty if the dialect has no bulk load path.
+     */
+    default Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createBulkLoadExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            @Nullable TableSchema databaseTableSchema) {
+        return Optional.empty();
+    }
+
     /**
      * Constructs the dialects update statement for a single row with the given condition. The
      * returned string will be used as a {@link java.sql.PreparedStatement}. Fields in the statement
@@ -370,6 +407,27 @@ public interface JdbcDialect extends Serializable {
         }
     }
 
+    /**
+     * Query the histogram of the column kept in the database statistics, it is used to split the
+     * table without scanning it. The bounds may be stale, so they are only used as chunk
+     * boundaries.
+     *
+     * @param connection JDBC connection.
+     * @param tablePath table path.
+     * @param columnName column name.
+     * @param columnType data type of the column, the bounds are converted to its java type.
+     * @return the ascending histogram bucket bounds, empty if the database keeps no histogram of
+     *     the column.
+     */
+    default Optional<Object[]> queryColumnHistogramBounds(
+            Connection connection,
+            TablePath tablePath,
+            String columnName,
+            SeaTunnelDataType<?> columnType)
+            throws SQLException {
+        return Optional.empty();
+    }
+
     /**
      * Query the maximum value of the next chunk, and the next chunk must be greater than or equal
      * to <code>includedLowerBound</code> value [min_1, max_1), [min_2, max_2),... [min_n, null).
@@ -17,22 +17,32 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.MySqlLoadDataBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.ObjectUtils;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.mysql.cj.MysqlType;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -40,6 +50,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -115,6 +126,21 @@ public class MysqlDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createBulkLoadExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String[] quotedColumns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .toArray(String[]::new);
+        return Optional.of(
+                new MySqlLoadDataBatchStatementExecutor(
+                        tableIdentifier(database, tableName), quotedColumns, tableSchema));
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -233,6 +259,60 @@ public class MysqlDialect implements JdbcDialect {
         return SQLUtils.countForSubquery(connection, table.getQuery());
     }
 
+    @Override
+    public Optional<Object[]> queryColumnHistogramBounds(
+            Connection connection,
+            TablePath tablePath,
+            String columnName,
+            SeaTunnelDataType<?> columnType)
+            throws SQLException {
+        // histograms are created by ANALYZE TABLE ... UPDATE HISTOGRAM ON ... since MySQL 8.0
+        String histogramQuery =
+                "SELECT HISTOGRAM FROM information_schema.COLUMN_STATISTICS "
+                        + "WHERE SCHEMA_NAME = ? AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+        String histogram;
+        try (PreparedStatement ps = connection.prepareStatement(histogramQuery)) {
+            ps.setString(1, tablePath.getDatabaseName());
+            ps.setString(2, tablePath.getTableName());
+            ps.setString(3, columnName);
+            log.info("Split Chunk, queryColumnHistogramBounds: {}", histogramQuery);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                histogram = rs.getString(1);
+            }
+        }
+
+        // equi-height buckets are [lower, upper, cumulative frequency, distinct count],
+        // singleton buckets are [value, cumulative frequency]
+        JsonNode root = JsonUtils.parseObject(histogram);
+        boolean singleton = "singleton".equals(root.path("histogram-type").asText());
+        List<Object> bounds = new ArrayList<>();
+        for (JsonNode bucket : root.path("buckets")) {
+            if (!singleton && bounds.isEmpty()) {
+                bounds.add(parseHistogramValue(bucket.get(0), columnType));
+            }
+            bounds.add(parseHistogramValue(bucket.get(singleton ? 0 : 1), columnType));
+        }
+        return bounds.isEmpty() ? Optional.empty() : Optional.of(bounds.toArray());
+    }
+
+    private static Object parseHistogramValue(JsonNode value, SeaTunnelDataType<?> columnType) {
+        if (value.isNumber()) {
+            return ObjectUtils.convertStatisticValue(value.decimalValue(), columnType);
+        }
+        String text = value.asText();
+        // string values are encoded as base64:type<N>:<base64 of the value>
+        if (text.startsWith("base64:")) {
+            text =
+                    new String(
+                            Base64.getDecoder().decode(text.substring(text.indexOf(':', 7) + 1)),
+                            StandardCharsets.UTF_8);
+        }
+        return ObjectUtils.convertStatisticValue(text, columnType);
+    }
+
     @Override
     public boolean supportDefaultValue(BasicTypeDefine typeBasicTypeDefine) {
         MysqlType nativeType = (MysqlType) typeBasicTypeDefine.getNativeType();
@@ -19,29 +19,42 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oracle;
 
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
 import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableChangeColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableModifyColumnEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.ObjectUtils;
 
 import org.apache.commons.lang3.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.JulianFields;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -165,6 +178,35 @@ public class OracleDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    /**
+     * Inserts the batches with direct path, the driver binds the rows of a batch as arrays. A table
+     * modified by direct path can not be accessed again before commit, so it requires auto commit.
+     */
+    @Override
+    public Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createBulkLoadExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String insertSql =
+                getInsertIntoStatement(database, tableName, tableSchema.getFieldNames())
+                        .replaceFirst("INSERT INTO", "INSERT /*+ APPEND_VALUES */ INTO");
+        return Optional.of(
+                new SimpleBatchStatementExecutor(
+                        connection -> {
+                            if (!connection.getAutoCommit()) {
+                                throw new JdbcConnectorException(
+                                        JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                                        "Bulk load of Oracle requires option auto_commit = true.");
+                            }
+                            return FieldNamedPreparedStatement.prepareStatement(
+                                    connection, insertSql, tableSchema.getFieldNames());
+                        },
+                        tableSchema,
+                        databaseTableSchema,
+                        getRowConverter()));
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -298,6 +340,49 @@ public class OracleDialect implements JdbcDialect {
         }
     }
 
+    @Override
+    public Optional<Object[]> queryColumnHistogramBounds(
+            Connection connection,
+            TablePath tablePath,
+            String columnName,
+            SeaTunnelDataType<?> columnType)
+            throws SQLException {
+        // without a histogram the column still has two endpoints, its low and high value
+        String histogramQuery =
+                "SELECT ENDPOINT_VALUE, ENDPOINT_ACTUAL_VALUE FROM ALL_TAB_HISTOGRAMS "
+                        + "WHERE OWNER = ? AND TABLE_NAME = ? AND COLUMN_NAME = ? "
+                        + "ORDER BY ENDPOINT_NUMBER";
+        List<Object> bounds = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(histogramQuery)) {
+            ps.setString(1, tablePath.getSchemaName());
+            ps.setString(2, tablePath.getTableName());
+            ps.setString(3, columnName);
+            log.info("Split Chunk, queryColumnHistogramBounds: {}", histogramQuery);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    BigDecimal endpointValue = rs.getBigDecimal(1);
+                    Object bound;
+                    if (columnType.getSqlType() == SqlType.STRING) {
+                        // the endpoint value of strings is a hash of its leading bytes
+                        bound = rs.getString(2);
+                        if (bound == null) {
+                            return Optional.empty();
+                        }
+                    } else if (columnType.getSqlType() == SqlType.DATE) {
+                        // the endpoint value of dates is the julian day number
+                        bound =
+                                LocalDate.MIN.with(
+                                        JulianFields.JULIAN_DAY, endpointValue.longValue());
+                    } else {
+                        bound = endpointValue;
+                    }
+                    bounds.add(ObjectUtils.convertStatisticValue(bound, columnType));
+                }
+            }
+        }
+        return bounds.isEmpty() ? Optional.empty() : Optional.of(bounds.toArray());
+    }
+
     @Override
     public Object[] sampleDataFromColumn(
             Connection connection,
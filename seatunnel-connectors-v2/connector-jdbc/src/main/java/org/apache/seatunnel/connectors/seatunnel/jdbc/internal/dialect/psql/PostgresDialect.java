@@ -19,18 +19,24 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
 
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
 import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableChangeColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableModifyColumnEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.ObjectUtils;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -176,6 +182,23 @@ public class PostgresDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createBulkLoadExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(",", "(", ")"));
+        String copyInSql =
+                String.format(
+                        "COPY %s %s FROM STDIN WITH CSV",
+                        tableIdentifier(database, tableName), columns);
+        return Optional.of(new CopyManagerBatchStatementExecutor(copyInSql, tableSchema));
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -199,6 +222,12 @@ public class PostgresDialect implements JdbcDialect {
         return quoteDatabaseIdentifier(database) + "." + quoteIdentifier(tableName);
     }
 
+    @Override
+    public String quoteStringLiteral(String value) {
+        // the escape string syntax does not depend on standard_conforming_strings
+        return "E'" + value.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
     @Override
     public String quoteIdentifier(String identifier) {
         if (identifier.contains(".")) {
@@ -269,6 +298,73 @@ public class PostgresDialect implements JdbcDialect {
         return SQLUtils.countForSubquery(connection, table.getQuery());
     }
 
+    @Override
+    public Optional<Object[]> queryColumnHistogramBounds(
+            Connection connection,
+            TablePath tablePath,
+            String columnName,
+            SeaTunnelDataType<?> columnType)
+            throws SQLException {
+        // the most common values are not part of the histogram, the chunks containing them are
+        // larger but all rows are still covered by the open first and last chunk
+        String histogramQuery =
+                String.format(
+                        "SELECT histogram_bounds::text FROM pg_stats "
+                                + "WHERE schemaname = %s AND tablename = ? AND attname = ? "
+                                + "AND histogram_bounds IS NOT NULL ORDER BY inherited",
+                        tablePath.getSchemaName() == null ? "current_schema()" : "?");
+        String histogram;
+        try (PreparedStatement ps = connection.prepareStatement(histogramQuery)) {
+            int index = 1;
+            if (tablePath.getSchemaName() != null) {
+                ps.setString(index++, tablePath.getSchemaName());
+            }
+            ps.setString(index++, tablePath.getTableName());
+            ps.setString(index, columnName);
+            log.info("Split Chunk, queryColumnHistogramBounds: {}", histogramQuery);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                histogram = rs.getString(1);
+            }
+        }
+        List<Object> bounds = new ArrayList<>();
+        for (String value : parseArrayLiteral(histogram)) {
+            bounds.add(ObjectUtils.convertStatisticValue(value, columnType));
+        }
+        return bounds.isEmpty() ? Optional.empty() : Optional.of(bounds.toArray());
+    }
+
+    /** Parse the text of a one dimensional array, e.g. {1,2} or {"a b","c\\"d"}. */
+    static List<String> parseArrayLiteral(String text) {
+        List<String> elements = new ArrayList<>();
+        if (text == null || text.length() <= 2) {
+            return elements;
+        }
+        StringBuilder element = new StringBuilder();
+        boolean quoted = false;
+        boolean escaped = false;
+        for (int i = 1; i < text.length() - 1; i++) {
+            char c = text.charAt(i);
+            if (escaped) {
+                element.append(c);
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                elements.add(element.toString());
+                element.setLength(0);
+            } else {
+                element.append(c);
+            }
+        }
+        elements.add(element.toString());
+        return elements;
+    }
+
     @Override
     public TypeConverter<BasicTypeDefine> getTypeConverter() {
         return PostgresTypeConverter.INSTANCE;
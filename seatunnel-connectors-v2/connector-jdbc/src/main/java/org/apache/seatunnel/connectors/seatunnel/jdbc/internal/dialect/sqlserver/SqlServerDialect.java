@@ -18,16 +18,22 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlserver;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Connection;
@@ -130,6 +136,28 @@ public class SqlServerDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    /** Lets the driver send the batched inserts with the bulk copy API. */
+    @Override
+    public Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createBulkLoadExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String insertSql = getInsertIntoStatement(database, tableName, tableSchema.getFieldNames());
+        return Optional.of(
+                new SimpleBatchStatementExecutor(
+                        connection -> {
+                            connection
+                                    .unwrap(SQLServerConnection.class)
+                                    .setUseBulkCopyForBatchInsert(true);
+                            return FieldNamedPreparedStatement.prepareStatement(
+                                    connection, insertSql, tableSchema.getFieldNames());
+                        },
+                        tableSchema,
+                        databaseTableSchema,
+                        getRowConverter()));
+    }
+
     @Override
     public String quoteIdentifier(String identifier) {
         if (identifier.contains(".")) {
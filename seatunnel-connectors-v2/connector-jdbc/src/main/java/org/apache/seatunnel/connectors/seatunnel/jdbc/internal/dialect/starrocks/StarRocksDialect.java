@@ -17,7 +17,12 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.starrocks;
 
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import java.util.Optional;
 
 public class StarRocksDialect extends MysqlDialect {
 
@@ -31,4 +36,14 @@ public class StarRocksDialect extends MysqlDialect {
     public String hashModForField(String fieldName, int mod) {
         return "ABS(murmur_hash3_32(" + quoteIdentifier(fieldName) + ") % " + mod + ")";
     }
+
+    @Override
+    public Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createBulkLoadExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        // StarRocks does not support LOAD DATA LOCAL INFILE
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+
+/**
+ * Loads the rows with {@code LOAD DATA LOCAL INFILE} of MySQL. The rows of a batch are encoded as
+ * tab separated text and streamed to the server without a temporary file, binary columns are sent
+ * as hex and decoded by the server. The connection must enable {@code allowLoadLocalInfile}.
+ */
+public class MySqlLoadDataBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            new DateTimeFormatterBuilder()
+                    .append(DateTimeFormatter.ISO_LOCAL_DATE)
+                    .appendLiteral(' ')
+                    .append(DateTimeFormatter.ISO_LOCAL_TIME)
+                    .toFormatter();
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final String loadDataSql;
+    private final SeaTunnelRowType rowType;
+    private final StringBuilder buffer = new StringBuilder();
+    private transient Statement statement;
+
+    public MySqlLoadDataBatchStatementExecutor(
+            String tableIdentifier, String[] quotedColumns, TableSchema tableSchema) {
+        this.rowType = tableSchema.toPhysicalRowDataType();
+        StringBuilder columns = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            if (columns.length() > 0) {
+                columns.append(", ");
+            }
+            SeaTunnelDataType<?> dataType = rowType.getFieldType(i);
+            switch (dataType.getSqlType()) {
+                case STRING:
+                case BOOLEAN:
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                case DECIMAL:
+                case DATE:
+                case TIME:
+                case TIMESTAMP:
+                case NULL:
+                    columns.append(quotedColumns[i]);
+                    break;
+                case BYTES:
+                    columns.append("@v").append(i);
+                    assignments
+                            .append(assignments.length() > 0 ? ", " : " SET ")
+                            .append(quotedColumns[i])
+                            .append(" = UNHEX(@v")
+                            .append(i)
+                            .append(")");
+                    break;
+                default:
+                    throw new JdbcConnectorException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                            "Unexpected value: " + dataType);
+            }
+        }
+        this.loadDataSql =
+                String.format(
+                        "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE %s CHARACTER SET utf8mb4"
+                                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                                + " LINES TERMINATED BY '\\n' (%s)%s",
+                        tableIdentifier, columns, assignments);
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        statement = connection.createStatement();
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            if (i > 0) {
+                buffer.append('\t');
+            }
+            appendField(record.getField(i), rowType.getFieldType(i));
+        }
+        buffer.append('\n');
+    }
+
+    private void appendField(Object value, SeaTunnelDataType<?> dataType) {
+        if (value == null) {
+            buffer.append("\\N");
+            return;
+        }
+        switch (dataType.getSqlType()) {
+            case STRING:
+                appendEscaped((String) value);
+                break;
+            case BOOLEAN:
+                buffer.append((Boolean) value ? '1' : '0');
+                break;
+            case DECIMAL:
+                buffer.append(((BigDecimal) value).toPlainString());
+                break;
+            case DATE:
+                buffer.append(DateTimeFormatter.ISO_LOCAL_DATE.format((LocalDate) value));
+                break;
+            case TIME:
+                buffer.append(DateTimeFormatter.ISO_LOCAL_TIME.format((LocalTime) value));
+                break;
+            case TIMESTAMP:
+                buffer.append(TIMESTAMP_FORMATTER.format((LocalDateTime) value));
+                break;
+            case BYTES:
+                for (byte b : (byte[]) value) {
+                    buffer.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+                }
+                break;
+            case NULL:
+                buffer.append("\\N");
+                break;
+            default:
+                buffer.append(value);
+        }
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\0':
+                    buffer.append("\\0");
+                    break;
+                default:
+                    buffer.append(c);
+            }
+        }
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        JdbcStatement mysqlStatement = statement.unwrap(JdbcStatement.class);
+        try {
+            mysqlStatement.setLocalInfileInputStream(
+                    new ByteArrayInputStream(buffer.toString().getBytes(StandardCharsets.UTF_8)));
+            statement.execute(loadDataSql);
+        } finally {
+            mysqlStatement.setLocalInfileInputStream(null);
+            buffer.setLength(0);
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        buffer.setLength(0);
+        if (statement != null) {
+            statement.close();
+        }
+    }
+}
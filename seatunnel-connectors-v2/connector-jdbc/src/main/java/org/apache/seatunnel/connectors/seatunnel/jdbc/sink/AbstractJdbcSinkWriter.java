@@ -55,6 +55,7 @@ public abstract class AbstractJdbcSinkWriter<ResourceT>
     protected JdbcConnectionProvider connectionProvider;
     protected JdbcSinkConfig jdbcSinkConfig;
     protected JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>> outputFormat;
+    protected JdbcOutputFormat.AsyncFlushLaneFactory asyncFlushLaneFactory;
     protected TableSchemaChangeEventDispatcher tableSchemaChanger =
             new TableSchemaChangeEventDispatcher();
 
@@ -65,6 +66,7 @@ public abstract class AbstractJdbcSinkWriter<ResourceT>
     }
 
     protected void reOpenOutputFormat(SchemaChangeEvent event) throws IOException {
+        // waits until every async flush lane is idle, no batch overlaps the DDL
         this.prepareCommit();
         JdbcConnectionProvider refreshTableSchemaConnectionProvider =
                 dialect.getJdbcConnectionProvider(jdbcSinkConfig.getJdbcConnectionConfig());
@@ -75,6 +77,7 @@ public abstract class AbstractJdbcSinkWriter<ResourceT>
             throw new JdbcConnectorException(
                     JdbcConnectorErrorCode.REFRESH_PHYSICAL_TABLESCHEMA_BY_SCHEMA_CHANGE_EVENT, e);
         }
+        this.outputFormat.shutdownAsyncFlush();
         this.outputFormat =
                 new JdbcOutputFormatBuilder(
                                 dialect,
@@ -82,6 +85,7 @@ public abstract class AbstractJdbcSinkWriter<ResourceT>
                                 jdbcSinkConfig,
                                 tableSchema,
                                 databaseTableSchema)
+                        .asyncFlushLaneFactory(asyncFlushLaneFactory)
                         .build();
         this.outputFormat.open();
     }
@@ -17,14 +17,20 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
 
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+@Slf4j
 @Getter
 public class ConnectionPoolManager {
 
@@ -32,9 +38,35 @@ public class ConnectionPoolManager {
 
     private final Map<Integer, Connection> connectionMap;
 
-    ConnectionPoolManager(HikariDataSource connectionPool) {
+    private final int queueSize;
+
+    /** The async flush thread of each connection, shared by all writers using the connection. */
+    private final Map<Integer, ExecutorService> flushExecutorMap;
+
+    ConnectionPoolManager(HikariDataSource connectionPool, int queueSize) {
         this.connectionPool = connectionPool;
+        this.queueSize = queueSize;
         connectionMap = new ConcurrentHashMap<>();
+        flushExecutorMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The connection index of an async flush lane, the lanes never use the connection of the queue
+     * so the writer can run statements on it while the lanes flush.
+     */
+    public int getLaneConnectionIndex(int queueIndex, int lane) {
+        return queueIndex + (lane + 1) * queueSize;
+    }
+
+    public ExecutorService getFlushExecutor(int index) {
+        return flushExecutorMap.computeIfAbsent(
+                index,
+                i ->
+                        Executors.newSingleThreadExecutor(
+                                new ThreadFactoryBuilder()
+                                        .setNameFormat("jdbc-async-flush-" + i + "-%d")
+                                        .setDaemon(true)
+                                        .build()));
     }
 
     public Connection getConnection(int index) {
@@ -61,7 +93,18 @@ public class ConnectionPoolManager {
         return connectionPool.getPoolName();
     }
 
+    /** Closes the connections and the async flush threads of all writers sharing the pool. */
     public void close() {
+        flushExecutorMap.values().forEach(ExecutorService::shutdown);
+        flushExecutorMap.clear();
+        for (Connection connection : connectionMap.values()) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.warn("Close pooled JDBC connection failed.", e);
+            }
+        }
+        connectionMap.clear();
         if (!connectionPool.isClosed()) {
             connectionPool.close();
         }
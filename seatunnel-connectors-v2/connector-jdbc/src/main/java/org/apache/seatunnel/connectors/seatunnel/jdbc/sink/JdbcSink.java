@@ -37,6 +37,7 @@ import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.catalog.exception.TableNotExistException;
 import org.apache.seatunnel.api.table.schema.SchemaChangeType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.catalog.iris.IrisCatalog;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.catalog.iris.savemode.IrisSaveModeHandler;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.catalog.utils.CatalogUtils;
@@ -129,16 +130,19 @@ public class JdbcSink
                             new ArrayList<>());
         } else {
             if (catalogTable.getTableSchema().getPrimaryKey() != null) {
-                String keyName = tableSchema.getPrimaryKey().getColumnNames().get(0);
-                int index = tableSchema.toPhysicalRowDataType().indexOf(keyName);
-                if (index > -1) {
+                SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+                int[] indexes =
+                        tableSchema.getPrimaryKey().getColumnNames().stream()
+                                .mapToInt(rowType::indexOf)
+                                .toArray();
+                if (indexes.length > 0 && Arrays.stream(indexes).allMatch(index -> index > -1)) {
                     return new JdbcSinkWriter(
                             sinkTablePath,
                             dialect,
                             jdbcSinkConfig,
                             tableSchema,
                             getDatabaseTableSchema().orElse(null),
-                            index);
+                            indexes);
                 }
             }
             sinkWriter =
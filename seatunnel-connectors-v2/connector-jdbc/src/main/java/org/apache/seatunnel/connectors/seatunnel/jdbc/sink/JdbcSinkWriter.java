@@ -22,10 +22,13 @@ import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormatBuilder;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionPoolProviderProxy;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSinkState;
@@ -39,10 +42,11 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 @Slf4j
 public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager> {
-    private final Integer primaryKeyIndex;
+    private final int[] primaryKeyIndexes;
 
     public JdbcSinkWriter(
             TablePath sinkTablePath,
@@ -50,13 +54,13 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
             JdbcSinkConfig jdbcSinkConfig,
             TableSchema tableSchema,
             TableSchema databaseTableSchema,
-            Integer primaryKeyIndex) {
+            int[] primaryKeyIndexes) {
         this.sinkTablePath = sinkTablePath;
         this.dialect = dialect;
         this.tableSchema = tableSchema;
         this.databaseTableSchema = databaseTableSchema;
         this.jdbcSinkConfig = jdbcSinkConfig;
-        this.primaryKeyIndex = primaryKeyIndex;
+        this.primaryKeyIndexes = primaryKeyIndexes;
         this.connectionProvider =
                 dialect.getJdbcConnectionProvider(jdbcSinkConfig.getJdbcConnectionConfig());
         this.outputFormat =
@@ -79,7 +83,13 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
             throw new RuntimeException(e);
         }
         ds.setIdleTimeout(30 * 1000);
-        ds.setMaximumPoolSize(queueSize);
+        // every queue flushes on a connection per async flush lane besides its own connection
+        ds.setMaximumPoolSize(
+                queueSize
+                        * (1
+                                + jdbcSinkConfig
+                                        .getJdbcConnectionConfig()
+                                        .getAsyncFlushParallelism()));
         ds.setJdbcUrl(jdbcSinkConfig.getJdbcConnectionConfig().getUrl());
         if (jdbcSinkConfig.getJdbcConnectionConfig().getUsername().isPresent()) {
             ds.setUsername(jdbcSinkConfig.getJdbcConnectionConfig().getUsername().get());
@@ -88,7 +98,7 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
             ds.setPassword(jdbcSinkConfig.getJdbcConnectionConfig().getPassword().get());
         }
         ds.setAutoCommit(jdbcSinkConfig.getJdbcConnectionConfig().isAutoCommit());
-        return new JdbcMultiTableResourceManager(new ConnectionPoolManager(ds));
+        return new JdbcMultiTableResourceManager(new ConnectionPoolManager(ds, queueSize));
     }
 
     @Override
@@ -96,11 +106,13 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
             MultiTableResourceManager<ConnectionPoolManager> multiTableResourceManager,
             int queueIndex) {
         connectionProvider.closeConnection();
+        ConnectionPoolManager poolManager = multiTableResourceManager.getSharedResource().get();
         this.connectionProvider =
                 new SimpleJdbcConnectionPoolProviderProxy(
-                        multiTableResourceManager.getSharedResource().get(),
-                        jdbcSinkConfig.getJdbcConnectionConfig(),
-                        queueIndex);
+                        poolManager, jdbcSinkConfig.getJdbcConnectionConfig(), queueIndex);
+        this.asyncFlushLaneFactory =
+                new PooledAsyncFlushLaneFactory(
+                        poolManager, jdbcSinkConfig.getJdbcConnectionConfig(), queueIndex);
         this.outputFormat =
                 new JdbcOutputFormatBuilder(
                                 dialect,
@@ -108,12 +120,18 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
                                 jdbcSinkConfig,
                                 tableSchema,
                                 databaseTableSchema)
+                        .asyncFlushLaneFactory(asyncFlushLaneFactory)
                         .build();
     }
 
     @Override
     public Optional<Integer> primaryKey() {
-        return primaryKeyIndex != null ? Optional.of(primaryKeyIndex) : Optional.empty();
+        return primaryKeyIndexes != null ? Optional.of(primaryKeyIndexes[0]) : Optional.empty();
+    }
+
+    @Override
+    public Optional<int[]> primaryKeys() {
+        return Optional.ofNullable(primaryKeyIndexes);
     }
 
     private void tryOpen() throws IOException {
@@ -140,7 +158,9 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
         outputFormat.checkFlushException();
         outputFormat.flush();
         try {
-            if (!connectionProvider.getConnection().getAutoCommit()) {
+            // the async flush lanes commit their connections in flush
+            if (!outputFormat.isAsyncFlush()
+                    && !connectionProvider.getConnection().getAutoCommit()) {
                 connectionProvider.getConnection().commit();
             }
         } catch (SQLException e) {
@@ -160,7 +180,9 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
         tryOpen();
         outputFormat.flush();
         try {
-            if (!connectionProvider.getConnection().getAutoCommit()) {
+            // the async flush lanes commit their connections in flush
+            if (!outputFormat.isAsyncFlush()
+                    && !connectionProvider.getConnection().getAutoCommit()) {
                 connectionProvider.getConnection().commit();
             }
         } catch (SQLException e) {
@@ -172,4 +194,42 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
             outputFormat.close();
         }
     }
+
+    /** Writers of the same queue share the pooled connections and flush threads of the lanes. */
+    private static class PooledAsyncFlushLaneFactory
+            implements JdbcOutputFormat.AsyncFlushLaneFactory {
+        private final transient ConnectionPoolManager poolManager;
+        private final JdbcConnectionConfig jdbcConnectionConfig;
+        private final int queueIndex;
+
+        private PooledAsyncFlushLaneFactory(
+                ConnectionPoolManager poolManager,
+                JdbcConnectionConfig jdbcConnectionConfig,
+                int queueIndex) {
+            this.poolManager = poolManager;
+            this.jdbcConnectionConfig = jdbcConnectionConfig;
+            this.queueIndex = queueIndex;
+        }
+
+        @Override
+        public JdbcConnectionProvider createConnectionProvider(int lane) {
+            return new SimpleJdbcConnectionPoolProviderProxy(
+                    poolManager,
+                    jdbcConnectionConfig,
+                    poolManager.getLaneConnectionIndex(queueIndex, lane));
+        }
+
+        @Override
+        public ExecutorService getExecutor(int lane) {
+            return poolManager.getFlushExecutor(
+                    poolManager.getLaneConnectionIndex(queueIndex, lane));
+        }
+
+        @Override
+        public void releaseLane(
+                int lane, JdbcConnectionProvider connectionProvider, ExecutorService executor) {
+            // the lane connection is shared by the tables of the queue, the pool manager closes it
+            // together with the flush thread when the writer is closed
+        }
+    }
 }
@@ -42,11 +42,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -86,33 +89,57 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     }
 
     public Collection<JdbcSourceSplit> generateSplits(JdbcSourceTable table) throws Exception {
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        generateSplits(table, splits::addAll);
+        return splits;
+    }
+
+    /**
+     * Generate the splits of the table, the splits are passed to the consumer as soon as they are
+     * created so that they can be assigned before the whole table is split.
+     */
+    public void generateSplits(
+            JdbcSourceTable table, Consumer<Collection<JdbcSourceSplit>> splitsConsumer)
+            throws Exception {
         log.info("Start splitting table {} into chunks...", table.getTablePath());
         long start = System.currentTimeMillis();
 
-        Collection<JdbcSourceSplit> splits;
+        AtomicInteger splitCount = new AtomicInteger();
+        Consumer<Collection<JdbcSourceSplit>> countingConsumer =
+                splits -> {
+                    splitCount.addAndGet(splits.size());
+                    splitsConsumer.accept(splits);
+                };
         Optional<SeaTunnelRowType> splitKeyOptional = findSplitKey(table);
         if (!splitKeyOptional.isPresent()) {
             JdbcSourceSplit split = createSingleSplit(table);
-            splits = Collections.singletonList(split);
+            countingConsumer.accept(Collections.singletonList(split));
         } else {
             if (splitKeyOptional.get().getTotalFields() != 1) {
                 throw new UnsupportedOperationException("Currently, only support one split key");
             }
-            splits = createSplits(table, splitKeyOptional.get());
+            createSplits(table, splitKeyOptional.get(), countingConsumer);
         }
 
         long end = System.currentTimeMillis();
         log.info(
                 "Split table {} into {} chunks, time cost: {}ms.",
                 table.getTablePath(),
-                splits.size(),
+                splitCount.get(),
                 end - start);
-        return splits;
     }
 
     protected abstract Collection<JdbcSourceSplit> createSplits(
             JdbcSourceTable table, SeaTunnelRowType splitKeyType) throws SQLException, Exception;
 
+    protected void createSplits(
+            JdbcSourceTable table,
+            SeaTunnelRowType splitKeyType,
+            Consumer<Collection<JdbcSourceSplit>> splitsConsumer)
+            throws Exception {
+        splitsConsumer.accept(createSplits(table, splitKeyType));
+    }
+
     public PreparedStatement generateSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         if (split.getSplitKeyName() == null) {
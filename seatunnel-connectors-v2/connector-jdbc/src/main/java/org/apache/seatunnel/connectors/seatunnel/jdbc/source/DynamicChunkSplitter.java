@@ -37,17 +37,21 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static java.math.BigDecimal.ROUND_CEILING;
@@ -56,6 +60,8 @@ import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.ch
 @Slf4j
 public class DynamicChunkSplitter extends ChunkSplitter {
 
+    @VisibleForTesting static final int INCREMENTAL_SPLIT_BATCH_SIZE = 10;
+
     public DynamicChunkSplitter(JdbcSourceConfig config) {
         super(config);
     }
@@ -63,36 +69,28 @@ public class DynamicChunkSplitter extends ChunkSplitter {
     @Override
     protected Collection<JdbcSourceSplit> createSplits(
             JdbcSourceTable table, SeaTunnelRowType splitKey) throws Exception {
-        return createDynamicSplits(table, splitKey);
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        createSplits(table, splitKey, splits::addAll);
+        return splits;
     }
 
     @Override
-    protected PreparedStatement createSplitStatement(JdbcSourceSplit split, TableSchema schema)
-            throws SQLException {
-        return createDynamicSplitStatement(split, schema);
-    }
-
-    private Collection<JdbcSourceSplit> createDynamicSplits(
-            JdbcSourceTable table, SeaTunnelRowType splitKey) throws Exception {
+    protected void createSplits(
+            JdbcSourceTable table,
+            SeaTunnelRowType splitKey,
+            Consumer<Collection<JdbcSourceSplit>> splitsConsumer)
+            throws Exception {
         String splitKeyName = splitKey.getFieldNames()[0];
         SeaTunnelDataType splitKeyType = splitKey.getFieldType(0);
-        List<ChunkRange> chunks = splitTableIntoChunks(table, splitKeyName, splitKeyType);
+        SplitEmitter emitter = new SplitEmitter(table, splitKeyName, splitKeyType, splitsConsumer);
+        splitTableIntoChunks(table, splitKeyName, splitKeyType, emitter);
+        emitter.flush();
+    }
 
-        List<JdbcSourceSplit> splits = new ArrayList<>();
-        for (int i = 0; i < chunks.size(); i++) {
-            ChunkRange chunk = chunks.get(i);
-            JdbcSourceSplit split =
-                    new JdbcSourceSplit(
-                            table.getTablePath(),
-                            createSplitId(table.getTablePath(), i),
-                            table.getQuery(),
-                            splitKeyName,
-                            splitKeyType,
-                            chunk.getChunkStart(),
-                            chunk.getChunkEnd());
-            splits.add(split);
-        }
-        return splits;
+    @Override
+    protected PreparedStatement createSplitStatement(JdbcSourceSplit split, TableSchema schema)
+            throws SQLException {
+        return createDynamicSplitStatement(split, schema);
     }
 
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
@@ -103,19 +101,31 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return statement;
     }
 
-    private List<ChunkRange> splitTableIntoChunks(
-            JdbcSourceTable table, String splitColumnName, SeaTunnelDataType splitColumnType)
+    private void splitTableIntoChunks(
+            JdbcSourceTable table,
+            String splitColumnName,
+            SeaTunnelDataType splitColumnType,
+            SplitEmitter emitter)
             throws Exception {
+        int chunkSize = config.getSplitSize();
+        if (config.isSplitUseColumnStatistics()) {
+            Optional<List<ChunkRange>> chunks =
+                    statisticsSplitChunks(table, splitColumnName, splitColumnType, chunkSize);
+            if (chunks.isPresent()) {
+                emitter.emit(chunks.get());
+                return;
+            }
+        }
+
         Pair<Object, Object> minMax = queryMinMax(table, splitColumnName);
         Object min = minMax.getLeft();
         Object max = minMax.getRight();
         if (min == null || max == null || min.equals(max)) {
             // empty table, or only one row, return full table scan as a chunk
-            return Collections.singletonList(ChunkRange.all());
+            emitter.emit(Collections.singletonList(ChunkRange.all()));
+            return;
         }
 
-        int chunkSize = config.getSplitSize();
-
         switch (splitColumnType.getSqlType()) {
             case TINYINT:
             case SMALLINT:
@@ -125,17 +135,132 @@ public class DynamicChunkSplitter extends ChunkSplitter {
             case DOUBLE:
             case FLOAT:
             case STRING:
-                return evenlyColumnSplitChunks(table, splitColumnName, min, max, chunkSize);
+                evenlyColumnSplitChunks(table, splitColumnName, min, max, chunkSize, emitter);
+                return;
             case DATE:
-                return dateColumnSplitChunks(table, splitColumnName, min, max, chunkSize);
+                emitter.emit(dateColumnSplitChunks(table, splitColumnName, min, max, chunkSize));
+                return;
             default:
                 throw CommonError.unsupportedDataType(
                         "JDBC", splitColumnType.getSqlType().toString(), splitColumnName);
         }
     }
 
-    private List<ChunkRange> evenlyColumnSplitChunks(
-            JdbcSourceTable table, String splitColumnName, Object min, Object max, int chunkSize)
+    private Optional<List<ChunkRange>> statisticsSplitChunks(
+            JdbcSourceTable table,
+            String splitColumnName,
+            SeaTunnelDataType splitColumnType,
+            int chunkSize)
+            throws SQLException {
+        TablePath tablePath = table.getTablePath();
+        if (StringUtils.isNotBlank(table.getQuery()) || tablePath == null) {
+            // the statistics belong to the table, not to the query
+            return Optional.empty();
+        }
+
+        Optional<Object[]> histogram;
+        try {
+            histogram =
+                    jdbcDialect.queryColumnHistogramBounds(
+                            getOrEstablishConnection(),
+                            tablePath,
+                            splitColumnName,
+                            splitColumnType);
+        } catch (SQLException | NumberFormatException | DateTimeParseException e) {
+            // a bound may not be convertible, e.g. NaN, infinity or a BC date of PostgreSQL
+            log.warn(
+                    "Query the column statistics of table {} failed, fall back to min/max query",
+                    tablePath,
+                    e);
+            return Optional.empty();
+        }
+        if (!histogram.isPresent()) {
+            log.info(
+                    "No column statistics found for split column {} of table {}, fall back to min/max query",
+                    splitColumnName,
+                    tablePath);
+            return Optional.empty();
+        }
+
+        long approximateRowCnt = queryApproximateRowCnt(table);
+        if (approximateRowCnt <= 0) {
+            // the table statistics are missing, they can't be trusted for the row count either
+            return Optional.empty();
+        }
+        int shardCount = (int) (approximateRowCnt / chunkSize);
+        Object[] bounds = histogram.get();
+        log.info(
+                "Use column statistics for table {}, split column: {}, histogram bounds: {}, approximate row count: {}, shard count: {}",
+                tablePath,
+                splitColumnName,
+                bounds.length,
+                approximateRowCnt,
+                shardCount);
+        switch (splitColumnType.getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case DECIMAL:
+            case DOUBLE:
+            case FLOAT:
+                try {
+                    bounds = interpolateHistogramBounds(bounds, shardCount);
+                } catch (NumberFormatException e) {
+                    log.warn(
+                            "The histogram bounds of table {} are not finite, fall back to min/max query",
+                            tablePath,
+                            e);
+                    return Optional.empty();
+                }
+                break;
+            default:
+                break;
+        }
+        return Optional.of(
+                efficientShardingThroughSampling(tablePath, bounds, approximateRowCnt, shardCount));
+    }
+
+    /**
+     * Split the histogram buckets evenly until there are enough bounds for the shard count, the
+     * rows are assumed to be evenly distributed within a bucket.
+     */
+    @VisibleForTesting
+    static Object[] interpolateHistogramBounds(Object[] bounds, int shardCount) {
+        int bucketCount = bounds.length - 1;
+        if (bucketCount <= 0 || shardCount <= bucketCount) {
+            return bounds;
+        }
+        int piecesPerBucket = (shardCount + bucketCount - 1) / bucketCount;
+        List<Object> interpolated = new ArrayList<>();
+        interpolated.add(bounds[0]);
+        for (int i = 0; i < bucketCount; i++) {
+            BigDecimal lower = ObjectUtils.toBigDecimal(bounds[i]);
+            BigDecimal width = ObjectUtils.toBigDecimal(bounds[i + 1]).subtract(lower);
+            for (int j = 1; j < piecesPerBucket; j++) {
+                BigDecimal offset =
+                        width.multiply(BigDecimal.valueOf(j))
+                                .divide(BigDecimal.valueOf(piecesPerBucket), MathContext.DECIMAL64);
+                Object bound = ObjectUtils.fromBigDecimal(lower.add(offset), bounds[i]);
+                if (objectCompare(bound, interpolated.get(interpolated.size() - 1)) > 0
+                        && objectCompare(bound, bounds[i + 1]) < 0) {
+                    interpolated.add(bound);
+                }
+            }
+            if (objectCompare(bounds[i + 1], interpolated.get(interpolated.size() - 1)) > 0) {
+                interpolated.add(bounds[i + 1]);
+            }
+        }
+        return interpolated.toArray();
+    }
+
+    private void evenlyColumnSplitChunks(
+            JdbcSourceTable table,
+            String splitColumnName,
+            Object min,
+            Object max,
+            int chunkSize,
+            SplitEmitter emitter)
             throws Exception {
         TablePath tablePath = table.getTablePath();
         double distributionFactorUpper = config.getSplitEvenDistributionFactorUpperBound();
@@ -166,8 +291,9 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         if (dataIsEvenlyDistributed) {
             // the minimum dynamic chunk size is at least 1
             final int dynamicChunkSize = Math.max((int) (distributionFactor * chunkSize), 1);
-            return splitEvenlySizedChunks(
-                    tablePath, min, max, approximateRowCnt, chunkSize, dynamicChunkSize);
+            emitter.emit(
+                    splitEvenlySizedChunks(
+                            tablePath, min, max, approximateRowCnt, chunkSize, dynamicChunkSize));
         } else {
             int shardCount = (int) (approximateRowCnt / chunkSize);
             int inverseSamplingRate = config.getSplitInverseSamplingRate();
@@ -200,10 +326,12 @@ public class DynamicChunkSplitter extends ChunkSplitter {
                         "Sample data from table {} end, the sample size is {}",
                         tablePath,
                         sample.length);
-                return efficientShardingThroughSampling(
-                        tablePath, sample, approximateRowCnt, shardCount);
+                emitter.emit(
+                        efficientShardingThroughSampling(
+                                tablePath, sample, approximateRowCnt, shardCount));
+                return;
             }
-            return splitUnevenlySizedChunks(table, splitColumnName, min, max, chunkSize);
+            splitUnevenlySizedChunks(table, splitColumnName, min, max, chunkSize, emitter);
         }
     }
 
@@ -322,28 +450,31 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return splits;
     }
 
-    private List<ChunkRange> splitUnevenlySizedChunks(
-            JdbcSourceTable table, String splitColumnName, Object min, Object max, int chunkSize)
+    private void splitUnevenlySizedChunks(
+            JdbcSourceTable table,
+            String splitColumnName,
+            Object min,
+            Object max,
+            int chunkSize,
+            SplitEmitter emitter)
             throws SQLException {
         log.info(
                 "Use unevenly-sized chunks for table {}, the chunk size is {}",
                 table.getTablePath(),
                 chunkSize);
-        final List<ChunkRange> splits = new ArrayList<>();
         Object chunkStart = null;
         Object chunkEnd = nextChunkEnd(min, table, splitColumnName, max, chunkSize);
         int count = 0;
         while (chunkEnd != null && objectCompare(chunkEnd, max) <= 0) {
             // we start from [null, min + chunk_size) and avoid [null, min)
-            splits.add(ChunkRange.of(chunkStart, chunkEnd));
+            emitter.emit(ChunkRange.of(chunkStart, chunkEnd));
             // may sleep a while to avoid DDOS on MySQL server
             maySleep(count++, table.getTablePath());
             chunkStart = chunkEnd;
             chunkEnd = nextChunkEnd(chunkEnd, table, splitColumnName, max, chunkSize);
         }
         // add the ending split
-        splits.add(ChunkRange.of(chunkStart, null));
-        return splits;
+        emitter.emit(ChunkRange.of(chunkStart, null));
     }
 
     /**
@@ -450,7 +581,7 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         }
     }
 
-    private int objectCompare(Object obj1, Object obj2) {
+    private static int objectCompare(Object obj1, Object obj2) {
         return ObjectUtils.compare(obj1, obj2);
     }
 
@@ -550,6 +681,57 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         }
     }
 
+    /**
+     * Creates the splits of the chunks in order and passes them to the consumer in batches of
+     * {@link #INCREMENTAL_SPLIT_BATCH_SIZE}, so the readers don't wait for the whole table.
+     */
+    @VisibleForTesting
+    class SplitEmitter {
+        private final JdbcSourceTable table;
+        private final String splitKeyName;
+        private final SeaTunnelDataType splitKeyType;
+        private final Consumer<Collection<JdbcSourceSplit>> splitsConsumer;
+        private final List<JdbcSourceSplit> pendingSplits = new ArrayList<>();
+        private int splitIndex;
+
+        SplitEmitter(
+                JdbcSourceTable table,
+                String splitKeyName,
+                SeaTunnelDataType splitKeyType,
+                Consumer<Collection<JdbcSourceSplit>> splitsConsumer) {
+            this.table = table;
+            this.splitKeyName = splitKeyName;
+            this.splitKeyType = splitKeyType;
+            this.splitsConsumer = splitsConsumer;
+        }
+
+        void emit(List<ChunkRange> chunks) {
+            chunks.forEach(this::emit);
+        }
+
+        void emit(ChunkRange chunk) {
+            pendingSplits.add(
+                    new JdbcSourceSplit(
+                            table.getTablePath(),
+                            createSplitId(table.getTablePath(), splitIndex++),
+                            table.getQuery(),
+                            splitKeyName,
+                            splitKeyType,
+                            chunk.getChunkStart(),
+                            chunk.getChunkEnd()));
+            if (pendingSplits.size() >= INCREMENTAL_SPLIT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pendingSplits.isEmpty()) {
+                splitsConsumer.accept(new ArrayList<>(pendingSplits));
+                pendingSplits.clear();
+            }
+        }
+    }
+
     @Data
     @EqualsAndHashCode
     public static class ChunkRange implements Serializable {
@@ -17,13 +17,21 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.connector.TableSource;
 import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactoryContext;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
@@ -32,6 +40,9 @@ import com.google.auto.service.AutoService;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.COMPATIBLE_MODE;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.CONNECTION_CHECK_TIMEOUT_SEC;
@@ -52,6 +63,7 @@ import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOp
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions.SPLIT_INVERSE_SAMPLING_RATE;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions.SPLIT_SAMPLE_SHARDING_THRESHOLD;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions.SPLIT_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions.SPLIT_USE_COLUMN_STATISTICS;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions.TABLE_LIST;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions.TABLE_PATH;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions.USE_SELECT_COUNT;
@@ -59,7 +71,7 @@ import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOp
 
 @Slf4j
 @AutoService(Factory.class)
-public class JdbcSourceFactory implements TableSourceFactory {
+public class JdbcSourceFactory implements TableSourceFactory, SupportFilterPushDown {
     @Override
     public String factoryIdentifier() {
         return "Jdbc";
@@ -77,7 +89,101 @@ public class JdbcSourceFactory implements TableSourceFactory {
                 config.getJdbcConnectionConfig().getUrl(),
                 config.getJdbcConnectionConfig().getProperties(),
                 jdbcDialect.defaultParameter());
-        return () -> (SeaTunnelSource<T, SplitT, StateT>) new JdbcSource(config);
+        PushDownFilter pushDownFilter = context.getPushDownFilter();
+        return () -> {
+            JdbcSource source = new JdbcSource(config);
+            // the column types are known once the source has discovered its table
+            applyPushDownFilter(
+                    config, source.getProducedCatalogTables(), jdbcDialect, pushDownFilter);
+            return (SeaTunnelSource<T, SplitT, StateT>) source;
+        };
+    }
+
+    /** Append the pushed predicates to the where condition, only a single table is filtered. */
+    private void applyPushDownFilter(
+            JdbcSourceConfig config,
+            List<CatalogTable> catalogTables,
+            JdbcDialect jdbcDialect,
+            PushDownFilter pushDownFilter) {
+        if (pushDownFilter == null
+                || pushDownFilter.getPredicates().isEmpty()
+                || catalogTables.size() != 1) {
+            return;
+        }
+        String whereConditionClause =
+                pushDownWhereCondition(
+                        config.getWhereConditionClause(),
+                        filterPushablePredicates(
+                                pushDownFilter, catalogTables.get(0).getSeaTunnelRowType()),
+                        jdbcDialect);
+        if (!Objects.equals(whereConditionClause, config.getWhereConditionClause())) {
+            log.info("Push down the where condition: {}", whereConditionClause);
+            config.setWhereConditionClause(whereConditionClause);
+        }
+    }
+
+    /**
+     * Keeps the predicates the database evaluates like the Sql transform. The order of strings
+     * depends on the collation of the database, so a string column is only compared by equality,
+     * the range predicates are kept for numeric and temporal columns.
+     */
+    @VisibleForTesting
+    static PushDownFilter filterPushablePredicates(
+            PushDownFilter pushDownFilter, SeaTunnelRowType rowType) {
+        List<FieldPredicate> predicates =
+                pushDownFilter.getPredicates().stream()
+                        .filter(predicate -> isPushable(predicate, rowType))
+                        .collect(Collectors.toList());
+        return new PushDownFilter(predicates, pushDownFilter.getProjectedFields());
+    }
+
+    private static boolean isPushable(FieldPredicate predicate, SeaTunnelRowType rowType) {
+        int index = rowType.indexOf(predicate.getFieldName(), false);
+        if (index < 0) {
+            return false;
+        }
+        SqlType sqlType = rowType.getFieldType(index).getSqlType();
+        switch (predicate.getOperator()) {
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                Object value = predicate.getValue();
+                switch (sqlType) {
+                    case TINYINT:
+                    case SMALLINT:
+                    case INT:
+                    case BIGINT:
+                    case FLOAT:
+                    case DOUBLE:
+                    case DECIMAL:
+                        return value instanceof Number;
+                    case DATE:
+                    case TIME:
+                    case TIMESTAMP:
+                        return value instanceof String;
+                    default:
+                        return false;
+                }
+            default:
+                return true;
+        }
+    }
+
+    @VisibleForTesting
+    static String pushDownWhereCondition(
+            String whereConditionClause, PushDownFilter pushDownFilter, JdbcDialect jdbcDialect) {
+        String condition =
+                pushDownFilter.toSql(jdbcDialect::quoteIdentifier, jdbcDialect::quoteStringLiteral);
+        if (condition.isEmpty()) {
+            return whereConditionClause;
+        }
+        if (whereConditionClause == null) {
+            return "WHERE " + condition;
+        }
+        return String.format(
+                "WHERE (%s) AND %s",
+                whereConditionClause.substring("where".length()).trim(), condition);
     }
 
     @Override
@@ -105,7 +211,8 @@ public class JdbcSourceFactory implements TableSourceFactory {
                         SPLIT_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND,
                         SPLIT_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND,
                         SPLIT_SAMPLE_SHARDING_THRESHOLD,
-                        SPLIT_INVERSE_SAMPLING_RATE)
+                        SPLIT_INVERSE_SAMPLING_RATE,
+                        SPLIT_USE_COLUMN_STATISTICS)
                 .build();
     }
 
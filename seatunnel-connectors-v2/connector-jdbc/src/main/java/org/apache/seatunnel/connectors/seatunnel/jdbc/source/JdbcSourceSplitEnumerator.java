@@ -78,10 +78,14 @@ public class JdbcSourceSplitEnumerator
                 TablePath tablePath = pendingTables.poll();
                 LOG.info("Splitting table {}.", tablePath);
 
-                Collection<JdbcSourceSplit> splits = splitter.generateSplits(tables.get(tablePath));
-                LOG.info("Split table {} into {} splits.", tablePath, splits.size());
-
-                addPendingSplit(splits);
+                // the splits are assigned while the table is being split, the state lock is held
+                // until the table is done so that checkpoints never see a partially split table
+                splitter.generateSplits(
+                        tables.get(tablePath),
+                        splits -> {
+                            addPendingSplit(splits);
+                            assignSplit(readers);
+                        });
             }
 
             synchronized (stateLock) {
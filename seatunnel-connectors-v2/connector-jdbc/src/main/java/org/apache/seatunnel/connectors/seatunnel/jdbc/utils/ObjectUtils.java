@@ -17,8 +17,16 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.utils;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 
 public class ObjectUtils {
     /**
@@ -114,4 +122,110 @@ public class ObjectUtils {
         BigDecimal bigDecimal2 = BigDecimal.valueOf(arg2);
         return bigDecimal1.compareTo(bigDecimal2);
     }
+
+    /** Returns the {@code BigDecimal} value of a number {@code Object}. */
+    public static BigDecimal toBigDecimal(Object number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        } else if (number instanceof Float || number instanceof Double) {
+            return BigDecimal.valueOf(((Number) number).doubleValue());
+        } else if (number instanceof Number) {
+            return BigDecimal.valueOf(((Number) number).longValue());
+        } else {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Unsupported type %s for numeric conversion.",
+                            number.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Returns a number {@code Object} of the same type as {@code template} whose value is {@code
+     * value}, integral values are rounded down.
+     */
+    public static Object fromBigDecimal(BigDecimal value, Object template) {
+        if (template instanceof Byte) {
+            return value.setScale(0, RoundingMode.FLOOR).byteValueExact();
+        } else if (template instanceof Short) {
+            return value.setScale(0, RoundingMode.FLOOR).shortValueExact();
+        } else if (template instanceof Integer) {
+            return value.setScale(0, RoundingMode.FLOOR).intValueExact();
+        } else if (template instanceof Long) {
+            return value.setScale(0, RoundingMode.FLOOR).longValueExact();
+        } else if (template instanceof BigInteger) {
+            return value.setScale(0, RoundingMode.FLOOR).toBigIntegerExact();
+        } else if (template instanceof Float) {
+            return value.floatValue();
+        } else if (template instanceof Double) {
+            return value.doubleValue();
+        } else if (template instanceof BigDecimal) {
+            return value.setScale(((BigDecimal) template).scale(), RoundingMode.FLOOR);
+        } else {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Unsupported type %s for numeric conversion.",
+                            template.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Converts a value read from the database statistics, either a string or a number, to the java
+     * type of the split key.
+     *
+     * @throws NumberFormatException if a number is not finite, e.g. NaN or Infinity
+     * @throws DateTimeParseException if a date can't be represented, e.g. infinity or a BC date
+     */
+    public static Object convertStatisticValue(Object value, SeaTunnelDataType<?> dataType) {
+        if (value == null) {
+            return null;
+        }
+        switch (dataType.getSqlType()) {
+            case TINYINT:
+                return toStatisticNumber(value).byteValue();
+            case SMALLINT:
+                return toStatisticNumber(value).shortValue();
+            case INT:
+                return toStatisticNumber(value).intValue();
+            case BIGINT:
+                return toStatisticNumber(value).longValue();
+            case FLOAT:
+                return toStatisticNumber(value).floatValue();
+            case DOUBLE:
+                return toStatisticNumber(value).doubleValue();
+            case DECIMAL:
+                return toStatisticNumber(value);
+            case STRING:
+                return value.toString();
+            case DATE:
+                if (value instanceof LocalDate) {
+                    return value;
+                } else if (value instanceof LocalDateTime) {
+                    return ((LocalDateTime) value).toLocalDate();
+                } else if (value instanceof Date) {
+                    return ((Date) value).toLocalDate();
+                } else if (value instanceof Timestamp) {
+                    return ((Timestamp) value).toLocalDateTime().toLocalDate();
+                }
+                // the statistics of date time columns keep the time part, e.g. 2024-01-01 00:00:00
+                String text = value.toString().trim();
+                if (text.endsWith(" BC")) {
+                    throw new DateTimeParseException("BC dates are not supported", text, 0);
+                }
+                return LocalDate.parse(text.length() > 10 ? text.substring(0, 10) : text);
+            default:
+                throw new UnsupportedOperationException(
+                        String.format(
+                                "Unsupported type %s for statistic value conversion.",
+                                dataType.getSqlType()));
+        }
+    }
+
+    private static BigDecimal toStatisticNumber(Object value) {
+        if (value instanceof Number) {
+            return toBigDecimal(value);
+        }
+        return new BigDecimal(value.toString().trim());
+    }
 }
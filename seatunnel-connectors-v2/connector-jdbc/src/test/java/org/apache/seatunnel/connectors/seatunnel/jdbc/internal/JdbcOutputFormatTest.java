@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcOutputFormatTest {
+
+    private final JdbcConnectionProvider writerConnectionProvider = mockConnectionProvider();
+    private final List<RecordingExecutor> executors =
+            Collections.synchronizedList(new ArrayList<>());
+    private final TestAsyncFlushLaneFactory laneFactory = new TestAsyncFlushLaneFactory();
+
+    @Test
+    public void testRecordsOfAKeyAreFlushedInOrderOnTheLaneOfTheKey() throws Exception {
+        JdbcOutputFormat<SeaTunnelRow, RecordingExecutor> outputFormat =
+                createOutputFormat(3, 2, row -> row.getField(0));
+        outputFormat.open();
+        Assertions.assertEquals(3, executors.size());
+
+        for (int seq = 0; seq < 10; seq++) {
+            for (int id = 0; id < 7; id++) {
+                outputFormat.writeRecord(new SeaTunnelRow(new Object[] {id, seq}));
+            }
+        }
+        outputFormat.flush();
+
+        for (int lane = 0; lane < executors.size(); lane++) {
+            List<SeaTunnelRow> executed = executors.get(lane).executed;
+            for (int id = 0; id < 7; id++) {
+                int key = id;
+                List<Object> seqs =
+                        executed.stream()
+                                .filter(row -> row.getField(0).equals(key))
+                                .map(row -> row.getField(1))
+                                .collect(Collectors.toList());
+                if (id % executors.size() == lane) {
+                    Assertions.assertEquals(
+                            Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), seqs, "id " + id);
+                } else {
+                    Assertions.assertTrue(seqs.isEmpty(), "id " + id + " in lane " + lane);
+                }
+            }
+        }
+        outputFormat.close();
+    }
+
+    @Test
+    public void testLanesAreFilledInTurnWithoutKey() throws Exception {
+        JdbcOutputFormat<SeaTunnelRow, RecordingExecutor> outputFormat =
+                createOutputFormat(2, 2, null);
+        outputFormat.open();
+
+        for (int i = 0; i < 5; i++) {
+            outputFormat.writeRecord(new SeaTunnelRow(new Object[] {i}));
+        }
+        outputFormat.flush();
+
+        Assertions.assertEquals(Arrays.asList(0, 1, 4), executedIds(executors.get(0)));
+        Assertions.assertEquals(Arrays.asList(2, 3), executedIds(executors.get(1)));
+        outputFormat.close();
+    }
+
+    @Test
+    public void testLanesDoNotShareTheWriterConnection() throws Exception {
+        JdbcOutputFormat<SeaTunnelRow, RecordingExecutor> outputFormat =
+                createOutputFormat(2, 1, row -> row.getField(0));
+        outputFormat.open();
+
+        Connection writerConnection = writerConnectionProvider.getConnection();
+        Assertions.assertEquals(2, laneFactory.connectionProviders.size());
+        for (int lane = 0; lane < 2; lane++) {
+            Assertions.assertNotSame(writerConnection, executors.get(lane).connection);
+            Assertions.assertSame(
+                    laneFactory.connectionProviders.get(lane).getConnection(),
+                    executors.get(lane).connection);
+        }
+
+        outputFormat.shutdownAsyncFlush();
+        for (JdbcConnectionProvider laneConnectionProvider : laneFactory.connectionProviders) {
+            verify(laneConnectionProvider).closeConnection();
+        }
+        verify(writerConnectionProvider, never()).closeConnection();
+        Assertions.assertTrue(
+                laneFactory.flushExecutors.stream().allMatch(ExecutorService::isShutdown));
+    }
+
+    @Test
+    public void testSharedLaneConnectionStaysOpenAfterShutdown() throws Exception {
+        laneFactory.shared = true;
+        JdbcOutputFormat<SeaTunnelRow, RecordingExecutor> outputFormat =
+                createOutputFormat(2, 1, row -> row.getField(0));
+        outputFormat.open();
+        outputFormat.writeRecord(new SeaTunnelRow(new Object[] {1}));
+        outputFormat.flush();
+
+        outputFormat.shutdownAsyncFlush();
+        for (JdbcConnectionProvider laneConnectionProvider : laneFactory.connectionProviders) {
+            verify(laneConnectionProvider, never()).closeConnection();
+        }
+        for (RecordingExecutor executor : executors) {
+            Assertions.assertNotNull(executor.closedOn);
+            Assertions.assertNotSame(Thread.currentThread(), executor.closedOn);
+        }
+        Assertions.assertTrue(
+                laneFactory.flushExecutors.stream().noneMatch(ExecutorService::isShutdown));
+        laneFactory.flushExecutors.forEach(ExecutorService::shutdown);
+    }
+
+    @Test
+    public void testFailedLaneFlushIsThrownToTheWriter() throws Exception {
+        JdbcOutputFormat<SeaTunnelRow, RecordingExecutor> outputFormat =
+                createOutputFormat(2, 1, row -> row.getField(0));
+        outputFormat.open();
+        executors.get(1).failure = new SQLException("lane failed");
+
+        outputFormat.writeRecord(new SeaTunnelRow(new Object[] {0}));
+        outputFormat.writeRecord(new SeaTunnelRow(new Object[] {1}));
+
+        JdbcConnectorException flushError =
+                Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        Assertions.assertTrue(
+                causes(flushError).stream().anyMatch(e -> "lane failed".equals(e.getMessage())));
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () -> outputFormat.writeRecord(new SeaTunnelRow(new Object[] {2})));
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::close);
+        Assertions.assertEquals(Collections.singletonList(0), executedIds(executors.get(0)));
+    }
+
+    private JdbcOutputFormat<SeaTunnelRow, RecordingExecutor> createOutputFormat(
+            int parallelism,
+            int batchSize,
+            JdbcOutputFormat.KeyExtractor<SeaTunnelRow> keyExtractor) {
+        JdbcConnectionConfig config =
+                JdbcConnectionConfig.builder()
+                        .url("jdbc:test")
+                        .driverName("test")
+                        .batchSize(batchSize)
+                        .asyncFlushParallelism(parallelism)
+                        .maxRetries(0)
+                        .autoCommit(true)
+                        .build();
+        return new JdbcOutputFormat<>(
+                writerConnectionProvider,
+                config,
+                () -> {
+                    RecordingExecutor executor = new RecordingExecutor();
+                    executors.add(executor);
+                    return executor;
+                },
+                laneFactory,
+                keyExtractor);
+    }
+
+    private static List<Object> executedIds(RecordingExecutor executor) {
+        return executor.executed.stream().map(row -> row.getField(0)).collect(Collectors.toList());
+    }
+
+    private static List<Throwable> causes(Throwable e) {
+        List<Throwable> causes = new ArrayList<>();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            causes.add(cause);
+        }
+        return causes;
+    }
+
+    private static JdbcConnectionProvider mockConnectionProvider() {
+        JdbcConnectionProvider connectionProvider = mock(JdbcConnectionProvider.class);
+        Connection connection = mock(Connection.class);
+        try {
+            when(connectionProvider.getConnection()).thenReturn(connection);
+            when(connectionProvider.getOrEstablishConnection()).thenReturn(connection);
+        } catch (SQLException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+        return connectionProvider;
+    }
+
+    private static class TestAsyncFlushLaneFactory
+            implements JdbcOutputFormat.AsyncFlushLaneFactory {
+        private final List<JdbcConnectionProvider> connectionProviders = new ArrayList<>();
+        private final List<ExecutorService> flushExecutors = new ArrayList<>();
+        /** Like the pooled lanes of the multi-table sink, the owner closes the lanes. */
+        private boolean shared;
+
+        @Override
+        public JdbcConnectionProvider createConnectionProvider(int lane) {
+            JdbcConnectionProvider connectionProvider = mockConnectionProvider();
+            connectionProviders.add(connectionProvider);
+            return connectionProvider;
+        }
+
+        @Override
+        public ExecutorService getExecutor(int lane) {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            flushExecutors.add(executor);
+            return executor;
+        }
+
+        @Override
+        public void releaseLane(
+                int lane, JdbcConnectionProvider connectionProvider, ExecutorService executor) {
+            if (shared) {
+                return;
+            }
+            executor.shutdown();
+            connectionProvider.closeConnection();
+        }
+    }
+
+    /** Keeps the executed records, a batch is slow enough to overlap with the writer. */
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+        private final List<SeaTunnelRow> batch = new ArrayList<>();
+        private final List<SeaTunnelRow> executed = Collections.synchronizedList(new ArrayList<>());
+        private volatile Connection connection;
+        private volatile SQLException failure;
+        private volatile Thread closedOn;
+
+        @Override
+        public void prepareStatements(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void addToBatch(SeaTunnelRow record) {
+            batch.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executed.addAll(batch);
+            batch.clear();
+        }
+
+        @Override
+        public void closeStatements() {
+            closedOn = Thread.currentThread();
+        }
+    }
+}
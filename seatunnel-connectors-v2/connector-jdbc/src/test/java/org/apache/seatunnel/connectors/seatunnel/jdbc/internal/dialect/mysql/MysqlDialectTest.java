@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MysqlDialectTest {
+
+    @Test
+    public void testEquiHeightHistogramOfStrings() throws SQLException {
+        // a, c, d and f encoded as utf8mb4 strings
+        String histogram =
+                "{\"buckets\": [[\"base64:type254:YQ==\", \"base64:type254:Yw==\", 0.5, 3],"
+                        + " [\"base64:type254:ZA==\", \"base64:type254:Zg==\", 1.0, 3]],"
+                        + " \"histogram-type\": \"equi-height\"}";
+        Optional<Object[]> bounds = queryHistogramBounds(histogram, BasicType.STRING_TYPE);
+        Assertions.assertArrayEquals(new Object[] {"a", "c", "f"}, bounds.get());
+    }
+
+    @Test
+    public void testSingletonHistogramOfNumbers() throws SQLException {
+        String histogram =
+                "{\"buckets\": [[1, 0.25], [5, 0.5], [12, 1.0]],"
+                        + " \"histogram-type\": \"singleton\"}";
+        Assertions.assertArrayEquals(
+                new Object[] {1, 5, 12},
+                queryHistogramBounds(histogram, BasicType.INT_TYPE).get());
+        Assertions.assertArrayEquals(
+                new Object[] {1L, 5L, 12L},
+                queryHistogramBounds(histogram, BasicType.LONG_TYPE).get());
+    }
+
+    @Test
+    public void testEmptyHistogram() throws SQLException {
+        String histogram = "{\"buckets\": [], \"histogram-type\": \"singleton\"}";
+        Assertions.assertFalse(queryHistogramBounds(histogram, BasicType.INT_TYPE).isPresent());
+    }
+
+    private static Optional<Object[]> queryHistogramBounds(
+            String histogram, SeaTunnelDataType<?> columnType) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn(histogram);
+        return new MysqlDialect()
+                .queryColumnHistogramBounds(
+                        connection, TablePath.of("db", "table"), "column", columnType);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oracle;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OracleDialectTest {
+
+    @Test
+    public void testHistogramBoundsOfDatesAreJulianDays() throws SQLException {
+        ResultSet resultSet =
+                mockHistogram(
+                        new BigDecimal("2451545"),
+                        // the fraction is the time of the day
+                        new BigDecimal("2460311.75"));
+        Object[] bounds =
+                new OracleDialect()
+                        .queryColumnHistogramBounds(
+                                mockConnection(resultSet),
+                                TablePath.of("XE", "SCOTT", "EMP"),
+                                "HIREDATE",
+                                LocalTimeType.LOCAL_DATE_TYPE)
+                        .get();
+        Assertions.assertArrayEquals(
+                new Object[] {LocalDate.of(2000, 1, 1), LocalDate.of(2024, 1, 1)}, bounds);
+    }
+
+    @Test
+    public void testHistogramBoundsOfNumbers() throws SQLException {
+        ResultSet resultSet = mockHistogram(new BigDecimal("10"), new BigDecimal("2000"));
+        Object[] bounds =
+                new OracleDialect()
+                        .queryColumnHistogramBounds(
+                                mockConnection(resultSet),
+                                TablePath.of("XE", "SCOTT", "EMP"),
+                                "EMPNO",
+                                BasicType.LONG_TYPE)
+                        .get();
+        Assertions.assertArrayEquals(new Object[] {10L, 2000L}, bounds);
+    }
+
+    private static ResultSet mockHistogram(BigDecimal low, BigDecimal high) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getBigDecimal(1)).thenReturn(low, high);
+        return resultSet;
+    }
+
+    private static Connection mockConnection(ResultSet resultSet) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return connection;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class PostgresDialectTest {
+
+    @Test
+    public void testParseArrayLiteral() {
+        Assertions.assertEquals(
+                Arrays.asList("1", "20", "300"), PostgresDialect.parseArrayLiteral("{1,20,300}"));
+        Assertions.assertEquals(
+                Arrays.asList("a b", "c\"d", "e,f", "g\\h"),
+                PostgresDialect.parseArrayLiteral("{\"a b\",\"c\\\"d\",\"e,f\",\"g\\\\h\"}"));
+        Assertions.assertEquals(
+                Arrays.asList("-infinity", "2024-01-01", "infinity"),
+                PostgresDialect.parseArrayLiteral("{-infinity,2024-01-01,infinity}"));
+        Assertions.assertEquals(Collections.emptyList(), PostgresDialect.parseArrayLiteral("{}"));
+        Assertions.assertEquals(Collections.emptyList(), PostgresDialect.parseArrayLiteral(null));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class AppendOnlyBatchStatementExecutorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRejectsChangelogRows() throws Exception {
+        JdbcBatchStatementExecutor<SeaTunnelRow> bulkLoadExecutor =
+                mock(JdbcBatchStatementExecutor.class);
+        AppendOnlyBatchStatementExecutor executor =
+                new AppendOnlyBatchStatementExecutor(bulkLoadExecutor);
+
+        SeaTunnelRow insert = new SeaTunnelRow(new Object[] {1});
+        executor.addToBatch(insert);
+        verify(bulkLoadExecutor).addToBatch(insert);
+
+        for (RowKind rowKind :
+                new RowKind[] {RowKind.UPDATE_BEFORE, RowKind.UPDATE_AFTER, RowKind.DELETE}) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {1});
+            row.setRowKind(rowKind);
+            Assertions.assertThrows(JdbcConnectorException.class, () -> executor.addToBatch(row));
+        }
+        verifyNoMoreInteractions(bulkLoadExecutor);
+    }
+}
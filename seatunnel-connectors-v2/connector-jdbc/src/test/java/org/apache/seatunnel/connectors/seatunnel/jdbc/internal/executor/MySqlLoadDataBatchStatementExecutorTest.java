@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MySqlLoadDataBatchStatementExecutorTest {
+
+    private Statement statement;
+    private JdbcStatement mysqlStatement;
+    private Connection connection;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        statement = mock(Statement.class);
+        mysqlStatement = mock(JdbcStatement.class);
+        connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(mysqlStatement);
+    }
+
+    @Test
+    public void testLoadDataSql() throws Exception {
+        MySqlLoadDataBatchStatementExecutor executor =
+                createExecutor(
+                        new String[] {"id", "data", "name"},
+                        BasicType.INT_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        BasicType.STRING_TYPE);
+        executor.prepareStatements(connection);
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1, new byte[] {1}, "a"}));
+        executor.executeBatch();
+
+        verify(statement)
+                .execute(
+                        "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE `db`.`t` CHARACTER SET utf8mb4"
+                                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                                + " LINES TERMINATED BY '\\n' (`id`, @v1, `name`)"
+                                + " SET `data` = UNHEX(@v1)");
+    }
+
+    @Test
+    public void testEscapesTheFieldsOfTheRows() throws Exception {
+        MySqlLoadDataBatchStatementExecutor executor =
+                createExecutor(
+                        new String[] {"id", "name", "data", "ts", "flag", "amount", "day"},
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE);
+        executor.prepareStatements(connection);
+        executor.addToBatch(
+                new SeaTunnelRow(
+                        new Object[] {
+                            1,
+                            "a\tb\nc\\d\re\0f",
+                            new byte[] {0x00, 0x7f, (byte) 0xab},
+                            LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000),
+                            true,
+                            new BigDecimal("1E+3"),
+                            LocalDate.of(2024, 1, 2)
+                        }));
+        executor.addToBatch(
+                new SeaTunnelRow(new Object[] {2, null, null, null, null, null, null}));
+        executor.executeBatch();
+
+        Assertions.assertEquals(
+                "1\ta\\tb\\nc\\\\d\\re\\0f\t007FAB\t2024-01-02 03:04:05.006\t1\t1000\t2024-01-02\n"
+                        + "2\t\\N\t\\N\t\\N\t\\N\t\\N\t\\N\n",
+                loadedText());
+    }
+
+    @Test
+    public void testExecutesEachBatchOnce() throws Exception {
+        MySqlLoadDataBatchStatementExecutor executor =
+                createExecutor(new String[] {"id"}, BasicType.INT_TYPE);
+        executor.prepareStatements(connection);
+        executor.executeBatch();
+        verify(statement, times(0)).execute(anyString());
+
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1}));
+        executor.executeBatch();
+        executor.executeBatch();
+        verify(statement, times(1)).execute(anyString());
+        Assertions.assertEquals("1\n", loadedText());
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () ->
+                        createExecutor(
+                                new String[] {"map"},
+                                new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)));
+    }
+
+    /** The text streamed by the first batch, the stream is reset to null after every batch. */
+    private String loadedText() throws Exception {
+        ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+        verify(mysqlStatement, times(2)).setLocalInfileInputStream(captor.capture());
+        Assertions.assertNull(captor.getAllValues().get(1));
+        InputStream in = captor.getAllValues().get(0);
+        byte[] bytes = new byte[in.available()];
+        Assertions.assertEquals(bytes.length, in.read(bytes));
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static MySqlLoadDataBatchStatementExecutor createExecutor(
+            String[] names, SeaTunnelDataType<?>... types) {
+        TableSchema.Builder builder = TableSchema.builder();
+        String[] quotedColumns = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            builder.column(PhysicalColumn.of(names[i], types[i], null, true, null, null));
+            quotedColumns[i] = "`" + names[i] + "`";
+        }
+        return new MySqlLoadDataBatchStatementExecutor("`db`.`t`", quotedColumns, builder.build());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JdbcSinkFactoryTest {
+
+    @Test
+    public void testBulkLoadRejectsKeysAndUpserts() {
+        Assertions.assertDoesNotThrow(
+                () -> JdbcSinkFactory.checkBulkLoadOptions(config(true, null, null)));
+        Assertions.assertDoesNotThrow(
+                () -> JdbcSinkFactory.checkBulkLoadOptions(config(true, null, false)));
+        Assertions.assertDoesNotThrow(
+                () ->
+                        JdbcSinkFactory.checkBulkLoadOptions(
+                                config(false, Arrays.asList("id"), true)));
+
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () ->
+                        JdbcSinkFactory.checkBulkLoadOptions(
+                                config(true, Arrays.asList("id"), null)));
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () -> JdbcSinkFactory.checkBulkLoadOptions(config(true, null, true)));
+    }
+
+    private static ReadonlyConfig config(
+            boolean useBulkLoad, Object primaryKeys, Boolean enableUpsert) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("use_bulk_load", useBulkLoad);
+        if (primaryKeys != null) {
+            map.put("primary_keys", primaryKeys);
+        }
+        if (enableUpsert != null) {
+            map.put("enable_upsert", enableUpsert);
+        }
+        return ReadonlyConfig.fromMap(map);
+    }
+}
@@ -27,8 +27,11 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -246,6 +249,75 @@ public class DynamicChunkSplitterTest {
                         DynamicChunkSplitter.ChunkRange.of(6, null)));
     }
 
+    @Test
+    public void testInterpolateHistogramBounds() {
+        Object[] bounds = new Object[] {0, 100, 1000};
+        // enough buckets, the bounds are used as they are
+        Assertions.assertArrayEquals(
+                bounds, DynamicChunkSplitter.interpolateHistogramBounds(bounds, 2));
+        Assertions.assertArrayEquals(
+                new Object[] {0, 25, 50, 75, 100, 325, 550, 775, 1000},
+                DynamicChunkSplitter.interpolateHistogramBounds(bounds, 8));
+        // narrow buckets of integral values don't produce duplicated bounds
+        Assertions.assertArrayEquals(
+                new Object[] {1L, 2L, 3L},
+                DynamicChunkSplitter.interpolateHistogramBounds(new Object[] {1L, 2L, 3L}, 100));
+
+        check(
+                DynamicChunkSplitter.efficientShardingThroughSampling(
+                        new TablePath("db", "xe", "table"),
+                        DynamicChunkSplitter.interpolateHistogramBounds(bounds, 4),
+                        4000,
+                        4),
+                Arrays.asList(
+                        DynamicChunkSplitter.ChunkRange.of(null, 50),
+                        DynamicChunkSplitter.ChunkRange.of(50, 100),
+                        DynamicChunkSplitter.ChunkRange.of(100, 550),
+                        DynamicChunkSplitter.ChunkRange.of(550, null)));
+    }
+
+    @Test
+    public void testSplitEmitterFlushesInBatches() {
+        DynamicChunkSplitter splitter =
+                new DynamicChunkSplitter(
+                        JdbcSourceConfig.builder()
+                                .jdbcConnectionConfig(
+                                        JdbcConnectionConfig.builder()
+                                                .url("jdbc:postgresql://localhost:5432/test")
+                                                .driverName("org.postgresql.Driver")
+                                                .build())
+                                .build());
+        TablePath tablePath = TablePath.of("db1", "schema1", "table1");
+        JdbcSourceTable table = JdbcSourceTable.builder().tablePath(tablePath).build();
+        List<Collection<JdbcSourceSplit>> batches = new ArrayList<>();
+        DynamicChunkSplitter.SplitEmitter emitter =
+                splitter.new SplitEmitter(table, "id", BasicType.INT_TYPE, batches::add);
+
+        int splitCount = DynamicChunkSplitter.INCREMENTAL_SPLIT_BATCH_SIZE * 2 + 5;
+        for (int i = 0; i < splitCount; i++) {
+            emitter.emit(DynamicChunkSplitter.ChunkRange.of(i, i + 1));
+        }
+        // the full batches are handed over right away, the rest waits for the flush
+        assertEquals(2, batches.size());
+        emitter.flush();
+        assertEquals(3, batches.size());
+        assertEquals(DynamicChunkSplitter.INCREMENTAL_SPLIT_BATCH_SIZE, batches.get(0).size());
+        assertEquals(DynamicChunkSplitter.INCREMENTAL_SPLIT_BATCH_SIZE, batches.get(1).size());
+        assertEquals(5, batches.get(2).size());
+        // nothing is left to flush
+        emitter.flush();
+        assertEquals(3, batches.size());
+
+        List<String> splitIds =
+                batches.stream()
+                        .flatMap(Collection::stream)
+                        .map(JdbcSourceSplit::splitId)
+                        .collect(Collectors.toList());
+        for (int i = 0; i < splitCount; i++) {
+            assertEquals(tablePath + "-" + i, splitIds.get(i));
+        }
+    }
+
     private void check(
             List<DynamicChunkSplitter.ChunkRange> a, List<DynamicChunkSplitter.ChunkRange> b) {
         checkRule(b);
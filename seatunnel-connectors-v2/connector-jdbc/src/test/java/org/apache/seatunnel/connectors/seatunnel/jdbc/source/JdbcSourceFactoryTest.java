@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oracle.OracleDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JdbcSourceFactoryTest {
+
+    @Test
+    public void testPushDownWhereCondition() {
+        PushDownFilter filter =
+                new PushDownFilter(
+                        Arrays.asList(
+                                new FieldPredicate(
+                                        "id",
+                                        FieldPredicate.Operator.GREATER_THAN,
+                                        Collections.singletonList(10L)),
+                                new FieldPredicate(
+                                        "name",
+                                        FieldPredicate.Operator.IN,
+                                        Arrays.asList("a", "b'c")),
+                                new FieldPredicate(
+                                        "score",
+                                        FieldPredicate.Operator.IS_NULL,
+                                        Collections.emptyList())),
+                        null);
+        Assertions.assertEquals(
+                "WHERE `id` > 10 AND `name` IN ('a', 'b''c') AND `score` IS NULL",
+                JdbcSourceFactory.pushDownWhereCondition(null, filter, new MysqlDialect()));
+        Assertions.assertEquals(
+                "WHERE (age > 1 or age < 0) AND `id` > 10 AND `name` IN ('a', 'b''c')"
+                        + " AND `score` IS NULL",
+                JdbcSourceFactory.pushDownWhereCondition(
+                        "where age > 1 or age < 0", filter, new MysqlDialect()));
+    }
+
+    @Test
+    public void testPushDownStringWithBackslash() {
+        PushDownFilter filter =
+                new PushDownFilter(
+                        Arrays.asList(
+                                new FieldPredicate(
+                                        "id",
+                                        FieldPredicate.Operator.EQUALS,
+                                        Collections.singletonList(1L)),
+                                new FieldPredicate(
+                                        "path",
+                                        FieldPredicate.Operator.EQUALS,
+                                        Collections.singletonList("c:\\tmp\\'")),
+                                new FieldPredicate(
+                                        "name",
+                                        FieldPredicate.Operator.IN,
+                                        Arrays.asList("a", "b\\"))),
+                        null);
+        // whether the backslash escapes depends on the sql mode, the literals are not pushed
+        Assertions.assertEquals(
+                "WHERE `id` = 1",
+                JdbcSourceFactory.pushDownWhereCondition(null, filter, new MysqlDialect()));
+        Assertions.assertEquals(
+                "WHERE \"id\" = 1",
+                JdbcSourceFactory.pushDownWhereCondition(null, filter, new OracleDialect()));
+        Assertions.assertEquals(
+                "WHERE \"id\" = 1 AND \"path\" = E'c:\\\\tmp\\\\''' AND \"name\" IN (E'a', E'b\\\\')",
+                JdbcSourceFactory.pushDownWhereCondition(null, filter, new PostgresDialect()));
+
+        PushDownFilter backslashOnly =
+                new PushDownFilter(
+                        Collections.singletonList(
+                                new FieldPredicate(
+                                        "path",
+                                        FieldPredicate.Operator.EQUALS,
+                                        Collections.singletonList("\\"))),
+                        null);
+        Assertions.assertEquals(
+                "where id > 1",
+                JdbcSourceFactory.pushDownWhereCondition(
+                        "where id > 1", backslashOnly, new MysqlDialect()));
+    }
+
+    @Test
+    public void testStringRangePredicatesAreNotPushed() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "birthday", "score"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            BasicType.DOUBLE_TYPE
+                        });
+        FieldPredicate idRange =
+                new FieldPredicate(
+                        "id", FieldPredicate.Operator.GREATER_THAN, Collections.singletonList(1L));
+        FieldPredicate nameRange =
+                new FieldPredicate(
+                        "name", FieldPredicate.Operator.LESS_THAN, Collections.singletonList("b"));
+        FieldPredicate nameEquals =
+                new FieldPredicate(
+                        "name", FieldPredicate.Operator.EQUALS, Collections.singletonList("b"));
+        FieldPredicate nameIn =
+                new FieldPredicate("name", FieldPredicate.Operator.IN, Arrays.asList("a", "b"));
+        FieldPredicate nameIsNull =
+                new FieldPredicate(
+                        "name", FieldPredicate.Operator.IS_NULL, Collections.emptyList());
+        FieldPredicate birthdayRange =
+                new FieldPredicate(
+                        "birthday",
+                        FieldPredicate.Operator.GREATER_THAN_OR_EQUAL,
+                        Collections.singletonList("2024-01-01"));
+        FieldPredicate scoreRangeOfString =
+                new FieldPredicate(
+                        "score",
+                        FieldPredicate.Operator.LESS_THAN_OR_EQUAL,
+                        Collections.singletonList("10"));
+        FieldPredicate unknownField =
+                new FieldPredicate(
+                        "age", FieldPredicate.Operator.EQUALS, Collections.singletonList(1L));
+        List<String> projectedFields = Arrays.asList("id", "name");
+        PushDownFilter filter =
+                new PushDownFilter(
+                        Arrays.asList(
+                                idRange,
+                                nameRange,
+                                nameEquals,
+                                nameIn,
+                                nameIsNull,
+                                birthdayRange,
+                                scoreRangeOfString,
+                                unknownField),
+                        projectedFields);
+
+        PushDownFilter pushable = JdbcSourceFactory.filterPushablePredicates(filter, rowType);
+        Assertions.assertEquals(
+                Arrays.asList(idRange, nameEquals, nameIn, nameIsNull, birthdayRange),
+                pushable.getPredicates());
+        Assertions.assertEquals(projectedFields, pushable.getProjectedFields());
+    }
+}
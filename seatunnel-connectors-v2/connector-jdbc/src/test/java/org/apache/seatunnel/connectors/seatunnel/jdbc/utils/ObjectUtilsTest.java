@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.utils;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+public class ObjectUtilsTest {
+
+    @Test
+    public void testConvertStatisticValue() {
+        Assertions.assertEquals(
+                (byte) 7, ObjectUtils.convertStatisticValue("7", BasicType.BYTE_TYPE));
+        Assertions.assertEquals(
+                (short) 7, ObjectUtils.convertStatisticValue(" 7 ", BasicType.SHORT_TYPE));
+        Assertions.assertEquals(
+                7, ObjectUtils.convertStatisticValue(new BigDecimal("7"), BasicType.INT_TYPE));
+        Assertions.assertEquals(7L, ObjectUtils.convertStatisticValue("7.0", BasicType.LONG_TYPE));
+        Assertions.assertEquals(
+                1.5F, ObjectUtils.convertStatisticValue("1.5", BasicType.FLOAT_TYPE));
+        Assertions.assertEquals(
+                1.5D, ObjectUtils.convertStatisticValue(1.5D, BasicType.DOUBLE_TYPE));
+        Assertions.assertEquals(
+                new BigDecimal("12.34"),
+                ObjectUtils.convertStatisticValue("12.34", new DecimalType(10, 2)));
+        Assertions.assertEquals(
+                "abc", ObjectUtils.convertStatisticValue("abc", BasicType.STRING_TYPE));
+        Assertions.assertNull(ObjectUtils.convertStatisticValue(null, BasicType.INT_TYPE));
+    }
+
+    @Test
+    public void testConvertStatisticDate() {
+        LocalDate date = LocalDate.of(2024, 1, 2);
+        Assertions.assertEquals(
+                date,
+                ObjectUtils.convertStatisticValue("2024-01-02", LocalTimeType.LOCAL_DATE_TYPE));
+        Assertions.assertEquals(
+                date,
+                ObjectUtils.convertStatisticValue(
+                        "2024-01-02 10:20:30", LocalTimeType.LOCAL_DATE_TYPE));
+        Assertions.assertEquals(
+                date,
+                ObjectUtils.convertStatisticValue(
+                        Timestamp.valueOf("2024-01-02 10:20:30"), LocalTimeType.LOCAL_DATE_TYPE));
+        Assertions.assertEquals(
+                date, ObjectUtils.convertStatisticValue(date, LocalTimeType.LOCAL_DATE_TYPE));
+    }
+
+    @Test
+    public void testNonFiniteStatisticValues() {
+        // the special values of PostgreSQL, the splitter falls back to the min/max query
+        Assertions.assertThrows(
+                NumberFormatException.class,
+                () -> ObjectUtils.convertStatisticValue("NaN", BasicType.DOUBLE_TYPE));
+        Assertions.assertThrows(
+                NumberFormatException.class,
+                () -> ObjectUtils.convertStatisticValue("Infinity", new DecimalType(10, 2)));
+        Assertions.assertThrows(
+                DateTimeParseException.class,
+                () -> ObjectUtils.convertStatisticValue("infinity", LocalTimeType.LOCAL_DATE_TYPE));
+        Assertions.assertThrows(
+                DateTimeParseException.class,
+                () ->
+                        ObjectUtils.convertStatisticValue(
+                                "-infinity", LocalTimeType.LOCAL_DATE_TYPE));
+        Assertions.assertThrows(
+                DateTimeParseException.class,
+                () ->
+                        ObjectUtils.convertStatisticValue(
+                                "0044-03-15 BC", LocalTimeType.LOCAL_DATE_TYPE));
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -69,6 +70,13 @@ public class PaimonSource
     protected final ReadBuilder readBuilder;
 
     public PaimonSource(ReadonlyConfig readonlyConfig, PaimonCatalog paimonCatalog) {
+        this(readonlyConfig, paimonCatalog, null);
+    }
+
+    public PaimonSource(
+            ReadonlyConfig readonlyConfig,
+            PaimonCatalog paimonCatalog,
+            PushDownFilter pushDownFilter) {
         PaimonSourceConfig paimonSourceConfig = new PaimonSourceConfig(readonlyConfig);
         TablePath tablePath =
                 TablePath.of(paimonSourceConfig.getNamespace(), paimonSourceConfig.getTable());
@@ -91,6 +99,18 @@ public class PaimonSource
             predicate =
                     SqlToPaimonPredicateConverter.convertSqlWhereToPaimonPredicate(
                             paimonRowType, plainSelect);
+        } else if (!Objects.isNull(pushDownFilter)) {
+            // the query option takes precedence over the filter of the downstream transform
+            projectionIndex =
+                    SqlToPaimonPredicateConverter.convertPushDownFilterToPaimonProjectionIndex(
+                            filedNames, pushDownFilter);
+            if (!Objects.isNull(projectionIndex)) {
+                this.catalogTable =
+                        paimonCatalog.getTableWithProjection(tablePath, projectionIndex);
+            }
+            predicate =
+                    SqlToPaimonPredicateConverter.convertPushDownFilterToPaimonPredicate(
+                            paimonRowType, pushDownFilter);
         }
         this.seaTunnelRowType = RowTypeConverter.convert(paimonRowType, projectionIndex);
         this.readBuilder =
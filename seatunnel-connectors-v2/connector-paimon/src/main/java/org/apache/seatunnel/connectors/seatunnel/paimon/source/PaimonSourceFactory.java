@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.table.connector.TableSource;
 import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
@@ -36,7 +37,7 @@ import com.google.auto.service.AutoService;
 import java.io.Serializable;
 
 @AutoService(Factory.class)
-public class PaimonSourceFactory implements TableSourceFactory {
+public class PaimonSourceFactory implements TableSourceFactory, SupportFilterPushDown {
 
     @Override
     public String factoryIdentifier() {
@@ -74,7 +75,8 @@ public class PaimonSourceFactory implements TableSourceFactory {
             paimonCatalog.open();
             return () ->
                     (SeaTunnelSource<T, SplitT, StateT>)
-                            new PaimonSource(readonlyConfig, paimonCatalog);
+                            new PaimonSource(
+                                    readonlyConfig, paimonCatalog, context.getPushDownFilter());
         }
     }
 }
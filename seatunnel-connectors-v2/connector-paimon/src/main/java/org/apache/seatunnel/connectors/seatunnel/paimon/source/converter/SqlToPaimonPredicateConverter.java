@@ -17,6 +17,9 @@
 
 package org.apache.seatunnel.connectors.seatunnel.paimon.source.converter;
 
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.Decimal;
@@ -25,10 +28,12 @@ import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeRoot;
 import org.apache.paimon.types.DecimalType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DateTimeUtils;
 
+import lombok.extern.slf4j.Slf4j;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.DateValue;
 import net.sf.jsqlparser.expression.DoubleValue;
@@ -64,6 +69,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
+@Slf4j
 public class SqlToPaimonPredicateConverter {
 
     public static PlainSelect convertToPlainSelect(String query) {
@@ -139,6 +145,83 @@ public class SqlToPaimonPredicateConverter {
         return parseExpressionToPredicate(builder, rowType, whereExpression);
     }
 
+    public static int[] convertPushDownFilterToPaimonProjectionIndex(
+            String[] fieldNames, PushDownFilter pushDownFilter) {
+        List<String> projectedFields = pushDownFilter.getProjectedFields();
+        if (projectedFields == null) {
+            return null;
+        }
+        int[] projectionIndex = new int[projectedFields.size()];
+        for (int i = 0; i < projectionIndex.length; i++) {
+            projectionIndex[i] = Arrays.asList(fieldNames).indexOf(projectedFields.get(i));
+            if (projectionIndex[i] == -1) {
+                return null;
+            }
+        }
+        return projectionIndex;
+    }
+
+    /**
+     * Convert the filter pushed down from the transform, the predicates which can not be converted
+     * are skipped because the transform still evaluates them.
+     */
+    public static Predicate convertPushDownFilterToPaimonPredicate(
+            RowType rowType, PushDownFilter pushDownFilter) {
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        List<Predicate> predicates = new ArrayList<>();
+        for (FieldPredicate fieldPredicate : pushDownFilter.getPredicates()) {
+            try {
+                predicates.add(convertFieldPredicate(builder, rowType, fieldPredicate));
+            } catch (RuntimeException e) {
+                log.warn("Skip the push down predicate {}", fieldPredicate, e);
+            }
+        }
+        return predicates.isEmpty() ? null : PredicateBuilder.and(predicates);
+    }
+
+    private static Predicate convertFieldPredicate(
+            PredicateBuilder builder, RowType rowType, FieldPredicate fieldPredicate) {
+        String fieldName = fieldPredicate.getFieldName();
+        int columnIndex = builder.indexOf(fieldName);
+        if (columnIndex == -1) {
+            throw new IllegalArgumentException(
+                    String.format("The column named [%s] is not exists", fieldName));
+        }
+        DataTypeRoot typeRoot = rowType.getTypeAt(columnIndex).getTypeRoot();
+        List<Object> values = new ArrayList<>();
+        for (Object value : fieldPredicate.getValues()) {
+            if (value instanceof String) {
+                value = BinaryString.fromString((String) value);
+            } else if (typeRoot == DataTypeRoot.CHAR || typeRoot == DataTypeRoot.VARCHAR) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The column [%s] is not comparable with %s", fieldName, value));
+            }
+            values.add(convertValueByPaimonDataType(rowType, fieldName, value));
+        }
+        switch (fieldPredicate.getOperator()) {
+            case IS_NULL:
+                return builder.isNull(columnIndex);
+            case IS_NOT_NULL:
+                return builder.isNotNull(columnIndex);
+            case EQUALS:
+                return builder.equal(columnIndex, values.get(0));
+            case GREATER_THAN:
+                return builder.greaterThan(columnIndex, values.get(0));
+            case GREATER_THAN_OR_EQUAL:
+                return builder.greaterOrEqual(columnIndex, values.get(0));
+            case LESS_THAN:
+                return builder.lessThan(columnIndex, values.get(0));
+            case LESS_THAN_OR_EQUAL:
+                return builder.lessOrEqual(columnIndex, values.get(0));
+            case IN:
+                return builder.in(columnIndex, values);
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported operator: " + fieldPredicate.getOperator());
+        }
+    }
+
     private static Predicate parseExpressionToPredicate(
             PredicateBuilder builder, RowType rowType, Expression expression) {
         if (expression instanceof IsNullExpression) {
@@ -17,6 +17,10 @@
 
 package org.apache.seatunnel.connectors.seatunnel.paimon.source.converter;
 
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+
+import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.Decimal;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.predicate.Predicate;
@@ -47,6 +51,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.apache.seatunnel.connectors.seatunnel.paimon.source.converter.SqlToPaimonPredicateConverter.convertToPlainSelect;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -225,4 +230,78 @@ public class SqlToPaimonConverterTest {
         int[] expectedProjectionIndex = {4, 7, 0, 12, 2};
         assertArrayEquals(projectionIndex, expectedProjectionIndex);
     }
+
+    @Test
+    public void testConvertPushDownFilterToPaimonPredicate() {
+        PushDownFilter filter =
+                new PushDownFilter(
+                        Arrays.asList(
+                                new FieldPredicate(
+                                        "int_col",
+                                        FieldPredicate.Operator.GREATER_THAN,
+                                        Collections.singletonList(3L)),
+                                new FieldPredicate(
+                                        "varchar_col",
+                                        FieldPredicate.Operator.IN,
+                                        Arrays.asList("a", "b\\'")),
+                                new FieldPredicate(
+                                        "double_col",
+                                        FieldPredicate.Operator.IS_NOT_NULL,
+                                        Collections.emptyList()),
+                                // skipped, the column does not exist
+                                new FieldPredicate(
+                                        "unknown_col",
+                                        FieldPredicate.Operator.EQUALS,
+                                        Collections.singletonList(1L)),
+                                // skipped, a string column is not comparable with a number
+                                new FieldPredicate(
+                                        "char_col",
+                                        FieldPredicate.Operator.EQUALS,
+                                        Collections.singletonList(1L))),
+                        Arrays.asList("int_col", "varchar_col"));
+
+        Predicate predicate =
+                SqlToPaimonPredicateConverter.convertPushDownFilterToPaimonPredicate(
+                        rowType, filter);
+
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        Predicate expectedPredicate =
+                PredicateBuilder.and(
+                        builder.greaterThan(7, 3),
+                        builder.in(
+                                1,
+                                Arrays.<Object>asList(
+                                        BinaryString.fromString("a"),
+                                        BinaryString.fromString("b\\'"))),
+                        builder.isNotNull(10));
+        assertEquals(expectedPredicate.toString(), predicate.toString());
+
+        int[] projectionIndex =
+                SqlToPaimonPredicateConverter.convertPushDownFilterToPaimonProjectionIndex(
+                        fieldNames, filter);
+        assertArrayEquals(new int[] {7, 1}, projectionIndex);
+    }
+
+    @Test
+    public void testConvertPushDownFilterWithoutConvertiblePredicate() {
+        PushDownFilter filter =
+                new PushDownFilter(
+                        Collections.singletonList(
+                                new FieldPredicate(
+                                        "unknown_col",
+                                        FieldPredicate.Operator.IS_NULL,
+                                        Collections.emptyList())),
+                        Arrays.asList("int_col", "unknown_col"));
+
+        assertNull(
+                SqlToPaimonPredicateConverter.convertPushDownFilterToPaimonPredicate(
+                        rowType, filter));
+        // the projection is not pushed when a field is unknown
+        assertNull(
+                SqlToPaimonPredicateConverter.convertPushDownFilterToPaimonProjectionIndex(
+                        fieldNames, filter));
+        assertNull(
+                SqlToPaimonPredicateConverter.convertPushDownFilterToPaimonProjectionIndex(
+                        fieldNames, new PushDownFilter(Collections.emptyList(), null)));
+    }
 }
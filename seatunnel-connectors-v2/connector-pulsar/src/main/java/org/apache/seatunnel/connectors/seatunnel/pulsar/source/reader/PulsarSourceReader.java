@@ -50,6 +50,7 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSplit> {
@@ -144,6 +145,11 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return handover.getAvailabilityFuture();
+    }
+
     @Override
     public List<PulsarPartitionSplit> snapshotState(long checkpointId) throws Exception {
         List<PulsarPartitionSplit> pendingSplit =
@@ -203,6 +209,7 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
         // BOUNDED not trigger snapshot and notifyCheckpointComplete
         if (context.getBoundedness() == Boundedness.BOUNDED) {
             finishedSplits.add(splitId);
+            handover.notifyAvailable();
         }
     }
 
@@ -210,6 +217,7 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
     public void handleNoMoreSplits() {
         LOG.info("Reader received NoMoreSplits event.");
         this.noMoreSplitsAssignment = true;
+        handover.notifyAvailable();
     }
 
     @Override
@@ -45,6 +45,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.seatunnel.connectors.seatunnel.rabbitmq.exception.RabbitmqConnectorErrorCode.MESSAGE_ACK_FAILED;
 import static org.apache.seatunnel.connectors.seatunnel.rabbitmq.exception.RabbitmqConnectorErrorCode.MESSAGE_ACK_REJECTED;
@@ -109,6 +110,11 @@ public class RabbitmqSourceReader<T> implements SourceReader<T, RabbitmqSplit> {
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return handover.getAvailabilityFuture();
+    }
+
     @Override
     public void pollNext(Collector output) throws Exception {
         Optional<Delivery> deliveryOptional = handover.pollNext();
@@ -18,11 +18,14 @@
 package org.apache.seatunnel.connectors.seatunnel.redis.client;
 
 import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.resps.ScanResult;
 
 import java.util.ArrayList;
@@ -82,6 +85,81 @@ public abstract class RedisClient extends Jedis {
         return new ScanResult<>(resultCursor, typeKeys);
     }
 
+    /**
+     * Queue the commands of one buffered row on the pipeline, the expiration is sent in the same
+     * pipeline so that setting a ttl does not cost an extra round trip.
+     *
+     * @return the number of commands queued for the row
+     */
+    protected static int pipelineWrite(
+            Pipeline pipeline,
+            RedisDataType dataType,
+            RowKind rowKind,
+            String key,
+            String value,
+            long expireSeconds) {
+        boolean delete = rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE;
+        switch (dataType) {
+            case KEY:
+            case STRING:
+                if (delete) {
+                    pipeline.del(key);
+                } else if (expireSeconds > 0) {
+                    pipeline.set(key, value, SetParams.setParams().ex(expireSeconds));
+                } else {
+                    pipeline.set(key, value);
+                }
+                return 1;
+            case LIST:
+                if (delete) {
+                    pipeline.lrem(key, 1, value);
+                    return 1;
+                }
+                pipeline.lpush(key, value);
+                return 1 + pipelineExpire(pipeline, key, expireSeconds);
+            case SET:
+                if (delete) {
+                    pipeline.srem(key, value);
+                    return 1;
+                }
+                pipeline.sadd(key, value);
+                return 1 + pipelineExpire(pipeline, key, expireSeconds);
+            case HASH:
+                Map<String, String> fieldsMap = JsonUtils.toMap(value);
+                if (delete) {
+                    if (fieldsMap.isEmpty()) {
+                        return 0;
+                    }
+                    pipeline.hdel(key, fieldsMap.keySet().toArray(new String[0]));
+                    return 1;
+                }
+                pipeline.hset(key, fieldsMap);
+                return 1 + pipelineExpire(pipeline, key, expireSeconds);
+            case ZSET:
+                if (delete) {
+                    pipeline.zrem(key, value);
+                    return 1;
+                }
+                pipeline.zadd(key, 1, value);
+                return 1 + pipelineExpire(pipeline, key, expireSeconds);
+            default:
+                return 0;
+        }
+    }
+
+    private static int pipelineExpire(Pipeline pipeline, String key, long expireSeconds) {
+        if (expireSeconds > 0) {
+            pipeline.expire(key, expireSeconds);
+            return 1;
+        }
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        jedis.close();
+    }
+
     public abstract List<String> batchGetString(List<String> keys);
 
     public abstract List<List<String>> batchGetList(List<String> keys);
@@ -17,22 +17,76 @@
 
 package org.apache.seatunnel.connectors.seatunnel.redis.client;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.JedisWrapper;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.ConnectionPool;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode.WRITE_REDIS_FAILED;
 
+@Slf4j
 public class RedisClusterClient extends RedisClient {
+    private static final int CLUSTER_SLOTS = 16384;
+    private static final long MIN_SLOT_TABLE_RELOAD_BACKOFF_MS = 1000;
+    private static final long MAX_SLOT_TABLE_RELOAD_BACKOFF_MS = 60 * 1000;
+
+    /** The group of the rows whose hash slot has no known node, they go through JedisCluster. */
+    @VisibleForTesting static final String UNKNOWN_NODE = "";
+
+    private final JedisCluster jedisCluster;
+
+    private final ExecutorService pipelineExecutor;
+
+    // node key (host:port) of every hash slot, reloaded after a redirection
+    private String[] slotNodes;
+
+    // after the slot table failed to load it is not loaded again before this time
+    private long slotNodesReloadTime;
+
+    private long slotNodesReloadBackoffMs;
+
     public RedisClusterClient(RedisParameters redisParameters, Jedis jedis, int redisVersion) {
         super(redisParameters, jedis, redisVersion);
+        this.jedisCluster =
+                jedis instanceof JedisWrapper ? ((JedisWrapper) jedis).getJedisCluster() : null;
+        this.pipelineExecutor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, redisParameters.getMaxInflightPipelines()),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("redis-cluster-pipeline-%d")
+                                .setDaemon(true)
+                                .build());
     }
 
     @Override
@@ -100,65 +154,263 @@ public class RedisClusterClient extends RedisClient {
     @Override
     public void batchWriteString(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            if (rowKinds.get(i) == RowKind.DELETE || rowKinds.get(i) == RowKind.UPDATE_BEFORE) {
-                RedisDataType.STRING.del(this, keys.get(i), values.get(i));
-            } else {
-                RedisDataType.STRING.set(this, keys.get(i), values.get(i), expireSeconds);
-            }
-        }
+        pipelineWriteAll(RedisDataType.STRING, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteList(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            if (rowKinds.get(i) == RowKind.DELETE || rowKinds.get(i) == RowKind.UPDATE_BEFORE) {
-                RedisDataType.LIST.del(this, keys.get(i), values.get(i));
-            } else {
-                RedisDataType.LIST.set(this, keys.get(i), values.get(i), expireSeconds);
-            }
-        }
+        pipelineWriteAll(RedisDataType.LIST, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteSet(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            if (rowKinds.get(i) == RowKind.DELETE || rowKinds.get(i) == RowKind.UPDATE_BEFORE) {
-                RedisDataType.SET.del(this, keys.get(i), values.get(i));
-            } else {
-                RedisDataType.SET.set(this, keys.get(i), values.get(i), expireSeconds);
-            }
-        }
+        pipelineWriteAll(RedisDataType.SET, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteHash(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            if (rowKinds.get(i) == RowKind.DELETE || rowKinds.get(i) == RowKind.UPDATE_BEFORE) {
-                RedisDataType.HASH.del(this, keys.get(i), values.get(i));
-            } else {
-                RedisDataType.HASH.set(this, keys.get(i), values.get(i), expireSeconds);
-            }
-        }
+        pipelineWriteAll(RedisDataType.HASH, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteZset(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
+        pipelineWriteAll(RedisDataType.ZSET, rowKinds, keys, values, expireSeconds);
+    }
+
+    @Override
+    public void close() {
+        pipelineExecutor.shutdownNow();
+        super.close();
+    }
+
+    // Rows are grouped by the node owning their hash slot and every group is written with one
+    // pipeline, rows redirected because the slot table is stale are replayed through JedisCluster
+    private void pipelineWriteAll(
+            RedisDataType dataType,
+            List<RowKind> rowKinds,
+            List<String> keys,
+            List<String> values,
+            long expireSeconds) {
+        if (jedisCluster == null) {
+            writeOneByOne(dataType, rowKinds, keys, values, expireSeconds, null);
+            return;
+        }
+        Map<String, List<Integer>> nodeRows = groupRowsByNode(keys);
+        List<Integer> unassignedRows = nodeRows.remove(UNKNOWN_NODE);
+        List<Integer> replayRows = new ArrayList<>();
+        if (nodeRows.size() == 1) {
+            Map.Entry<String, List<Integer>> entry = nodeRows.entrySet().iterator().next();
+            replayRows.addAll(
+                    writeNodePipeline(
+                            entry.getKey(),
+                            entry.getValue(),
+                            dataType,
+                            rowKinds,
+                            keys,
+                            values,
+                            expireSeconds));
+        } else if (nodeRows.size() > 1) {
+            List<Future<List<Integer>>> futures = new ArrayList<>(nodeRows.size());
+            for (Map.Entry<String, List<Integer>> entry : nodeRows.entrySet()) {
+                futures.add(
+                        pipelineExecutor.submit(
+                                () ->
+                                        writeNodePipeline(
+                                                entry.getKey(),
+                                                entry.getValue(),
+                                                dataType,
+                                                rowKinds,
+                                                keys,
+                                                values,
+                                                expireSeconds)));
+            }
+            for (Future<List<Integer>> future : futures) {
+                replayRows.addAll(awaitPipeline(future));
+            }
+        }
+        if (unassignedRows != null) {
+            // a key belongs to exactly one group, so this group can be written after the others
+            writeOneByOne(dataType, rowKinds, keys, values, expireSeconds, unassignedRows);
+        }
+        if (!replayRows.isEmpty()) {
+            log.info(
+                    "{} rows were not accepted by the expected redis node, refresh the slot table and replay them",
+                    replayRows.size());
+            slotNodes = null;
+            Collections.sort(replayRows);
+            writeOneByOne(dataType, rowKinds, keys, values, expireSeconds, replayRows);
+        }
+    }
+
+    private List<Integer> awaitPipeline(Future<List<Integer>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisConnectorException(
+                    WRITE_REDIS_FAILED, "Interrupted while waiting for the redis pipelines", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RedisConnectorException) {
+                throw (RedisConnectorException) e.getCause();
+            }
+            throw new RedisConnectorException(WRITE_REDIS_FAILED, e.getCause());
+        }
+    }
+
+    private List<Integer> writeNodePipeline(
+            String node,
+            List<Integer> rows,
+            RedisDataType dataType,
+            List<RowKind> rowKinds,
+            List<String> keys,
+            List<String> values,
+            long expireSeconds) {
+        ConnectionPool pool = jedisCluster.getClusterNodes().get(node);
+        if (pool == null) {
+            return rows;
+        }
+        int[] commandCounts = new int[rows.size()];
+        List<Object> responses;
+        try (Connection connection = pool.getResource()) {
+            Pipeline pipeline = new Pipeline(connection);
+            for (int i = 0; i < commandCounts.length; i++) {
+                int row = rows.get(i);
+                commandCounts[i] =
+                        pipelineWrite(
+                                pipeline,
+                                dataType,
+                                rowKinds.get(row),
+                                keys.get(row),
+                                values.get(row),
+                                expireSeconds);
+            }
+            responses = pipeline.syncAndReturnAll();
+        }
+        return redirectedRows(node, rows, commandCounts, responses, keys);
+    }
+
+    /**
+     * Maps the pipeline responses back to the rows, a row is redirected when any of its commands
+     * was answered with MOVED or ASK. Other errors fail the write.
+     *
+     * @param commandCounts the number of commands queued for each of the rows
+     * @return the redirected rows, in the order of {@code rows}
+     */
+    @VisibleForTesting
+    static List<Integer> redirectedRows(
+            String node,
+            List<Integer> rows,
+            int[] commandCounts,
+            List<Object> responses,
+            List<String> keys) {
+        List<Integer> redirectedRows = new ArrayList<>();
+        int offset = 0;
+        for (int i = 0; i < commandCounts.length; i++) {
+            boolean redirected = false;
+            for (int j = offset; j < offset + commandCounts[i]; j++) {
+                Object response = responses.get(j);
+                if (response instanceof JedisRedirectionException) {
+                    redirected = true;
+                } else if (response instanceof JedisDataException) {
+                    throw new RedisConnectorException(
+                            WRITE_REDIS_FAILED,
+                            "Failed to write key [" + keys.get(rows.get(i)) + "] to " + node,
+                            (JedisDataException) response);
+                }
+            }
+            if (redirected) {
+                redirectedRows.add(rows.get(i));
+            }
+            offset += commandCounts[i];
+        }
+        return redirectedRows;
+    }
+
+    private void writeOneByOne(
+            RedisDataType dataType,
+            List<RowKind> rowKinds,
+            List<String> keys,
+            List<String> values,
+            long expireSeconds,
+            List<Integer> rows) {
+        int size = rows == null ? keys.size() : rows.size();
         for (int i = 0; i < size; i++) {
-            if (rowKinds.get(i) == RowKind.DELETE || rowKinds.get(i) == RowKind.UPDATE_BEFORE) {
-                RedisDataType.ZSET.del(this, keys.get(i), values.get(i));
+            int row = rows == null ? i : rows.get(i);
+            RowKind rowKind = rowKinds.get(row);
+            if (rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE) {
+                dataType.del(jedis, keys.get(row), values.get(row));
+            } else {
+                dataType.set(jedis, keys.get(row), values.get(row), expireSeconds);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    Map<String, List<Integer>> groupRowsByNode(List<String> keys) {
+        String[] nodes = getSlotNodes();
+        Map<String, List<Integer>> nodeRows = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String node = nodes == null ? null : nodes[JedisClusterCRC16.getSlot(keys.get(i))];
+            nodeRows.computeIfAbsent(node == null ? UNKNOWN_NODE : node, k -> new ArrayList<>())
+                    .add(i);
+        }
+        return nodeRows;
+    }
+
+    private String[] getSlotNodes() {
+        if (slotNodes == null && System.currentTimeMillis() >= slotNodesReloadTime) {
+            slotNodes = loadSlotNodes();
+            if (slotNodes == null) {
+                slotNodesReloadBackoffMs =
+                        Math.min(
+                                MAX_SLOT_TABLE_RELOAD_BACKOFF_MS,
+                                Math.max(
+                                        MIN_SLOT_TABLE_RELOAD_BACKOFF_MS,
+                                        slotNodesReloadBackoffMs * 2));
+                slotNodesReloadTime = System.currentTimeMillis() + slotNodesReloadBackoffMs;
+                log.warn(
+                        "Failed to load the slot table from every redis cluster node, the rows are written through JedisCluster for the next {} ms",
+                        slotNodesReloadBackoffMs);
             } else {
-                RedisDataType.ZSET.set(this, keys.get(i), values.get(i), expireSeconds);
+                slotNodesReloadBackoffMs = 0;
+            }
+        }
+        return slotNodes;
+    }
+
+    /** @return the node key of every hash slot, null if no node returned the slot table */
+    @VisibleForTesting
+    String[] loadSlotNodes() {
+        for (ConnectionPool pool : jedisCluster.getClusterNodes().values()) {
+            try (Jedis node = new Jedis(pool.getResource())) {
+                return parseSlotNodes(node.clusterSlots());
+            } catch (JedisException e) {
+                log.warn("Failed to load the slot table from redis cluster node, try next one", e);
             }
         }
+        return null;
+    }
+
+    /** Maps every hash slot to the master node of the {@code CLUSTER SLOTS} reply. */
+    @SuppressWarnings("unchecked")
+    @VisibleForTesting
+    static String[] parseSlotNodes(List<Object> clusterSlots) {
+        String[] nodes = new String[CLUSTER_SLOTS];
+        for (Object slotInfo : clusterSlots) {
+            List<Object> slotRange = (List<Object>) slotInfo;
+            int start = ((Long) slotRange.get(0)).intValue();
+            int end = ((Long) slotRange.get(1)).intValue();
+            List<Object> master = (List<Object>) slotRange.get(2);
+            HostAndPort hostAndPort =
+                    new HostAndPort(
+                            SafeEncoder.encode((byte[]) master.get(0)),
+                            ((Long) master.get(1)).intValue());
+            Arrays.fill(nodes, start, end + 1, hostAndPort.toString());
+        }
+        return nodes;
     }
 }
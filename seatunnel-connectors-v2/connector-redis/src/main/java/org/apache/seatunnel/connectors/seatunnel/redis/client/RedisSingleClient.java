@@ -18,7 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.redis.client;
 
 import org.apache.seatunnel.api.table.type.RowKind;
-import org.apache.seatunnel.common.utils.JsonUtils;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -142,107 +142,49 @@ public class RedisSingleClient extends RedisClient {
     @Override
     public void batchWriteString(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        Pipeline pipelined = jedis.pipelined();
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RowKind rowKind = rowKinds.get(i);
-            String key = keys.get(i);
-            String value = values.get(i);
-            if (rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE) {
-                pipelined.del(key);
-            } else {
-                pipelined.set(key, value);
-                if (expireSeconds > 0) {
-                    pipelined.expire(key, expireSeconds);
-                }
-            }
-        }
-        pipelined.sync();
+        pipelineWriteAll(RedisDataType.STRING, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteList(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        Pipeline pipelined = jedis.pipelined();
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RowKind rowKind = rowKinds.get(i);
-            String key = keys.get(i);
-            String value = values.get(i);
-            if (rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE) {
-                pipelined.lrem(key, 1, value);
-            } else {
-                pipelined.lpush(key, value);
-                if (expireSeconds > 0) {
-                    pipelined.expire(key, expireSeconds);
-                }
-            }
-        }
-        pipelined.sync();
+        pipelineWriteAll(RedisDataType.LIST, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteSet(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        Pipeline pipelined = jedis.pipelined();
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RowKind rowKind = rowKinds.get(i);
-            String key = keys.get(i);
-            String value = values.get(i);
-            if (rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE) {
-                pipelined.srem(key, value);
-            } else {
-                pipelined.sadd(key, value);
-                if (expireSeconds > 0) {
-                    pipelined.expire(key, expireSeconds);
-                }
-            }
-        }
-        pipelined.sync();
+        pipelineWriteAll(RedisDataType.SET, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteHash(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
-        Pipeline pipelined = jedis.pipelined();
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RowKind rowKind = rowKinds.get(i);
-            String key = keys.get(i);
-            String value = values.get(i);
-            Map<String, String> fieldsMap = JsonUtils.toMap(value);
-            if (rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE) {
-                for (Map.Entry<String, String> entry : fieldsMap.entrySet()) {
-                    pipelined.hdel(key, entry.getKey());
-                }
-            } else {
-                pipelined.hset(key, fieldsMap);
-                if (expireSeconds > 0) {
-                    pipelined.expire(key, expireSeconds);
-                }
-            }
-        }
-        pipelined.sync();
+        pipelineWriteAll(RedisDataType.HASH, rowKinds, keys, values, expireSeconds);
     }
 
     @Override
     public void batchWriteZset(
             List<RowKind> rowKinds, List<String> keys, List<String> values, long expireSeconds) {
+        pipelineWriteAll(RedisDataType.ZSET, rowKinds, keys, values, expireSeconds);
+    }
+
+    private void pipelineWriteAll(
+            RedisDataType dataType,
+            List<RowKind> rowKinds,
+            List<String> keys,
+            List<String> values,
+            long expireSeconds) {
         Pipeline pipelined = jedis.pipelined();
         int size = keys.size();
         for (int i = 0; i < size; i++) {
-            RowKind rowKind = rowKinds.get(i);
-            String key = keys.get(i);
-            String value = values.get(i);
-            if (rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE) {
-                pipelined.zrem(key, value);
-            } else {
-                pipelined.zadd(key, 1, value);
-                if (expireSeconds > 0) {
-                    pipelined.expire(key, expireSeconds);
-                }
-            }
+            pipelineWrite(
+                    pipelined,
+                    dataType,
+                    rowKinds.get(i),
+                    keys.get(i),
+                    values.get(i),
+                    expireSeconds);
         }
         pipelined.sync();
     }
@@ -32,6 +32,10 @@ public class JedisWrapper extends Jedis {
         this.jedisCluster = jedisCluster;
     }
 
+    public JedisCluster getJedisCluster() {
+        return jedisCluster;
+    }
+
     @Override
     public String set(final String key, final String value) {
         return jedisCluster.set(key, value);
@@ -82,6 +86,36 @@ public class JedisWrapper extends Jedis {
         return jedisCluster.zrange(key, start, stop);
     }
 
+    @Override
+    public long del(final String key) {
+        return jedisCluster.del(key);
+    }
+
+    @Override
+    public long expire(final String key, final long seconds) {
+        return jedisCluster.expire(key, seconds);
+    }
+
+    @Override
+    public long lrem(final String key, final long count, final String value) {
+        return jedisCluster.lrem(key, count, value);
+    }
+
+    @Override
+    public long srem(final String key, final String... members) {
+        return jedisCluster.srem(key, members);
+    }
+
+    @Override
+    public long hdel(final String key, final String... fields) {
+        return jedisCluster.hdel(key, fields);
+    }
+
+    @Override
+    public long zrem(final String key, final String... members) {
+        return jedisCluster.zrem(key, members);
+    }
+
     @Override
     public void close() {
         jedisCluster.close();
@@ -127,6 +127,13 @@ public class RedisConfig {
                             "batch_size is used to control the size of a batch of data during read and write operations"
                                     + ",default 10");
 
+    public static final Option<Integer> MAX_INFLIGHT_PIPELINES =
+            Options.key("max_inflight_pipelines")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The max number of node pipelines sent concurrently when writing a batch in cluster mode");
+
     public static final Option<Boolean> SUPPORT_CUSTOM_KEY =
             Options.key("support_custom_key")
                     .booleanType()
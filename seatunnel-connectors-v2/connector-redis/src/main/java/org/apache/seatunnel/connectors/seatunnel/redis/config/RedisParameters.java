@@ -57,6 +57,7 @@ public class RedisParameters implements Serializable {
     private List<String> redisNodes = Collections.emptyList();
     private long expire = RedisConfig.EXPIRE.defaultValue();
     private int batchSize = RedisConfig.BATCH_SIZE.defaultValue();
+    private int maxInflightPipelines = RedisConfig.MAX_INFLIGHT_PIPELINES.defaultValue();
     private Boolean supportCustomKey;
     private String valueField;
     private String hashKeyField;
@@ -101,6 +102,8 @@ public class RedisParameters implements Serializable {
         this.redisDataType = config.get(RedisConfig.DATA_TYPE);
         // Indicates the number of keys to attempt to return per iteration.default 10
         this.batchSize = config.get(RedisConfig.BATCH_SIZE);
+        // set the max number of node pipelines in flight, only used in cluster mode
+        this.maxInflightPipelines = config.get(RedisConfig.MAX_INFLIGHT_PIPELINES);
         // set support custom key
         if (config.getOptional(RedisConfig.SUPPORT_CUSTOM_KEY).isPresent()) {
             this.supportCustomKey = config.get(RedisConfig.SUPPORT_CUSTOM_KEY);
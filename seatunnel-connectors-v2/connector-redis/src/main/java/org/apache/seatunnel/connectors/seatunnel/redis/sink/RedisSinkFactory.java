@@ -53,6 +53,8 @@ public class RedisSinkFactory implements TableSinkFactory {
                         RedisConfig.KEY_PATTERN,
                         RedisConfig.FORMAT,
                         RedisConfig.EXPIRE,
+                        RedisConfig.BATCH_SIZE,
+                        RedisConfig.MAX_INFLIGHT_PIPELINES,
                         RedisConfig.SUPPORT_CUSTOM_KEY,
                         RedisConfig.VALUE_FIELD,
                         RedisConfig.HASH_KEY_FIELD,
@@ -222,6 +222,7 @@ public class RedisSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
     @Override
     public void close() throws IOException {
         flush();
+        redisClient.close();
     }
 
     @Override
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.JedisWrapper;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RedisClusterClientTest {
+
+    private static final String NODE_1 = "10.0.0.1:7000";
+    private static final String NODE_2 = "10.0.0.2:7001";
+
+    private final JedisCluster jedisCluster = mock(JedisCluster.class);
+
+    @Test
+    public void testParseSlotNodes() {
+        String[] nodes = RedisClusterClient.parseSlotNodes(clusterSlots(0, 8191, 8192, 16382));
+
+        Assertions.assertEquals(16384, nodes.length);
+        Assertions.assertEquals(NODE_1, nodes[0]);
+        Assertions.assertEquals(NODE_1, nodes[8191]);
+        Assertions.assertEquals(NODE_2, nodes[8192]);
+        Assertions.assertEquals(NODE_2, nodes[16382]);
+        Assertions.assertNull(nodes[16383]);
+    }
+
+    @Test
+    public void testGroupRowsByNode() {
+        String[] slotNodes = RedisClusterClient.parseSlotNodes(clusterSlots(0, 8191, 8192, 16382));
+        TestClusterClient client = new TestClusterClient(jedisCluster, slotNodes);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            keys.add("key" + i);
+        }
+        // slot 16383 is not covered by the slot table
+        keys.add(keyOfSlot(16383));
+
+        Map<String, List<Integer>> expected = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            int slot = JedisClusterCRC16.getSlot(keys.get(i));
+            String node = RedisClusterClient.UNKNOWN_NODE;
+            if (slot <= 8191) {
+                node = NODE_1;
+            } else if (slot <= 16382) {
+                node = NODE_2;
+            }
+            expected.computeIfAbsent(node, k -> new ArrayList<>()).add(i);
+        }
+
+        Map<String, List<Integer>> nodeRows = client.groupRowsByNode(keys);
+        Assertions.assertEquals(expected, nodeRows);
+        Assertions.assertEquals(3, nodeRows.size());
+        Assertions.assertEquals(
+                Collections.singletonList(keys.size() - 1),
+                nodeRows.get(RedisClusterClient.UNKNOWN_NODE));
+    }
+
+    @Test
+    public void testRedirectedRows() {
+        HostAndPort target = HostAndPort.from(NODE_2);
+        // row 0 has one command, row 2 two commands and row 5 one command
+        List<Object> responses =
+                Arrays.asList(
+                        "OK",
+                        1L,
+                        new JedisMovedDataException("MOVED 42 " + NODE_2, target, 42),
+                        new JedisAskDataException("ASK 43 " + NODE_2, target, 43));
+
+        List<Integer> redirected =
+                RedisClusterClient.redirectedRows(
+                        NODE_1,
+                        Arrays.asList(0, 2, 5),
+                        new int[] {1, 2, 1},
+                        responses,
+                        Arrays.asList("k0", "k1", "k2", "k3", "k4", "k5"));
+
+        Assertions.assertEquals(Arrays.asList(2, 5), redirected);
+    }
+
+    @Test
+    public void testRedirectedRowsFailOnDataError() {
+        List<Object> responses =
+                Arrays.asList("OK", new JedisDataException("WRONGTYPE Operation against a key"));
+
+        RedisConnectorException exception =
+                Assertions.assertThrows(
+                        RedisConnectorException.class,
+                        () ->
+                                RedisClusterClient.redirectedRows(
+                                        NODE_1,
+                                        Arrays.asList(0, 1),
+                                        new int[] {1, 1},
+                                        responses,
+                                        Arrays.asList("k0", "k1")));
+        Assertions.assertTrue(exception.getMessage().contains("k1"));
+    }
+
+    @Test
+    public void testUnloadableSlotTableIsNotReloadedForEveryBatch() {
+        TestClusterClient client = new TestClusterClient(jedisCluster, null);
+
+        client.batchWriteString(inserts(2), Arrays.asList("a", "b"), Arrays.asList("1", "2"), 0);
+        client.batchWriteString(inserts(2), Arrays.asList("c", "a"), Arrays.asList("3", "4"), 0);
+
+        Assertions.assertEquals(1, client.loads);
+        InOrder order = inOrder(jedisCluster);
+        order.verify(jedisCluster).set("a", "1");
+        order.verify(jedisCluster).set("b", "2");
+        order.verify(jedisCluster).set("c", "3");
+        order.verify(jedisCluster).set("a", "4");
+    }
+
+    @Test
+    public void testRowsOfAnUnknownNodeAreReplayedAndTheSlotTableReloaded() {
+        // the slot table names a node that JedisCluster has no pool for
+        when(jedisCluster.getClusterNodes()).thenReturn(Collections.emptyMap());
+        String[] slotNodes = RedisClusterClient.parseSlotNodes(clusterSlots(0, 8191, 8192, 16383));
+        TestClusterClient client = new TestClusterClient(jedisCluster, slotNodes);
+
+        client.batchWriteString(inserts(2), Arrays.asList("a", "b"), Arrays.asList("1", "2"), 0);
+        client.batchWriteString(inserts(1), Arrays.asList("a"), Arrays.asList("3"), 0);
+
+        Assertions.assertEquals(2, client.loads);
+        InOrder order = inOrder(jedisCluster);
+        order.verify(jedisCluster).set("a", "1");
+        order.verify(jedisCluster).set("b", "2");
+        order.verify(jedisCluster).set("a", "3");
+    }
+
+    private static List<RowKind> inserts(int size) {
+        return Collections.nCopies(size, RowKind.INSERT);
+    }
+
+    private static String keyOfSlot(int slot) {
+        for (int i = 0; ; i++) {
+            String key = "key" + i;
+            if (JedisClusterCRC16.getSlot(key) == slot) {
+                return key;
+            }
+        }
+    }
+
+    /** The reply of CLUSTER SLOTS with two masters owning the given slot ranges. */
+    private static List<Object> clusterSlots(long start1, long end1, long start2, long end2) {
+        return Arrays.asList(
+                Arrays.asList(
+                        start1,
+                        end1,
+                        Arrays.asList(SafeEncoder.encode("10.0.0.1"), 7000L),
+                        Arrays.asList(SafeEncoder.encode("10.0.0.3"), 7002L)),
+                Arrays.asList(
+                        start2, end2, Arrays.asList(SafeEncoder.encode("10.0.0.2"), 7001L)));
+    }
+
+    /** Returns a fixed slot table instead of asking the cluster nodes. */
+    private static class TestClusterClient extends RedisClusterClient {
+        private final String[] slotNodes;
+        private int loads;
+
+        private TestClusterClient(JedisCluster jedisCluster, String[] slotNodes) {
+            super(mock(RedisParameters.class), new JedisWrapper(jedisCluster), 6);
+            this.slotNodes = slotNodes;
+        }
+
+        @Override
+        String[] loadSlotNodes() {
+            loads++;
+            return slotNodes;
+        }
+    }
+}
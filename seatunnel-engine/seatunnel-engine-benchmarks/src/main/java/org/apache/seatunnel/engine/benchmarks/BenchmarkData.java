@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The rows shared by the benchmarks, so that the numbers of different benchmarks are comparable.
+ */
+public final class BenchmarkData {
+
+    public static final String TABLE_ID = "benchmark.table";
+
+    public static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "active", "created"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private BenchmarkData() {}
+
+    public static SeaTunnelRow createRow(long id) {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            id,
+                            "name_" + id,
+                            (int) (id % 100),
+                            id * 0.5d,
+                            id % 2 == 0,
+                            BASE_TIME.plusSeconds(id)
+                        });
+        row.setTableId(TABLE_ID);
+        return row;
+    }
+
+    public static List<SeaTunnelRow> createRows(int count) {
+        List<SeaTunnelRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(createRow(i));
+        }
+        return rows;
+    }
+}
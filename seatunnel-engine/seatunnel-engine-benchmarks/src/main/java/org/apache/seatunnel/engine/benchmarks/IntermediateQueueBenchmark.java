@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.server.dag.physical.config.IntermediateQueueConfig;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateRingBuffer;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateRingBuffer;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.RecordRingBuffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hand over of records from the upstream to the downstream task of a task group through the
+ * intermediate queue. The benchmark thread is the producer, a background thread runs the queue
+ * consumer, and every invocation waits until all of its records are consumed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntermediateQueueBenchmark {
+    private static final int RECORDS_PER_INVOCATION = 10_000;
+
+    @Param({"blockingqueue", "disruptor", "ringbuffer"})
+    private String queueType;
+
+    private AbstractIntermediateQueue<?> queue;
+    private Record<?>[] records;
+    private final AtomicLong consumed = new AtomicLong();
+    private long produced;
+    private volatile boolean running;
+    private Thread consumer;
+
+    @Setup
+    public void setup() throws Exception {
+        queue = createQueue(queueType);
+        new IntermediateQueueFlowLifeCycle<>(null, new CompletableFuture<>(), queue);
+        records = new Record<?>[RECORDS_PER_INVOCATION];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new Record<>(BenchmarkData.createRow(i));
+        }
+
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        consumed.lazySet(consumed.get() + 1);
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        // the disruptor registers its event handler on the first collect, records published
+        // before would not be gated by the consumer
+        queue.collect(collector);
+        running = true;
+        consumer =
+                new Thread(
+                        () -> {
+                            try {
+                                while (running) {
+                                    queue.collect(collector);
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        },
+                        "intermediate-queue-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void handOver() {
+        for (Record<?> record : records) {
+            queue.received(record);
+        }
+        produced += records.length;
+        while (consumed.get() < produced) {
+            Thread.yield();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        running = false;
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+        queue.close();
+    }
+
+    private static AbstractIntermediateQueue<?> createQueue(String queueType) {
+        switch (queueType) {
+            case "blockingqueue":
+                return new IntermediateBlockingQueue(
+                        new ArrayBlockingQueue<>(
+                                TaskGroupWithIntermediateBlockingQueue.QUEUE_SIZE));
+            case "disruptor":
+                return new IntermediateDisruptor(
+                        new Disruptor<RecordEvent>(
+                                new RecordEventFactory(),
+                                TaskGroupWithIntermediateDisruptor.RING_BUFFER_SIZE,
+                                DaemonThreadFactory.INSTANCE,
+                                ProducerType.SINGLE,
+                                new YieldingWaitStrategy()));
+            case "ringbuffer":
+                return new IntermediateRingBuffer(
+                        new RecordRingBuffer(TaskGroupWithIntermediateRingBuffer.RING_BUFFER_SIZE),
+                        IntermediateQueueConfig.DEFAULT_BATCH_SIZE,
+                        IntermediateQueueConfig.DEFAULT_LINGER_MS);
+            default:
+                throw new IllegalArgumentException("Unsupported queue type: " + queueType);
+        }
+    }
+}
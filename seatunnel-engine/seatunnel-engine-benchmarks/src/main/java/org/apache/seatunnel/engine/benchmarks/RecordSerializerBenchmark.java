@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.serializable.RecordSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** Serialization of a row record with the {@link RecordSerializer} used by the engine queues. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordSerializerBenchmark {
+
+    private InternalSerializationService serializationService;
+    private RecordSerializer serializer;
+    private BufferObjectDataOutput output;
+    private Record<?> record;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        serializer = new RecordSerializer();
+        output = serializationService.createObjectDataOutput(1024);
+        record = new Record<>(BenchmarkData.createRow(42));
+        serializer.write(output, record);
+        serialized = output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        output.clear();
+        serializer.write(output, record);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public Record<?> deserialize() throws IOException {
+        return serializer.read(serializationService.createObjectDataInput(serialized));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.format.json.JsonSerializationSchema;
+import org.apache.seatunnel.format.text.TextSerializationSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Serialization of rows by the json and text formats used by the file and message queue sinks. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationSchemaBenchmark {
+
+    @Param({"json", "text"})
+    private String format;
+
+    private SerializationSchema serializationSchema;
+    private SeaTunnelRow[] rows;
+    private int index;
+
+    @Setup
+    public void setup() {
+        switch (format) {
+            case "json":
+                serializationSchema = new JsonSerializationSchema(BenchmarkData.ROW_TYPE);
+                break;
+            case "text":
+                serializationSchema =
+                        TextSerializationSchema.builder()
+                                .seaTunnelRowType(BenchmarkData.ROW_TYPE)
+                                .delimiter(",")
+                                .build();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+        rows = BenchmarkData.createRows(1024).toArray(new SeaTunnelRow[0]);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializationSchema.serialize(rows[index++ & (rows.length - 1)]);
+    }
+}
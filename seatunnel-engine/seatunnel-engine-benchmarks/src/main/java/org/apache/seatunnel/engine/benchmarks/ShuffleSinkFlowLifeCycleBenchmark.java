@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.TransformSeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.ShuffleSinkFlowLifeCycle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batching and transport of records by the shuffle sink into the Hazelcast shuffle queues of a
+ * single local member. A background thread drains the queues like the shuffle sources would do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShuffleSinkFlowLifeCycleBenchmark {
+    private static final int RECORDS_PER_INVOCATION = 10_000;
+    private static final int PIPELINE_ID = 1;
+
+    @Param({"true", "false"})
+    private boolean batchTransport;
+
+    @Param({"1024"})
+    private int batchSize;
+
+    @Param({"1", "4"})
+    private int targetPartitions;
+
+    private HazelcastInstance hazelcastInstance;
+    private ShuffleSinkFlowLifeCycle shuffleSink;
+    private Record<?>[] records;
+    private volatile boolean running;
+    private Thread drainer;
+
+    @Setup
+    public void setup() {
+        Config config = new Config();
+        config.setClusterName("seatunnel-benchmark-" + UUID.randomUUID());
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+
+        ShufflePartitionStrategy shuffleStrategy =
+                ShufflePartitionStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(1)
+                        .targetPartitions(targetPartitions)
+                        // the drainer empties the queues all the time, never destroy them
+                        .queueEmptyQueueTtl(-1)
+                        .build();
+        ShuffleConfig shuffleConfig =
+                ShuffleConfig.builder()
+                        .batchSize(batchSize)
+                        .batchTransport(batchTransport)
+                        .shuffleStrategy(shuffleStrategy)
+                        .build();
+        if (batchTransport) {
+            // same as the execution plan, the queue capacity is counted in frames
+            shuffleStrategy.setQueueMaxSize(shuffleConfig.getMaxInflightBatches());
+        }
+        TransformSeaTunnelTask task =
+                new TransformSeaTunnelTask(
+                        1L,
+                        new TaskLocation(new TaskGroupLocation(1L, PIPELINE_ID, 1L), 1L, 0),
+                        0,
+                        null);
+        shuffleSink =
+                new ShuffleSinkFlowLifeCycle(
+                        task,
+                        0,
+                        new ShuffleAction(1L, "shuffle", shuffleConfig),
+                        hazelcastInstance,
+                        new CompletableFuture<>());
+
+        records = new Record<?>[RECORDS_PER_INVOCATION];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new Record<>(BenchmarkData.createRow(i));
+        }
+
+        IQueue<Record<?>>[] shuffles = new IQueue[targetPartitions];
+        for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+            shuffles[targetIndex] =
+                    shuffleStrategy.getShuffles(hazelcastInstance, PIPELINE_ID, targetIndex)[0];
+        }
+        running = true;
+        drainer = new Thread(() -> drain(shuffles), "shuffle-queue-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void shuffle() throws IOException {
+        for (Record<?> record : records) {
+            shuffleSink.received(record);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        running = false;
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+        shuffleSink.close();
+        hazelcastInstance.shutdown();
+    }
+
+    private void drain(IQueue<Record<?>>[] shuffles) {
+        List<Record<?>> buffer = new ArrayList<>();
+        while (running) {
+            int drained = 0;
+            for (IQueue<Record<?>> shuffle : shuffles) {
+                drained += shuffle.drainTo(buffer);
+                buffer.clear();
+            }
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+    }
+}
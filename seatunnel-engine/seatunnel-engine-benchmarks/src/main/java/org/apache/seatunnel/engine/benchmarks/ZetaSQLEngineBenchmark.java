@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.SQLEngine;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Evaluation of a SQL transform query by the Zeta SQL engine, one row at a time. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZetaSQLEngineBenchmark {
+    private static final String TABLE_NAME = "benchmark";
+
+    @Param({
+        "select id, name, age, score from benchmark",
+        "select id, upper(name) as name, score * 2 as score, age + 1 as age from benchmark",
+        "select id, name from benchmark where age > 50 and score < 400"
+    })
+    private String query;
+
+    private SQLEngine sqlEngine;
+    private SeaTunnelRowType outputRowType;
+    private SeaTunnelRow[] rows;
+    private int index;
+
+    @Setup
+    public void setup() {
+        sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+        sqlEngine.init(TABLE_NAME, TABLE_NAME, BenchmarkData.ROW_TYPE, query);
+        outputRowType = sqlEngine.typeMapping(new ArrayList<>());
+        rows = BenchmarkData.createRows(1024).toArray(new SeaTunnelRow[0]);
+    }
+
+    @Benchmark
+    public List<SeaTunnelRow> transformBySQL() {
+        SeaTunnelRow row = rows[index++ & (rows.length - 1)];
+        return sqlEngine.transformBySQL(row, outputRowType);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sqlEngine.close();
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadMode;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.CoordinatorServiceConfig;
@@ -35,6 +36,7 @@ import java.util.Collections;
 import java.util.Map;
 
 import static com.hazelcast.internal.util.Preconditions.checkBackupCount;
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 
@@ -54,6 +56,12 @@ public class EngineConfig {
     private ThreadShareMode taskExecutionThreadShareMode =
             ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_MODE.defaultValue();
 
+    private BlockingTaskThreadMode taskExecutionBlockingThreadMode =
+            ServerConfigOptions.TASK_EXECUTION_BLOCKING_THREAD_MODE.defaultValue();
+
+    private int taskExecutionCooperativeThreadNum =
+            ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREAD_NUM.defaultValue();
+
     private SlotServiceConfig slotServiceConfig = ServerConfigOptions.SLOT_SERVICE.defaultValue();
 
     private CheckpointConfig checkpointConfig = ServerConfigOptions.CHECKPOINT.defaultValue();
@@ -120,6 +128,19 @@ public class EngineConfig {
         this.taskExecutionThreadShareMode = taskExecutionThreadShareMode;
     }
 
+    public void setTaskExecutionBlockingThreadMode(
+            BlockingTaskThreadMode taskExecutionBlockingThreadMode) {
+        checkNotNull(taskExecutionBlockingThreadMode);
+        this.taskExecutionBlockingThreadMode = taskExecutionBlockingThreadMode;
+    }
+
+    public void setTaskExecutionCooperativeThreadNum(int taskExecutionCooperativeThreadNum) {
+        checkNotNegative(
+                taskExecutionCooperativeThreadNum,
+                ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREAD_NUM + " must be >= 0");
+        this.taskExecutionCooperativeThreadNum = taskExecutionCooperativeThreadNum;
+    }
+
     public void setHistoryJobExpireMinutes(int historyJobExpireMinutes) {
         checkPositive(
                 historyJobExpireMinutes,
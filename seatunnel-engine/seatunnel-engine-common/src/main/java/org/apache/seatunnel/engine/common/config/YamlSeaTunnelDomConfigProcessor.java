@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadMode;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarHAStorageConfig;
@@ -100,6 +101,8 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
             } else if (ServerConfigOptions.SLOT_NUM.key().equals(name)) {
                 slotServiceConfig.setSlotNum(
                         getIntegerValue(ServerConfigOptions.SLOT_NUM.key(), getTextContent(node)));
+            } else if (ServerConfigOptions.SLOT_PLACEMENT_STRATEGY.key().equals(name)) {
+                slotServiceConfig.setSlotPlacementStrategy(getTextContent(node));
             } else {
                 LOGGER.warning("Unrecognized element: " + name);
             }
@@ -160,6 +163,22 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                     + " must in [ALL, OFF, PART]");
                 }
                 engineConfig.setTaskExecutionThreadShareMode(ThreadShareMode.valueOf(mode));
+            } else if (ServerConfigOptions.TASK_EXECUTION_BLOCKING_THREAD_MODE.key().equals(name)) {
+                String mode = getTextContent(node).toUpperCase(Locale.ROOT);
+                if (!Arrays.asList("PLATFORM", "VIRTUAL").contains(mode)) {
+                    throw new IllegalArgumentException(
+                            ServerConfigOptions.TASK_EXECUTION_BLOCKING_THREAD_MODE
+                                    + " must in [PLATFORM, VIRTUAL]");
+                }
+                engineConfig.setTaskExecutionBlockingThreadMode(
+                        BlockingTaskThreadMode.valueOf(mode));
+            } else if (ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREAD_NUM
+                    .key()
+                    .equals(name)) {
+                engineConfig.setTaskExecutionCooperativeThreadNum(
+                        getIntegerValue(
+                                ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREAD_NUM.key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.SLOT_SERVICE.key().equals(name)) {
                 engineConfig.setSlotServiceConfig(parseSlotServiceConfig(node));
             } else if (ServerConfigOptions.CHECKPOINT.key().equals(name)) {
@@ -230,6 +249,10 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.SCHEMA_CHANGE_CHECKPOINT_TIMEOUT.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_INCREMENTAL.key().equals(name)) {
+                checkpointConfig.setIncremental(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_ASYNC_UPLOAD.key().equals(name)) {
+                checkpointConfig.setAsyncUpload(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE.key().equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
             } else {
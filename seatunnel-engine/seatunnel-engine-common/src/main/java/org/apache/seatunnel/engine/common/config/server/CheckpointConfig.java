@@ -37,6 +37,10 @@ public class CheckpointConfig implements Serializable {
 
     private boolean checkpointEnable = true;
 
+    private boolean incremental = ServerConfigOptions.CHECKPOINT_INCREMENTAL.defaultValue();
+
+    private boolean asyncUpload = ServerConfigOptions.CHECKPOINT_ASYNC_UPLOAD.defaultValue();
+
     public void setCheckpointInterval(long checkpointInterval) {
         checkArgument(
                 checkpointInterval >= MINIMAL_CHECKPOINT_TIME,
@@ -58,6 +58,20 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART. Default is OFF");
 
+    public static final Option<BlockingTaskThreadMode> TASK_EXECUTION_BLOCKING_THREAD_MODE =
+            Options.key("task_execution_blocking_thread_mode")
+                    .type(new TypeReference<BlockingTaskThreadMode>() {})
+                    .defaultValue(BlockingTaskThreadMode.PLATFORM)
+                    .withDescription(
+                            "The threads which run the tasks that do not share threads, including PLATFORM, VIRTUAL. VIRTUAL runs every task on a virtual thread when the java runtime supports them (java 21 or later), otherwise it falls back to PLATFORM. Default is PLATFORM");
+
+    public static final Option<Integer> TASK_EXECUTION_COOPERATIVE_THREAD_NUM =
+            Options.key("task_execution_cooperative_thread_num")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of worker threads which run the thread shared tasks of TaskExecutionServer, every worker has its own task queue and steals tasks from the other workers when it is idle. Default is 0, then all workers share one task queue and a new worker is started whenever a task call runs longer than 50 ms");
+
     public static final Option<Boolean> DYNAMIC_SLOT =
             Options.key("dynamic-slot")
                     .booleanType()
@@ -71,6 +85,13 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The number of slots. Only valid when dynamic slot is disabled.");
 
+    public static final Option<String> SLOT_PLACEMENT_STRATEGY =
+            Options.key("slot-placement-strategy")
+                    .stringType()
+                    .defaultValue("RANDOM")
+                    .withDescription(
+                            "The strategy which selects the worker of a slot request, including RANDOM, LEAST_LOADED, SPREAD, COLOCATE or the identifier of a custom SlotPlacementStrategy. Default is RANDOM");
+
     public static final Option<Integer> CHECKPOINT_INTERVAL =
             Options.key("interval")
                     .intType()
@@ -91,6 +112,20 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The timeout (in milliseconds) for a schema change checkpoint.");
 
+    public static final Option<Boolean> CHECKPOINT_INCREMENTAL =
+            Options.key("incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether a checkpoint only stores the state chunks changed since the former checkpoints and refers to the unchanged ones.");
+
+    public static final Option<Boolean> CHECKPOINT_ASYNC_UPLOAD =
+            Options.key("async-upload")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the checkpoint states are stored asynchronously, so that the next checkpoint can be triggered before the storage of the former one finished.");
+
     public static final Option<String> CHECKPOINT_STORAGE_TYPE =
             Options.key("type")
                     .stringType()
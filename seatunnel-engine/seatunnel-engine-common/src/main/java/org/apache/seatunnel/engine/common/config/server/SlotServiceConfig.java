@@ -21,6 +21,7 @@ import lombok.Data;
 
 import java.io.Serializable;
 
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 
 @Data
@@ -30,8 +31,16 @@ public class SlotServiceConfig implements Serializable {
 
     private int slotNum = ServerConfigOptions.SLOT_NUM.defaultValue();
 
+    private String slotPlacementStrategy =
+            ServerConfigOptions.SLOT_PLACEMENT_STRATEGY.defaultValue();
+
     public void setSlotNum(int slotNum) {
         checkPositive(slotNum, ServerConfigOptions.SLOT_NUM + " must be > 0");
         this.slotNum = slotNum;
     }
+
+    public void setSlotPlacementStrategy(String slotPlacementStrategy) {
+        checkNotNull(slotPlacementStrategy);
+        this.slotPlacementStrategy = slotPlacementStrategy;
+    }
 }
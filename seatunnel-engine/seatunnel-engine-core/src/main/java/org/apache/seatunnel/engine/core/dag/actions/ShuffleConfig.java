@@ -32,9 +32,21 @@ import java.util.concurrent.TimeUnit;
 public class ShuffleConfig implements Config {
     public static final int DEFAULT_BATCH_SIZE = 1024;
     public static final long DEFAULT_BATCH_FLUSH_INTERVAL = TimeUnit.SECONDS.toMillis(3);
+    public static final int DEFAULT_MAX_INFLIGHT_BATCHES = 16;
 
     @Builder.Default private int batchSize = DEFAULT_BATCH_SIZE;
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
+
+    /**
+     * Ship every flushed batch as one serialized frame instead of one queue item per record. The
+     * shuffle queue capacity is then counted in frames, so a writer holds at most {@link
+     * #maxInflightBatches} unconsumed frames (credits) per channel and blocks until the reader
+     * takes one.
+     */
+    @Builder.Default private boolean batchTransport = true;
+
+    @Builder.Default private int maxInflightBatches = DEFAULT_MAX_INFLIGHT_BATCHES;
+
     private ShuffleStrategy shuffleStrategy;
 
     @Tolerate
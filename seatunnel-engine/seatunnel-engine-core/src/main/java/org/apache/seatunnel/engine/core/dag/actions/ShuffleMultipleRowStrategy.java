@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
@@ -44,6 +45,7 @@ import java.util.stream.Stream;
 @Setter
 @ToString
 public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
+    private final Map<String, SeaTunnelRowType> queueRowTypes = new HashMap<>();
     private List<CatalogTable> catalogTables;
     private String targetTableId;
 
@@ -61,6 +63,7 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
             // clear old data when job restore
             queue.clear();
             shuffleMap.put(queueName, queue);
+            queueRowTypes.put(queueName, entry.getSeaTunnelRowType());
         }
 
         log.info(
@@ -89,10 +92,24 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     public IQueue<Record<?>>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
         IQueue<Record<?>>[] queues = new IQueue[getInputPartitions()];
+        SeaTunnelRowType targetRowType =
+                catalogTables.stream()
+                        .filter(
+                                table ->
+                                        table.getTableId()
+                                                .toTablePath()
+                                                .toString()
+                                                .equals(targetTableId))
+                        .map(CatalogTable::getSeaTunnelRowType)
+                        .findFirst()
+                        .orElse(null);
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
             Objects.requireNonNull(targetTableId);
             String queueName = generateQueueName(pipelineId, inputIndex, targetTableId);
             queues[inputIndex] = getIQueue(hazelcast, queueName);
+            if (targetRowType != null) {
+                queueRowTypes.put(queueName, targetRowType);
+            }
         }
 
         log.info(
@@ -104,6 +121,11 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
         return queues;
     }
 
+    @Override
+    public SeaTunnelRowType getQueueRowType(String queueName) {
+        return queueRowTypes.get(queueName);
+    }
+
     private String generateQueueName(int pipelineId, int inputIndex, String tableId) {
         return "ShuffleMultipleRow-Queue_"
                 + getJobId()
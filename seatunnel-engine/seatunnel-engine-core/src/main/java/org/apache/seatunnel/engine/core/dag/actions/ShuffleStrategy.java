@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.core.dag.actions;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.config.QueueConfig;
@@ -59,6 +60,17 @@ public abstract class ShuffleStrategy implements Serializable {
     public abstract IQueue<Record<?>>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex);
 
+    /**
+     * Get the row type of the records transferred through the shuffle queue, it is only available
+     * after the queue is created by {@link #createShuffles} or {@link #getShuffles}.
+     *
+     * @param queueName shuffle queue name
+     * @return the row type, or null if the queue may contain rows of different types
+     */
+    public SeaTunnelRowType getQueueRowType(String queueName) {
+        return null;
+    }
+
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
         targetQueueConfig.setMaxSize(queueMaxSize);
@@ -32,13 +32,16 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSink;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.factory.ChangeStreamTableSourceCheckpoint;
 import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.FactoryUtil;
 import org.apache.seatunnel.api.table.factory.TableSinkFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
+import org.apache.seatunnel.api.table.factory.TableTransformFactory;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.transform.PushDownFilterProvider;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.Constants;
 import org.apache.seatunnel.common.config.Common;
@@ -117,6 +120,8 @@ public class MultipleTableJobConfigParser {
     private final JobConfigParser fallbackParser;
     private final boolean isStartWithSavePoint;
     private final List<JobPipelineCheckpointData> pipelineCheckpoints;
+    /** The filters pushed into the sources, keyed by the table id the source outputs. */
+    private Map<String, PushDownFilter> pushDownFilters = Collections.emptyMap();
 
     public MultipleTableJobConfigParser(
             String jobDefineFilePath, IdGenerator idGenerator, JobConfig jobConfig) {
@@ -219,6 +224,12 @@ public class MultipleTableJobConfigParser {
         try {
             Thread.currentThread().setContextClassLoader(sourceAndTransformClassLoader);
             ConfigParserUtil.checkGraph(sourceConfigs, transformConfigs, sinkConfigs);
+            pushDownFilters =
+                    getPushDownFilters(
+                            sourceConfigs,
+                            transformConfigs,
+                            sinkConfigs,
+                            sourceAndTransformClassLoader);
             LinkedHashMap<String, List<Tuple2<CatalogTable, Action>>> tableWithActionMap =
                     new LinkedHashMap<>();
 
@@ -399,9 +410,15 @@ public class MultipleTableJobConfigParser {
                     getSourceCheckpoint(configIndex, factoryId);
             tuple2 =
                     FactoryUtil.restoreAndPrepareSource(
-                            readonlyConfig, classLoader, factoryId, checkpoint);
+                            readonlyConfig,
+                            classLoader,
+                            factoryId,
+                            checkpoint,
+                            pushDownFilters.get(tableId));
         } else {
-            tuple2 = FactoryUtil.createAndPrepareSource(readonlyConfig, classLoader, factoryId);
+            tuple2 =
+                    FactoryUtil.createAndPrepareSource(
+                            readonlyConfig, classLoader, factoryId, pushDownFilters.get(tableId));
         }
 
         Set<URL> factoryUrls = new HashSet<>();
@@ -422,6 +439,70 @@ public class MultipleTableJobConfigParser {
         return new Tuple2<>(tableId, actions);
     }
 
+    /**
+     * Collect the filters of the transforms which are the only consumer of a source, the transforms
+     * are kept in the DAG and still evaluate the whole filter.
+     */
+    private Map<String, PushDownFilter> getPushDownFilters(
+            List<? extends Config> sourceConfigs,
+            List<? extends Config> transformConfigs,
+            List<? extends Config> sinkConfigs,
+            ClassLoader classLoader) {
+        Map<String, Integer> sourceTableIds = new HashMap<>();
+        for (Config sourceConfig : sourceConfigs) {
+            String tableId =
+                    ReadonlyConfig.fromConfig(sourceConfig)
+                            .getOptional(CommonOptions.PLUGIN_OUTPUT)
+                            .orElse(DEFAULT_ID);
+            sourceTableIds.merge(tableId, 1, Integer::sum);
+        }
+        Set<String> transformTableIds = new HashSet<>();
+        Map<String, Integer> consumers = new HashMap<>();
+        for (Config transformConfig : transformConfigs) {
+            ReadonlyConfig readonlyConfig = ReadonlyConfig.fromConfig(transformConfig);
+            transformTableIds.add(
+                    readonlyConfig.getOptional(CommonOptions.PLUGIN_OUTPUT).orElse(DEFAULT_ID));
+            getInputIds(readonlyConfig).forEach(id -> consumers.merge(id, 1, Integer::sum));
+        }
+        for (Config sinkConfig : sinkConfigs) {
+            // the sink reads from the transform if both source and transform output the table id
+            getInputIds(ReadonlyConfig.fromConfig(sinkConfig)).stream()
+                    .filter(id -> !transformTableIds.contains(id))
+                    .forEach(id -> consumers.merge(id, 1, Integer::sum));
+        }
+
+        Map<String, PushDownFilter> filters = new HashMap<>();
+        for (Config transformConfig : transformConfigs) {
+            ReadonlyConfig readonlyConfig = ReadonlyConfig.fromConfig(transformConfig);
+            List<String> inputIds = getInputIds(readonlyConfig);
+            if (inputIds.size() != 1) {
+                continue;
+            }
+            String inputId = inputIds.get(0);
+            if (sourceTableIds.getOrDefault(inputId, 0) != 1
+                    || consumers.getOrDefault(inputId, 0) != 1) {
+                continue;
+            }
+            String factoryId = getFactoryId(readonlyConfig);
+            FactoryUtil.discoverOptionalFactory(classLoader, TableTransformFactory.class, factoryId)
+                    .filter(factory -> factory instanceof PushDownFilterProvider)
+                    .flatMap(
+                            factory ->
+                                    ((PushDownFilterProvider) factory)
+                                            .getPushDownFilter(readonlyConfig))
+                    .ifPresent(
+                            filter -> {
+                                log.info(
+                                        "Transform {} offers filter {} to source {}",
+                                        factoryId,
+                                        filter,
+                                        inputId);
+                                filters.put(inputId, filter);
+                            });
+        }
+        return filters;
+    }
+
     public void parseTransforms(
             List<? extends Config> transformConfigs,
             ClassLoader classLoader,
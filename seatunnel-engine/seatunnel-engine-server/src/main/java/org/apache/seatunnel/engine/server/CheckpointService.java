@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.utils.FactoryUtil;
 import org.apache.seatunnel.engine.core.job.JobPipelineCheckpointData;
@@ -29,6 +30,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionState;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpoint;
+import org.apache.seatunnel.engine.server.checkpoint.IncrementalCheckpointSerializer;
 
 import lombok.SneakyThrows;
 
@@ -58,6 +60,10 @@ public class CheckpointService {
                         .create(config.getStorage().getStoragePluginConfig());
     }
 
+    public void close() {
+        checkpointStorage.close();
+    }
+
     @SneakyThrows
     public List<CompletedCheckpoint> getLatestCheckpoint(String jobId) {
         List<PipelineState> pipelineStates = checkpointStorage.getLatestCheckpoint(jobId);
@@ -65,9 +71,9 @@ public class CheckpointService {
                 .map(
                         pipelineState -> {
                             try {
-                                return serializer.deserialize(
-                                        pipelineState.getStates(), CompletedCheckpoint.class);
-                            } catch (IOException e) {
+                                return IncrementalCheckpointSerializer.deserialize(
+                                        serializer, checkpointStorage, pipelineState);
+                            } catch (IOException | CheckpointStorageException e) {
                                 throw new RuntimeException(e);
                             }
                         })
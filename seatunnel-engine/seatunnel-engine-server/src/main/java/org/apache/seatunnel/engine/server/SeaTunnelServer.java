@@ -208,6 +208,9 @@ public class SeaTunnelServer
         if (coordinatorService != null) {
             coordinatorService.shutdown();
         }
+        if (checkpointService != null) {
+            checkpointService.close();
+        }
 
         if (eventService != null) {
             eventService.shutdownNow();
@@ -28,6 +28,7 @@ import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadMode;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
@@ -47,11 +48,13 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupUtils;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.execution.TaskTracker;
+import org.apache.seatunnel.engine.server.execution.WorkStealingTaskScheduler;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClient;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
+import org.apache.seatunnel.engine.server.utils.VirtualThreadUtil;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -78,6 +81,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
@@ -117,6 +121,10 @@ import static org.apache.seatunnel.api.common.metrics.MetricTags.TASK_ID;
 /** This class is responsible for the execution of the Task */
 public class TaskExecutionService implements DynamicMetricsProvider {
 
+    private static final long COOPERATIVE_TIME_SLICE_MILLIS = 50;
+
+    private static final long COOPERATIVE_DETACH_MILLIS = 1000;
+
     private final String hzInstanceName;
     private final NodeEngineImpl nodeEngine;
     private final ClassLoaderService classLoaderService;
@@ -128,6 +136,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             newCachedThreadPool(new BlockingTaskThreadFactory());
     private final RunBusWorkSupplier runBusWorkSupplier =
             new RunBusWorkSupplier(executorService, threadShareTaskQueue);
+    // runs the tasks which do not share threads, it is executorService unless virtual threads
+    // are enabled
+    private final ExecutorService blockingTaskExecutorService;
+    // only set when the thread shared tasks run on a fixed number of work stealing workers
+    private final WorkStealingTaskScheduler<TaskTracker> cooperativeTaskScheduler;
     // key: TaskID
     private final ConcurrentMap<TaskGroupLocation, TaskGroupContext> executionContexts =
             new ConcurrentHashMap<>();
@@ -157,6 +170,21 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         this.classLoaderService = classLoaderService;
         this.logger = nodeEngine.getLoggingService().getLogger(TaskExecutionService.class);
 
+        this.blockingTaskExecutorService =
+                createBlockingTaskExecutorService(
+                        seaTunnelConfig.getEngineConfig().getTaskExecutionBlockingThreadMode());
+        int cooperativeThreadNum =
+                seaTunnelConfig.getEngineConfig().getTaskExecutionCooperativeThreadNum();
+        this.cooperativeTaskScheduler =
+                cooperativeThreadNum > 0
+                        ? new WorkStealingTaskScheduler<>(
+                                cooperativeThreadNum,
+                                COOPERATIVE_TIME_SLICE_MILLIS,
+                                COOPERATIVE_DETACH_MILLIS,
+                                executorService,
+                                this::callCooperativeTask)
+                        : null;
+
         MetricsRegistry registry = nodeEngine.getMetricsRegistry();
         MetricDescriptor descriptor =
                 registry.newMetricDescriptor()
@@ -176,13 +204,54 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         this.eventService = eventService;
     }
 
+    private ExecutorService createBlockingTaskExecutorService(BlockingTaskThreadMode mode) {
+        if (!BlockingTaskThreadMode.VIRTUAL.equals(mode)) {
+            return executorService;
+        }
+        if (!VirtualThreadUtil.isSupported()) {
+            logger.warning(
+                    String.format(
+                            "Virtual threads are not supported by java %s, blocking tasks run on platform threads",
+                            System.getProperty("java.version")));
+            return executorService;
+        }
+        try {
+            ExecutorService virtualThreadExecutor =
+                    VirtualThreadUtil.newVirtualThreadPerTaskExecutor(
+                            String.format("hz.%s.seaTunnel.task.virtual-thread-", hzInstanceName));
+            logger.info("Blocking tasks run on virtual threads");
+            if (System.getProperty(VirtualThreadUtil.TRACE_PINNED_THREADS_PROPERTY) == null) {
+                logger.info(
+                        String.format(
+                                "Add -D%s=short to the JVM options to print the stack of a virtual thread which pins its carrier thread",
+                                VirtualThreadUtil.TRACE_PINNED_THREADS_PROPERTY));
+            }
+            return virtualThreadExecutor;
+        } catch (UnsupportedOperationException e) {
+            // e.g. virtual threads are a preview feature of java 19 and 20
+            logger.warning(
+                    "Create virtual threads failed, blocking tasks run on platform threads", e);
+            return executorService;
+        }
+    }
+
     public void start() {
-        runBusWorkSupplier.runNewBusWork(false);
+        if (cooperativeTaskScheduler != null) {
+            cooperativeTaskScheduler.start();
+        } else {
+            runBusWorkSupplier.runNewBusWork(false);
+        }
     }
 
     public void shutdown() {
         isRunning = false;
+        if (cooperativeTaskScheduler != null) {
+            cooperativeTaskScheduler.close();
+        }
         executorService.shutdownNow();
+        if (blockingTaskExecutorService != executorService) {
+            blockingTaskExecutorService.shutdownNow();
+        }
         scheduledExecutorService.shutdown();
     }
 
@@ -230,13 +299,65 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     return null;
                                 });
         if (!taskGroupExecutionTracker.executionCompletedExceptionally()) {
-            taskTrackerStream.forEach(threadShareTaskQueue::add);
+            if (cooperativeTaskScheduler != null) {
+                cooperativeTaskScheduler.submit(
+                        taskTrackerStream.filter(Objects::nonNull).collect(toList()));
+            } else {
+                taskTrackerStream.forEach(threadShareTaskQueue::add);
+            }
+        }
+    }
+
+    /**
+     * Call a thread shared task once on a worker of the {@link WorkStealingTaskScheduler}.
+     *
+     * @return true if the task is not done and must be called again.
+     */
+    private boolean callCooperativeTask(TaskTracker taskTracker, Future<?> call) {
+        TaskGroupExecutionTracker taskGroupExecutionTracker = taskTracker.taskGroupExecutionTracker;
+        Task task = taskTracker.task;
+        if (!isRunning) {
+            return false;
+        }
+        if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+            taskGroupExecutionTracker.taskDone(task);
+            return false;
+        }
+        taskGroupExecutionTracker.currRunningTaskFuture.put(task.getTaskID(), call);
+        try {
+            currentThread()
+                    .setContextClassLoader(
+                            executionContexts
+                                    .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
+                                    .getClassLoaders()
+                                    .get(task.getTaskID()));
+            ProgressState result = task.call();
+            if (result.isDone()) {
+                taskGroupExecutionTracker.taskDone(task);
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            if (taskGroupExecutionTracker.executionException.get() == null
+                    && !taskGroupExecutionTracker.isCancel.get()) {
+                taskGroupExecutionTracker.exception(e);
+            }
+            taskGroupExecutionTracker.taskDone(task);
+            logger.warning("Exception in " + task, e);
+            return false;
+        } catch (Throwable e) {
+            taskGroupExecutionTracker.exception(e);
+            taskGroupExecutionTracker.taskDone(task);
+            logger.warning("Exception in " + task, e);
+            return false;
+        } finally {
+            taskGroupExecutionTracker.currRunningTaskFuture.remove(task.getTaskID());
         }
     }
 
     private void submitBlockingTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
-        MDCExecutorService mdcExecutorService = MDCTracer.tracing(executorService);
+        MDCExecutorService mdcExecutorService = MDCTracer.tracing(blockingTaskExecutorService);
 
         CountDownLatch startedLatch = new CountDownLatch(tasks.size());
         taskGroupExecutionTracker.blockingFutures =
@@ -354,6 +475,21 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
+    /** Whether the task runs on the threads shared by the cooperative tasks. */
+    private boolean isCooperative(Task task) {
+        ThreadShareMode mode = seaTunnelConfig.getEngineConfig().getTaskExecutionThreadShareMode();
+        if (mode.equals(ThreadShareMode.ALL)) {
+            return true;
+        }
+        if (mode.equals(ThreadShareMode.OFF)) {
+            return false;
+        }
+        if (mode.equals(ThreadShareMode.PART)) {
+            return task.isThreadsShare();
+        }
+        return true;
+    }
+
     public PassiveCompletableFuture<TaskExecutionState> deployLocalTask(
             @NonNull TaskGroup taskGroup,
             @NonNull ConcurrentHashMap<Long, ClassLoader> classLoaders,
@@ -376,29 +512,16 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             .peek(
                                     task -> {
                                         TaskExecutionContext taskExecutionContext =
-                                                new TaskExecutionContext(task, nodeEngine, this);
+                                                new TaskExecutionContext(
+                                                        task,
+                                                        nodeEngine,
+                                                        this,
+                                                        isCooperative(task));
                                         task.setTaskExecutionContext(taskExecutionContext);
                                         taskExecutionContextMap.put(
                                                 task.getTaskID(), taskExecutionContext);
                                     })
-                            .collect(
-                                    partitioningBy(
-                                            t -> {
-                                                ThreadShareMode mode =
-                                                        seaTunnelConfig
-                                                                .getEngineConfig()
-                                                                .getTaskExecutionThreadShareMode();
-                                                if (mode.equals(ThreadShareMode.ALL)) {
-                                                    return true;
-                                                }
-                                                if (mode.equals(ThreadShareMode.OFF)) {
-                                                    return false;
-                                                }
-                                                if (mode.equals(ThreadShareMode.PART)) {
-                                                    return t.isThreadsShare();
-                                                }
-                                                return true;
-                                            }));
+                            .collect(partitioningBy(this::isCooperative));
             executionContexts.put(
                     taskGroup.getTaskGroupLocation(),
                     new TaskGroupContext(taskGroup, classLoaders, jars));
@@ -564,6 +687,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                             task.provideDynamicMetrics(copy3, context);
                                         });
                     });
+            if (cooperativeTaskScheduler != null) {
+                cooperativeTaskScheduler.provideDynamicMetrics(copy1, context);
+            }
         } catch (Throwable t) {
             logger.warning("Dynamic metric collection failed", t);
             throw t;
@@ -643,7 +769,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         if (logger.isFineEnabled()) {
             ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
             int activeCount = threadPoolExecutor.getActiveCount();
-            int taskQueueSize = threadShareTaskQueue.size();
+            int taskQueueSize =
+                    cooperativeTaskScheduler != null
+                            ? cooperativeTaskScheduler.getQueuedTaskCount()
+                            : threadShareTaskQueue.size();
             long completedTaskCount = threadPoolExecutor.getCompletedTaskCount();
             long taskCount = threadPoolExecutor.getTaskCount();
             logger.fine(
@@ -58,6 +58,8 @@ import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -67,8 +69,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -102,6 +106,8 @@ public class CheckpointCoordinator {
 
     private final transient Serializer serializer;
 
+    private final IncrementalCheckpointSerializer checkpointSerializer;
+
     /**
      * All tasks in this pipeline. <br>
      * key: the task id; <br>
@@ -120,6 +126,9 @@ public class CheckpointCoordinator {
 
     private final ArrayDeque<String> completedCheckpointIds;
 
+    /** The retired checkpoints whose state chunks are still referenced by the latest one. */
+    private final Set<String> referencedCheckpointIds = new LinkedHashSet<>();
+
     private volatile CompletedCheckpoint latestCompletedCheckpoint = null;
 
     private final CheckpointConfig coordinatorConfig;
@@ -141,6 +150,14 @@ public class CheckpointCoordinator {
 
     private final ExecutorService executorService;
 
+    /** Stores the general checkpoints in order when {@link CheckpointConfig#isAsyncUpload()}. */
+    private final ExecutorService uploadExecutor;
+
+    private volatile CompletableFuture<Void> latestUpload = CompletableFuture.completedFuture(null);
+
+    /** Increased when the pending checkpoints are cleaned, the queued uploads are skipped. */
+    private final AtomicLong uploadEpoch = new AtomicLong(0);
+
     private CompletableFuture<CheckpointCoordinatorState> checkpointCoordinatorFuture;
 
     private AtomicReference<String> errorByPhysicalVertex = new AtomicReference<>();
@@ -191,6 +208,25 @@ public class CheckpointCoordinator {
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
         this.serializer = new ProtoStuffSerializer();
+        this.checkpointSerializer =
+                new IncrementalCheckpointSerializer(
+                        serializer, coordinatorConfig.getStorage().getMaxRetainedCheckpoints());
+        // the thread exits when there is no upload for a while
+        this.uploadExecutor =
+                MDCTracer.tracing(
+                        new ThreadPoolExecutor(
+                                0,
+                                1,
+                                60,
+                                TimeUnit.SECONDS,
+                                new LinkedBlockingQueue<>(),
+                                runnable -> {
+                                    Thread thread = new Thread(runnable);
+                                    thread.setName(
+                                            String.format(
+                                                    "checkpoint-upload-%s/%s", pipelineId, jobId));
+                                    return thread;
+                                }));
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
         this.checkpointIdCounter = checkpointIdCounter;
@@ -205,7 +241,8 @@ public class CheckpointCoordinator {
                 plan);
         if (pipelineState != null) {
             this.latestCompletedCheckpoint =
-                    serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+                    IncrementalCheckpointSerializer.deserialize(
+                            serializer, checkpointStorage, pipelineState);
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -796,6 +833,8 @@ public class CheckpointCoordinator {
             closedIdleTask.clear();
             pendingCounter.set(0);
             schemaChanging.set(false);
+            uploadEpoch.incrementAndGet();
+            checkpointSerializer.reset();
             scheduler.shutdownNow();
             scheduler =
                     Executors.newScheduledThreadPool(
@@ -838,7 +877,7 @@ public class CheckpointCoordinator {
         }
     }
 
-    public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+    public void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
@@ -848,36 +887,62 @@ public class CheckpointCoordinator {
                         - completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
-        final long checkpointId = completedCheckpoint.getCheckpointId();
-        completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
+        if (coordinatorConfig.isAsyncUpload()
+                && completedCheckpoint.getCheckpointType().isGeneralCheckpoint()) {
+            uploadCompletedCheckpoint(completedCheckpoint);
+            return;
+        }
+        // the checkpoints must be stored in order, so the store is queued after the uploading ones
+        CompletableFuture<Void> stored;
+        synchronized (this) {
+            stored =
+                    latestUpload.thenRunAsync(
+                            () -> storeCompletedCheckpoint(completedCheckpoint), uploadExecutor);
+            latestUpload = stored.exceptionally(e -> null);
+        }
         try {
-            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
-                checkpointStorage.storeCheckPoint(
-                        PipelineState.builder()
-                                .checkpointId(checkpointId)
-                                .jobId(String.valueOf(jobId))
-                                .pipelineId(pipelineId)
-                                .states(states)
-                                .build());
-            }
-            if (completedCheckpointIds.size()
-                                    % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            == 0
-                    && completedCheckpointIds.size()
-                                    / coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            > 1) {
-                List<String> needDeleteCheckpointId = new ArrayList<>();
-                for (int i = 0;
-                        i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
-                        i++) {
-                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
-                }
-                checkpointStorage.deleteCheckpoint(
-                        String.valueOf(completedCheckpoint.getJobId()),
-                        String.valueOf(completedCheckpoint.getPipelineId()),
-                        needDeleteCheckpointId);
-            }
+            stored.join();
+        } catch (CompletionException e) {
+            sneakyThrow(e.getCause());
+        }
+    }
+
+    /**
+     * Release the pending checkpoint so that the next one can be triggered, and store the
+     * checkpoint in the background. The tasks are notified after the checkpoint is stored.
+     */
+    private synchronized void uploadCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        removePendingCheckpoint(completedCheckpoint.getCheckpointId());
+        final long epoch = uploadEpoch.get();
+        latestUpload =
+                latestUpload.thenRunAsync(
+                        () -> {
+                            if (epoch != uploadEpoch.get()) {
+                                LOG.info(
+                                        "skip store checkpoint({}/{}@{}) because the pending checkpoints are cleaned",
+                                        completedCheckpoint.getCheckpointId(),
+                                        completedCheckpoint.getPipelineId(),
+                                        completedCheckpoint.getJobId());
+                                return;
+                            }
+                            try {
+                                storeCheckpointStates(completedCheckpoint);
+                            } catch (Throwable e) {
+                                handleCoordinatorError(
+                                        "store checkpoint states failed.",
+                                        e,
+                                        CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                                return;
+                            }
+                            latestCompletedCheckpoint = completedCheckpoint;
+                            notifyCompleted(completedCheckpoint);
+                        },
+                        uploadExecutor);
+    }
+
+    private synchronized void storeCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        try {
+            storeCheckpointStates(completedCheckpoint);
         } catch (Throwable e) {
             LOG.error("store checkpoint states failed.", e);
             sneakyThrow(e);
@@ -889,8 +954,7 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getJobId());
         latestCompletedCheckpoint = completedCheckpoint;
         notifyCompleted(completedCheckpoint);
-        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
-        pendingCounter.decrementAndGet();
+        removePendingCheckpoint(completedCheckpoint.getCheckpointId());
         if (isCompleted()) {
             cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
             if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
@@ -905,6 +969,45 @@ public class CheckpointCoordinator {
         }
     }
 
+    private void removePendingCheckpoint(long checkpointId) {
+        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
+        pendingCounter.decrementAndGet();
+    }
+
+    private void storeCheckpointStates(CompletedCheckpoint completedCheckpoint) throws Exception {
+        completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
+        CheckpointType checkpointType = completedCheckpoint.getCheckpointType();
+        if (checkpointType.notCompletedCheckpoint()) {
+            checkpointStorage.storeCheckPoint(
+                    checkpointSerializer.serialize(
+                            completedCheckpoint,
+                            coordinatorConfig.isIncremental()
+                                    && checkpointType.isGeneralCheckpoint()));
+        }
+        int maxRetainedCheckpoints = coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
+        if (completedCheckpointIds.size() % maxRetainedCheckpoints == 0
+                && completedCheckpointIds.size() / maxRetainedCheckpoints > 1) {
+            for (int i = 0; i < maxRetainedCheckpoints; i++) {
+                referencedCheckpointIds.add(completedCheckpointIds.removeFirst());
+            }
+            // the checkpoints storing the state chunks of the latest one can't be deleted yet
+            Set<Long> latestReferencedIds = checkpointSerializer.getReferencedCheckpointIds();
+            List<String> needDeleteCheckpointId = new ArrayList<>();
+            Iterator<String> iterator = referencedCheckpointIds.iterator();
+            while (iterator.hasNext()) {
+                String checkpointId = iterator.next();
+                if (!latestReferencedIds.contains(Long.parseLong(checkpointId))) {
+                    needDeleteCheckpointId.add(checkpointId);
+                    iterator.remove();
+                }
+            }
+            checkpointStorage.deleteCheckpoint(
+                    String.valueOf(completedCheckpoint.getJobId()),
+                    String.valueOf(completedCheckpoint.getPipelineId()),
+                    needDeleteCheckpointId);
+        }
+    }
+
     public InvocationFuture<?>[] notifyCheckpointCompleted(CompletedCheckpoint checkpoint) {
         if (checkpoint.getCheckpointType().isSchemaChangeAfterCheckpoint()) {
             completeSchemaChangeAfterCheckpoint(checkpoint);
@@ -958,6 +1061,11 @@ public class CheckpointCoordinator {
         return latestCompletedCheckpoint.getCheckpointType().isSavepoint();
     }
 
+    /** Called when the job is cleaned, stops the thread storing the checkpoints. */
+    public void close() {
+        uploadExecutor.shutdown();
+    }
+
     public PassiveCompletableFuture<CheckpointCoordinatorState>
             waitCheckpointCoordinatorComplete() {
         return new PassiveCompletableFuture<>(checkpointCoordinatorFuture);
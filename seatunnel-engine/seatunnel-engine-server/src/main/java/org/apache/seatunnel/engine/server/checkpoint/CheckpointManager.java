@@ -246,6 +246,15 @@ public class CheckpointManager {
         }
     }
 
+    /**
+     * Called by the JobMaster. <br>
+     * Release the resources of the {@link CheckpointCoordinator}s when the job is cleaned. The
+     * storage is shared by the jobs of the server, it is closed by the {@code CheckpointService}.
+     */
+    public void close() {
+        coordinatorMap.values().forEach(CheckpointCoordinator::close);
+    }
+
     /**
      * Called by the JobMaster. <br>
      * Returns whether the pipeline has completed; No need to deploy/restore the {@link SubPlan} if
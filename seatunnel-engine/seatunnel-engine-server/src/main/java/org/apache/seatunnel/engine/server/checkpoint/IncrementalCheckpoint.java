@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * The stored form of an incremental checkpoint.
+ *
+ * <p>Every state chunk of the {@link #checkpoint} is replaced by its digest. The chunks which are
+ * not stored by a former checkpoint are kept in {@link #chunks}, the others are only referred by
+ * the id of the checkpoint storing them in {@link #references}.
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "chunks")
+public class IncrementalCheckpoint implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final CompletedCheckpoint checkpoint;
+
+    /** chunk digest -> chunk stored by this checkpoint. */
+    private final Map<String, byte[]> chunks;
+
+    /** chunk digest -> id of the former checkpoint storing the chunk. */
+    private final Map<String, Long> references;
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan.COORDINATOR_INDEX;
+
+/**
+ * Serialize the completed checkpoints of a pipeline to the stored {@link PipelineState}.
+ *
+ * <p>An incremental checkpoint only stores the state chunks (the elements of {@link
+ * ActionSubtaskState#getState()}) which are not stored by the former checkpoint yet, and refers to
+ * the others, see {@link IncrementalCheckpoint}. A reference always points to the checkpoint which
+ * stores the chunk, so a checkpoint can be restored by loading at most one other checkpoint per
+ * reference. When the checkpoints refer to more than {@code maxReferencedCheckpoints} former
+ * checkpoints, the next one stores all chunks again so that the former ones can be deleted.
+ */
+public class IncrementalCheckpointSerializer {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Serializer serializer;
+
+    private final int maxReferencedCheckpoints;
+
+    private final MessageDigest messageDigest;
+
+    /** chunk digest -> id of the checkpoint storing the chunk, of the latest checkpoint. */
+    private Map<String, Long> storedChunks = Collections.emptyMap();
+
+    private volatile boolean rebaseRequired = true;
+
+    public IncrementalCheckpointSerializer(Serializer serializer, int maxReferencedCheckpoints) {
+        this.serializer = serializer;
+        this.maxReferencedCheckpoints = maxReferencedCheckpoints;
+        try {
+            this.messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Serialize the checkpoint, the checkpoints must be serialized in the order they are stored.
+     *
+     * @param incremental whether only the changed chunks are stored, otherwise the checkpoint is
+     *     stored in full and the next incremental checkpoint doesn't refer to any former one.
+     */
+    public synchronized PipelineState serialize(CompletedCheckpoint checkpoint, boolean incremental)
+            throws IOException {
+        PipelineState.PipelineStateBuilder builder =
+                PipelineState.builder()
+                        .checkpointId(checkpoint.getCheckpointId())
+                        .jobId(String.valueOf(checkpoint.getJobId()))
+                        .pipelineId(checkpoint.getPipelineId());
+        if (!incremental) {
+            storedChunks = Collections.emptyMap();
+            rebaseRequired = true;
+            return builder.states(serializer.serialize(checkpoint)).build();
+        }
+
+        boolean rebase =
+                rebaseRequired || getReferencedCheckpointIds().size() > maxReferencedCheckpoints;
+        ChunkCollector collector =
+                new ChunkCollector(
+                        checkpoint.getCheckpointId(),
+                        rebase ? Collections.emptyMap() : storedChunks);
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        checkpoint
+                .getTaskStates()
+                .forEach((key, state) -> taskStates.put(key, collector.replaceChunks(state)));
+        CompletedCheckpoint skeleton =
+                new CompletedCheckpoint(
+                        checkpoint.getJobId(),
+                        checkpoint.getPipelineId(),
+                        checkpoint.getCheckpointId(),
+                        checkpoint.getCheckpointTimestamp(),
+                        checkpoint.getCheckpointType(),
+                        checkpoint.getCompletedTimestamp(),
+                        taskStates,
+                        checkpoint.getTaskStatistics());
+        byte[] states =
+                serializer.serialize(
+                        new IncrementalCheckpoint(
+                                skeleton, collector.chunks, collector.references));
+        storedChunks = collector.currentChunks;
+        rebaseRequired = false;
+        return builder.states(states).incremental(true).build();
+    }
+
+    /** The ids of the checkpoints storing the chunks of the latest serialized checkpoint. */
+    public synchronized Set<Long> getReferencedCheckpointIds() {
+        return new HashSet<>(storedChunks.values());
+    }
+
+    /**
+     * Store all chunks at the next checkpoint, e.g. the former checkpoints may not be stored
+     * because the coordinator is restarted.
+     */
+    public void reset() {
+        rebaseRequired = true;
+    }
+
+    public static CompletedCheckpoint deserialize(
+            Serializer serializer, CheckpointStorage checkpointStorage, PipelineState pipelineState)
+            throws IOException, CheckpointStorageException {
+        if (!pipelineState.isIncremental()) {
+            return serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+        }
+        IncrementalCheckpoint stored =
+                serializer.deserialize(pipelineState.getStates(), IncrementalCheckpoint.class);
+        Map<String, byte[]> chunks = new HashMap<>(nullToEmpty(stored.getChunks()));
+        Map<Long, List<String>> referencesByCheckpoint = new HashMap<>();
+        nullToEmpty(stored.getReferences())
+                .forEach(
+                        (digest, checkpointId) ->
+                                referencesByCheckpoint
+                                        .computeIfAbsent(checkpointId, id -> new ArrayList<>())
+                                        .add(digest));
+        for (Map.Entry<Long, List<String>> entry : referencesByCheckpoint.entrySet()) {
+            PipelineState referenced =
+                    checkpointStorage.getCheckpoint(
+                            pipelineState.getJobId(),
+                            String.valueOf(pipelineState.getPipelineId()),
+                            String.valueOf(entry.getKey()));
+            Map<String, byte[]> referencedChunks =
+                    nullToEmpty(
+                            serializer
+                                    .deserialize(
+                                            referenced.getStates(), IncrementalCheckpoint.class)
+                                    .getChunks());
+            for (String digest : entry.getValue()) {
+                byte[] chunk = referencedChunks.get(digest);
+                if (chunk == null) {
+                    throw new CheckpointStorageException(
+                            String.format(
+                                    "The state chunk of checkpoint %s is not found in the referenced checkpoint %s",
+                                    pipelineState.getCheckpointId(), entry.getKey()));
+                }
+                chunks.put(digest, chunk);
+            }
+        }
+
+        CompletedCheckpoint skeleton = stored.getCheckpoint();
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        skeleton.getTaskStates()
+                .forEach((key, state) -> taskStates.put(key, restoreChunks(state, chunks)));
+        return new CompletedCheckpoint(
+                skeleton.getJobId(),
+                skeleton.getPipelineId(),
+                skeleton.getCheckpointId(),
+                skeleton.getCheckpointTimestamp(),
+                skeleton.getCheckpointType(),
+                skeleton.getCompletedTimestamp(),
+                taskStates,
+                skeleton.getTaskStatistics());
+    }
+
+    private static ActionState restoreChunks(ActionState state, Map<String, byte[]> chunks) {
+        ActionState restored = new ActionState(state.getStateKey(), state.getParallelism());
+        List<ActionSubtaskState> subtaskStates = state.getSubtaskStates();
+        for (int i = 0; i < subtaskStates.size(); i++) {
+            restored.reportState(i, restoreChunks(subtaskStates.get(i), chunks));
+        }
+        restored.reportState(COORDINATOR_INDEX, restoreChunks(state.getCoordinatorState(), chunks));
+        return restored;
+    }
+
+    private static ActionSubtaskState restoreChunks(
+            ActionSubtaskState state, Map<String, byte[]> chunks) {
+        if (state == null || state.getState() == null) {
+            return state;
+        }
+        List<byte[]> restored = new ArrayList<>(state.getState().size());
+        for (byte[] digest : state.getState()) {
+            restored.add(digest == null ? null : chunks.get(encode(digest)));
+        }
+        return new ActionSubtaskState(state.getStateKey(), state.getIndex(), restored);
+    }
+
+    private static String encode(byte[] digest) {
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static <K, V> Map<K, V> nullToEmpty(Map<K, V> map) {
+        return map == null ? Collections.emptyMap() : map;
+    }
+
+    /** Replace the chunks of a checkpoint by their digests. */
+    private class ChunkCollector {
+        private final long checkpointId;
+        private final Map<String, Long> formerChunks;
+        private final Map<String, byte[]> chunks = new HashMap<>();
+        private final Map<String, Long> references = new HashMap<>();
+        private final Map<String, Long> currentChunks = new HashMap<>();
+
+        private ChunkCollector(long checkpointId, Map<String, Long> formerChunks) {
+            this.checkpointId = checkpointId;
+            this.formerChunks = formerChunks;
+        }
+
+        private ActionState replaceChunks(ActionState state) {
+            ActionState replaced = new ActionState(state.getStateKey(), state.getParallelism());
+            List<ActionSubtaskState> subtaskStates = state.getSubtaskStates();
+            for (int i = 0; i < subtaskStates.size(); i++) {
+                replaced.reportState(i, replaceChunks(subtaskStates.get(i)));
+            }
+            replaced.reportState(COORDINATOR_INDEX, replaceChunks(state.getCoordinatorState()));
+            return replaced;
+        }
+
+        private ActionSubtaskState replaceChunks(ActionSubtaskState state) {
+            if (state == null || state.getState() == null) {
+                return state;
+            }
+            List<byte[]> digests = new ArrayList<>(state.getState().size());
+            for (byte[] chunk : state.getState()) {
+                if (chunk == null) {
+                    digests.add(null);
+                    continue;
+                }
+                byte[] digest = messageDigest.digest(chunk);
+                String key = encode(digest);
+                Long storedBy = formerChunks.get(key);
+                if (storedBy != null) {
+                    references.put(key, storedBy);
+                    currentChunks.put(key, storedBy);
+                } else {
+                    chunks.put(key, chunk);
+                    currentChunks.put(key, checkpointId);
+                }
+                digests.add(digest);
+            }
+            return new ActionSubtaskState(state.getStateKey(), state.getIndex(), digests);
+        }
+    }
+}
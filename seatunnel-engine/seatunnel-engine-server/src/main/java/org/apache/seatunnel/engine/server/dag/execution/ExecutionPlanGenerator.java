@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.dag.execution;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -259,8 +261,24 @@ public class ExecutionPlanGenerator {
                                         (engineConfig.getCheckpointConfig().getCheckpointInterval()
                                                 * 3))
                         .build();
+        ReadonlyConfig envOptions =
+                ReadonlyConfig.fromMap(jobImmutableInformation.getJobConfig().getEnvOptions());
+        int maxInflightBatches = envOptions.get(EnvCommonOptions.SHUFFLE_MAX_INFLIGHT_BATCHES);
+        checkArgument(
+                maxInflightBatches > 0,
+                "%s must be > 0, but is %s",
+                EnvCommonOptions.SHUFFLE_MAX_INFLIGHT_BATCHES.key(),
+                maxInflightBatches);
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .batchTransport(envOptions.get(EnvCommonOptions.SHUFFLE_BATCH_TRANSPORT))
+                        .maxInflightBatches(maxInflightBatches)
+                        .build();
+        if (shuffleConfig.isBatchTransport()) {
+            // the queue items are batches, the capacity limits the in-flight batches per channel
+            shuffleStrategy.setQueueMaxSize(shuffleConfig.getMaxInflightBatches());
+        }
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
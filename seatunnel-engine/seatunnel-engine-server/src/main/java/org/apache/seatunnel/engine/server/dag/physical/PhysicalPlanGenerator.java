@@ -19,6 +19,7 @@ package org.apache.seatunnel.engine.server.dag.physical;
 
 import org.apache.seatunnel.shade.com.google.common.collect.Lists;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
@@ -52,6 +53,7 @@ import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupDefaultImpl;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.TaskMetricsConfig;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.SinkAggregatedCommitterTask;
 import org.apache.seatunnel.engine.server.task.SourceSeaTunnelTask;
@@ -59,6 +61,7 @@ import org.apache.seatunnel.engine.server.task.SourceSplitEnumeratorTask;
 import org.apache.seatunnel.engine.server.task.TransformSeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateRingBuffer;
 
 import com.hazelcast.flakeidgen.FlakeIdGenerator;
 import com.hazelcast.jet.datamodel.Tuple2;
@@ -69,10 +72,12 @@ import lombok.NonNull;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -85,6 +90,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.seatunnel.engine.common.config.server.QueueType.BLOCKINGQUEUE;
+import static org.apache.seatunnel.engine.common.config.server.QueueType.RINGBUFFER;
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 
 public class PhysicalPlanGenerator {
 
@@ -126,6 +133,12 @@ public class PhysicalPlanGenerator {
 
     private final QueueType queueType;
 
+    private final int queueBatchSize;
+
+    private final long queueLingerMs;
+
+    private final TaskMetricsConfig taskMetricsConfig;
+
     public PhysicalPlanGenerator(
             @NonNull ExecutionPlan executionPlan,
             @NonNull NodeEngine nodeEngine,
@@ -148,7 +161,44 @@ public class PhysicalPlanGenerator {
         this.subtaskActions = new HashMap<>();
         this.runningJobStateIMap = runningJobStateIMap;
         this.runningJobStateTimestampsIMap = runningJobStateTimestampsIMap;
-        this.queueType = queueType;
+        ReadonlyConfig envOptions =
+                ReadonlyConfig.fromMap(jobImmutableInformation.getJobConfig().getEnvOptions());
+        this.queueType =
+                envOptions
+                        .getOptional(EnvCommonOptions.INTERMEDIATE_QUEUE_TYPE)
+                        .map(PhysicalPlanGenerator::parseQueueType)
+                        .orElse(queueType);
+        this.queueBatchSize = envOptions.get(EnvCommonOptions.INTERMEDIATE_QUEUE_BATCH_SIZE);
+        checkArgument(
+                queueBatchSize > 0,
+                "%s must be > 0, but is %s",
+                EnvCommonOptions.INTERMEDIATE_QUEUE_BATCH_SIZE.key(),
+                queueBatchSize);
+        this.queueLingerMs = envOptions.get(EnvCommonOptions.INTERMEDIATE_QUEUE_LINGER_MS);
+        checkArgument(
+                queueLingerMs >= 0,
+                "%s must be >= 0, but is %s",
+                EnvCommonOptions.INTERMEDIATE_QUEUE_LINGER_MS.key(),
+                queueLingerMs);
+        this.taskMetricsConfig =
+                TaskMetricsConfig.fromEnvOptions(
+                        jobImmutableInformation.getJobConfig().getEnvOptions());
+    }
+
+    private static QueueType parseQueueType(String type) {
+        for (QueueType queueType : QueueType.values()) {
+            if (queueType.name().equalsIgnoreCase(type)) {
+                return queueType;
+            }
+        }
+        throw new IllegalArgumentException(
+                String.format(
+                        "Unsupported %s: %s, the supported values are %s",
+                        EnvCommonOptions.INTERMEDIATE_QUEUE_TYPE.key(),
+                        type,
+                        Arrays.stream(QueueType.values())
+                                .map(queueType -> queueType.name().toLowerCase(Locale.ROOT))
+                                .collect(Collectors.joining(", "))));
     }
 
     public Tuple2<PhysicalPlan, Map<Integer, CheckpointPlan>> generate() {
@@ -599,6 +649,14 @@ public class PhysicalPlanGenerator {
                                                         taskList.stream()
                                                                 .map(task -> (Task) task)
                                                                 .collect(Collectors.toList()));
+                                    } else if (queueType.equals(RINGBUFFER)) {
+                                        taskGroup =
+                                                new TaskGroupWithIntermediateRingBuffer(
+                                                        taskGroupLocation,
+                                                        flow.getAction().getName() + "-SourceTask",
+                                                        taskList.stream()
+                                                                .map(task -> (Task) task)
+                                                                .collect(Collectors.toList()));
                                     } else {
                                         taskGroup =
                                                 new TaskGroupWithIntermediateDisruptor(
@@ -681,6 +739,7 @@ public class PhysicalPlanGenerator {
                 flow.setConfig(config);
             } else if (flow.getAction() instanceof SinkAction) {
                 SinkConfig config = new SinkConfig();
+                config.setMetricsConfig(taskMetricsConfig);
                 if (committerTaskIDMap.containsKey((SinkAction<?, ?, ?, ?>) flow.getAction())) {
                     config.setContainCommitter(true);
                     config.setCommitterTask(
@@ -692,7 +751,9 @@ public class PhysicalPlanGenerator {
             ((IntermediateExecutionFlow<IntermediateQueueConfig>) f)
                     .setConfig(
                             new IntermediateQueueConfig(
-                                    ((IntermediateExecutionFlow<?>) f).getQueue().getId()));
+                                    ((IntermediateExecutionFlow<?>) f).getQueue().getId(),
+                                    queueBatchSize,
+                                    queueLingerMs));
         } else {
             throw new UnknownFlowException(f);
         }
@@ -19,13 +19,37 @@ package org.apache.seatunnel.engine.server.dag.physical.config;
 
 public class IntermediateQueueConfig implements FlowConfig {
 
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    public static final long DEFAULT_LINGER_MS = 0;
+
     private final long queueID;
 
+    /** The max number of records handed over at once, only used by batching queues. */
+    private final int batchSize;
+
+    /** The max time to wait for a full batch, only used by batching queues. */
+    private final long lingerMs;
+
     public IntermediateQueueConfig(long queueID) {
+        this(queueID, DEFAULT_BATCH_SIZE, DEFAULT_LINGER_MS);
+    }
+
+    public IntermediateQueueConfig(long queueID, int batchSize, long lingerMs) {
         this.queueID = queueID;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
     }
 
     public long getQueueID() {
         return queueID;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getLingerMs() {
+        return lingerMs;
+    }
 }
@@ -18,11 +18,13 @@
 package org.apache.seatunnel.engine.server.dag.physical.config;
 
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.TaskMetricsConfig;
 
 public class SinkConfig implements FlowConfig {
 
     private TaskLocation committerTask;
     private boolean containCommitter;
+    private TaskMetricsConfig metricsConfig = TaskMetricsConfig.DEFAULT;
 
     public TaskLocation getCommitterTask() {
         return committerTask;
@@ -39,4 +41,12 @@ public class SinkConfig implements FlowConfig {
     public void setContainCommitter(boolean containCommitter) {
         this.containCommitter = containCommitter;
     }
+
+    public TaskMetricsConfig getMetricsConfig() {
+        return metricsConfig;
+    }
+
+    public void setMetricsConfig(TaskMetricsConfig metricsConfig) {
+        this.metricsConfig = metricsConfig;
+    }
 }
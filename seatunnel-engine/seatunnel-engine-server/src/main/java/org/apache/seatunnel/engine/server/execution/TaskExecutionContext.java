@@ -37,12 +37,25 @@ public class TaskExecutionContext {
     private final Task task;
     private final NodeEngineImpl nodeEngine;
     private final TaskExecutionService taskExecutionService;
+    private final boolean cooperative;
 
     public TaskExecutionContext(
-            Task task, NodeEngineImpl nodeEngine, TaskExecutionService taskExecutionService) {
+            Task task,
+            NodeEngineImpl nodeEngine,
+            TaskExecutionService taskExecutionService,
+            boolean cooperative) {
         this.task = task;
         this.nodeEngine = nodeEngine;
         this.taskExecutionService = taskExecutionService;
+        this.cooperative = cooperative;
+    }
+
+    /**
+     * Whether the task shares its thread with other tasks, such a task must not block in {@link
+     * Task#call()}.
+     */
+    public boolean isCooperative() {
+        return cooperative;
     }
 
     public <E> InvocationFuture<E> sendToMaster(Operation operation) {
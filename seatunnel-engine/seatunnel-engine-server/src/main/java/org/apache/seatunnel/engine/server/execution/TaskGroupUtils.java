@@ -19,6 +19,7 @@ package org.apache.seatunnel.engine.server.execution;
 
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateRingBuffer;
 
 import java.util.Collection;
 
@@ -38,6 +39,9 @@ public class TaskGroupUtils {
             case INTERMEDIATE_DISRUPTOR_QUEUE:
                 return new TaskGroupWithIntermediateDisruptor(
                         taskGroupLocation, taskGroupName, tasks);
+            case INTERMEDIATE_RING_BUFFER_QUEUE:
+                return new TaskGroupWithIntermediateRingBuffer(
+                        taskGroupLocation, taskGroupName, tasks);
             default:
                 throw new IllegalArgumentException("Unsupported task group type: " + type);
         }
@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Run the thread shared tasks on a fixed number of workers. Every worker owns a local deque, the
+ * tasks of one task group are pinned to the least loaded worker when they are submitted and a task
+ * which is not done is put back to the deque of the worker which called it. An idle worker steals
+ * tasks from the tail of the other deques.
+ *
+ * <p>A worker which is stuck in one call for longer than the detach threshold keeps calling that
+ * task exclusively until it is done, and a new worker takes over its deque.
+ *
+ * @param <T> The type of the scheduled tasks.
+ */
+@Slf4j
+public class WorkStealingTaskScheduler<T> implements Closeable {
+
+    private static final long IDLE_WAIT_MILLIS = 10;
+
+    private static final String WORKER_TAG = "cooperativeWorker";
+
+    /** Call the task once and tell whether it must be scheduled again. */
+    @FunctionalInterface
+    public interface TaskCaller<T> {
+        /**
+         * @param task the task to call.
+         * @param call the running call, cancelling it interrupts the worker while it is still in
+         *     this call.
+         * @return true if the task is not done yet.
+         */
+        boolean call(T task, Future<?> call);
+    }
+
+    private final WorkerSlot[] slots;
+
+    private final ExecutorService executorService;
+
+    private final TaskCaller<T> taskCaller;
+
+    private final long timeSliceNanos;
+
+    private final long detachNanos;
+
+    private final long monitorIntervalMillis;
+
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    private final AtomicInteger exclusiveWorkers = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    /**
+     * @param parallelism the number of workers.
+     * @param timeSliceMillis a call which runs longer is counted as an overrun.
+     * @param detachMillis a worker which is in one call for longer is detached from its deque.
+     * @param executorService the executor which runs the workers.
+     * @param taskCaller calls the scheduled tasks.
+     */
+    @SuppressWarnings("unchecked")
+    public WorkStealingTaskScheduler(
+            int parallelism,
+            long timeSliceMillis,
+            long detachMillis,
+            ExecutorService executorService,
+            TaskCaller<T> taskCaller) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+        this.slots = new WorkStealingTaskScheduler.WorkerSlot[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            slots[i] = new WorkerSlot(i);
+        }
+        this.executorService = executorService;
+        this.taskCaller = taskCaller;
+        this.timeSliceNanos = TimeUnit.MILLISECONDS.toNanos(timeSliceMillis);
+        this.detachNanos = TimeUnit.MILLISECONDS.toNanos(detachMillis);
+        this.monitorIntervalMillis = Math.max(1, Math.min(timeSliceMillis, detachMillis));
+    }
+
+    public void start() {
+        for (WorkerSlot slot : slots) {
+            startWorker(slot);
+        }
+        executorService.execute(this::monitor);
+    }
+
+    /** Submit the tasks of one task group, they all start on the same worker. */
+    public void submit(Collection<T> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        WorkerSlot slot = leastLoadedSlot();
+        slot.deque.addAll(tasks);
+    }
+
+    public int getParallelism() {
+        return slots.length;
+    }
+
+    public int getQueuedTaskCount() {
+        int count = 0;
+        for (WorkerSlot slot : slots) {
+            count += slot.deque.size();
+        }
+        return count;
+    }
+
+    public long getStealCount() {
+        long count = 0;
+        for (WorkerSlot slot : slots) {
+            count += slot.steals.get();
+        }
+        return count;
+    }
+
+    public long getCallCount() {
+        long count = 0;
+        for (WorkerSlot slot : slots) {
+            count += slot.calls.get();
+        }
+        return count;
+    }
+
+    public int getExclusiveWorkerCount() {
+        return exclusiveWorkers.get();
+    }
+
+    public void provideDynamicMetrics(
+            MetricDescriptor descriptor, MetricsCollectionContext context) {
+        context.collect(
+                descriptor.copy(),
+                "cooperativeExclusiveWorkerCount",
+                ProbeLevel.INFO,
+                ProbeUnit.COUNT,
+                exclusiveWorkers.get());
+        for (WorkerSlot slot : slots) {
+            MetricDescriptor worker =
+                    descriptor.copy().withTag(WORKER_TAG, String.valueOf(slot.index));
+            context.collect(
+                    worker.copy(),
+                    "cooperativeTaskQueueSize",
+                    ProbeLevel.INFO,
+                    ProbeUnit.COUNT,
+                    slot.deque.size());
+            context.collect(
+                    worker.copy(),
+                    "cooperativeTaskCallCount",
+                    ProbeLevel.INFO,
+                    ProbeUnit.COUNT,
+                    slot.calls.get());
+            context.collect(
+                    worker.copy(),
+                    "cooperativeTaskCallTime",
+                    ProbeLevel.INFO,
+                    ProbeUnit.MS,
+                    TimeUnit.NANOSECONDS.toMillis(slot.busyNanos.get()));
+            context.collect(
+                    worker.copy(),
+                    "cooperativeTaskCallOverrunCount",
+                    ProbeLevel.INFO,
+                    ProbeUnit.COUNT,
+                    slot.overruns.get());
+            context.collect(
+                    worker.copy(),
+                    "cooperativeTaskStealCount",
+                    ProbeLevel.INFO,
+                    ProbeUnit.COUNT,
+                    slot.steals.get());
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+    }
+
+    private WorkerSlot leastLoadedSlot() {
+        int start = Math.floorMod(nextSlot.getAndIncrement(), slots.length);
+        WorkerSlot best = slots[start];
+        int bestLoad = best.load();
+        for (int i = 1; i < slots.length && bestLoad > 0; i++) {
+            WorkerSlot slot = slots[(start + i) % slots.length];
+            int load = slot.load();
+            if (load < bestLoad) {
+                best = slot;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private void startWorker(WorkerSlot slot) {
+        Worker worker = new Worker(slot);
+        slot.worker = worker;
+        executorService.execute(worker);
+    }
+
+    /** Detach the workers which are stuck in one call and start new workers for their deques. */
+    private void monitor() {
+        while (running) {
+            long now = System.nanoTime();
+            for (WorkerSlot slot : slots) {
+                Worker worker = slot.worker;
+                long callStart = worker.callStartNanos;
+                if (callStart != 0 && now - callStart > detachNanos) {
+                    worker.detached = true;
+                    exclusiveWorkers.incrementAndGet();
+                    log.info(
+                            "Cooperative worker {} is in one task call for more than {} ms, "
+                                    + "start a new worker for its task queue",
+                            slot.index,
+                            TimeUnit.NANOSECONDS.toMillis(detachNanos));
+                    startWorker(slot);
+                }
+            }
+            try {
+                Thread.sleep(monitorIntervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /** The deque and the time slice accounting of one worker, shared with its replacements. */
+    private final class WorkerSlot {
+        private final int index;
+        private final LinkedBlockingDeque<T> deque = new LinkedBlockingDeque<>();
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private final AtomicLong overruns = new AtomicLong();
+        private final AtomicLong steals = new AtomicLong();
+        private volatile Worker worker;
+
+        private WorkerSlot(int index) {
+            this.index = index;
+        }
+
+        private int load() {
+            return deque.size() + (worker != null && worker.callStartNanos != 0 ? 1 : 0);
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final WorkerSlot slot;
+        private volatile long callStartNanos;
+        private volatile boolean detached;
+
+        private Worker(WorkerSlot slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public void run() {
+            while (running && !detached) {
+                T task = slot.deque.pollFirst();
+                if (task == null) {
+                    task = steal();
+                }
+                if (task == null) {
+                    try {
+                        task = slot.deque.pollFirst(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        if (!running) {
+                            return;
+                        }
+                    }
+                    if (task == null) {
+                        continue;
+                    }
+                }
+                boolean again = call(task);
+                if (detached) {
+                    runExclusively(task, again);
+                    return;
+                }
+                if (again) {
+                    slot.deque.offerLast(task);
+                }
+            }
+        }
+
+        private T steal() {
+            for (int i = 1; i < slots.length; i++) {
+                WorkerSlot victim = slots[(slot.index + i) % slots.length];
+                T task = victim.deque.pollLast();
+                if (task != null) {
+                    slot.steals.incrementAndGet();
+                    return task;
+                }
+            }
+            return null;
+        }
+
+        private void runExclusively(T task, boolean again) {
+            try {
+                while (again && running) {
+                    again = call(task);
+                }
+            } finally {
+                exclusiveWorkers.decrementAndGet();
+            }
+        }
+
+        private boolean call(T task) {
+            RunningCall call = new RunningCall(Thread.currentThread());
+            boolean accounted = !detached;
+            long start = System.nanoTime();
+            callStartNanos = start;
+            try {
+                return taskCaller.call(task, call);
+            } catch (Throwable e) {
+                log.error("Unexpected exception in task call of {}", task, e);
+                return false;
+            } finally {
+                callStartNanos = 0;
+                call.finish();
+                if (accounted) {
+                    long elapsed = System.nanoTime() - start;
+                    slot.calls.incrementAndGet();
+                    slot.busyNanos.addAndGet(elapsed);
+                    if (elapsed > timeSliceNanos) {
+                        slot.overruns.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Interrupts the worker thread only while it is still in the call it was created for. {@link
+     * #get()} waits until the call returns or is cancelled.
+     */
+    private static final class RunningCall implements Future<Void> {
+        private final Thread thread;
+        private boolean done;
+        private boolean cancelled;
+
+        private RunningCall(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (done || cancelled) {
+                return false;
+            }
+            cancelled = true;
+            if (mayInterruptIfRunning) {
+                thread.interrupt();
+            }
+            notifyAll();
+            return true;
+        }
+
+        private void finish() {
+            boolean interrupted;
+            synchronized (this) {
+                done = true;
+                interrupted = cancelled;
+                notifyAll();
+            }
+            if (interrupted) {
+                // the interrupt must not leak into the next task call
+                Thread.interrupted();
+            }
+        }
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return done || cancelled;
+        }
+
+        @Override
+        public synchronized Void get() throws InterruptedException {
+            while (!isDone()) {
+                wait();
+            }
+            return result();
+        }
+
+        @Override
+        public synchronized Void get(long timeout, TimeUnit unit)
+                throws InterruptedException, TimeoutException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isDone()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return result();
+        }
+
+        private Void result() {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+    }
+}
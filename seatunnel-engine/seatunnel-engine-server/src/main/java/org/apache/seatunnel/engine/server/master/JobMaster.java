@@ -315,6 +315,8 @@ public class JobMaster {
         CheckpointConfig jobCheckpointConfig = new CheckpointConfig();
         jobCheckpointConfig.setCheckpointTimeout(defaultCheckpointConfig.getCheckpointTimeout());
         jobCheckpointConfig.setCheckpointInterval(defaultCheckpointConfig.getCheckpointInterval());
+        jobCheckpointConfig.setIncremental(defaultCheckpointConfig.isIncremental());
+        jobCheckpointConfig.setAsyncUpload(defaultCheckpointConfig.isAsyncUpload());
 
         CheckpointStorageConfig jobCheckpointStorageConfig = new CheckpointStorageConfig();
         jobCheckpointStorageConfig.setStorage(defaultCheckpointConfig.getStorage().getStorage());
@@ -686,6 +688,7 @@ public class JobMaster {
 
     public void cleanJob() {
         checkpointManager.clearCheckpointIfNeed(physicalPlan.getJobStatus());
+        checkpointManager.close();
         jobHistoryService.storeJobInfo(jobImmutableInformation.getJobId(), getJobDAGInfo());
         jobHistoryService.storeFinishedJobState(this);
         removeJobIMap();
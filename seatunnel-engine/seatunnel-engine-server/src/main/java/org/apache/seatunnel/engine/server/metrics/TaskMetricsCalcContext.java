@@ -21,14 +21,17 @@ import org.apache.seatunnel.api.common.metrics.Meter;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.constants.PluginType;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
@@ -41,6 +44,9 @@ import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVE
 
 public class TaskMetricsCalcContext {
 
+    /** The number of updates between two checks whether the flush interval elapsed. */
+    private static final int FLUSH_CHECK_UPDATES = 64;
+
     private final MetricsContext metricsContext;
 
     private final PluginType type;
@@ -61,13 +67,51 @@ public class TaskMetricsCalcContext {
 
     private Map<String, Meter> bytesPerSecondsPerTable = new ConcurrentHashMap<>();
 
+    /**
+     * The metrics of the tables by the table id of the rows, only accessed by the thread updating
+     * the metrics.
+     */
+    private final Map<String, TableMetrics> tableMetrics = new HashMap<>();
+
+    private String lastTableId;
+
+    private TableMetrics lastTableMetrics;
+
+    private final long flushIntervalNanos;
+
+    private final int bytesSampleInterval;
+
+    // samples the bytes of the rows without a table id, the tables sample their own rows
+    private final RowBytesSampler rowBytesSampler;
+
+    // the updates accumulated since the last flush, see #flush()
+    private long pendingCount;
+
+    private long pendingBytes;
+
+    private int updatesSinceFlushCheck;
+
+    private long lastFlushNanos = System.nanoTime();
+
     public TaskMetricsCalcContext(
             MetricsContext metricsContext,
             PluginType type,
             boolean isMulti,
             List<TablePath> tables) {
+        this(metricsContext, type, isMulti, tables, TaskMetricsConfig.DEFAULT);
+    }
+
+    public TaskMetricsCalcContext(
+            MetricsContext metricsContext,
+            PluginType type,
+            boolean isMulti,
+            List<TablePath> tables,
+            TaskMetricsConfig metricsConfig) {
         this.metricsContext = metricsContext;
         this.type = type;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(metricsConfig.getFlushIntervalMs());
+        this.bytesSampleInterval = metricsConfig.getBytesSampleInterval();
+        this.rowBytesSampler = new RowBytesSampler(bytesSampleInterval);
         initializeMetrics(isMulti, tables);
     }
 
@@ -123,74 +167,130 @@ public class TaskMetricsCalcContext {
     }
 
     public void updateMetrics(Object data, String tableId) {
-        count.inc();
-        QPS.markEvent();
         if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
-            bytes.inc(row.getBytesSize());
-            bytesPerSeconds.markEvent(row.getBytesSize());
-
-            if (StringUtils.isNotBlank(tableId)) {
-                String tableName = TablePath.of(tableId).getFullName();
-
-                // Processing count
-                processMetrics(
-                        countPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_COUNT,
-                        SOURCE_RECEIVED_COUNT,
-                        Counter::inc);
-
-                // Processing bytes
-                processMetrics(
-                        bytesPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_BYTES,
-                        SOURCE_RECEIVED_BYTES,
-                        counter -> counter.inc(row.getBytesSize()));
-
-                // Processing QPS
-                processMetrics(
-                        QPSPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_QPS,
-                        SOURCE_RECEIVED_QPS,
-                        Meter::markEvent);
-
-                // Processing bytes rate
-                processMetrics(
-                        bytesPerSecondsPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_BYTES_PER_SECONDS,
-                        SOURCE_RECEIVED_BYTES_PER_SECONDS,
-                        meter -> meter.markEvent(row.getBytesSize()));
+            updateMetrics((SeaTunnelRow) data, null, tableId);
+        } else {
+            count.inc();
+            QPS.markEvent();
+        }
+    }
+
+    /**
+     * Update the metrics of a row, its bytes are measured with the given row type when it is not
+     * null, and only for every {@code bytesSampleInterval}th row of its table.
+     */
+    public void updateMetrics(SeaTunnelRow row, SeaTunnelRowType rowType, String tableId) {
+        TableMetrics table = StringUtils.isNotBlank(tableId) ? getTableMetrics(tableId) : null;
+        RowBytesSampler sampler = table == null ? rowBytesSampler : table.rowBytesSampler;
+        updateMetrics(1, sampler.sample(row, rowType), table);
+    }
+
+    private void updateMetrics(long rowCount, long bytesSize, TableMetrics table) {
+        if (flushIntervalNanos <= 0) {
+            count.inc(rowCount);
+            QPS.markEvent(rowCount);
+            bytes.inc(bytesSize);
+            bytesPerSeconds.markEvent(bytesSize);
+            if (table != null) {
+                table.publish(rowCount, bytesSize);
             }
+            return;
         }
+        pendingCount += rowCount;
+        pendingBytes += bytesSize;
+        if (table != null) {
+            table.pendingCount += rowCount;
+            table.pendingBytes += bytesSize;
+        }
+        if (++updatesSinceFlushCheck >= FLUSH_CHECK_UPDATES) {
+            updatesSinceFlushCheck = 0;
+            if (System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Publish the locally accumulated metrics, it must be called by the thread which updates the
+     * metrics, e.g. when the task becomes idle, at checkpoint barriers and on close.
+     */
+    public void flush() {
+        lastFlushNanos = System.nanoTime();
+        if (pendingCount == 0 && pendingBytes == 0) {
+            return;
+        }
+        count.inc(pendingCount);
+        QPS.markEvent(pendingCount);
+        bytes.inc(pendingBytes);
+        bytesPerSeconds.markEvent(pendingBytes);
+        pendingCount = 0;
+        pendingBytes = 0;
+        for (TableMetrics table : tableMetrics.values()) {
+            if (table.pendingCount != 0 || table.pendingBytes != 0) {
+                table.publish(table.pendingCount, table.pendingBytes);
+                table.pendingCount = 0;
+                table.pendingBytes = 0;
+            }
+        }
+    }
+
+    private TableMetrics getTableMetrics(String tableId) {
+        if (tableId.equals(lastTableId)) {
+            return lastTableMetrics;
+        }
+        TableMetrics table = tableMetrics.get(tableId);
+        if (table == null) {
+            String tableName = TablePath.of(tableId).getFullName();
+            table =
+                    new TableMetrics(
+                            getOrCreateMetric(
+                                    countPerTable,
+                                    Counter.class,
+                                    tableName,
+                                    SINK_WRITE_COUNT,
+                                    SOURCE_RECEIVED_COUNT),
+                            getOrCreateMetric(
+                                    QPSPerTable,
+                                    Meter.class,
+                                    tableName,
+                                    SINK_WRITE_QPS,
+                                    SOURCE_RECEIVED_QPS),
+                            getOrCreateMetric(
+                                    bytesPerTable,
+                                    Counter.class,
+                                    tableName,
+                                    SINK_WRITE_BYTES,
+                                    SOURCE_RECEIVED_BYTES),
+                            getOrCreateMetric(
+                                    bytesPerSecondsPerTable,
+                                    Meter.class,
+                                    tableName,
+                                    SINK_WRITE_BYTES_PER_SECONDS,
+                                    SOURCE_RECEIVED_BYTES_PER_SECONDS),
+                            new RowBytesSampler(bytesSampleInterval));
+            tableMetrics.put(tableId, table);
+        }
+        lastTableId = tableId;
+        lastTableMetrics = table;
+        return table;
     }
 
-    private <T> void processMetrics(
+    private <T> T getOrCreateMetric(
             Map<String, T> metricMap,
             Class<T> cls,
             String tableName,
             String sinkMetric,
-            String sourceMetric,
-            MetricProcessor<T> processor) {
+            String sourceMetric) {
         T metric = metricMap.get(tableName);
-        if (Objects.nonNull(metric)) {
-            processor.process(metric);
-        } else {
+        if (Objects.isNull(metric)) {
             String metricName =
                     PluginType.SINK.equals(type)
                             ? sinkMetric + "#" + tableName
                             : sourceMetric + "#" + tableName;
-            T newMetric = createMetric(metricsContext, metricName, cls);
-            processor.process(newMetric);
-            metricMap.put(tableName, newMetric);
+            metric = createMetric(metricsContext, metricName, cls);
+            metricMap.put(tableName, metric);
         }
+        return metric;
     }
 
     private <T> T createMetric(
@@ -203,8 +303,53 @@ public class TaskMetricsCalcContext {
         throw new IllegalArgumentException("Unsupported metric class: " + metricClass.getName());
     }
 
-    @FunctionalInterface
-    interface MetricProcessor<T> {
-        void process(T t);
+    /** The metrics of one table and its updates not published yet. */
+    private static class TableMetrics {
+        private final Counter count;
+        private final Meter QPS;
+        private final Counter bytes;
+        private final Meter bytesPerSeconds;
+        private final RowBytesSampler rowBytesSampler;
+        private long pendingCount;
+        private long pendingBytes;
+
+        private TableMetrics(
+                Counter count,
+                Meter QPS,
+                Counter bytes,
+                Meter bytesPerSeconds,
+                RowBytesSampler rowBytesSampler) {
+            this.count = count;
+            this.QPS = QPS;
+            this.bytes = bytes;
+            this.bytesPerSeconds = bytesPerSeconds;
+            this.rowBytesSampler = rowBytesSampler;
+        }
+
+        private void publish(long rowCount, long bytesSize) {
+            count.inc(rowCount);
+            QPS.markEvent(rowCount);
+            bytes.inc(bytesSize);
+            bytesPerSeconds.markEvent(bytesSize);
+        }
+    }
+
+    /** Measures every {@code interval}th row, the rows in between count with its size. */
+    private static class RowBytesSampler {
+        private final int interval;
+        private int rowsUntilSample;
+        private int sampledBytes;
+
+        private RowBytesSampler(int interval) {
+            this.interval = interval;
+        }
+
+        private int sample(SeaTunnelRow row, SeaTunnelRowType rowType) {
+            if (--rowsUntilSample <= 0) {
+                rowsUntilSample = interval;
+                sampledBytes = rowType == null ? row.getBytesSize() : row.getBytesSize(rowType);
+            }
+            return sampledBytes;
+        }
     }
 }
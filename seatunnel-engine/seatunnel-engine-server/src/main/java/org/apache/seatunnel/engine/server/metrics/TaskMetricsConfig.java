@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
+
+/** How the source and sink tasks of a job update their row count and bytes metrics. */
+public class TaskMetricsConfig implements Serializable {
+
+    public static final TaskMetricsConfig DEFAULT =
+            new TaskMetricsConfig(
+                    EnvCommonOptions.METRICS_FLUSH_INTERVAL_MS.defaultValue(),
+                    EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL.defaultValue());
+
+    /** The interval to publish the locally accumulated metrics, 0 publishes every update. */
+    private final long flushIntervalMs;
+
+    /** Only the bytes of every Nth row are measured. */
+    private final int bytesSampleInterval;
+
+    public TaskMetricsConfig(long flushIntervalMs, int bytesSampleInterval) {
+        checkArgument(
+                flushIntervalMs >= 0,
+                "%s must be >= 0, but is %s",
+                EnvCommonOptions.METRICS_FLUSH_INTERVAL_MS.key(),
+                flushIntervalMs);
+        checkArgument(
+                bytesSampleInterval > 0,
+                "%s must be > 0, but is %s",
+                EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL.key(),
+                bytesSampleInterval);
+        this.flushIntervalMs = flushIntervalMs;
+        this.bytesSampleInterval = bytesSampleInterval;
+    }
+
+    public static TaskMetricsConfig fromEnvOptions(Map<String, Object> envOptions) {
+        if (envOptions == null || envOptions.isEmpty()) {
+            return DEFAULT;
+        }
+        ReadonlyConfig config = ReadonlyConfig.fromMap(envOptions);
+        return new TaskMetricsConfig(
+                config.get(EnvCommonOptions.METRICS_FLUSH_INTERVAL_MS),
+                config.get(EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL));
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public int getBytesSampleInterval() {
+        return bytesSampleInterval;
+    }
+}
@@ -22,6 +22,9 @@ import org.apache.seatunnel.engine.common.runtime.ExecutionMode;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.ReleaseSlotOperation;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.ResetResourceOperation;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.SyncWorkerProfileOperation;
+import org.apache.seatunnel.engine.server.resourcemanager.placement.SlotPlacementContext;
+import org.apache.seatunnel.engine.server.resourcemanager.placement.SlotPlacementStrategy;
+import org.apache.seatunnel.engine.server.resourcemanager.placement.SlotPlacementStrategyFactory;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
@@ -57,6 +60,10 @@ public abstract class AbstractResourceManager implements ResourceManager {
 
     private final EngineConfig engineConfig;
 
+    private final SlotPlacementStrategy slotPlacementStrategy;
+
+    private final SlotPlacementContext slotPlacementContext;
+
     private volatile boolean isRunning = true;
 
     public AbstractResourceManager(NodeEngine nodeEngine, EngineConfig engineConfig) {
@@ -64,6 +71,19 @@ public abstract class AbstractResourceManager implements ResourceManager {
         this.nodeEngine = nodeEngine;
         this.engineConfig = engineConfig;
         this.mode = engineConfig.getMode();
+        this.slotPlacementStrategy =
+                SlotPlacementStrategyFactory.create(
+                        engineConfig.getSlotServiceConfig().getSlotPlacementStrategy());
+        this.slotPlacementContext = new SlotPlacementContext();
+        log.info("Use slot placement strategy {}", slotPlacementStrategy.identifier());
+    }
+
+    public SlotPlacementStrategy getSlotPlacementStrategy() {
+        return slotPlacementStrategy;
+    }
+
+    public SlotPlacementContext getSlotPlacementContext() {
+        return slotPlacementContext;
     }
 
     @Override
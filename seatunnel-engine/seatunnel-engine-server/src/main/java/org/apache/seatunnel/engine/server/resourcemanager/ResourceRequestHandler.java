@@ -21,6 +21,7 @@ import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTestin
 
 import org.apache.seatunnel.engine.common.runtime.DeployType;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.RequestSlotOperation;
+import org.apache.seatunnel.engine.server.resourcemanager.placement.SlotPlacementContext;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
@@ -32,13 +33,13 @@ import com.hazelcast.logging.Logger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
 
@@ -190,50 +191,69 @@ public class ResourceRequestHandler {
 
     private CompletableFuture<SlotAndWorkerProfile> singleResourceRequestToMember(
             int i, ResourceProfile r, WorkerProfile workerProfile) {
-        CompletableFuture<SlotAndWorkerProfile> future =
-                resourceManager.sendToMember(
-                        new RequestSlotOperation(jobId, r), workerProfile.getAddress());
+        Address address = workerProfile.getAddress();
+        SlotPlacementContext placementContext = resourceManager.getSlotPlacementContext();
+        // count the request until the answer updated the worker profile
+        placementContext.reserve(jobId, address);
+        CompletableFuture<SlotAndWorkerProfile> future;
+        try {
+            future = resourceManager.sendToMember(new RequestSlotOperation(jobId, r), address);
+        } catch (RuntimeException e) {
+            placementContext.release(jobId, address);
+            throw e;
+        }
         return future.whenComplete(
                 withTryCatch(
                         LOGGER,
                         (slotAndWorkerProfile, error) -> {
-                            if (error != null) {
-                                throw new RuntimeException(error);
-                            } else {
-                                resourceManager.heartbeat(slotAndWorkerProfile.getWorkerProfile());
-                                addSlotToCacheMap(i, slotAndWorkerProfile.getSlotProfile());
+                            try {
+                                if (error != null) {
+                                    throw new RuntimeException(error);
+                                } else {
+                                    resourceManager.heartbeat(
+                                            slotAndWorkerProfile.getWorkerProfile());
+                                    addSlotToCacheMap(i, slotAndWorkerProfile.getSlotProfile());
+                                }
+                            } finally {
+                                placementContext.release(jobId, address);
                             }
                         }));
     }
 
     @VisibleForTesting
     public Optional<WorkerProfile> preCheckWorkerResource(ResourceProfile r) {
-        // Shuffle the order to ensure random selection of workers
-        List<WorkerProfile> workerProfiles =
-                Arrays.asList(registerWorker.values().toArray(new WorkerProfile[0]));
-        Collections.shuffle(workerProfiles);
-        // Check if there are still unassigned slots
-        Optional<WorkerProfile> workerProfile =
-                workerProfiles.stream()
+        SlotPlacementContext placementContext = resourceManager.getSlotPlacementContext();
+        // Check if there are still unassigned slots which are not requested by pending requests
+        List<WorkerProfile> candidates =
+                registerWorker.values().stream()
                         .filter(
                                 worker ->
                                         Arrays.stream(worker.getUnassignedSlots())
-                                                .anyMatch(
-                                                        slot ->
-                                                                slot.getResourceProfile()
-                                                                        .enoughThan(r)))
-                        .findAny();
+                                                        .filter(
+                                                                slot ->
+                                                                        slot.getResourceProfile()
+                                                                                .enoughThan(r))
+                                                        .count()
+                                                > placementContext.getPendingSlots(
+                                                        worker.getAddress()))
+                        .collect(Collectors.toList());
 
-        if (!workerProfile.isPresent()) {
+        if (candidates.isEmpty()) {
             // Check if there are still unassigned resources
-            workerProfile =
-                    workerProfiles.stream()
+            candidates =
+                    registerWorker.values().stream()
                             .filter(WorkerProfile::isDynamicSlot)
                             .filter(worker -> worker.getUnassignedResource().enoughThan(r))
-                            .findAny();
+                            .collect(Collectors.toList());
         }
 
-        return workerProfile;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                resourceManager
+                        .getSlotPlacementStrategy()
+                        .select(jobId, candidates, placementContext));
     }
 
     /**
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.placement;
+
+import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Select the worker which holds the most slots of the job, so that the tasks of a job exchange
+ * data inside one worker as long as it has free slots. The least loaded worker is selected for the
+ * first slot of a job.
+ */
+public class ColocateSlotPlacementStrategy implements SlotPlacementStrategy {
+
+    public static final String IDENTIFIER = "COLOCATE";
+
+    @Override
+    public String identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public WorkerProfile select(
+            long jobId, List<WorkerProfile> candidates, SlotPlacementContext context) {
+        List<WorkerProfile> shuffled = new ArrayList<>(candidates);
+        Collections.shuffle(shuffled);
+        Comparator<WorkerProfile> comparator =
+                Comparator.<WorkerProfile>comparingInt(worker -> -jobSlots(jobId, worker, context))
+                        .thenComparingDouble(
+                                worker ->
+                                        LeastLoadedSlotPlacementStrategy.loadScore(
+                                                worker, context));
+        return Collections.min(shuffled, comparator);
+    }
+
+    private static int jobSlots(long jobId, WorkerProfile worker, SlotPlacementContext context) {
+        int slots = context.getPendingSlots(jobId, worker.getAddress());
+        for (SlotProfile slot : worker.getAssignedSlots()) {
+            if (slot.getOwnerJobID() == jobId) {
+                slots++;
+            }
+        }
+        return slots;
+    }
+}
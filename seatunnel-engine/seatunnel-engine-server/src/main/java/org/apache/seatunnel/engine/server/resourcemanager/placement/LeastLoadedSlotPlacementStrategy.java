@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.placement;
+
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Select the worker with the lowest load score, the higher one of the cpu load and the heap usage
+ * reported by the worker, plus a small weight for every assigned or pending slot so that the
+ * requests sent before the next heartbeat do not all pick the same worker.
+ */
+public class LeastLoadedSlotPlacementStrategy implements SlotPlacementStrategy {
+
+    public static final String IDENTIFIER = "LEAST_LOADED";
+
+    private static final double SLOT_WEIGHT = 0.05;
+
+    @Override
+    public String identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public WorkerProfile select(
+            long jobId, List<WorkerProfile> candidates, SlotPlacementContext context) {
+        // shuffle to spread the requests between the workers with the same score
+        List<WorkerProfile> shuffled = new ArrayList<>(candidates);
+        Collections.shuffle(shuffled);
+        return Collections.min(
+                shuffled, Comparator.comparingDouble(worker -> loadScore(worker, context)));
+    }
+
+    static double loadScore(WorkerProfile worker, SlotPlacementContext context) {
+        double cpuLoad = Math.max(0, worker.getCpuLoad());
+        double heapUsage = 0;
+        if (worker.getProfile() != null && worker.getProfile().getHeapMemory().getBytes() > 0) {
+            heapUsage =
+                    (double) worker.getUsedHeapMemory()
+                            / worker.getProfile().getHeapMemory().getBytes();
+        }
+        int slots = worker.getAssignedSlots().length + context.getPendingSlots(worker.getAddress());
+        return Math.max(cpuLoad, heapUsage) + SLOT_WEIGHT * slots;
+    }
+}
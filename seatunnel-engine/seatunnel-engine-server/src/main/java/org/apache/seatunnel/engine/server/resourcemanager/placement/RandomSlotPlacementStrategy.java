@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.placement;
+
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Select a random worker, it is the default strategy. */
+public class RandomSlotPlacementStrategy implements SlotPlacementStrategy {
+
+    public static final String IDENTIFIER = "RANDOM";
+
+    @Override
+    public String identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public WorkerProfile select(
+            long jobId, List<WorkerProfile> candidates, SlotPlacementContext context) {
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+}
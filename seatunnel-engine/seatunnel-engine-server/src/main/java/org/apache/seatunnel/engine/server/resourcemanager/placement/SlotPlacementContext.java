@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.placement;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Track the slot requests which are sent to a worker but not answered yet. The worker profiles are
+ * only updated by the answers, so the requests of the task groups of a job, which are sent at the
+ * same time, would all see the same load without it.
+ */
+public class SlotPlacementContext {
+
+    private final ConcurrentHashMap<Address, ConcurrentHashMap<Long, Integer>> pendingSlots =
+            new ConcurrentHashMap<>();
+
+    public void reserve(long jobId, Address worker) {
+        pendingSlots.compute(
+                worker,
+                (address, jobs) -> {
+                    if (jobs == null) {
+                        jobs = new ConcurrentHashMap<>();
+                    }
+                    jobs.merge(jobId, 1, Integer::sum);
+                    return jobs;
+                });
+    }
+
+    public void release(long jobId, Address worker) {
+        pendingSlots.computeIfPresent(
+                worker,
+                (address, jobs) -> {
+                    jobs.computeIfPresent(jobId, (id, count) -> count > 1 ? count - 1 : null);
+                    return jobs.isEmpty() ? null : jobs;
+                });
+    }
+
+    /** Get the number of pending slot requests of all jobs on the worker. */
+    public int getPendingSlots(Address worker) {
+        Map<Long, Integer> jobs = pendingSlots.get(worker);
+        if (jobs == null) {
+            return 0;
+        }
+        return jobs.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /** Get the number of pending slot requests of the job on the worker. */
+    public int getPendingSlots(long jobId, Address worker) {
+        Map<Long, Integer> jobs = pendingSlots.get(worker);
+        if (jobs == null) {
+            return 0;
+        }
+        return jobs.getOrDefault(jobId, 0);
+    }
+}
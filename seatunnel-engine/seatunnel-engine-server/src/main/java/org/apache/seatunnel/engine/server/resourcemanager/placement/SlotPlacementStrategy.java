@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.placement;
+
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import java.util.List;
+
+/**
+ * Choose the worker which a slot request is sent to, the worker then gives out the slot which fits
+ * the request best. The built-in strategies are created by {@link SlotPlacementStrategyFactory}, a
+ * custom strategy is loaded by the java {@link java.util.ServiceLoader} and configured with its
+ * {@link #identifier()}.
+ */
+public interface SlotPlacementStrategy {
+
+    /** The name of the strategy in the slot-placement-strategy option, compared ignoring case. */
+    String identifier();
+
+    /**
+     * Select a worker for one slot request of the job.
+     *
+     * @param jobId the job which requests the slot.
+     * @param candidates the workers which can provide the slot, never empty.
+     * @param context the slot requests which are sent to the workers but not answered yet.
+     * @return one of the candidates.
+     */
+    WorkerProfile select(long jobId, List<WorkerProfile> candidates, SlotPlacementContext context);
+}
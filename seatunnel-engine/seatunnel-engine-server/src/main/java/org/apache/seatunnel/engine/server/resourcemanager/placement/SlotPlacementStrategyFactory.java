@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.placement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+public class SlotPlacementStrategyFactory {
+
+    private SlotPlacementStrategyFactory() {}
+
+    /**
+     * Create the strategy of the identifier, the built-in strategies are checked first and then the
+     * strategies registered for the {@link ServiceLoader}.
+     *
+     * @throws IllegalArgumentException if no strategy has the identifier.
+     */
+    public static SlotPlacementStrategy create(String identifier) {
+        List<SlotPlacementStrategy> builtIn =
+                Arrays.asList(
+                        new RandomSlotPlacementStrategy(),
+                        new LeastLoadedSlotPlacementStrategy(),
+                        new SpreadSlotPlacementStrategy(),
+                        new ColocateSlotPlacementStrategy());
+        for (SlotPlacementStrategy strategy : builtIn) {
+            if (strategy.identifier().equalsIgnoreCase(identifier)) {
+                return strategy;
+            }
+        }
+        for (SlotPlacementStrategy strategy :
+                ServiceLoader.load(
+                        SlotPlacementStrategy.class,
+                        SlotPlacementStrategyFactory.class.getClassLoader())) {
+            if (strategy.identifier().equalsIgnoreCase(identifier)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unsupported slot placement strategy: "
+                        + identifier
+                        + ", the built-in strategies are "
+                        + RandomSlotPlacementStrategy.IDENTIFIER
+                        + ", "
+                        + LeastLoadedSlotPlacementStrategy.IDENTIFIER
+                        + ", "
+                        + SpreadSlotPlacementStrategy.IDENTIFIER
+                        + " and "
+                        + ColocateSlotPlacementStrategy.IDENTIFIER);
+    }
+}
@@ -52,6 +52,29 @@ public class WorkerProfile implements IdentifiedDataSerializable {
 
     private Map<String, String> attributes;
 
+    /** The system load average per available processor, negative if it is not available. */
+    private double cpuLoad = -1;
+
+    /** The used heap memory in bytes, the maximum heap memory is the memory of {@link #profile}. */
+    private long usedHeapMemory;
+
+    public WorkerProfile(
+            Address address,
+            ResourceProfile profile,
+            ResourceProfile unassignedResource,
+            boolean dynamicSlot,
+            SlotProfile[] assignedSlots,
+            SlotProfile[] unassignedSlots,
+            Map<String, String> attributes) {
+        this.address = address;
+        this.profile = profile;
+        this.unassignedResource = unassignedResource;
+        this.dynamicSlot = dynamicSlot;
+        this.assignedSlots = assignedSlots;
+        this.unassignedSlots = unassignedSlots;
+        this.attributes = attributes;
+    }
+
     public WorkerProfile(Address address) {
         this.address = address;
         this.unassignedResource = new ResourceProfile();
@@ -86,6 +109,8 @@ public class WorkerProfile implements IdentifiedDataSerializable {
         }
         out.writeBoolean(dynamicSlot);
         out.writeObject(attributes);
+        out.writeDouble(cpuLoad);
+        out.writeLong(usedHeapMemory);
     }
 
     @Override
@@ -105,5 +130,7 @@ public class WorkerProfile implements IdentifiedDataSerializable {
         }
         dynamicSlot = in.readBoolean();
         attributes = in.readObject();
+        cpuLoad = in.readDouble();
+        usedHeapMemory = in.readLong();
     }
 }
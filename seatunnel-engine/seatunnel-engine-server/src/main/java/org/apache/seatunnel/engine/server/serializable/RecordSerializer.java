@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRecordBatch;
 
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -33,7 +34,11 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        // the arity is written as a byte, kept for the rows older versions can read
+        SEATUNNEL_ROW,
+        SHUFFLE_RECORD_BATCH,
+        // the arity is written as an int, used for rows with more than 127 fields
+        WIDE_SEATUNNEL_ROW;
     }
 
     @Override
@@ -49,13 +54,26 @@ public class RecordSerializer implements StreamSerializer<Record> {
             out.writeObject(checkpointBarrier.getClosedTasks());
         } else if (data instanceof SeaTunnelRow) {
             SeaTunnelRow row = (SeaTunnelRow) data;
-            out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
+            boolean wide = row.getArity() > Byte.MAX_VALUE;
+            out.writeByte(
+                    wide
+                            ? RecordDataType.WIDE_SEATUNNEL_ROW.ordinal()
+                            : RecordDataType.SEATUNNEL_ROW.ordinal());
             out.writeString(row.getTableId());
             out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
+            if (wide) {
+                out.writeInt(row.getArity());
+            } else {
+                out.writeByte(row.getArity());
+            }
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
+        } else if (data instanceof ShuffleRecordBatch) {
+            ShuffleRecordBatch batch = (ShuffleRecordBatch) data;
+            out.writeByte(RecordDataType.SHUFFLE_RECORD_BATCH.ordinal());
+            out.writeInt(batch.getRecordCount());
+            out.writeByteArray(batch.getPayload());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -74,10 +92,14 @@ public class RecordSerializer implements StreamSerializer<Record> {
                             CheckpointType.fromName(in.readString()),
                             in.readObject(),
                             in.readObject());
-        } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
+        } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()
+                || dataType == RecordDataType.WIDE_SEATUNNEL_ROW.ordinal()) {
             String tableId = in.readString();
             byte rowKind = in.readByte();
-            byte arity = in.readByte();
+            int arity =
+                    dataType == RecordDataType.WIDE_SEATUNNEL_ROW.ordinal()
+                            ? in.readInt()
+                            : in.readByte();
             SeaTunnelRow row = new SeaTunnelRow(arity);
             row.setTableId(tableId);
             row.setRowKind(RowKind.fromByteValue(rowKind));
@@ -85,6 +107,8 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.SHUFFLE_RECORD_BATCH.ordinal()) {
+            data = new ShuffleRecordBatch(in.readInt(), in.readByteArray());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
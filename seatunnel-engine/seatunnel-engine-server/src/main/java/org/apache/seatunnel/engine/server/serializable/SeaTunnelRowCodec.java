@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schema-aware binary codec of {@link SeaTunnelRow}.
+ *
+ * <p>The {@link SeaTunnelRowType} is negotiated once per stream (for example a shuffle queue), so a
+ * row is written as a null bitmap followed by fixed-width primitives and length-prefixed
+ * strings/bytes, without the per-field type header of {@link ObjectDataOutput#writeObject}. Values
+ * whose runtime class does not match the declared type, and complex types, fall back to {@link
+ * ObjectDataOutput#writeObject} and are flagged in a second bitmap.
+ *
+ * <p>Table ids are interned as small integers: the first occurrence of a table id is written inline
+ * and later rows only carry its index. The dictionary is stateful, so a codec instance must only be
+ * used for one ordered stream in one direction, and {@link #reset()} must be called on both sides
+ * at the same stream position (e.g. at the start of every frame). The codec of a nested row has
+ * its own dictionary, which is reset together with the outer one.
+ */
+public class SeaTunnelRowCodec {
+    private static final int NULL_TABLE_ID = -1;
+
+    private final FieldCodec[] fieldCodecs;
+    private final int bitmapLength;
+
+    private final Map<String, Integer> tableIdToIndex = new HashMap<>();
+    private final List<String> indexToTableId = new ArrayList<>();
+
+    private final List<SeaTunnelRowCodec> nestedCodecs = new ArrayList<>();
+
+    // reused for every row, a nested row has its own codec and therefore its own bitmaps
+    private final byte[] nullBits;
+    private final byte[] genericBits;
+
+    public SeaTunnelRowCodec(SeaTunnelRowType rowType) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        this.fieldCodecs = new FieldCodec[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            fieldCodecs[i] = createFieldCodec(fieldTypes[i]);
+        }
+        this.bitmapLength = (fieldTypes.length + 7) >>> 3;
+        this.nullBits = new byte[bitmapLength];
+        this.genericBits = new byte[bitmapLength];
+    }
+
+    /** Forget all interned table ids, including the ones of the nested row codecs. */
+    public void reset() {
+        tableIdToIndex.clear();
+        indexToTableId.clear();
+        for (SeaTunnelRowCodec nestedCodec : nestedCodecs) {
+            nestedCodec.reset();
+        }
+    }
+
+    public void write(ObjectDataOutput out, SeaTunnelRow row) throws IOException {
+        Object[] fields = row.getFields();
+        if (fields.length != fieldCodecs.length) {
+            throw new IOException(
+                    String.format(
+                            "Row arity %s does not match schema arity %s",
+                            fields.length, fieldCodecs.length));
+        }
+        writeTableId(out, row.getTableId());
+        out.writeByte(row.getRowKind().toByteValue());
+
+        Arrays.fill(nullBits, (byte) 0);
+        Arrays.fill(genericBits, (byte) 0);
+        for (int i = 0; i < fields.length; i++) {
+            Object field = fields[i];
+            if (field == null) {
+                nullBits[i >>> 3] |= (byte) (1 << (i & 7));
+            } else if (!fieldCodecs[i].accept(field)) {
+                genericBits[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(nullBits);
+        out.write(genericBits);
+
+        for (int i = 0; i < fields.length; i++) {
+            if (isSet(nullBits, i)) {
+                continue;
+            }
+            if (isSet(genericBits, i)) {
+                out.writeObject(fields[i]);
+            } else {
+                fieldCodecs[i].write(out, fields[i]);
+            }
+        }
+    }
+
+    public SeaTunnelRow read(ObjectDataInput in) throws IOException {
+        String tableId = readTableId(in);
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+
+        in.readFully(nullBits);
+        in.readFully(genericBits);
+
+        Object[] fields = new Object[fieldCodecs.length];
+        for (int i = 0; i < fields.length; i++) {
+            if (isSet(nullBits, i)) {
+                continue;
+            }
+            if (isSet(genericBits, i)) {
+                fields[i] = in.readObject();
+            } else {
+                fields[i] = fieldCodecs[i].read(in);
+            }
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableId);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private void writeTableId(ObjectDataOutput out, String tableId) throws IOException {
+        if (tableId == null) {
+            out.writeInt(NULL_TABLE_ID);
+            return;
+        }
+        Integer index = tableIdToIndex.get(tableId);
+        if (index != null) {
+            out.writeInt(index);
+            return;
+        }
+        int newIndex = tableIdToIndex.size();
+        tableIdToIndex.put(tableId, newIndex);
+        out.writeInt(newIndex);
+        out.writeString(tableId);
+    }
+
+    private String readTableId(ObjectDataInput in) throws IOException {
+        int index = in.readInt();
+        if (index == NULL_TABLE_ID) {
+            return null;
+        }
+        if (index < indexToTableId.size()) {
+            return indexToTableId.get(index);
+        }
+        if (index != indexToTableId.size()) {
+            throw new IOException(
+                    String.format(
+                            "Unexpected table id index %s, dictionary size is %s",
+                            index, indexToTableId.size()));
+        }
+        String tableId = in.readString();
+        indexToTableId.add(tableId);
+        return tableId;
+    }
+
+    private static boolean isSet(byte[] bits, int index) {
+        return (bits[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    private FieldCodec createFieldCodec(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return new FieldCodec(String.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeString((String) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readString();
+                    }
+                };
+            case BOOLEAN:
+                return new FieldCodec(Boolean.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeBoolean((Boolean) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readBoolean();
+                    }
+                };
+            case TINYINT:
+                return new FieldCodec(Byte.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeByte((Byte) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readByte();
+                    }
+                };
+            case SMALLINT:
+                return new FieldCodec(Short.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeShort((Short) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readShort();
+                    }
+                };
+            case INT:
+                return new FieldCodec(Integer.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeInt((Integer) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readInt();
+                    }
+                };
+            case BIGINT:
+                return new FieldCodec(Long.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeLong((Long) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readLong();
+                    }
+                };
+            case FLOAT:
+                return new FieldCodec(Float.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeFloat((Float) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readFloat();
+                    }
+                };
+            case DOUBLE:
+                return new FieldCodec(Double.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeDouble((Double) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readDouble();
+                    }
+                };
+            case DECIMAL:
+                return new FieldCodec(BigDecimal.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        BigDecimal decimal = (BigDecimal) value;
+                        out.writeInt(decimal.scale());
+                        out.writeByteArray(decimal.unscaledValue().toByteArray());
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        int scale = in.readInt();
+                        return new BigDecimal(new BigInteger(in.readByteArray()), scale);
+                    }
+                };
+            case BYTES:
+                return new FieldCodec(byte[].class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeByteArray((byte[]) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readByteArray();
+                    }
+                };
+            case DATE:
+                return new FieldCodec(LocalDate.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeLong(((LocalDate) value).toEpochDay());
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return LocalDate.ofEpochDay(in.readLong());
+                    }
+                };
+            case TIME:
+                return new FieldCodec(LocalTime.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeLong(((LocalTime) value).toNanoOfDay());
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return LocalTime.ofNanoOfDay(in.readLong());
+                    }
+                };
+            case TIMESTAMP:
+                return new FieldCodec(LocalDateTime.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        LocalDateTime dateTime = (LocalDateTime) value;
+                        out.writeLong(dateTime.toLocalDate().toEpochDay());
+                        out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                        LocalTime time = LocalTime.ofNanoOfDay(in.readLong());
+                        return LocalDateTime.of(date, time);
+                    }
+                };
+            case ROW:
+                SeaTunnelRowCodec nested = new SeaTunnelRowCodec((SeaTunnelRowType) dataType);
+                nestedCodecs.add(nested);
+                return new FieldCodec(SeaTunnelRow.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        nested.write(out, (SeaTunnelRow) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return nested.read(in);
+                    }
+                };
+            default:
+                // ARRAY, MAP, vectors and other complex types keep the generic encoding.
+                return new FieldCodec(null) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeObject(value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return in.readObject();
+                    }
+                };
+        }
+    }
+
+    private abstract static class FieldCodec {
+        private final Class<?> valueClass;
+
+        FieldCodec(Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+
+        boolean accept(Object value) {
+            return valueClass != null && valueClass == value.getClass();
+        }
+
+        abstract void write(ObjectDataOutput out, Object value) throws IOException;
+
+        abstract Object read(ObjectDataInput in) throws IOException;
+    }
+}
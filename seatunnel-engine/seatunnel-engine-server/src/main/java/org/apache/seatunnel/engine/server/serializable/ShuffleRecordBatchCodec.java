@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRecordBatch;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encode a batch of shuffle records into a {@link ShuffleRecordBatch} frame and back.
+ *
+ * <p>Rows matching the negotiated {@link SeaTunnelRowType} are written with {@link
+ * SeaTunnelRowCodec}, other records (for example schema change events, or rows produced after a
+ * schema change) fall back to the Hazelcast serialization of the record data. Every frame is
+ * self-contained, the table id dictionary is reset at the start of each frame.
+ */
+public class ShuffleRecordBatchCodec {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte ROW_ITEM = 0;
+    private static final byte OBJECT_ITEM = 1;
+
+    private final InternalSerializationService serializationService;
+    private final SeaTunnelRowCodec rowCodec;
+    private final int arity;
+
+    public ShuffleRecordBatchCodec(
+            InternalSerializationService serializationService, SeaTunnelRowType rowType) {
+        this.serializationService = serializationService;
+        this.rowCodec = rowType == null ? null : new SeaTunnelRowCodec(rowType);
+        this.arity = rowType == null ? -1 : rowType.getTotalFields();
+    }
+
+    public ShuffleRecordBatchCodec(HazelcastInstance hazelcastInstance, SeaTunnelRowType rowType) {
+        this(
+                (InternalSerializationService)
+                        ((SerializationServiceSupport) hazelcastInstance).getSerializationService(),
+                rowType);
+    }
+
+    public ShuffleRecordBatch encode(Collection<Record<?>> records) throws IOException {
+        BufferObjectDataOutput out =
+                serializationService.createObjectDataOutput(INITIAL_BUFFER_SIZE);
+        try {
+            if (rowCodec != null) {
+                rowCodec.reset();
+            }
+            for (Record<?> record : records) {
+                Object data = record.getData();
+                if (rowCodec != null
+                        && data instanceof SeaTunnelRow
+                        && ((SeaTunnelRow) data).getArity() == arity) {
+                    out.writeByte(ROW_ITEM);
+                    rowCodec.write(out, (SeaTunnelRow) data);
+                } else {
+                    out.writeByte(OBJECT_ITEM);
+                    out.writeObject(data);
+                }
+            }
+            return new ShuffleRecordBatch(records.size(), out.toByteArray());
+        } finally {
+            out.close();
+        }
+    }
+
+    public void decode(ShuffleRecordBatch batch, List<Record<?>> output) throws IOException {
+        BufferObjectDataInput in = serializationService.createObjectDataInput(batch.getPayload());
+        if (rowCodec != null) {
+            rowCodec.reset();
+        }
+        for (int i = 0; i < batch.getRecordCount(); i++) {
+            byte itemType = in.readByte();
+            if (itemType == ROW_ITEM) {
+                output.add(new Record<>(rowCodec.read(in)));
+            } else if (itemType == OBJECT_ITEM) {
+                output.add(new Record<>(in.readObject()));
+            } else {
+                throw new IOException("Unsupported shuffle batch item type: " + itemType);
+            }
+        }
+    }
+}
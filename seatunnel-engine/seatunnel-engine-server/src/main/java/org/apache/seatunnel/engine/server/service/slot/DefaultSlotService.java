@@ -34,6 +34,7 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 
+import java.lang.management.ManagementFactory;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -198,7 +199,9 @@ public class DefaultSlotService implements SlotService {
     }
 
     /**
-     * Select the best match slot for the profile.
+     * Select the best match slot for the profile. The slot placement strategy has chosen this
+     * worker already, the slots of one worker share its load, so only the resource fit matters
+     * here.
      *
      * @return the best match slot, null if no suitable slot found.
      */
@@ -266,9 +269,20 @@ public class DefaultSlotService implements SlotService {
         workerProfile.setUnassignedResource(unassignedResource.get());
         workerProfile.setAttributes(nodeEngine.getLocalMember().getAttributes());
         workerProfile.setDynamicSlot(config.isDynamicSlot());
+        workerProfile.setCpuLoad(getCpuLoad());
+        Runtime runtime = Runtime.getRuntime();
+        workerProfile.setUsedHeapMemory(runtime.totalMemory() - runtime.freeMemory());
         return workerProfile;
     }
 
+    private double getCpuLoad() {
+        double loadAverage = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+        if (loadAverage < 0) {
+            return loadAverage;
+        }
+        return loadAverage / Runtime.getRuntime().availableProcessors();
+    }
+
     private ResourceProfile getNodeResource() {
         return new ResourceProfile(CPU.of(0), Memory.of(Runtime.getRuntime().maxMemory()));
     }
@@ -33,6 +33,7 @@ import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
 import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
+import org.apache.seatunnel.engine.server.metrics.TaskMetricsConfig;
 import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -73,7 +74,8 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             MetricsContext metricsContext,
             FlowControlStrategy flowControlStrategy,
             SeaTunnelDataType rowType,
-            List<TablePath> tablePaths) {
+            List<TablePath> tablePaths,
+            TaskMetricsConfig metricsConfig) {
         this.checkpointLock = checkpointLock;
         this.outputs = outputs;
         this.rowType = rowType;
@@ -88,7 +90,8 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
                         metricsContext,
                         PluginType.SOURCE,
                         CollectionUtils.isNotEmpty(tablePaths),
-                        tablePaths);
+                        tablePaths,
+                        metricsConfig);
         flowControlGate = FlowControlGate.create(flowControlStrategy);
     }
 
@@ -96,18 +99,19 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     public void collect(T row) {
         try {
             if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
+                SeaTunnelRow seaTunnelRow = (SeaTunnelRow) row;
+                String tableId = seaTunnelRow.getTableId();
+                SeaTunnelRowType seaTunnelRowType;
                 if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
+                    seaTunnelRowType = (SeaTunnelRowType) rowType;
                 } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
+                    seaTunnelRowType = rowTypeMap.get(tableId);
                 } else {
                     throw new SeaTunnelEngineException(
                             "Unsupported row type: " + rowType.getClass().getName());
                 }
-                flowControlGate.audit((SeaTunnelRow) row);
-                taskMetricsCalcContext.updateMetrics(row, tableId);
+                taskMetricsCalcContext.updateMetrics(seaTunnelRow, seaTunnelRowType, tableId);
+                flowControlGate.audit(seaTunnelRow);
             }
             sendRecordToNext(new Record<>(row));
             emptyThisPollNext = false;
@@ -189,6 +193,11 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         this.emptyThisPollNext = true;
     }
 
+    /** Publish the metrics accumulated by the reader thread, it must be called by that thread. */
+    public void flushMetrics() {
+        taskMetricsCalcContext.flush();
+    }
+
     public void sendRecordToNext(Record<?> record) throws IOException {
         synchronized (checkpointLock) {
             for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
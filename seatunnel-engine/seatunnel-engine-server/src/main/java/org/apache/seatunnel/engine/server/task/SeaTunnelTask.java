@@ -230,7 +230,8 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 ((SinkConfig) f.getConfig()).getCommitterTask(),
                                 ((SinkConfig) f.getConfig()).isContainCommitter(),
                                 completableFuture,
-                                this.getMetricsContext());
+                                this.getMetricsContext(),
+                                ((SinkConfig) f.getConfig()).getMetricsConfig());
             } else if (f.getAction() instanceof TransformChainAction) {
                 lifeCycle =
                         new TransformFlowLifeCycle<SeaTunnelRow>(
@@ -270,7 +271,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                             this,
                             completableFuture,
                             ((AbstractTaskGroupWithIntermediateQueue) taskBelongGroup)
-                                    .getQueueCache(config.getQueueID()));
+                                    .getQueueCache(config));
             outputs = flowLifeCycles;
         } else {
             throw new UnknownFlowException(flow);
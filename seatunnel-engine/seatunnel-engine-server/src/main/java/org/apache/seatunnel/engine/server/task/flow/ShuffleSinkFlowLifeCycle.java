@@ -22,19 +22,21 @@ import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRecordBatchCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRecordBatch;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 
 @SuppressWarnings("MagicNumber")
@@ -47,8 +49,11 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final Map<String, IQueue<Record<?>>> shuffles;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
-    private final Map<String, Queue<Record<?>>> shuffleBuffer;
+    private final Map<String, List<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final HazelcastInstance hazelcastInstance;
+    private final boolean batchTransport;
+    private final Map<String, ShuffleRecordBatchCodec> batchCodecs;
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -67,6 +72,9 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        this.hazelcastInstance = hazelcastInstance;
+        this.batchTransport = shuffleAction.getConfig().isBatchTransport();
+        this.batchCodecs = new HashMap<>();
     }
 
     @Override
@@ -128,7 +136,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
 
     private synchronized void shuffleItem(Record<?> record) {
         String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
-        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
+        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new ArrayList<>()).add(record);
         shuffleBufferSize++;
 
         if (shuffleBufferSize >= shuffleBatchSize
@@ -139,16 +147,17 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     }
 
     private synchronized void shuffleFlush() {
-        for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
+        for (Map.Entry<String, List<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
+            List<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
+            if (shuffleQueueBatch.isEmpty()) {
+                continue;
+            }
             IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
-            Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
+            if (batchTransport) {
+                putBatch(shuffleBatch.getKey(), shuffleQueue, shuffleQueueBatch);
+            } else if (shuffleQueue.remainingCapacity() <= 0
+                    || !shuffleQueue.addAll(shuffleQueueBatch)) {
+                for (Record<?> shuffleItem : shuffleQueueBatch) {
                     try {
                         shuffleQueue.put(shuffleItem);
                     } catch (InterruptedException e) {
@@ -161,4 +170,21 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
     }
+
+    private void putBatch(
+            String shuffleKey, IQueue<Record<?>> shuffleQueue, List<Record<?>> records) {
+        ShuffleRecordBatchCodec codec =
+                batchCodecs.computeIfAbsent(
+                        shuffleKey,
+                        key ->
+                                new ShuffleRecordBatchCodec(
+                                        hazelcastInstance, shuffleStrategy.getQueueRowType(key)));
+        try {
+            ShuffleRecordBatch batch = codec.encode(records);
+            // blocks while the reader has not consumed the in-flight batches of this channel
+            shuffleQueue.put(new Record<>(batch));
+        } catch (IOException | InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
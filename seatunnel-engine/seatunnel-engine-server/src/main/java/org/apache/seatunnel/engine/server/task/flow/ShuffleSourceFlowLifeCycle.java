@@ -21,14 +21,17 @@ import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRecordBatchCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRecordBatch;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -42,7 +45,9 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
+    private final boolean batchTransport;
     private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleRecordBatchCodec[] batchCodecs;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
@@ -63,6 +68,17 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                         .getShuffleStrategy()
                         .getShuffles(hazelcastInstance, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.batchTransport = shuffleAction.getConfig().isBatchTransport();
+        this.batchCodecs = new ShuffleRecordBatchCodec[shuffles.length];
+        for (int i = 0; i < shuffles.length; i++) {
+            batchCodecs[i] =
+                    new ShuffleRecordBatchCodec(
+                            hazelcastInstance,
+                            shuffleAction
+                                    .getConfig()
+                                    .getShuffleStrategy()
+                                    .getQueueRowType(shuffles[i].getName()));
+        }
     }
 
     @Override
@@ -83,15 +99,16 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                 continue;
             }
 
-            List<Record<?>> shuffleBatch = new LinkedList<>();
+            List<Record<?>> shuffleItems = new ArrayList<>();
             if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
+                shuffleItems.add(shuffleQueue.take());
             } else if (!unsentBuffer.isEmpty()) {
-                shuffleBatch.addAll(unsentBuffer);
+                shuffleItems.addAll(unsentBuffer);
                 unsentBuffer.clear();
             }
 
-            shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
+            drainRows(shuffleQueue, shuffleItems);
+            List<Record<?>> shuffleBatch = unpackBatches(batchCodecs[i], shuffleItems);
 
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
@@ -148,6 +165,51 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         }
     }
 
+    /**
+     * Take items until the taken rows reach the batch size, a batch frame counts with all the rows
+     * it holds so that a drain does not take batch size frames.
+     */
+    private void drainRows(IQueue<Record<?>> shuffleQueue, List<Record<?>> shuffleItems) {
+        int rows = 0;
+        for (Record<?> item : shuffleItems) {
+            rows += rowCount(item);
+        }
+        if (!batchTransport) {
+            if (rows < shuffleBatchSize) {
+                shuffleQueue.drainTo(shuffleItems, shuffleBatchSize - rows);
+            }
+            return;
+        }
+        while (rows < shuffleBatchSize) {
+            Record<?> item = shuffleQueue.poll();
+            if (item == null) {
+                break;
+            }
+            shuffleItems.add(item);
+            rows += rowCount(item);
+        }
+    }
+
+    private static int rowCount(Record<?> item) {
+        if (item.getData() instanceof ShuffleRecordBatch) {
+            return ((ShuffleRecordBatch) item.getData()).getRecordCount();
+        }
+        return 1;
+    }
+
+    private static List<Record<?>> unpackBatches(
+            ShuffleRecordBatchCodec codec, List<Record<?>> shuffleItems) throws IOException {
+        List<Record<?>> records = new ArrayList<>(shuffleItems.size());
+        for (Record<?> item : shuffleItems) {
+            if (item.getData() instanceof ShuffleRecordBatch) {
+                codec.decode((ShuffleRecordBatch) item.getData(), records);
+            } else {
+                records.add(item);
+            }
+        }
+        return records;
+    }
+
     @Override
     public void close() throws IOException {
         super.close();
@@ -39,6 +39,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.event.JobEventListener;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
+import org.apache.seatunnel.engine.server.metrics.TaskMetricsConfig;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.context.SinkWriterContext;
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupAddressOperation;
@@ -102,6 +103,13 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
     /** Mapping relationship between upstream tablepath and downstream tablepath. */
     private final Map<TablePath, TablePath> tablesMaps = new HashMap<>();
 
+    /** The metrics table id of each raw row table id, resolving it parses the table path. */
+    private final Map<String, String> metricsTableIds = new HashMap<>();
+
+    private String lastRowTableId;
+
+    private String lastMetricsTableId;
+
     public SinkFlowLifeCycle(
             SinkAction<T, StateT, CommitInfoT, AggregatedCommitInfoT> sinkAction,
             TaskLocation taskLocation,
@@ -110,7 +118,8 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
             TaskLocation committerTaskLocation,
             boolean containAggCommitter,
             CompletableFuture<Void> completableFuture,
-            MetricsContext metricsContext) {
+            MetricsContext metricsContext,
+            TaskMetricsConfig metricsConfig) {
         super(sinkAction, runningTask, completableFuture);
         this.sinkAction = sinkAction;
         this.indexID = indexID;
@@ -140,7 +149,8 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
             }
         }
         this.taskMetricsCalcContext =
-                new TaskMetricsCalcContext(metricsContext, PluginType.SINK, isMulti, sinkTables);
+                new TaskMetricsCalcContext(
+                        metricsContext, PluginType.SINK, isMulti, sinkTables, metricsConfig);
     }
 
     @Override
@@ -171,6 +181,7 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
     @Override
     public void close() throws IOException {
         super.close();
+        taskMetricsCalcContext.flush();
         writer.close();
         writerContext.getEventListener().onEvent(new WriterCloseEvent());
     }
@@ -193,6 +204,7 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 long startTime = System.currentTimeMillis();
 
                 Barrier barrier = (Barrier) record.getData();
+                taskMetricsCalcContext.flush();
                 if (barrier.prepareClose(this.taskLocation)) {
                     prepareClose = true;
                 }
@@ -264,45 +276,45 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 if (prepareClose) {
                     return;
                 }
-                String tableId = "";
-                writer.write((T) record.getData());
-                if (record.getData() instanceof SeaTunnelRow) {
-                    if (this.sinkAction.getSink() instanceof MultiTableSink) {
-                        if (((SeaTunnelRow) record.getData()).getTableId() == null
-                                || ((SeaTunnelRow) record.getData()).getTableId().isEmpty()) {
-                            tableId = ((SeaTunnelRow) record.getData()).getTableId();
-                        } else {
-
-                            TablePath tablePath =
-                                    tablesMaps.get(
-                                            TablePath.of(
-                                                    ((SeaTunnelRow) record.getData())
-                                                            .getTableId()));
-                            tableId =
-                                    tablePath != null
-                                            ? tablePath.getFullName()
-                                            : TablePath.DEFAULT.getFullName();
-                        }
-
-                    } else {
-                        Optional<CatalogTable> writeCatalogTable =
-                                this.sinkAction.getSink().getWriteCatalogTable();
-                        tableId =
-                                writeCatalogTable
-                                        .map(
-                                                catalogTable ->
-                                                        catalogTable.getTablePath().getFullName())
-                                        .orElseGet(TablePath.DEFAULT::getFullName);
-                    }
-
-                    taskMetricsCalcContext.updateMetrics(record.getData(), tableId);
-                }
+                writeRecord(record.getData());
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    private void writeRecord(Object data) throws IOException {
+        writer.write((T) data);
+        if (data instanceof SeaTunnelRow) {
+            taskMetricsCalcContext.updateMetrics(
+                    data, getMetricsTableId(((SeaTunnelRow) data).getTableId()));
+        }
+    }
+
+    private String getMetricsTableId(String rowTableId) {
+        // the rows of one table usually come in a run, skip the map lookup for them
+        if (lastMetricsTableId == null || !Objects.equals(rowTableId, lastRowTableId)) {
+            lastRowTableId = rowTableId;
+            lastMetricsTableId =
+                    metricsTableIds.computeIfAbsent(rowTableId, this::resolveMetricsTableId);
+        }
+        return lastMetricsTableId;
+    }
+
+    private String resolveMetricsTableId(String rowTableId) {
+        if (this.sinkAction.getSink() instanceof MultiTableSink) {
+            if (rowTableId == null || rowTableId.isEmpty()) {
+                return rowTableId;
+            }
+            TablePath tablePath = tablesMaps.get(TablePath.of(rowTableId));
+            return tablePath != null ? tablePath.getFullName() : TablePath.DEFAULT.getFullName();
+        }
+        Optional<CatalogTable> writeCatalogTable = this.sinkAction.getSink().getWriteCatalogTable();
+        return writeCatalogTable
+                .map(catalogTable -> catalogTable.getTablePath().getFullName())
+                .orElseGet(TablePath.DEFAULT::getFullName);
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         if (committer.isPresent() && lastCommitInfo.isPresent()) {
@@ -59,6 +59,9 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -68,6 +71,20 @@ import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStat
 public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFlowLifeCycle
         implements InternalCheckpointListener {
 
+    /** Wait time of readers which do not report their availability after an empty poll. */
+    private static final long IDLE_BACKOFF_MILLIS = 100;
+
+    /** Upper bound of parking an idle reader, in case it misses to complete its future. */
+    private static final long IDLE_WAIT_MILLIS = 1000;
+
+    private static final long SCHEMA_CHANGE_WAIT_MILLIS = 200;
+
+    /**
+     * Upper bound of any wait of a cooperative reader, well below the time slice and the detach
+     * threshold of the threads shared with other tasks.
+     */
+    private static final long COOPERATIVE_WAIT_MILLIS = 10;
+
     private final SourceAction<T, SplitT, ?> sourceAction;
     private final TaskLocation enumeratorTaskLocation;
 
@@ -89,6 +106,14 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
     private final AtomicReference<SchemaChangePhase> schemaChangePhase = new AtomicReference<>();
 
+    /** Completed to wake up the reader parked in {@link #collect()}. */
+    private final AtomicReference<CompletableFuture<Void>> wakeUp =
+            new AtomicReference<>(new CompletableFuture<>());
+
+    private final AtomicInteger barriersWaitingForLock = new AtomicInteger();
+
+    private final boolean cooperative;
+
     public SourceFlowLifeCycle(
             SourceAction<T, SplitT, ?> sourceAction,
             int indexID,
@@ -105,6 +130,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         this.metricsContext = metricsContext;
         this.eventListener =
                 new JobEventListener(currentTaskLocation, runningTask.getExecutionContext());
+        this.cooperative = runningTask.getExecutionContext().isCooperative();
     }
 
     public void setCollector(SeaTunnelSourceCollector<T> collector) {
@@ -144,31 +170,44 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
     public void close() throws IOException {
         context.getEventListener().onEvent(new ReaderCloseEvent());
         reader.close();
+        if (collector != null) {
+            collector.flushMetrics();
+        }
         super.close();
     }
 
     public void collect() throws Exception {
         if (!prepareClose) {
-            if (schemaChanging()) {
+            SchemaChangePhase phase = schemaChangePhase.get();
+            if (phase != null) {
                 log.debug("schema is changing, stop reader collect records");
 
-                Thread.sleep(200);
+                awaitAvailable(phase.getEnded(), SCHEMA_CHANGE_WAIT_MILLIS);
                 return;
             }
 
             reader.pollNext(collector);
             if (collector.isEmptyThisPollNext()) {
-                Thread.sleep(100);
+                collector.flushMetrics();
+                CompletableFuture<Void> available = reader.isAvailable();
+                if (available == SourceReader.AVAILABILITY_UNKNOWN) {
+                    awaitAvailable(null, IDLE_BACKOFF_MILLIS);
+                } else if (!available.isDone()) {
+                    awaitAvailable(available, IDLE_WAIT_MILLIS);
+                }
             } else {
                 collector.resetEmptyThisPollNext();
-                /**
-                 * The current thread obtain a checkpoint lock in the method {@link
-                 * SourceReader#pollNext(Collector)}. When trigger the checkpoint or savepoint,
-                 * other threads try to obtain the lock in the method {@link
-                 * SourceFlowLifeCycle#triggerBarrier(Barrier)}. When high CPU load, checkpoint
-                 * process may be blocked as long time. So we need sleep to free the CPU.
-                 */
-                Thread.sleep(0L);
+                if (barriersWaitingForLock.get() > 0) {
+                    /**
+                     * The current thread obtain a checkpoint lock in the method {@link
+                     * SourceReader#pollNext(Collector)}. When trigger the checkpoint or
+                     * savepoint, other threads try to obtain the lock in the method {@link
+                     * SourceFlowLifeCycle#triggerBarrier(Barrier)}. When high CPU load,
+                     * checkpoint process may be blocked as long time. So we need sleep to free
+                     * the CPU while a barrier is waiting for the lock.
+                     */
+                    Thread.sleep(0L);
+                }
             }
 
             if (collector.captureSchemaChangeBeforeCheckpointSignal()) {
@@ -191,10 +230,42 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                 log.info("triggered schema-change-after checkpoint, stopping collect data");
             }
         } else {
-            Thread.sleep(100);
+            Thread.sleep(cooperative ? COOPERATIVE_WAIT_MILLIS : 100);
+        }
+    }
+
+    /**
+     * Park the reader until the future completes, the lifecycle is woken up by a barrier or a split
+     * assignment, or the timeout elapses. A null future only waits for a wake up or the timeout. A
+     * cooperative reader waits {@link #COOPERATIVE_WAIT_MILLIS} at most and returns from the call.
+     */
+    private void awaitAvailable(CompletableFuture<Void> available, long timeoutMillis)
+            throws InterruptedException {
+        CompletableFuture<Void> wakeUp = this.wakeUp.get();
+        if (wakeUp.isDone()) {
+            this.wakeUp.compareAndSet(wakeUp, new CompletableFuture<>());
+            return;
+        }
+        if (cooperative) {
+            // the other tasks of the thread are called again before this reader is polled
+            timeoutMillis = Math.min(timeoutMillis, COOPERATIVE_WAIT_MILLIS);
+        }
+        try {
+            if (available == null) {
+                wakeUp.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } else {
+                CompletableFuture.anyOf(available, wakeUp)
+                        .get(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException | ExecutionException ignored) {
+            // poll the reader again, it surfaces its own errors
         }
     }
 
+    private void wakeUp() {
+        wakeUp.get().complete(null);
+    }
+
     public void signalNoMoreElement() {
         // ready close this reader
         try {
@@ -262,6 +333,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         } else {
             reader.addSplits(splits);
         }
+        wakeUp();
     }
 
     public void triggerBarrier(Barrier barrier) throws Exception {
@@ -269,8 +341,10 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
         long startTime = System.currentTimeMillis();
 
+        barriersWaitingForLock.incrementAndGet();
         // Block the reader from adding barrier to the collector.
         synchronized (collector.getCheckpointLock()) {
+            barriersWaitingForLock.decrementAndGet();
             if (barrier.prepareClose(this.currentTaskLocation)) {
                 this.prepareClose = true;
             }
@@ -285,6 +359,9 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
             collector.sendRecordToNext(new Record<>(barrier));
             log.debug("send record to next finished, taskId: [{}]", runningTask.getTaskID());
         }
+        if (prepareClose) {
+            wakeUp();
+        }
 
         log.debug(
                 "trigger barrier [{}] finished, cost: {}ms. taskLocation: [{}]",
@@ -351,7 +428,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                     "notify schema-change checkpoint[{}] end, phase: [{}]",
                     checkpointId,
                     schemaChangePhase.get().getPhase());
-            schemaChangePhase.set(null);
+            schemaChangePhase.getAndSet(null).getEnded().complete(null);
         }
     }
 
@@ -389,6 +466,9 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         private final String phase;
         private volatile long checkpointId = -1;
 
+        @ToString.Exclude
+        private final transient CompletableFuture<Void> ended = new CompletableFuture<>();
+
         public static SchemaChangePhase createBeforePhase() {
             return new SchemaChangePhase(PHASE_CHANGE_BEFORE);
         }
@@ -118,13 +118,16 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (prepareClose) {
                 return;
             }
-            T inputData = (T) record.getData();
-            List<T> outputDataList = transform(inputData);
-            if (!outputDataList.isEmpty()) {
-                // todo log metrics
-                for (T outputData : outputDataList) {
-                    collector.collect(new Record<>(outputData));
-                }
+            transformAndCollect((T) record.getData());
+        }
+    }
+
+    private void transformAndCollect(T inputData) {
+        List<T> outputDataList = transform(inputData);
+        if (!outputDataList.isEmpty()) {
+            // todo log metrics
+            for (T outputData : outputDataList) {
+                collector.collect(new Record<>(outputData));
             }
         }
     }
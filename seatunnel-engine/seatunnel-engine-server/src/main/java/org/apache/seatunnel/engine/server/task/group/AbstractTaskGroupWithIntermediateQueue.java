@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.group;
 
+import org.apache.seatunnel.engine.server.dag.physical.config.IntermediateQueueConfig;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupDefaultImpl;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
@@ -31,4 +32,8 @@ public abstract class AbstractTaskGroupWithIntermediateQueue extends TaskGroupDe
     }
 
     public abstract AbstractIntermediateQueue<?> getQueueCache(long id);
+
+    public AbstractIntermediateQueue<?> getQueueCache(IntermediateQueueConfig config) {
+        return getQueueCache(config.getQueueID());
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group;
+
+import org.apache.seatunnel.engine.server.dag.physical.config.IntermediateQueueConfig;
+import org.apache.seatunnel.engine.server.execution.Task;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskGroupType;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateRingBuffer;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.RecordRingBuffer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TaskGroupWithIntermediateRingBuffer extends AbstractTaskGroupWithIntermediateQueue {
+
+    public static final int RING_BUFFER_SIZE = 2048;
+
+    public TaskGroupWithIntermediateRingBuffer(
+            TaskGroupLocation taskGroupLocation, String taskGroupName, Collection<Task> tasks) {
+        super(taskGroupLocation, taskGroupName, tasks);
+    }
+
+    private Map<Long, RecordRingBuffer> ringBufferCache = null;
+
+    @Override
+    public void init() {
+        ringBufferCache = new ConcurrentHashMap<>();
+        getTasks().stream()
+                .filter(SeaTunnelTask.class::isInstance)
+                .map(s -> (SeaTunnelTask) s)
+                .forEach(s -> s.setTaskGroup(this));
+    }
+
+    @Override
+    public AbstractIntermediateQueue<?> getQueueCache(long id) {
+        return getQueueCache(
+                new IntermediateQueueConfig(
+                        id,
+                        IntermediateQueueConfig.DEFAULT_BATCH_SIZE,
+                        IntermediateQueueConfig.DEFAULT_LINGER_MS));
+    }
+
+    @Override
+    public AbstractIntermediateQueue<?> getQueueCache(IntermediateQueueConfig config) {
+        // keep a few batches in flight so that the producer is not blocked by every handoff
+        int capacity = Math.max(RING_BUFFER_SIZE, config.getBatchSize() * 4);
+        RecordRingBuffer ringBuffer =
+                ringBufferCache.computeIfAbsent(
+                        config.getQueueID(), i -> new RecordRingBuffer(capacity));
+        return new IntermediateRingBuffer(ringBuffer, config.getBatchSize(), config.getLingerMs());
+    }
+
+    @Override
+    public TaskGroupType getTaskGroupType() {
+        return TaskGroupType.INTERMEDIATE_RING_BUFFER_QUEUE;
+    }
+}
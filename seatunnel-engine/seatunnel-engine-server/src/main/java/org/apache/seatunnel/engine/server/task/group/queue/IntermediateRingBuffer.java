@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.common.utils.function.ConsumerWithException;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.RecordRingBuffer;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand over records between two chained tasks through a {@link RecordRingBuffer}. The consumer
+ * takes up to {@code batchSize} records per handoff, and waits up to {@code lingerMs} for a full
+ * batch before it hands over a partial one.
+ */
+public class IntermediateRingBuffer extends AbstractIntermediateQueue<RecordRingBuffer> {
+
+    private static final long POLL_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final int batchSize;
+    private final long lingerNanos;
+    private Record<?>[] batch;
+
+    public IntermediateRingBuffer(RecordRingBuffer queue, int batchSize, long lingerMs) {
+        super(queue);
+        if (batchSize <= 0) {
+            // collect would never hand over a record
+            throw new IllegalArgumentException("batchSize must be > 0, but is " + batchSize);
+        }
+        this.batchSize = Math.min(batchSize, queue.capacity());
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+    }
+
+    @Override
+    public void received(Record<?> record) {
+        try {
+            handleRecord(record, getIntermediateQueue()::put);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void collect(Collector<Record<?>> collector) throws Exception {
+        if (batch == null) {
+            batch = new Record<?>[batchSize];
+        }
+        RecordRingBuffer ringBuffer = getIntermediateQueue();
+        long idleSince = System.nanoTime();
+        long pendingSince = -1;
+        while (true) {
+            int available = ringBuffer.size();
+            long now = System.nanoTime();
+            if (available >= batchSize
+                    || (available > 0 && pendingSince >= 0 && now - pendingSince >= lingerNanos)
+                    || (available > 0 && lingerNanos == 0)) {
+                int count = ringBuffer.drainTo(batch, batchSize);
+                for (int i = 0; i < count; i++) {
+                    Record<?> record = batch[i];
+                    batch[i] = null;
+                    handleRecord(record, collector::collect);
+                }
+                idleSince = now;
+                pendingSince = -1;
+                continue;
+            }
+            if (available > 0 && pendingSince < 0) {
+                pendingSince = now;
+            } else if (available == 0 && now - idleSince >= POLL_TIMEOUT_NANOS) {
+                break;
+            }
+            ringBuffer.idle();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the ring buffer is shared by the producer and the consumer task, it is released with the
+        // task group
+        batch = null;
+    }
+
+    private void handleRecord(Record<?> record, ConsumerWithException<Record<?>> consumer)
+            throws Exception {
+        if (record.getData() instanceof Barrier) {
+            CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
+            getRunningTask().ack(barrier);
+            if (barrier.prepareClose(this.getRunningTask().getTaskLocation())) {
+                getIntermediateQueueFlowLifeCycle().setPrepareClose(true);
+            }
+            consumer.accept(record);
+        } else {
+            if (getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                return;
+            }
+            consumer.accept(record);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue.ringbuffer;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded single producer single consumer ring buffer of records.
+ *
+ * <p>The producer publishes every record with an ordered store and only reads the consumer index
+ * when its cached copy says the buffer is full. The consumer takes all published records up to the
+ * batch size in one handoff and releases the slots with a single index update.
+ */
+public class RecordRingBuffer {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Record<?>[] buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /** Only accessed by the producer. */
+    private long cachedConsumerIndex;
+
+    /** Only accessed by the consumer. */
+    private long cachedProducerIndex;
+
+    public RecordRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.buffer = new Record<?>[size];
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /** Publish the record, waits while the buffer is full. */
+    public void put(Record<?> record) throws InterruptedException {
+        long index = producerIndex.get();
+        if (index - cachedConsumerIndex >= buffer.length) {
+            cachedConsumerIndex = consumerIndex.get();
+            while (index - cachedConsumerIndex >= buffer.length) {
+                idle();
+                cachedConsumerIndex = consumerIndex.get();
+            }
+        }
+        buffer[(int) index & mask] = record;
+        producerIndex.lazySet(index + 1);
+    }
+
+    /** The number of published records not taken by the consumer yet. */
+    public int size() {
+        return (int) (producerIndex.get() - consumerIndex.get());
+    }
+
+    /**
+     * Take up to {@code maxRecords} published records.
+     *
+     * @return the number of records written to {@code output}
+     */
+    public int drainTo(Record<?>[] output, int maxRecords) {
+        long index = consumerIndex.get();
+        if (cachedProducerIndex - index < maxRecords) {
+            cachedProducerIndex = producerIndex.get();
+        }
+        int count = (int) Math.min(cachedProducerIndex - index, maxRecords);
+        for (int i = 0; i < count; i++) {
+            int offset = (int) (index + i) & mask;
+            output[i] = buffer[offset];
+            buffer[offset] = null;
+        }
+        if (count > 0) {
+            consumerIndex.lazySet(index + count);
+        }
+        return count;
+    }
+
+    /** Back off while waiting for the other side, called by both the producer and the consumer. */
+    public void idle() throws InterruptedException {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.localfile.LocalFileStorage;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+public class IncrementalCheckpointSerializerTest {
+    private static final ActionStateKey STATE_KEY = new ActionStateKey("test-action");
+
+    @Test
+    public void testOnlyStoreChangedChunks() throws Exception {
+        Map<String, String> config = new HashMap<>();
+        config.put("namespace", "/tmp/seatunnel/incremental-checkpoint/");
+        CheckpointStorage storage = new LocalFileStorage(config);
+        String jobId = String.valueOf(System.currentTimeMillis());
+        ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+        IncrementalCheckpointSerializer checkpointSerializer =
+                new IncrementalCheckpointSerializer(serializer, 2);
+
+        PipelineState first =
+                checkpointSerializer.serialize(
+                        createCheckpoint(jobId, 1, "split-1", "split-2", "enumerator"), true);
+        Assertions.assertTrue(first.isIncremental());
+        Assertions.assertEquals(3, getStored(serializer, first).getChunks().size());
+        storage.storeCheckPoint(first);
+
+        PipelineState second =
+                checkpointSerializer.serialize(
+                        createCheckpoint(jobId, 2, "split-1", "split-2-changed", "enumerator"),
+                        true);
+        IncrementalCheckpoint stored = getStored(serializer, second);
+        Assertions.assertEquals(1, stored.getChunks().size());
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(1L)), new HashSet<>(stored.getReferences().values()));
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(1L, 2L)),
+                checkpointSerializer.getReferencedCheckpointIds());
+        storage.storeCheckPoint(second);
+
+        CompletedCheckpoint restored =
+                IncrementalCheckpointSerializer.deserialize(
+                        serializer, storage, storage.getCheckpoint(jobId, "1", "2"));
+        Assertions.assertEquals(2, restored.getCheckpointId());
+        ActionState actionState = restored.getTaskStates().get(STATE_KEY);
+        Assertions.assertEquals("split-1", toString(actionState.getSubtaskStates().get(0)));
+        Assertions.assertNull(actionState.getSubtaskStates().get(1));
+        Assertions.assertEquals("split-2-changed", toString(actionState.getSubtaskStates().get(2)));
+        Assertions.assertEquals("enumerator", toString(actionState.getCoordinatorState()));
+
+        // a full checkpoint doesn't refer to the former ones
+        PipelineState savepoint =
+                checkpointSerializer.serialize(
+                        createCheckpoint(jobId, 3, "split-1", "split-2", "enumerator"), false);
+        Assertions.assertFalse(savepoint.isIncremental());
+        Assertions.assertTrue(checkpointSerializer.getReferencedCheckpointIds().isEmpty());
+        storage.deleteCheckpoint(jobId);
+    }
+
+    private static IncrementalCheckpoint getStored(
+            ProtoStuffSerializer serializer, PipelineState pipelineState) throws Exception {
+        return serializer.deserialize(pipelineState.getStates(), IncrementalCheckpoint.class);
+    }
+
+    private static String toString(ActionSubtaskState state) {
+        return new String(state.getState().get(0), StandardCharsets.UTF_8);
+    }
+
+    private static CompletedCheckpoint createCheckpoint(
+            String jobId, long checkpointId, String split1, String split2, String coordinator) {
+        ActionState actionState = new ActionState(STATE_KEY, 3);
+        actionState.reportState(0, createState(0, split1));
+        actionState.reportState(2, createState(2, split2));
+        actionState.reportState(CheckpointPlan.COORDINATOR_INDEX, createState(-1, coordinator));
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(STATE_KEY, actionState);
+        Map<Long, TaskStatistics> taskStatistics = new HashMap<>();
+        taskStatistics.put(1L, new TaskStatistics(1L, 3));
+        return new CompletedCheckpoint(
+                Long.parseLong(jobId),
+                1,
+                checkpointId,
+                Instant.now().toEpochMilli(),
+                CheckpointType.CHECKPOINT_TYPE,
+                Instant.now().toEpochMilli(),
+                taskStates,
+                taskStatistics);
+    }
+
+    private static ActionSubtaskState createState(int index, String state) {
+        return new ActionSubtaskState(
+                STATE_KEY, index, Arrays.asList(state.getBytes(StandardCharsets.UTF_8)));
+    }
+}
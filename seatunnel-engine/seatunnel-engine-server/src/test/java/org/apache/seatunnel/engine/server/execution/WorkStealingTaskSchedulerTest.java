@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+
+public class WorkStealingTaskSchedulerTest {
+
+    private ExecutorService executorService;
+
+    private WorkStealingTaskScheduler<CountingTask> scheduler;
+
+    @BeforeEach
+    public void before() {
+        executorService = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void after() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testAllTasksFinish() {
+        scheduler = newScheduler(2, 1000);
+        scheduler.start();
+        List<CountingTask> tasks = new ArrayList<>();
+        for (int group = 0; group < 10; group++) {
+            List<CountingTask> groupTasks =
+                    Arrays.asList(new CountingTask(20, 0), new CountingTask(20, 0));
+            tasks.addAll(groupTasks);
+            scheduler.submit(groupTasks);
+        }
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> {
+                            Assertions.assertTrue(tasks.stream().allMatch(t -> t.done.get()));
+                            Assertions.assertEquals(400, scheduler.getCallCount());
+                        });
+        Assertions.assertEquals(0, scheduler.getQueuedTaskCount());
+    }
+
+    @Test
+    public void testIdleWorkerStealsTasksOfOneGroup() {
+        scheduler = newScheduler(2, 1000);
+        scheduler.start();
+        List<CountingTask> tasks =
+                Arrays.asList(
+                        new CountingTask(20, 5),
+                        new CountingTask(20, 5),
+                        new CountingTask(20, 5),
+                        new CountingTask(20, 5));
+        scheduler.submit(tasks);
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> Assertions.assertTrue(tasks.stream().allMatch(t -> t.done.get())));
+        Assertions.assertTrue(scheduler.getStealCount() > 0);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        tasks.forEach(t -> threads.addAll(t.threads));
+        Assertions.assertEquals(2, threads.size());
+    }
+
+    @Test
+    public void testBlockedWorkerIsReplaced() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler =
+                new WorkStealingTaskScheduler<>(
+                        1,
+                        10,
+                        100,
+                        executorService,
+                        (task, call) -> {
+                            if (task.calls.get() == 0 && task.block) {
+                                blocked.countDown();
+                                try {
+                                    release.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                            return task.call();
+                        });
+        scheduler.start();
+        CountingTask blockingTask = new CountingTask(3, 0);
+        blockingTask.block = true;
+        scheduler.submit(Arrays.asList(blockingTask));
+        Assertions.assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+        CountingTask otherTask = new CountingTask(10, 0);
+        scheduler.submit(Arrays.asList(otherTask));
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertTrue(otherTask.done.get()));
+        Assertions.assertEquals(1, scheduler.getExclusiveWorkerCount());
+
+        release.countDown();
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> {
+                            Assertions.assertTrue(blockingTask.done.get());
+                            Assertions.assertEquals(0, scheduler.getExclusiveWorkerCount());
+                        });
+    }
+
+    @Test
+    public void testCancelInterruptsRunningCall() throws InterruptedException {
+        AtomicReference<Future<?>> runningCall = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        WorkStealingTaskScheduler<String> stringScheduler =
+                new WorkStealingTaskScheduler<>(
+                        1,
+                        10,
+                        10000,
+                        executorService,
+                        (task, call) -> {
+                            runningCall.set(call);
+                            started.countDown();
+                            try {
+                                Thread.sleep(10000);
+                            } catch (InterruptedException e) {
+                                interrupted.set(true);
+                            }
+                            return false;
+                        });
+        try {
+            stringScheduler.start();
+            stringScheduler.submit(Arrays.asList("task"));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(runningCall.get().cancel(true));
+            Assertions.assertThrows(CancellationException.class, () -> runningCall.get().get());
+
+            await().atMost(10, TimeUnit.SECONDS)
+                    .untilAsserted(
+                            () -> {
+                                Assertions.assertTrue(interrupted.get());
+                                Assertions.assertTrue(runningCall.get().isDone());
+                            });
+            // a cancelled or finished call must not interrupt the worker again
+            Assertions.assertFalse(runningCall.get().cancel(true));
+        } finally {
+            stringScheduler.close();
+        }
+    }
+
+    @Test
+    public void testGetWaitsForRunningCall() throws Exception {
+        AtomicReference<Future<?>> runningCall = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WorkStealingTaskScheduler<String> stringScheduler =
+                new WorkStealingTaskScheduler<>(
+                        1,
+                        10,
+                        10000,
+                        executorService,
+                        (task, call) -> {
+                            runningCall.set(call);
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return false;
+                        });
+        try {
+            stringScheduler.start();
+            stringScheduler.submit(Arrays.asList("task"));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<?> call = runningCall.get();
+            Assertions.assertThrows(
+                    TimeoutException.class, () -> call.get(10, TimeUnit.MILLISECONDS));
+            Assertions.assertFalse(call.isDone());
+
+            release.countDown();
+            Assertions.assertNull(call.get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(call.isDone());
+            Assertions.assertFalse(call.isCancelled());
+            Assertions.assertNull(call.get());
+        } finally {
+            stringScheduler.close();
+        }
+    }
+
+    private WorkStealingTaskScheduler<CountingTask> newScheduler(
+            int parallelism, long detachMillis) {
+        return new WorkStealingTaskScheduler<>(
+                parallelism, 10, detachMillis, executorService, (task, call) -> task.call());
+    }
+
+    private static class CountingTask {
+        private final int totalCalls;
+        private final long sleepMillis;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+        private volatile boolean block;
+
+        private CountingTask(int totalCalls, long sleepMillis) {
+            this.totalCalls = totalCalls;
+            this.sleepMillis = sleepMillis;
+        }
+
+        private boolean call() {
+            threads.add(Thread.currentThread().getName());
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (calls.incrementAndGet() >= totalCalls) {
+                done.set(true);
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.env.EnvCommonOptions;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.constants.PluginType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+
+public class TaskMetricsCalcContextTest {
+
+    private static final String TABLE = "db.table";
+
+    private static final String OTHER_TABLE = "db.other_table";
+
+    @Test
+    public void testUpdateMetricsOnEveryRow() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context = createContext(metricsContext, TaskMetricsConfig.DEFAULT);
+
+        context.updateMetrics(row("ab"), TABLE);
+        context.updateMetrics(row("abcd"), TABLE);
+
+        assertMetrics(metricsContext, 2, 6);
+    }
+
+    @Test
+    public void testAccumulateMetricsUntilFlush() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                createContext(metricsContext, new TaskMetricsConfig(Long.MAX_VALUE, 1));
+
+        for (int i = 0; i < 100; i++) {
+            context.updateMetrics(row("ab"), TABLE);
+        }
+        assertMetrics(metricsContext, 0, 0);
+
+        context.flush();
+        assertMetrics(metricsContext, 100, 200);
+        context.flush();
+        assertMetrics(metricsContext, 100, 200);
+    }
+
+    @Test
+    public void testSampleRowBytes() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                createContext(metricsContext, new TaskMetricsConfig(0, 3));
+
+        // the bytes of the first and the fourth row are measured
+        context.updateMetrics(row("ab"), TABLE);
+        context.updateMetrics(row("abcdef"), TABLE);
+        context.updateMetrics(row("abcdef"), TABLE);
+        context.updateMetrics(row("abcd"), TABLE);
+
+        assertMetrics(metricsContext, 4, 10);
+    }
+
+    @Test
+    public void testSampleRowBytesPerTable() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                new TaskMetricsCalcContext(
+                        metricsContext,
+                        PluginType.SOURCE,
+                        true,
+                        Arrays.asList(TablePath.of(TABLE), TablePath.of(OTHER_TABLE)),
+                        new TaskMetricsConfig(0, 3));
+
+        // the first row of every table is measured, the next ones count with its size
+        context.updateMetrics(row("ab"), TABLE);
+        context.updateMetrics(row("abcdef"), OTHER_TABLE);
+        context.updateMetrics(row("abcdefgh"), TABLE);
+        context.updateMetrics(row("a"), OTHER_TABLE);
+
+        Assertions.assertEquals(16, metricsContext.counter(SOURCE_RECEIVED_BYTES).getCount());
+        Assertions.assertEquals(
+                4, metricsContext.counter(SOURCE_RECEIVED_BYTES + "#" + TABLE).getCount());
+        Assertions.assertEquals(
+                12, metricsContext.counter(SOURCE_RECEIVED_BYTES + "#" + OTHER_TABLE).getCount());
+    }
+
+    @Test
+    public void testInvalidMetricsOptions() {
+        Map<String, Object> envOptions = new HashMap<>();
+        envOptions.put(EnvCommonOptions.METRICS_FLUSH_INTERVAL_MS.key(), -1L);
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> TaskMetricsConfig.fromEnvOptions(envOptions));
+
+        envOptions.put(EnvCommonOptions.METRICS_FLUSH_INTERVAL_MS.key(), 100L);
+        envOptions.put(EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL.key(), 0);
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> TaskMetricsConfig.fromEnvOptions(envOptions));
+
+        envOptions.put(EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL.key(), 8);
+        TaskMetricsConfig config = TaskMetricsConfig.fromEnvOptions(envOptions);
+        Assertions.assertEquals(100L, config.getFlushIntervalMs());
+        Assertions.assertEquals(8, config.getBytesSampleInterval());
+    }
+
+    private static TaskMetricsCalcContext createContext(
+            SeaTunnelMetricsContext metricsContext, TaskMetricsConfig config) {
+        return new TaskMetricsCalcContext(
+                metricsContext,
+                PluginType.SOURCE,
+                true,
+                Collections.singletonList(TablePath.of(TABLE)),
+                config);
+    }
+
+    private static SeaTunnelRow row(String value) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {value});
+        row.setTableId(TABLE);
+        return row;
+    }
+
+    private static void assertMetrics(
+            SeaTunnelMetricsContext metricsContext, long count, long bytes) {
+        Assertions.assertEquals(count, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+        Assertions.assertEquals(bytes, metricsContext.counter(SOURCE_RECEIVED_BYTES).getCount());
+        Assertions.assertEquals(
+                count, metricsContext.counter(SOURCE_RECEIVED_COUNT + "#" + TABLE).getCount());
+        Assertions.assertEquals(
+                bytes, metricsContext.counter(SOURCE_RECEIVED_BYTES + "#" + TABLE).getCount());
+    }
+}
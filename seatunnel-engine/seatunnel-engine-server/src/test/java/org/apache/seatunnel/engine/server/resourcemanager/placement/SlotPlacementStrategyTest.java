@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.placement;
+
+import org.apache.seatunnel.engine.server.resourcemanager.resource.CPU;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.Memory;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SlotPlacementStrategyTest {
+
+    private static final long JOB_ID = 1;
+
+    private static final long OTHER_JOB_ID = 2;
+
+    @Test
+    public void testCreateStrategy() {
+        Assertions.assertTrue(
+                SlotPlacementStrategyFactory.create("random")
+                        instanceof RandomSlotPlacementStrategy);
+        Assertions.assertTrue(
+                SlotPlacementStrategyFactory.create("LEAST_LOADED")
+                        instanceof LeastLoadedSlotPlacementStrategy);
+        Assertions.assertTrue(
+                SlotPlacementStrategyFactory.create("Spread")
+                        instanceof SpreadSlotPlacementStrategy);
+        Assertions.assertTrue(
+                SlotPlacementStrategyFactory.create("COLOCATE")
+                        instanceof ColocateSlotPlacementStrategy);
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> SlotPlacementStrategyFactory.create("UNKNOWN"));
+    }
+
+    @Test
+    public void testLeastLoadedSelectsIdleWorker() throws UnknownHostException {
+        WorkerProfile busy = worker(5801, 0.9, 100, 0, 0);
+        WorkerProfile idle = worker(5802, 0.1, 100, 0, 0);
+        WorkerProfile fullHeap = worker(5803, 0.1, 900, 0, 0);
+        SlotPlacementContext context = new SlotPlacementContext();
+        SlotPlacementStrategy strategy = new LeastLoadedSlotPlacementStrategy();
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(
+                    idle, strategy.select(JOB_ID, Arrays.asList(busy, idle, fullHeap), context));
+        }
+    }
+
+    @Test
+    public void testLeastLoadedCountsPendingRequests() throws UnknownHostException {
+        WorkerProfile first = worker(5801, 0.1, 100, 0, 0);
+        WorkerProfile second = worker(5802, 0.1, 100, 0, 0);
+        List<WorkerProfile> candidates = Arrays.asList(first, second);
+        SlotPlacementContext context = new SlotPlacementContext();
+        SlotPlacementStrategy strategy = new LeastLoadedSlotPlacementStrategy();
+        WorkerProfile selected = strategy.select(JOB_ID, candidates, context);
+        context.reserve(JOB_ID, selected.getAddress());
+        WorkerProfile other = strategy.select(JOB_ID, candidates, context);
+        Assertions.assertNotEquals(selected, other);
+
+        context.release(JOB_ID, selected.getAddress());
+        Assertions.assertEquals(0, context.getPendingSlots(selected.getAddress()));
+    }
+
+    @Test
+    public void testSpreadSelectsWorkerWithFewestSlots() throws UnknownHostException {
+        WorkerProfile crowded = worker(5801, 0, 0, 3, 0);
+        WorkerProfile empty = worker(5802, 0, 0, 0, 0);
+        SlotPlacementContext context = new SlotPlacementContext();
+        SlotPlacementStrategy strategy = new SpreadSlotPlacementStrategy();
+        Assertions.assertEquals(
+                empty, strategy.select(JOB_ID, Arrays.asList(crowded, empty), context));
+
+        for (int i = 0; i < 4; i++) {
+            context.reserve(OTHER_JOB_ID, empty.getAddress());
+        }
+        Assertions.assertEquals(
+                crowded, strategy.select(JOB_ID, Arrays.asList(crowded, empty), context));
+    }
+
+    @Test
+    public void testColocateSelectsWorkerOfSameJob() throws UnknownHostException {
+        WorkerProfile otherJob = worker(5801, 0.1, 100, 3, 0);
+        WorkerProfile sameJob = worker(5802, 0.5, 100, 1, 1);
+        WorkerProfile idle = worker(5803, 0, 0, 0, 0);
+        List<WorkerProfile> candidates = Arrays.asList(otherJob, sameJob, idle);
+        SlotPlacementContext context = new SlotPlacementContext();
+        SlotPlacementStrategy strategy = new ColocateSlotPlacementStrategy();
+        Assertions.assertEquals(sameJob, strategy.select(JOB_ID, candidates, context));
+
+        // the first slot of a job goes to the least loaded worker, the next slots follow it
+        long newJobId = 3;
+        WorkerProfile first = strategy.select(newJobId, candidates, context);
+        Assertions.assertEquals(idle, first);
+        context.reserve(newJobId, first.getAddress());
+        Assertions.assertEquals(idle, strategy.select(newJobId, candidates, context));
+    }
+
+    /**
+     * Create a worker with 1000 bytes heap memory, the first slots of the assigned slots are owned
+     * by {@link #JOB_ID} and the others by {@link #OTHER_JOB_ID}.
+     */
+    private static WorkerProfile worker(
+            int port, double cpuLoad, long usedHeapMemory, int assignedSlots, int jobSlots)
+            throws UnknownHostException {
+        Address address = new Address("localhost", port);
+        SlotProfile[] slots = new SlotProfile[assignedSlots];
+        for (int i = 0; i < assignedSlots; i++) {
+            slots[i] = new SlotProfile(address, i, new ResourceProfile(), String.valueOf(i));
+            slots[i].assign(i < jobSlots ? JOB_ID : OTHER_JOB_ID);
+        }
+        WorkerProfile worker =
+                new WorkerProfile(
+                        address,
+                        new ResourceProfile(CPU.of(0), Memory.of(1000)),
+                        new ResourceProfile(),
+                        false,
+                        slots,
+                        new SlotProfile[] {},
+                        Collections.emptyMap());
+        worker.setCpuLoad(cpuLoad);
+        worker.setUsedHeapMemory(usedHeapMemory);
+        return worker;
+    }
+}
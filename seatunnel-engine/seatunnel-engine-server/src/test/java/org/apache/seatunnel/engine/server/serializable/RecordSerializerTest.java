@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+
+public class RecordSerializerTest {
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    private final RecordSerializer serializer = new RecordSerializer();
+
+    @Test
+    public void testNarrowRowKeepsByteArity() throws IOException {
+        SeaTunnelRow row = newRow(Byte.MAX_VALUE);
+        byte[] bytes = write(row);
+        Assertions.assertEquals(RecordSerializer.RecordDataType.SEATUNNEL_ROW.ordinal(), bytes[0]);
+        Assertions.assertEquals(row, read(bytes).getData());
+    }
+
+    @Test
+    public void testWideRow() throws IOException {
+        SeaTunnelRow row = newRow(300);
+        byte[] bytes = write(row);
+        Assertions.assertEquals(
+                RecordSerializer.RecordDataType.WIDE_SEATUNNEL_ROW.ordinal(), bytes[0]);
+        SeaTunnelRow readRow = (SeaTunnelRow) read(bytes).getData();
+        Assertions.assertEquals(row, readRow);
+        Assertions.assertEquals("db.table", readRow.getTableId());
+        Assertions.assertEquals(RowKind.DELETE, readRow.getRowKind());
+    }
+
+    private SeaTunnelRow newRow(int arity) {
+        SeaTunnelRow row = new SeaTunnelRow(arity);
+        for (int i = 0; i < arity; i++) {
+            row.setField(i, i);
+        }
+        row.setTableId("db.table");
+        row.setRowKind(RowKind.DELETE);
+        return row;
+    }
+
+    private byte[] write(SeaTunnelRow row) throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        serializer.write(out, new Record<>(row));
+        return out.toByteArray();
+    }
+
+    private Record<?> read(byte[] bytes) throws IOException {
+        BufferObjectDataInput in = serializationService.createObjectDataInput(bytes);
+        return serializer.read(in);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public class SeaTunnelRowCodecTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_string",
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_decimal",
+                        "c_bytes",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp",
+                        "c_array",
+                        "c_row"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.INT_ARRAY_TYPE,
+                        new SeaTunnelRowType(
+                                new String[] {"n_int"},
+                                new SeaTunnelDataType<?>[] {BasicType.INT_TYPE})
+                    });
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            "seatunnel",
+                            true,
+                            (byte) 1,
+                            (short) 2,
+                            3,
+                            4L,
+                            5.5f,
+                            6.6d,
+                            new BigDecimal("-123.45"),
+                            new byte[] {1, 2, 3},
+                            LocalDate.of(2024, 1, 2),
+                            LocalTime.of(12, 30, 1, 999),
+                            LocalDateTime.of(2024, 1, 2, 12, 30, 1, 999),
+                            new Integer[] {1, null, 3},
+                            new SeaTunnelRow(new Object[] {7})
+                        });
+        row.setTableId("db.table");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        SeaTunnelRow nullRow = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        nullRow.setTableId("db.table");
+        // value type does not match the declared type, must use the generic encoding
+        SeaTunnelRow mismatchRow = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        mismatchRow.setField(4, 10L);
+
+        SeaTunnelRowCodec writer = new SeaTunnelRowCodec(ROW_TYPE);
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        writer.write(out, row);
+        writer.write(out, nullRow);
+        writer.write(out, mismatchRow);
+
+        SeaTunnelRowCodec reader = new SeaTunnelRowCodec(ROW_TYPE);
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        SeaTunnelRow readRow = reader.read(in);
+        Assertions.assertEquals(row, readRow);
+        Assertions.assertEquals("db.table", readRow.getTableId());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, readRow.getRowKind());
+        Assertions.assertEquals(nullRow, reader.read(in));
+        Assertions.assertEquals(mismatchRow, reader.read(in));
+    }
+
+    @Test
+    public void testTableIdInterned() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id"}, new SeaTunnelDataType<?>[] {BasicType.INT_TYPE});
+        SeaTunnelRowCodec codec = new SeaTunnelRowCodec(rowType);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1});
+        row.setTableId("a_very_long_database_name.a_very_long_table_name");
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        codec.write(out, row);
+        int firstRowSize = out.position();
+        codec.write(out, row);
+        int secondRowSize = out.position() - firstRowSize;
+        Assertions.assertTrue(secondRowSize < firstRowSize);
+
+        codec.reset();
+        int position = out.position();
+        codec.write(out, row);
+        Assertions.assertEquals(firstRowSize, out.position() - position);
+    }
+
+    @Test
+    public void testResetNestedTableIds() throws IOException {
+        SeaTunnelRowType nestedType =
+                new SeaTunnelRowType(
+                        new String[] {"n_int"}, new SeaTunnelDataType<?>[] {BasicType.INT_TYPE});
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_row"}, new SeaTunnelDataType<?>[] {nestedType});
+        SeaTunnelRow nested = new SeaTunnelRow(new Object[] {1});
+        nested.setTableId("db.nested");
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {nested});
+        row.setTableId("db.table");
+
+        SeaTunnelRowCodec writer = new SeaTunnelRowCodec(rowType);
+        SeaTunnelRowCodec reader = new SeaTunnelRowCodec(rowType);
+        for (int frame = 0; frame < 2; frame++) {
+            writer.reset();
+            reader.reset();
+            BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+            writer.write(out, row);
+            writer.write(out, row);
+            BufferObjectDataInput in =
+                    serializationService.createObjectDataInput(out.toByteArray());
+            for (int i = 0; i < 2; i++) {
+                SeaTunnelRow readRow = reader.read(in);
+                Assertions.assertEquals(row, readRow);
+                Assertions.assertEquals(
+                        "db.nested", ((SeaTunnelRow) readRow.getField(0)).getTableId());
+            }
+        }
+    }
+}
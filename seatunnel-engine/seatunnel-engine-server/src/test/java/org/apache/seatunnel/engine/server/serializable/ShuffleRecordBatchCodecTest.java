@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRecordBatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShuffleRecordBatchCodecTest {
+
+    @Test
+    public void testEncodeDecode() throws IOException {
+        InternalSerializationService serializationService =
+                new DefaultSerializationServiceBuilder().build();
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType<?>[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+
+        List<Record<?>> records = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {i, "name_" + i});
+            row.setTableId("db.table");
+            row.setRowKind(i % 2 == 0 ? RowKind.INSERT : RowKind.DELETE);
+            records.add(new Record<>(row));
+        }
+        // a row after a schema change does not match the negotiated row type
+        SeaTunnelRow evolvedRow = new SeaTunnelRow(new Object[] {1L, "name", "new_column"});
+        evolvedRow.setTableId("db.table");
+        records.add(new Record<>(evolvedRow));
+
+        ShuffleRecordBatch batch =
+                new ShuffleRecordBatchCodec(serializationService, rowType).encode(records);
+        Assertions.assertEquals(records.size(), batch.getRecordCount());
+
+        List<Record<?>> decoded = new ArrayList<>();
+        new ShuffleRecordBatchCodec(serializationService, rowType).decode(batch, decoded);
+        Assertions.assertEquals(records.size(), decoded.size());
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertEquals(records.get(i).getData(), decoded.get(i).getData());
+        }
+    }
+}
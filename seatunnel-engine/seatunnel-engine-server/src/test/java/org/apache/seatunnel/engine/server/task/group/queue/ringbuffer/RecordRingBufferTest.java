@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue.ringbuffer;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class RecordRingBufferTest {
+
+    @Test
+    public void testCapacity() {
+        Assertions.assertEquals(2, new RecordRingBuffer(1).capacity());
+        Assertions.assertEquals(1024, new RecordRingBuffer(1000).capacity());
+        Assertions.assertEquals(2048, new RecordRingBuffer(2048).capacity());
+    }
+
+    @Test
+    public void testProducerAndConsumerKeepOrder() throws Exception {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(16);
+        long recordCount = 100_000;
+        CompletableFuture<Void> producer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                for (long i = 0; i < recordCount; i++) {
+                                    ringBuffer.put(new Record<>(i));
+                                }
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        Record<?>[] batch = new Record<?>[10];
+        long expected = 0;
+        while (expected < recordCount) {
+            int count = ringBuffer.drainTo(batch, batch.length);
+            if (count == 0) {
+                ringBuffer.idle();
+            }
+            for (int i = 0; i < count; i++) {
+                Assertions.assertEquals(expected++, batch[i].getData());
+            }
+        }
+        producer.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(0, ringBuffer.size());
+        Assertions.assertEquals(0, ringBuffer.drainTo(batch, batch.length));
+    }
+}
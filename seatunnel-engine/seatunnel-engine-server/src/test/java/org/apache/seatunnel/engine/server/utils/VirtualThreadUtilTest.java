@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class VirtualThreadUtilTest {
+
+    @Test
+    public void testVirtualThreadPerTaskExecutor() throws Exception {
+        if (!VirtualThreadUtil.isSupported()) {
+            Assertions.assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> VirtualThreadUtil.newVirtualThreadPerTaskExecutor("test-"));
+            return;
+        }
+        ExecutorService executor = VirtualThreadUtil.newVirtualThreadPerTaskExecutor("test-");
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+            Assertions.assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+            Assertions.assertTrue(thread.getName().startsWith("test-"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -33,4 +33,10 @@ public class PipelineState {
     private int pipelineId;
     private long checkpointId;
     private byte[] states;
+
+    /**
+     * Whether the states are stored as an incremental checkpoint, which only contains the state
+     * chunks changed since the former checkpoints and refers to the others.
+     */
+    private boolean incremental;
 }
@@ -205,6 +205,14 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
                 });
     }
 
+    @Override
+    public void close() {
+        // the submitted checkpoints are still stored
+        if (null != this.executorService) {
+            this.executorService.shutdown();
+        }
+    }
+
     private void initExecutor() {
         if (null == this.executorService || this.executorService.isShutdown()) {
             synchronized (this) {
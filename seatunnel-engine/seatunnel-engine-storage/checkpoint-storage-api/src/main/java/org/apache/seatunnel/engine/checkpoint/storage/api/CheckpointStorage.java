@@ -118,4 +118,10 @@ public interface CheckpointStorage {
 
     void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException;
+
+    /**
+     * Release the threads held by the storage, the storage can't be used after closed. A storage
+     * may be shared by all the jobs of a server, so it is only closed when the server shuts down.
+     */
+    default void close() {}
 }
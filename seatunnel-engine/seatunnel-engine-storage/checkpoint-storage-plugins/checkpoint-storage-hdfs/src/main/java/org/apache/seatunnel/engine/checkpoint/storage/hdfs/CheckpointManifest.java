@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The manifest of a checkpoint stored in parts.
+ *
+ * <p>The serialized checkpoint data is split into parts which are compressed and written
+ * independently, the manifest is written as the checkpoint file after all parts are written, so
+ * that a checkpoint is only visible when it is complete. A checkpoint with a single part keeps the
+ * part inline in the manifest.
+ *
+ * <p>Layout: magic, version, codec, total length, part count, (raw length, stored length, crc32) of
+ * every part, and the inline part if any. The magic can't be the first byte of a checkpoint file
+ * written without manifest.
+ */
+@Getter
+@AllArgsConstructor
+public class CheckpointManifest {
+    private static final byte[] MAGIC = new byte[] {'S', 'T', 'C', 'M'};
+
+    private static final int VERSION = 1;
+
+    private final Codec codec;
+
+    private final int totalLength;
+
+    private final List<Part> parts;
+
+    /** The data of the single part, null if the parts are stored in separate files. */
+    private final byte[] inlineData;
+
+    public static boolean isManifest(byte[] data) {
+        return data.length >= MAGIC.length
+                && Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC);
+    }
+
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(codec.name());
+            out.writeInt(totalLength);
+            out.writeInt(parts.size());
+            for (Part part : parts) {
+                out.writeInt(part.getRawLength());
+                out.writeInt(part.getStoredLength());
+                out.writeLong(part.getChecksum());
+            }
+            out.writeBoolean(inlineData != null);
+            if (inlineData != null) {
+                out.write(inlineData);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    public static CheckpointManifest deserialize(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            in.skipBytes(MAGIC.length);
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint manifest version: " + version);
+            }
+            Codec codec = Codec.of(in.readUTF());
+            int totalLength = in.readInt();
+            int partCount = in.readInt();
+            List<Part> parts = new ArrayList<>(partCount);
+            for (int i = 0; i < partCount; i++) {
+                parts.add(new Part(in.readInt(), in.readInt(), in.readLong()));
+            }
+            byte[] inlineData = null;
+            if (in.readBoolean()) {
+                inlineData = new byte[parts.get(0).getStoredLength()];
+                in.readFully(inlineData);
+            }
+            return new CheckpointManifest(codec, totalLength, parts, inlineData);
+        }
+    }
+
+    public static long checksum(byte[] data, int offset, int length) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(data, offset, length);
+        return crc32.getValue();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Part {
+        private final int rawLength;
+        private final int storedLength;
+        private final long checksum;
+    }
+
+    /** The compression codec of the parts. */
+    public enum Codec {
+        NONE,
+        DEFLATE;
+
+        public static Codec of(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+
+        public byte[] compress(byte[] data, int offset, int length) {
+            if (this == NONE) {
+                return Arrays.copyOfRange(data, offset, offset + length);
+            }
+            // favor the speed, the checkpoint duration is bound by the storage I/O
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(data, offset, length);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 64);
+                byte[] buffer = new byte[8192];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        public byte[] decompress(byte[] data, int rawLength) throws IOException {
+            if (this == NONE) {
+                return data;
+            }
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(data);
+                byte[] raw = new byte[rawLength];
+                int length = 0;
+                while (length < rawLength && !inflater.finished()) {
+                    int inflated = inflater.inflate(raw, length, rawLength - length);
+                    if (inflated == 0 && inflater.needsInput()) {
+                        break;
+                    }
+                    length += inflated;
+                }
+                if (length != rawLength) {
+                    throw new IOException(
+                            String.format(
+                                    "Corrupted checkpoint part, expect %s bytes but got %s",
+                                    rawLength, length));
+                }
+                return raw;
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupted checkpoint part", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+}
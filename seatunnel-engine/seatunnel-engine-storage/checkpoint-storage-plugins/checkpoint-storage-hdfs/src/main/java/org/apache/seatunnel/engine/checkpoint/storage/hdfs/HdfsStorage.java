@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.common.StorageThreadFactory;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.AbstractConfiguration;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.FileConfiguration;
@@ -39,10 +40,17 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
@@ -53,6 +61,32 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     private static final String STORAGE_TMP_SUFFIX = "tmp";
     private static final String STORAGE_TYPE_KEY = "storage.type";
 
+    /**
+     * The checkpoints larger than the part size are written in parts, see {@link
+     * CheckpointManifest}.
+     */
+    private static final String MULTIPART_PART_SIZE_KEY = "multipart.part-size";
+
+    private static final int DEFAULT_MULTIPART_PART_SIZE = 8 * 1024 * 1024;
+
+    /** The number of parts written or read in parallel. */
+    private static final String MULTIPART_PARALLELISM_KEY = "multipart.parallelism";
+
+    private static final int DEFAULT_MULTIPART_PARALLELISM = 4;
+
+    /** The compression codec of the checkpoint data: none, deflate. */
+    private static final String COMPRESSION_CODEC_KEY = "compression.codec";
+
+    private static final String PARTS_SUFFIX = ".parts";
+
+    private static final String PART_FILE_FORMAT = "part-%05d";
+
+    private int partSize = DEFAULT_MULTIPART_PART_SIZE;
+
+    private CheckpointManifest.Codec codec = CheckpointManifest.Codec.NONE;
+
+    private ThreadPoolExecutor multipartExecutor;
+
     public HdfsStorage(Map<String, String> configuration) throws CheckpointStorageException {
         this.initStorage(configuration);
     }
@@ -63,6 +97,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        initMultipart(configuration);
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
@@ -71,6 +106,41 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         }
     }
 
+    private void initMultipart(Map<String, String> configuration) {
+        String partSizeValue = configuration.remove(MULTIPART_PART_SIZE_KEY);
+        if (StringUtils.isNotBlank(partSizeValue)) {
+            partSize = Integer.parseInt(partSizeValue.trim());
+            if (partSize <= 0) {
+                throw new IllegalArgumentException(MULTIPART_PART_SIZE_KEY + " must be positive");
+            }
+        }
+        String parallelismValue = configuration.remove(MULTIPART_PARALLELISM_KEY);
+        int parallelism =
+                StringUtils.isNotBlank(parallelismValue)
+                        ? Integer.parseInt(parallelismValue.trim())
+                        : DEFAULT_MULTIPART_PARALLELISM;
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(MULTIPART_PARALLELISM_KEY + " must be positive");
+        }
+        String codecValue = configuration.remove(COMPRESSION_CODEC_KEY);
+        if (StringUtils.isNotBlank(codecValue)) {
+            codec = CheckpointManifest.Codec.of(codecValue.trim());
+        }
+        if (multipartExecutor != null) {
+            multipartExecutor.shutdown();
+        }
+        // the threads exit when there is no checkpoint to write or read for a while
+        multipartExecutor =
+                new ThreadPoolExecutor(
+                        parallelism,
+                        parallelism,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        new StorageThreadFactory());
+        multipartExecutor.allowCoreThreadTimeOut(true);
+    }
+
     private Configuration getConfiguration(Map<String, String> config)
             throws CheckpointStorageException {
         String storageType =
@@ -96,14 +166,20 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                                 + state.getJobId()
                                 + "/"
                                 + getCheckPointName(state));
+        if (codec == CheckpointManifest.Codec.NONE && datas.length <= partSize) {
+            writeFile(filePath, datas, state);
+        } else {
+            writeParts(filePath, datas, state);
+        }
+        return filePath.getName();
+    }
 
-        Path tmpFilePath =
-                new Path(
-                        getStorageParentDirectory()
-                                + state.getJobId()
-                                + "/"
-                                + getCheckPointName(state)
-                                + STORAGE_TMP_SUFFIX);
+    /**
+     * Write the file to a temporary path first and rename it, so the file is complete once visible.
+     */
+    private void writeFile(Path filePath, byte[] datas, PipelineState state)
+            throws CheckpointStorageException {
+        Path tmpFilePath = new Path(filePath.getParent(), filePath.getName() + STORAGE_TMP_SUFFIX);
         try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
             out.write(datas);
         } catch (IOException e) {
@@ -131,8 +207,157 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 log.error("Failed to delete tmp file", ioe);
             }
         }
+    }
+
+    /** Compress and write the parts in parallel, then write the manifest as the checkpoint file. */
+    private void writeParts(Path filePath, byte[] datas, PipelineState state)
+            throws CheckpointStorageException {
+        int partCount = Math.max(1, (int) ((datas.length + (long) partSize - 1) / partSize));
+        if (partCount == 1) {
+            byte[] stored = codec.compress(datas, 0, datas.length);
+            CheckpointManifest.Part part =
+                    new CheckpointManifest.Part(
+                            datas.length,
+                            stored.length,
+                            CheckpointManifest.checksum(datas, 0, datas.length));
+            writeManifest(
+                    filePath,
+                    new CheckpointManifest(
+                            codec, datas.length, Collections.singletonList(part), stored),
+                    state);
+            return;
+        }
 
-        return filePath.getName();
+        Path partsPath = getPartsPath(filePath);
+        List<CompletableFuture<CheckpointManifest.Part>> futures = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            final int index = i;
+            final int offset = i * partSize;
+            final int length = Math.min(partSize, datas.length - offset);
+            futures.add(
+                    CompletableFuture.supplyAsync(
+                            () -> writePart(partsPath, index, datas, offset, length),
+                            multipartExecutor));
+        }
+        try {
+            List<CheckpointManifest.Part> parts = new ArrayList<>(partCount);
+            for (CompletableFuture<CheckpointManifest.Part> future : futures) {
+                parts.add(future.join());
+            }
+            writeManifest(
+                    filePath, new CheckpointManifest(codec, datas.length, parts, null), state);
+        } catch (Exception e) {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .handle((v, t) -> null)
+                    .join();
+            deleteQuietly(partsPath);
+            if (e instanceof CheckpointStorageException) {
+                throw (CheckpointStorageException) e;
+            }
+            throw new CheckpointStorageException(
+                    String.format(
+                            "Failed to write checkpoint parts, file: %s, state: %s",
+                            partsPath, state),
+                    e);
+        }
+    }
+
+    private CheckpointManifest.Part writePart(
+            Path partsPath, int index, byte[] datas, int offset, int length) {
+        byte[] stored = codec.compress(datas, offset, length);
+        Path partPath = new Path(partsPath, String.format(PART_FILE_FORMAT, index));
+        try (FSDataOutputStream out = fs.create(partPath, true)) {
+            out.write(stored);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoint part " + partPath, e);
+        }
+        return new CheckpointManifest.Part(
+                length, stored.length, CheckpointManifest.checksum(datas, offset, length));
+    }
+
+    private void writeManifest(Path filePath, CheckpointManifest manifest, PipelineState state)
+            throws CheckpointStorageException {
+        byte[] datas;
+        try {
+            datas = manifest.serialize();
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to serialize checkpoint manifest, state: %s", state), e);
+        }
+        writeFile(filePath, datas, state);
+    }
+
+    /** Read the parts of the manifest in parallel and reassemble the checkpoint data. */
+    private byte[] readParts(Path filePath, CheckpointManifest manifest) throws IOException {
+        CheckpointManifest.Codec partCodec = manifest.getCodec();
+        List<CheckpointManifest.Part> parts = manifest.getParts();
+        if (manifest.getInlineData() != null) {
+            CheckpointManifest.Part part = parts.get(0);
+            byte[] datas = partCodec.decompress(manifest.getInlineData(), part.getRawLength());
+            verifyChecksum(filePath, part, datas, 0);
+            return datas;
+        }
+
+        Path partsPath = getPartsPath(filePath);
+        byte[] datas = new byte[manifest.getTotalLength()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(parts.size());
+        int offset = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            final CheckpointManifest.Part part = parts.get(i);
+            final Path partPath = new Path(partsPath, String.format(PART_FILE_FORMAT, i));
+            final int partOffset = offset;
+            futures.add(
+                    CompletableFuture.runAsync(
+                            () -> {
+                                try {
+                                    byte[] stored = new byte[part.getStoredLength()];
+                                    try (FSDataInputStream in = fs.open(partPath)) {
+                                        in.readFully(stored);
+                                    }
+                                    byte[] raw = partCodec.decompress(stored, part.getRawLength());
+                                    System.arraycopy(raw, 0, datas, partOffset, raw.length);
+                                    verifyChecksum(partPath, part, datas, partOffset);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            },
+                            multipartExecutor));
+            offset += part.getRawLength();
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to read checkpoint parts " + partsPath, e.getCause());
+        }
+        return datas;
+    }
+
+    private static void verifyChecksum(
+            Path path, CheckpointManifest.Part part, byte[] datas, int offset) throws IOException {
+        if (CheckpointManifest.checksum(datas, offset, part.getRawLength()) != part.getChecksum()) {
+            throw new IOException("Checksum mismatch of checkpoint part " + path);
+        }
+    }
+
+    private static Path getPartsPath(Path filePath) {
+        return new Path(filePath.getParent(), filePath.getName() + PARTS_SUFFIX);
+    }
+
+    /** Delete the checkpoint file and its parts if any. */
+    private void deleteCheckpointFile(Path filePath) throws IOException {
+        fs.delete(filePath, false);
+        Path partsPath = getPartsPath(filePath);
+        if (fs.exists(partsPath)) {
+            fs.delete(partsPath, true);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            fs.delete(path, true);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", path, e);
+        }
     }
 
     @Override
@@ -286,9 +511,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointId.equals(getCheckpointIdByFileName(fileName))) {
                         try {
-                            fs.delete(
-                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName),
-                                    false);
+                            deleteCheckpointFile(
+                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName));
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -316,9 +540,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointIdList.contains(checkpointIdByFileName)) {
                         try {
-                            fs.delete(
-                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName),
-                                    false);
+                            deleteCheckpointFile(
+                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName));
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -331,6 +554,14 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 });
     }
 
+    @Override
+    public void close() {
+        super.close();
+        if (multipartExecutor != null) {
+            multipartExecutor.shutdown();
+        }
+    }
+
     private List<String> getFileNames(String path) throws CheckpointStorageException {
         try {
             Path parentPath = new Path(path);
@@ -360,10 +591,14 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             throws CheckpointStorageException {
         fileName =
                 getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName;
-        try (FSDataInputStream in = fs.open(new Path(fileName));
+        Path filePath = new Path(fileName);
+        try (FSDataInputStream in = fs.open(filePath);
                 ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
             IOUtils.copyBytes(in, stream, 1024);
             byte[] bytes = stream.toByteArray();
+            if (CheckpointManifest.isManifest(bytes)) {
+                bytes = readParts(filePath, CheckpointManifest.deserialize(bytes));
+            }
             return deserializeCheckPointData(bytes);
         } catch (IOException e) {
             throw new CheckpointStorageException(
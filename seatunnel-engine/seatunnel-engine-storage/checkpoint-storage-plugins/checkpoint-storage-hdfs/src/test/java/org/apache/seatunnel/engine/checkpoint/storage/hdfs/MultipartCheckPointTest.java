@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+public class MultipartCheckPointTest extends AbstractFileCheckPointTest {
+
+    private static final String MULTIPART_JOB_ID = "multipart";
+
+    @BeforeAll
+    public static void setup() throws CheckpointStorageException {
+        HashMap config = new HashMap();
+        config.put("namespace", "/tmp/");
+        config.put("disable.cache", "false");
+        config.put("multipart.part-size", "1024");
+        config.put("multipart.parallelism", "3");
+        config.put("compression.codec", "deflate");
+        STORAGE = new HdfsStorage(config);
+        initStorageData();
+    }
+
+    @Test
+    public void testStoreInParts() throws CheckpointStorageException {
+        byte[] states = new byte[10 * 1024 + 7];
+        new Random(1).nextBytes(states);
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId(MULTIPART_JOB_ID)
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(states)
+                        .build();
+        String fileName = STORAGE.storeCheckPoint(pipelineState);
+        File partsDir = new File("/tmp/" + MULTIPART_JOB_ID + "/" + fileName + ".parts");
+        Assertions.assertEquals(11, partsDir.list((dir, name) -> name.startsWith("part-")).length);
+
+        PipelineState restored = STORAGE.getCheckpoint(MULTIPART_JOB_ID, "1", "1");
+        Assertions.assertArrayEquals(states, restored.getStates());
+
+        STORAGE.deleteCheckpoint(MULTIPART_JOB_ID, "1", "1");
+        Assertions.assertFalse(partsDir.exists());
+        STORAGE.deleteCheckpoint(MULTIPART_JOB_ID);
+    }
+
+    @Test
+    public void testCloseStopsPartWriters() throws CheckpointStorageException {
+        HashMap config = new HashMap();
+        config.put("namespace", "/tmp/");
+        config.put("multipart.part-size", "1024");
+        HdfsStorage storage = new HdfsStorage(config);
+        storage.close();
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId(MULTIPART_JOB_ID + "-closed")
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(new byte[4 * 1024])
+                        .build();
+        Assertions.assertThrows(
+                RejectedExecutionException.class, () -> storage.storeCheckPoint(pipelineState));
+        storage.deleteCheckpoint(MULTIPART_JOB_ID + "-closed");
+    }
+}
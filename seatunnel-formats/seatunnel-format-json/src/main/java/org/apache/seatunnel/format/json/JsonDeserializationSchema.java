@@ -18,7 +18,9 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
@@ -40,6 +42,9 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
@@ -63,6 +68,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /**
+     * Runtime converter that reads the tokens of a {@link JsonParser} into objects of internal data
+     * structures without building a {@link JsonNode} tree.
+     */
+    private JsonParserToRowConverters.JsonParserToObjectConverter parserConverter;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -78,9 +89,16 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(rowType);
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters jsonToRowConverters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = jsonToRowConverters.createRowConverter(checkNotNull(rowType));
+        this.parserConverter =
+                new JsonParserToRowConverters(
+                                jsonToRowConverters,
+                                failOnMissingField,
+                                ignoreParseErrors,
+                                hasDecimalType(rowType))
+                        .createRowConverter(rowType);
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -99,9 +117,16 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(catalogTable.getSeaTunnelRowType());
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters jsonToRowConverters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = jsonToRowConverters.createRowConverter(checkNotNull(rowType));
+        this.parserConverter =
+                new JsonParserToRowConverters(
+                                jsonToRowConverters,
+                                failOnMissingField,
+                                ignoreParseErrors,
+                                hasDecimalType(rowType))
+                        .createRowConverter(rowType);
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -129,6 +154,13 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        try (JsonParser parser = createParser(message)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                return convertToRowData(parser);
+            }
+        } catch (IOException | RuntimeException e) {
+            // read the message as a tree below, which reports or ignores the error
+        }
         return convertJsonNode(convertBytes(message));
     }
 
@@ -136,10 +168,25 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                return convertToRowData(parser);
+            }
+        } catch (IOException | RuntimeException e) {
+            // read the message as a tree below, which reports or ignores the error
+        }
         return convertJsonNode(convert(message));
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        List<SeaTunnelRow> rows = convertRows(message);
+        if (rows != null) {
+            for (SeaTunnelRow row : rows) {
+                setCollectorTablePath(row, catalogTable);
+                out.collect(row);
+            }
+            return;
+        }
         JsonNode jsonNode = convertBytes(message);
         if (jsonNode.isArray()) {
             ArrayNode arrayNode = (ArrayNode) jsonNode;
@@ -177,6 +224,22 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         }
     }
 
+    /**
+     * Read the rows of an object or an array of objects, returns {@code null} if the message must
+     * be read as a tree.
+     */
+    private List<SeaTunnelRow> convertRows(byte[] message) {
+        try (JsonParser parser = createParser(message)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return Collections.singletonList(convertToRowData(parser));
+            }
+            return token == JsonToken.START_ARRAY ? convertToRows(parser) : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
     public JsonNode deserializeToJsonNode(byte[] message) throws IOException {
         return objectMapper.readTree(message);
     }
@@ -185,6 +248,37 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         return (SeaTunnelRow) runtimeConverter.convert(message, null);
     }
 
+    /**
+     * Converts the objects of the array at the current token of the parser, returns {@code null} if
+     * an element is not an object.
+     */
+    public List<SeaTunnelRow> convertToRows(JsonParser parser) throws IOException {
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            rows.add(convertToRowData(parser));
+        }
+        return token == JsonToken.END_ARRAY ? rows : null;
+    }
+
+    /** Creates a parser with the same features as the one reading the trees. */
+    public JsonParser createParser(byte[] message) throws IOException {
+        return objectMapper.createParser(message);
+    }
+
+    /** Creates a parser of a part of the message, e.g. one of its values. */
+    public JsonParser createParser(byte[] message, int offset, int length) throws IOException {
+        return objectMapper.createParser(message, offset, length);
+    }
+
+    /**
+     * Converts the value at the current token of the parser, the parser is positioned at the last
+     * token of the value afterwards.
+     */
+    public SeaTunnelRow convertToRowData(JsonParser parser) throws IOException {
+        return (SeaTunnelRow) parserConverter.convert(parser, null);
+    }
+
     private JsonNode convertBytes(byte[] message) {
         try {
             return objectMapper.readTree(message);
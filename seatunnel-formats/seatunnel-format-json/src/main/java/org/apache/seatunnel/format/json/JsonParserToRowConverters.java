@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tool class used to convert the tokens of a {@link JsonParser} to {@link SeaTunnelRow} without
+ * building a {@link JsonNode} tree.
+ *
+ * <p>The fields of an object are matched to the row type by name, unknown fields are skipped and
+ * scalar tokens are converted directly. The conversion results are the same as the ones of {@link
+ * JsonToRowConverters}, token and type combinations which are not handled here (e.g. arrays, maps
+ * or floating point numbers read as strings) read only that value as a tree and delegate to it.
+ */
+public class JsonParserToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Flag indicating whether to fail if a field is missing. */
+    private final boolean failOnMissingField;
+
+    /** Flag indicating whether to ignore invalid fields/rows (default: throw an exception). */
+    private final boolean ignoreParseErrors;
+
+    /** Whether the parser reads floating point numbers as {@link BigDecimal} into a tree. */
+    private final boolean useBigDecimalForFloats;
+
+    /** Converters of the values read as a tree, they share the date formatter of a field. */
+    private final JsonToRowConverters jsonToRowConverters;
+
+    public JsonParserToRowConverters(
+            JsonToRowConverters jsonToRowConverters,
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            boolean useBigDecimalForFloats) {
+        this.jsonToRowConverters = jsonToRowConverters;
+        this.failOnMissingField = failOnMissingField;
+        this.ignoreParseErrors = ignoreParseErrors;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+    }
+
+    /** Creates a runtime converter which is null safe. */
+    public JsonParserToObjectConverter createConverter(SeaTunnelDataType<?> type) {
+        return wrapIntoNullableConverter(
+                createNotNullConverter(type), jsonToRowConverters.createConverter(type));
+    }
+
+    /**
+     * Creates a runtime converter which assuming the current token is not null, it returns {@code
+     * null} if the value must be read as a tree.
+     */
+    private JsonParserToObjectConverter createNotNullConverter(SeaTunnelDataType<?> type) {
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case NULL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        parser.skipChildren();
+                        return null;
+                    }
+                };
+            case BOOLEAN:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        switch (parser.currentToken()) {
+                            case VALUE_TRUE:
+                                return true;
+                            case VALUE_FALSE:
+                                return false;
+                            case VALUE_STRING:
+                                return Boolean.parseBoolean(parser.getText().trim());
+                            default:
+                                return null;
+                        }
+                    }
+                };
+            case TINYINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        String text = getIntegerText(parser);
+                        return text == null ? null : Byte.parseByte(text.trim());
+                    }
+                };
+            case SMALLINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        String text = getIntegerText(parser);
+                        return text == null ? null : Short.parseShort(text.trim());
+                    }
+                };
+            case INT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                                && parser.getNumberType() == JsonParser.NumberType.INT) {
+                            return parser.getIntValue();
+                        }
+                        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                            return Integer.parseInt(parser.getText().trim());
+                        }
+                        return null;
+                    }
+                };
+            case BIGINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                            return parser.getLongValue();
+                        }
+                        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                            return Long.parseLong(parser.getText().trim());
+                        }
+                        return null;
+                    }
+                };
+            case FLOAT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+                            return useBigDecimalForFloats ? null : (float) parser.getDoubleValue();
+                        }
+                        String text = getIntegerText(parser);
+                        return text == null ? null : Float.parseFloat(text.trim());
+                    }
+                };
+            case DOUBLE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+                            return useBigDecimalForFloats ? null : parser.getDoubleValue();
+                        }
+                        String text = getIntegerText(parser);
+                        return text == null ? null : Double.parseDouble(text.trim());
+                    }
+                };
+            case STRING:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        switch (parser.currentToken()) {
+                            case VALUE_TRUE:
+                            case VALUE_FALSE:
+                                return parser.getText();
+                            default:
+                                return getIntegerText(parser);
+                        }
+                    }
+                };
+            case DECIMAL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        String text = getIntegerText(parser);
+                        return text == null ? null : new BigDecimal(text);
+                    }
+                };
+            case DATE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                            return null;
+                        }
+                        return jsonToRowConverters.convertToLocalDate(parser.getText(), fieldName);
+                    }
+                };
+            case TIME:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                            return null;
+                        }
+                        return jsonToRowConverters.convertToLocalTime(parser.getText());
+                    }
+                };
+            case TIMESTAMP:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                            return null;
+                        }
+                        return jsonToRowConverters.convertToLocalDateTime(
+                                parser.getText(), fieldName);
+                    }
+                };
+            case ROW:
+                return createNotNullRowConverter((SeaTunnelRowType) type);
+            default:
+                // BYTES, ARRAY and MAP are always read as a tree
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) {
+                        return null;
+                    }
+                };
+        }
+    }
+
+    /**
+     * The text of a string or integer token, integers are formatted the same way as the text of a
+     * numeric {@link JsonNode}. Returns {@code null} for all other tokens.
+     */
+    private static String getIntegerText(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue().toString();
+            default:
+                return null;
+        }
+    }
+
+    public JsonParserToObjectConverter createRowConverter(SeaTunnelRowType rowType) {
+        return wrapIntoNullableConverter(
+                createNotNullRowConverter(rowType),
+                jsonToRowConverters.createRowConverter(rowType));
+    }
+
+    private JsonParserToObjectConverter createNotNullRowConverter(SeaTunnelRowType rowType) {
+        final String[] fieldNames = rowType.getFieldNames();
+        final JsonParserToObjectConverter[] fieldConverters =
+                new JsonParserToObjectConverter[fieldNames.length];
+        final Map<String, Integer> fieldIndexes = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldConverters[i] = createConverter(rowType.getFieldType(i));
+            fieldIndexes.putIfAbsent(fieldNames[i], i);
+        }
+        // a tree is needed to set the same value into the fields with the same name
+        final boolean uniqueFieldNames = fieldIndexes.size() == fieldNames.length;
+
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser, String rowFieldName) throws IOException {
+                // rows in the array format are matched by position, they are read as a tree
+                if (parser.currentToken() != JsonToken.START_OBJECT || !uniqueFieldNames) {
+                    return null;
+                }
+                int arity = fieldNames.length;
+                SeaTunnelRow row = new SeaTunnelRow(arity);
+                boolean[] presentFields = failOnMissingField ? new boolean[arity] : null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Integer index = fieldIndexes.get(parser.getCurrentName());
+                    parser.nextToken();
+                    if (index == null) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    row.setField(
+                            index,
+                            fieldConverters[index].convert(
+                                    parser, getFieldName(rowFieldName, fieldNames[index])));
+                    if (presentFields != null) {
+                        presentFields[index] = true;
+                    }
+                }
+                if (presentFields != null) {
+                    for (int i = 0; i < arity; i++) {
+                        if (!presentFields[i]) {
+                            throw new IllegalArgumentException(
+                                    String.format(
+                                            "Could not find field with name %s .",
+                                            getFieldName(rowFieldName, fieldNames[i])));
+                        }
+                    }
+                }
+                return row;
+            }
+        };
+    }
+
+    private static String getFieldName(String rowFieldName, String fieldName) {
+        if (StringUtils.isNotBlank(rowFieldName)) {
+            return rowFieldName + "." + fieldName;
+        }
+        return fieldName;
+    }
+
+    private JsonParserToObjectConverter wrapIntoNullableConverter(
+            JsonParserToObjectConverter converter,
+            JsonToRowConverters.JsonToObjectConverter treeConverter) {
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser, String fieldName) throws IOException {
+                if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                try {
+                    Object value = converter.convert(parser, fieldName);
+                    if (value == null && !parser.currentToken().isStructEnd()) {
+                        JsonNode jsonNode = parser.readValueAsTree();
+                        return treeConverter.convert(jsonNode, fieldName);
+                    }
+                    return value;
+                } catch (RuntimeException e) {
+                    if (!ignoreParseErrors) {
+                        throw e;
+                    }
+                    return null;
+                }
+            }
+        };
+    }
+
+    /**
+     * Runtime converter that converts the value at the current token of a {@link JsonParser} into
+     * objects of internal data structures. The parser is positioned at the last token of the value
+     * afterwards.
+     */
+    public interface JsonParserToObjectConverter extends Serializable {
+        Object convert(JsonParser parser, String fieldName) throws IOException;
+    }
+}
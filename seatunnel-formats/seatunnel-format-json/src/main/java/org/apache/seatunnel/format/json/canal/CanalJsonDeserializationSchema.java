@@ -18,6 +18,8 @@
 
 package org.apache.seatunnel.format.json.canal;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
@@ -37,6 +39,9 @@ import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 import lombok.NonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -220,9 +225,175 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
 
     @Override
     public void deserialize(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        List<SeaTunnelRow> rows = convertRows(message);
+        if (rows != null) {
+            for (SeaTunnelRow row : rows) {
+                out.collect(row);
+            }
+            return;
+        }
         ObjectNode jsonNodes = convertBytes(message);
         if (jsonNodes != null) {
-            deserialize(convertBytes(message), out);
+            deserialize(jsonNodes, out);
+        }
+    }
+
+    /**
+     * Reads the message with a {@link JsonParser}, the rows of "data" are converted without
+     * building a tree. Returns {@code null} if the message must be read as a tree, which reports or
+     * ignores the errors.
+     */
+    private List<SeaTunnelRow> convertRows(byte[] message) {
+        if (message == null || message.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String databaseName = null;
+            String tableName = null;
+            String op = null;
+            List<SeaTunnelRow> dataRows = null;
+            ArrayNode oldNode = null;
+            // "data" is usually in front of "database" and "table", it is only converted after
+            // the message has passed the filters
+            int dataOffset = -1;
+            int dataLength = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (fieldName) {
+                    case FIELD_DATABASE:
+                    case FIELD_TABLE:
+                    case FIELD_TYPE:
+                        if (token != JsonToken.VALUE_STRING) {
+                            return null;
+                        }
+                        if (FIELD_DATABASE.equals(fieldName)) {
+                            databaseName = parser.getText();
+                        } else if (FIELD_TABLE.equals(fieldName)) {
+                            tableName = parser.getText();
+                        } else {
+                            op = parser.getText();
+                        }
+                        break;
+                    case FIELD_DATA:
+                        dataRows = null;
+                        dataOffset = -1;
+                        if (token == JsonToken.VALUE_NULL) {
+                            break;
+                        }
+                        if (token != JsonToken.START_ARRAY) {
+                            return null;
+                        }
+                        if ((database != null && databaseName == null)
+                                || (table != null && tableName == null)) {
+                            dataOffset = (int) parser.getTokenLocation().getByteOffset();
+                            parser.skipChildren();
+                            dataLength =
+                                    (int) parser.getCurrentLocation().getByteOffset() - dataOffset;
+                        } else {
+                            dataRows = jsonDeserializer.convertToRows(parser);
+                            if (dataRows == null) {
+                                return null;
+                            }
+                        }
+                        break;
+                    case FIELD_OLD:
+                        oldNode = null;
+                        if (token == JsonToken.START_ARRAY) {
+                            oldNode = parser.readValueAsTree();
+                        } else if (token != JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (op == null
+                    || (database != null && databaseName == null)
+                    || (table != null && tableName == null)) {
+                return null;
+            }
+            if ((database != null && !databasePattern.matcher(databaseName).matches())
+                    || (table != null && !tablePattern.matcher(tableName).matches())) {
+                return Collections.emptyList();
+            }
+            if (dataOffset >= 0) {
+                try (JsonParser dataParser =
+                        jsonDeserializer.createParser(message, dataOffset, dataLength)) {
+                    dataParser.nextToken();
+                    dataRows = jsonDeserializer.convertToRows(dataParser);
+                }
+                if (dataRows == null) {
+                    return null;
+                }
+            }
+            if (dataRows == null) {
+                if (OP_QUERY.equals(op) || OP_CREATE.equals(op) || OP_ALTER.equals(op)) {
+                    return Collections.emptyList();
+                }
+                return null;
+            }
+            return convertRows(op, dataRows, oldNode);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private List<SeaTunnelRow> convertRows(
+            String op, List<SeaTunnelRow> dataRows, ArrayNode oldNode) {
+        String tableId =
+                Optional.ofNullable(catalogTable)
+                        .map(CatalogTable::getTablePath)
+                        .map(TablePath::toString)
+                        .orElse("");
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        switch (op) {
+            case OP_INSERT:
+                for (SeaTunnelRow row : dataRows) {
+                    setTableId(row, tableId);
+                    rows.add(row);
+                }
+                return rows;
+            case OP_UPDATE:
+                if (oldNode == null) {
+                    return null;
+                }
+                for (int i = 0; i < dataRows.size(); i++) {
+                    SeaTunnelRow after = dataRows.get(i);
+                    SeaTunnelRow before = convertJsonNode(oldNode.get(i));
+                    for (int f = 0; f < fieldCount; f++) {
+                        if (before.isNullAt(f) && oldNode.findValue(fieldNames[f]) == null) {
+                            // fields not in "old" (before) means the fields are not changed
+                            before.setField(f, after.getField(f));
+                        }
+                    }
+                    before.setRowKind(RowKind.UPDATE_BEFORE);
+                    setTableId(before, tableId);
+                    after.setRowKind(RowKind.UPDATE_AFTER);
+                    setTableId(after, tableId);
+                    rows.add(before);
+                    rows.add(after);
+                }
+                return rows;
+            case OP_DELETE:
+                for (SeaTunnelRow row : dataRows) {
+                    row.setRowKind(RowKind.DELETE);
+                    setTableId(row, tableId);
+                    rows.add(row);
+                }
+                return rows;
+            default:
+                return null;
+        }
+    }
+
+    private static void setTableId(SeaTunnelRow row, String tableId) {
+        if (!tableId.isEmpty()) {
+            row.setTableId(tableId);
         }
     }
 
@@ -17,7 +17,12 @@
 
 package org.apache.seatunnel.format.json.debezium;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.NullNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
@@ -105,7 +110,10 @@ public class DebeziumJsonDeserializationSchema implements DeserializationSchema<
         }
 
         try {
-            JsonNode payload = getPayload(convertBytes(message));
+            JsonNode payload = readPayload(message);
+            if (payload == null) {
+                payload = getPayload(convertBytes(message));
+            }
             String op = payload.get("op").asText();
 
             switch (op) {
@@ -161,6 +169,56 @@ public class DebeziumJsonDeserializationSchema implements DeserializationSchema<
         }
     }
 
+    /**
+     * Reads only "op", "before" and "after" of the payload as a tree with a {@link JsonParser},
+     * e.g. "schema" and "source" are skipped. Returns {@code null} if the message must be read as a
+     * tree, which reports the errors.
+     */
+    private JsonNode readPayload(byte[] message) {
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            if (debeziumEnabledSchema && !moveToField(parser, "payload")) {
+                return null;
+            }
+            ObjectNode payload = JsonNodeFactory.instance.objectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (fieldName) {
+                    case "op":
+                    case "before":
+                    case "after":
+                        payload.set(
+                                fieldName,
+                                token == JsonToken.VALUE_NULL
+                                        ? NullNode.getInstance()
+                                        : parser.readValueAsTree());
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return payload;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Moves the parser to the start of the object value of the field. */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (name.equals(fieldName)) {
+                return token == JsonToken.START_OBJECT;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
     private JsonNode getPayload(JsonNode jsonNode) {
         if (debeziumEnabledSchema) {
             return jsonNode.get("payload");
@@ -18,6 +18,8 @@
 
 package org.apache.seatunnel.format.json.maxwell;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -33,6 +35,9 @@ import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import static java.lang.String.format;
@@ -110,6 +115,13 @@ public class MaxWellJsonDeserializationSchema implements DeserializationSchema<S
         if (message == null) {
             return;
         }
+        List<SeaTunnelRow> rows = convertRows(message);
+        if (rows != null) {
+            for (SeaTunnelRow row : rows) {
+                out.collect(row);
+            }
+            return;
+        }
         ObjectNode jsonNode = (ObjectNode) convertBytes(message);
         if (database != null
                 && !databasePattern.matcher(jsonNode.get(FIELD_DATABASE).asText()).matches()) {
@@ -159,6 +171,113 @@ public class MaxWellJsonDeserializationSchema implements DeserializationSchema<S
         }
     }
 
+    /**
+     * Reads the message with a {@link JsonParser}, "data" is converted without building a tree.
+     * Returns {@code null} if the message must be read as a tree, which reports or ignores the
+     * errors.
+     */
+    private List<SeaTunnelRow> convertRows(byte[] message) {
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String databaseName = null;
+            String tableName = null;
+            String type = null;
+            SeaTunnelRow dataRow = null;
+            JsonNode oldNode = null;
+            // "data" is only converted after the message has passed the filters
+            int dataOffset = -1;
+            int dataLength = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (fieldName) {
+                    case FIELD_DATABASE:
+                    case FIELD_TABLE:
+                    case FIELD_TYPE:
+                        if (token != JsonToken.VALUE_STRING) {
+                            return null;
+                        }
+                        if (FIELD_DATABASE.equals(fieldName)) {
+                            databaseName = parser.getText();
+                        } else if (FIELD_TABLE.equals(fieldName)) {
+                            tableName = parser.getText();
+                        } else {
+                            type = parser.getText();
+                        }
+                        break;
+                    case FIELD_DATA:
+                        if (token != JsonToken.START_OBJECT) {
+                            return null;
+                        }
+                        dataRow = null;
+                        dataOffset = -1;
+                        if ((database != null && databaseName == null)
+                                || (table != null && tableName == null)) {
+                            dataOffset = (int) parser.getTokenLocation().getByteOffset();
+                            parser.skipChildren();
+                            dataLength =
+                                    (int) parser.getCurrentLocation().getByteOffset() - dataOffset;
+                        } else {
+                            dataRow = jsonDeserializer.convertToRowData(parser);
+                        }
+                        break;
+                    case FIELD_OLD:
+                        oldNode = null;
+                        if (token == JsonToken.START_OBJECT) {
+                            oldNode = parser.readValueAsTree();
+                        } else if (token != JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (type == null
+                    || (database != null && databaseName == null)
+                    || (table != null && tableName == null)) {
+                return null;
+            }
+            if ((database != null && !databasePattern.matcher(databaseName).matches())
+                    || (table != null && !tablePattern.matcher(tableName).matches())) {
+                return Collections.emptyList();
+            }
+            if (dataOffset >= 0) {
+                try (JsonParser dataParser =
+                        jsonDeserializer.createParser(message, dataOffset, dataLength)) {
+                    dataParser.nextToken();
+                    dataRow = jsonDeserializer.convertToRowData(dataParser);
+                }
+            }
+            if (dataRow == null) {
+                return null;
+            }
+            if (OP_INSERT.equals(type)) {
+                dataRow.setRowKind(RowKind.INSERT);
+                return Collections.singletonList(dataRow);
+            } else if (OP_UPDATE.equals(type) && oldNode != null) {
+                SeaTunnelRow rowBefore = convertJsonNode(oldNode);
+                for (int f = 0; f < fieldCount; f++) {
+                    if (rowBefore.isNullAt(f) && oldNode.findValue(fieldNames[f]) == null) {
+                        // fields not in "old" (before) means the fields are not changed
+                        rowBefore.setField(f, dataRow.getField(f));
+                    }
+                }
+                rowBefore.setRowKind(RowKind.UPDATE_BEFORE);
+                dataRow.setRowKind(RowKind.UPDATE_AFTER);
+                return Arrays.asList(rowBefore, dataRow);
+            } else if (OP_DELETE.equals(type)) {
+                dataRow.setRowKind(RowKind.DELETE);
+                return Collections.singletonList(dataRow);
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
     private JsonNode convertBytes(byte[] message) {
         try {
             return jsonDeserializer.deserializeToJsonNode(message);
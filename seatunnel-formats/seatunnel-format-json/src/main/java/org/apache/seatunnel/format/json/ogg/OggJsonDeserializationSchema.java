@@ -18,6 +18,8 @@
 
 package org.apache.seatunnel.format.json.ogg;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -36,6 +38,9 @@ import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 import lombok.NonNull;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -228,9 +233,146 @@ public class OggJsonDeserializationSchema implements DeserializationSchema<SeaTu
     public void deserialize(byte[] message, Collector<SeaTunnelRow> out) {
         TablePath tablePath =
                 Optional.ofNullable(catalogTable).map(CatalogTable::getTablePath).orElse(null);
+        List<SeaTunnelRow> rows = convertRows(message, tablePath);
+        if (rows != null) {
+            for (SeaTunnelRow row : rows) {
+                out.collect(row);
+            }
+            return;
+        }
         deserializeMessage(message, out, tablePath);
     }
 
+    /**
+     * Reads the message with a {@link JsonParser}, "before" and "after" are converted without
+     * building a tree. Returns {@code null} if the message must be read as a tree, which reports or
+     * ignores the errors.
+     */
+    private List<SeaTunnelRow> convertRows(byte[] message, TablePath tablePath) {
+        if (message == null || message.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String databaseTable = null;
+            String op = null;
+            // the rows of "before" and "after", they are converted when the operation type is
+            // known and the message has passed the filters, otherwise their position is kept
+            SeaTunnelRow[] dataRows = new SeaTunnelRow[2];
+            int[] dataOffsets = {-1, -1};
+            int[] dataLengths = new int[2];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (fieldName) {
+                    case FIELD_DATABASE_TABLE:
+                    case FIELD_TYPE:
+                        if (token != JsonToken.VALUE_STRING) {
+                            return null;
+                        }
+                        if (FIELD_TYPE.equals(fieldName)) {
+                            op = parser.getText().trim();
+                        } else {
+                            databaseTable = parser.getText();
+                        }
+                        break;
+                    case DATA_BEFORE:
+                    case DATA_AFTER:
+                        int index = DATA_BEFORE.equals(fieldName) ? 0 : 1;
+                        dataRows[index] = null;
+                        dataOffsets[index] = -1;
+                        if (token == JsonToken.VALUE_NULL) {
+                            break;
+                        }
+                        if (token != JsonToken.START_OBJECT) {
+                            return null;
+                        }
+                        if (op == null
+                                || ((database != null || table != null) && databaseTable == null)) {
+                            dataOffsets[index] = (int) parser.getTokenLocation().getByteOffset();
+                            parser.skipChildren();
+                            dataLengths[index] =
+                                    (int) parser.getCurrentLocation().getByteOffset()
+                                            - dataOffsets[index];
+                        } else if (isRequired(op, index) && !isFiltered(databaseTable)) {
+                            dataRows[index] = jsonDeserializer.convertToRowData(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (op == null || ((database != null || table != null) && databaseTable == null)) {
+                return null;
+            }
+            if (isFiltered(databaseTable)) {
+                return Collections.emptyList();
+            }
+            for (int i = 0; i < dataRows.length; i++) {
+                if (dataOffsets[i] >= 0 && isRequired(op, i)) {
+                    try (JsonParser dataParser =
+                            jsonDeserializer.createParser(
+                                    message, dataOffsets[i], dataLengths[i])) {
+                        dataParser.nextToken();
+                        dataRows[i] = jsonDeserializer.convertToRowData(dataParser);
+                    }
+                }
+            }
+            SeaTunnelRow before = dataRows[0];
+            SeaTunnelRow after = dataRows[1];
+            switch (op) {
+                case OP_INSERT:
+                    if (after == null) {
+                        return null;
+                    }
+                    setTableId(after, tablePath);
+                    return Collections.singletonList(after);
+                case OP_UPDATE:
+                    if (before == null || after == null) {
+                        return null;
+                    }
+                    before.setRowKind(RowKind.UPDATE_BEFORE);
+                    setTableId(before, tablePath);
+                    after.setRowKind(RowKind.UPDATE_AFTER);
+                    setTableId(after, tablePath);
+                    return Arrays.asList(before, after);
+                case OP_DELETE:
+                    if (before == null) {
+                        return null;
+                    }
+                    before.setRowKind(RowKind.DELETE);
+                    setTableId(before, tablePath);
+                    return Collections.singletonList(before);
+                default:
+                    return null;
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Whether "before" (index 0) or "after" (index 1) is required by the operation type. */
+    private static boolean isRequired(String op, int index) {
+        return OP_UPDATE.equals(op) || (index == 0 ? OP_DELETE : OP_INSERT).equals(op);
+    }
+
+    private boolean isFiltered(String databaseTable) {
+        return (database != null
+                        && !databasePattern.matcher(databaseTable.split("\\.")[0]).matches())
+                || (table != null
+                        && !tablePattern.matcher(databaseTable.split("\\.")[1]).matches());
+    }
+
+    private static void setTableId(SeaTunnelRow row, TablePath tablePath) {
+        if (tablePath != null) {
+            row.setTableId(tablePath.toString());
+        }
+    }
+
     private SeaTunnelRow convertJsonNode(JsonNode root) {
         return jsonDeserializer.convertToRowData(root);
     }
@@ -18,7 +18,9 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
@@ -347,6 +349,104 @@ public class JsonRowDataSerDeSchemaTest {
         assertEquals(null, rowData);
     }
 
+    @Test
+    public void testDeserializationWithJsonParser() throws Exception {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "date"},
+                        new SeaTunnelDataType[] {
+                            LONG_TYPE, STRING_TYPE, LocalTimeType.LOCAL_DATE_TYPE
+                        });
+        SeaTunnelRowType schema =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "bool",
+                            "tinyint",
+                            "int",
+                            "long",
+                            "float",
+                            "double",
+                            "decimal",
+                            "decimal_text",
+                            "name",
+                            "name_from_number",
+                            "name_from_object",
+                            "timestamp",
+                            "time",
+                            "array",
+                            "map",
+                            "row",
+                            "missing"
+                        },
+                        new SeaTunnelDataType[] {
+                            BOOLEAN_TYPE,
+                            BYTE_TYPE,
+                            INT_TYPE,
+                            LONG_TYPE,
+                            FLOAT_TYPE,
+                            DOUBLE_TYPE,
+                            new DecimalType(10, 3),
+                            new DecimalType(10, 3),
+                            STRING_TYPE,
+                            STRING_TYPE,
+                            STRING_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            LocalTimeType.LOCAL_TIME_TYPE,
+                            STRING_ARRAY_TYPE,
+                            new MapType<>(STRING_TYPE, INT_TYPE),
+                            rowType,
+                            INT_TYPE
+                        });
+        String json =
+                "{\"unknown\":{\"nested\":[1,{\"a\":\"b\"}]},\"bool\":\"true\",\"tinyint\":12,"
+                        + "\"int\":\" 42 \",\"long\":1238123899121,\"float\":33.333,"
+                        + "\"double\":\"1.5e3\",\"decimal\":1.50,\"decimal_text\":\"12.345\","
+                        + "\"name\":\"seatunnel\",\"name_from_number\":-0,"
+                        + "\"name_from_object\":{\"k\":[1,2]},"
+                        + "\"timestamp\":\"2024-01-02 03:04:05.678\",\"time\":\"12:12:43\","
+                        + "\"array\":[\"a\",null,\"c\"],\"map\":{\"element\":2},"
+                        + "\"row\":{\"date\":\"2024-01-02\",\"other\":true,\"id\":\"7\","
+                        + "\"name\":null},\"unknown2\":[]}";
+        CatalogTable catalogTables = CatalogTableUtil.getCatalogTable("", "", "", "test", schema);
+        JsonDeserializationSchema deserializationSchema =
+                new JsonDeserializationSchema(catalogTables, false, false);
+
+        SeaTunnelRow expected =
+                deserializationSchema.convertToRowData(
+                        deserializationSchema.deserializeToJsonNode(json.getBytes()));
+        try (JsonParser parser = deserializationSchema.createParser(json.getBytes())) {
+            parser.nextToken();
+            SeaTunnelRow row = deserializationSchema.convertToRowData(parser);
+            assertEquals(expected, row);
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            assertNull(parser.nextToken());
+        }
+        assertEquals(expected, deserializationSchema.deserialize(json.getBytes()));
+        assertEquals(new BigDecimal("1.5"), expected.getField(6));
+        assertEquals("0", expected.getField(9));
+        assertEquals("{\"k\":[1,2]}", expected.getField(10));
+        assertEquals(7L, ((SeaTunnelRow) expected.getField(15)).getField(0));
+        assertNull(expected.getField(16));
+
+        JsonDeserializationSchema failOnMissingField =
+                new JsonDeserializationSchema(catalogTables, true, false);
+        SeaTunnelRuntimeException exception =
+                assertThrows(
+                        SeaTunnelRuntimeException.class,
+                        () -> failOnMissingField.deserialize(json.getBytes()));
+        JsonNode jsonNode = failOnMissingField.deserializeToJsonNode(json.getBytes());
+        assertEquals(
+                "ErrorCode:[COMMON-02], ErrorDescription:[Common JSON convert/parse '"
+                        + jsonNode
+                        + "' operation failed.]",
+                exception.getMessage());
+        assertEquals(
+                "ErrorCode:[COMMON-02], ErrorDescription:[Common JSON convert/parse 'Field $.missing in "
+                        + jsonNode
+                        + "' operation failed.]",
+                exception.getCause().getMessage());
+    }
+
     @Test
     public void testDeserializationPassMissingField() throws Exception {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql;
+
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Extract the filter of a SQL query which can be pushed down into the source.
+ *
+ * <p>Only the conjuncts of the WHERE clause comparing a column with literals are extracted, the
+ * ones which behave the same in the source and in {@link
+ * org.apache.seatunnel.transform.sql.zeta.ZetaSQLFilter}. For example {@code <>} is skipped because
+ * the transform keeps the null values. The projected fields are only extracted if the query selects
+ * plain columns and the whole WHERE clause is extracted.
+ */
+@Slf4j
+public class SQLPushDownFilterExtractor {
+
+    private SQLPushDownFilterExtractor() {}
+
+    public static Optional<PushDownFilter> extract(String query) {
+        PlainSelect plainSelect;
+        try {
+            Statement statement = CCJSqlParserUtil.parse(query);
+            if (!(statement instanceof Select)
+                    || !(((Select) statement).getSelectBody() instanceof PlainSelect)) {
+                return Optional.empty();
+            }
+            plainSelect = (PlainSelect) ((Select) statement).getSelectBody();
+        } catch (JSQLParserException e) {
+            log.debug("Skip the filter push down of the unparsable query: {}", query, e);
+            return Optional.empty();
+        }
+
+        String tableName =
+                plainSelect.getFromItem() instanceof Table
+                        ? ((Table) plainSelect.getFromItem()).getName()
+                        : null;
+        List<FieldPredicate> predicates = new ArrayList<>();
+        Set<String> fields = new LinkedHashSet<>();
+        boolean fullyExtracted = true;
+        for (Expression conjunct : getConjuncts(plainSelect.getWhere())) {
+            FieldPredicate predicate = toPredicate(tableName, conjunct);
+            if (predicate == null) {
+                fullyExtracted = false;
+            } else {
+                predicates.add(predicate);
+                fields.add(predicate.getFieldName());
+            }
+        }
+
+        List<String> projectedFields = null;
+        if (fullyExtracted) {
+            for (SelectItem<?> selectItem : plainSelect.getSelectItems()) {
+                String fieldName = getFieldName(tableName, selectItem.getExpression());
+                if (fieldName == null) {
+                    fields = null;
+                    break;
+                }
+                fields.add(fieldName);
+            }
+            if (fields != null) {
+                projectedFields = new ArrayList<>(fields);
+            }
+        }
+        PushDownFilter filter = new PushDownFilter(predicates, projectedFields);
+        return filter.isEmpty() ? Optional.empty() : Optional.of(filter);
+    }
+
+    private static List<Expression> getConjuncts(Expression expression) {
+        if (expression == null) {
+            return Collections.emptyList();
+        }
+        if (expression instanceof Parenthesis) {
+            return getConjuncts(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof AndExpression) {
+            List<Expression> conjuncts =
+                    new ArrayList<>(getConjuncts(((AndExpression) expression).getLeftExpression()));
+            conjuncts.addAll(getConjuncts(((AndExpression) expression).getRightExpression()));
+            return conjuncts;
+        }
+        return Collections.singletonList(expression);
+    }
+
+    private static FieldPredicate toPredicate(String tableName, Expression expression) {
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNull = (IsNullExpression) expression;
+            String fieldName = getFieldName(tableName, isNull.getLeftExpression());
+            if (fieldName == null) {
+                return null;
+            }
+            return new FieldPredicate(
+                    fieldName,
+                    isNull.isNot()
+                            ? FieldPredicate.Operator.IS_NOT_NULL
+                            : FieldPredicate.Operator.IS_NULL,
+                    Collections.emptyList());
+        }
+        if (expression instanceof InExpression) {
+            InExpression in = (InExpression) expression;
+            String fieldName = getFieldName(tableName, in.getLeftExpression());
+            if (in.isNot()
+                    || fieldName == null
+                    || !(in.getRightExpression() instanceof ParenthesedExpressionList)) {
+                return null;
+            }
+            List<Object> values = new ArrayList<>();
+            for (Object item : (ParenthesedExpressionList<?>) in.getRightExpression()) {
+                Object value = getLiteral((Expression) item);
+                if (value == null) {
+                    return null;
+                }
+                values.add(value);
+            }
+            return new FieldPredicate(fieldName, FieldPredicate.Operator.IN, values);
+        }
+        if (expression instanceof ComparisonOperator) {
+            ComparisonOperator comparison = (ComparisonOperator) expression;
+            FieldPredicate.Operator operator = getOperator(comparison);
+            if (operator == null) {
+                return null;
+            }
+            String fieldName = getFieldName(tableName, comparison.getLeftExpression());
+            Object value = getLiteral(comparison.getRightExpression());
+            if (fieldName == null) {
+                // literal on the left side, e.g. 10 < age
+                fieldName = getFieldName(tableName, comparison.getRightExpression());
+                value = getLiteral(comparison.getLeftExpression());
+                operator = reverse(operator);
+            }
+            if (fieldName == null || value == null) {
+                return null;
+            }
+            return new FieldPredicate(fieldName, operator, Collections.singletonList(value));
+        }
+        return null;
+    }
+
+    private static FieldPredicate.Operator getOperator(ComparisonOperator comparison) {
+        if (comparison instanceof EqualsTo) {
+            return FieldPredicate.Operator.EQUALS;
+        }
+        if (comparison instanceof GreaterThan) {
+            return FieldPredicate.Operator.GREATER_THAN;
+        }
+        if (comparison instanceof GreaterThanEquals) {
+            return FieldPredicate.Operator.GREATER_THAN_OR_EQUAL;
+        }
+        if (comparison instanceof MinorThan) {
+            return FieldPredicate.Operator.LESS_THAN;
+        }
+        if (comparison instanceof MinorThanEquals) {
+            return FieldPredicate.Operator.LESS_THAN_OR_EQUAL;
+        }
+        return null;
+    }
+
+    private static FieldPredicate.Operator reverse(FieldPredicate.Operator operator) {
+        switch (operator) {
+            case GREATER_THAN:
+                return FieldPredicate.Operator.LESS_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return FieldPredicate.Operator.LESS_THAN_OR_EQUAL;
+            case LESS_THAN:
+                return FieldPredicate.Operator.GREATER_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return FieldPredicate.Operator.GREATER_THAN_OR_EQUAL;
+            default:
+                return operator;
+        }
+    }
+
+    /** The name of an unquoted column which is unqualified or qualified by the table name. */
+    private static String getFieldName(String tableName, Expression expression) {
+        if (!(expression instanceof Column)) {
+            return null;
+        }
+        Column column = (Column) expression;
+        String name = column.getColumnName();
+        if (column.getTable() != null
+                && column.getTable().getName() != null
+                && !column.getTable().getName().equalsIgnoreCase(tableName)) {
+            return null;
+        }
+        if (name.startsWith("`") || name.startsWith("\"") || name.startsWith("[")) {
+            return null;
+        }
+        // jsqlparser parses the boolean literals as columns
+        if ("true".equalsIgnoreCase(name) || "false".equalsIgnoreCase(name)) {
+            return null;
+        }
+        return name;
+    }
+
+    private static Object getLiteral(Expression expression) {
+        if (expression instanceof LongValue) {
+            return ((LongValue) expression).getValue();
+        }
+        if (expression instanceof DoubleValue) {
+            return ((DoubleValue) expression).getValue();
+        }
+        if (expression instanceof StringValue) {
+            return ((StringValue) expression).getNotExcapedValue();
+        }
+        if (expression instanceof SignedExpression) {
+            SignedExpression signed = (SignedExpression) expression;
+            Object value = getLiteral(signed.getExpression());
+            if (signed.getSign() != '-') {
+                return value instanceof Number ? value : null;
+            }
+            if (value instanceof Long) {
+                return -(Long) value;
+            }
+            if (value instanceof Double) {
+                return -(Double) value;
+            }
+        }
+        return null;
+    }
+}
@@ -17,19 +17,24 @@
 
 package org.apache.seatunnel.transform.sql;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
 import org.apache.seatunnel.api.table.connector.TableTransform;
 import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.TableTransformFactory;
 import org.apache.seatunnel.api.table.factory.TableTransformFactoryContext;
+import org.apache.seatunnel.api.transform.PushDownFilterProvider;
 import org.apache.seatunnel.transform.common.TransformCommonOptions;
 
 import com.google.auto.service.AutoService;
 
+import java.util.Optional;
+
 import static org.apache.seatunnel.transform.sql.SQLTransform.KEY_QUERY;
 
 @AutoService(Factory.class)
-public class SQLTransformFactory implements TableTransformFactory {
+public class SQLTransformFactory implements TableTransformFactory, PushDownFilterProvider {
     @Override
     public String factoryIdentifier() {
         return SQLTransform.PLUGIN_NAME;
@@ -50,4 +55,13 @@ public class SQLTransformFactory implements TableTransformFactory {
                 new SQLMultiCatalogFlatMapTransform(
                         context.getCatalogTables(), context.getOptions());
     }
+
+    @Override
+    public Optional<PushDownFilter> getPushDownFilter(ReadonlyConfig options) {
+        if (!options.get(TransformCommonOptions.MULTI_TABLES).isEmpty()
+                || !options.getOptional(KEY_QUERY).isPresent()) {
+            return Optional.empty();
+        }
+        return SQLPushDownFilterExtractor.extract(options.get(KEY_QUERY));
+    }
 }
@@ -0,0 +1,477 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExtractExpression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
+import net.sf.jsqlparser.schema.Column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compile the parsed SQL expressions once into a tree of evaluators.
+ *
+ * <p>Column references are resolved to field indexes, literals and deterministic functions of
+ * literals are folded to constants, and the result type of arithmetic and CASE expressions is
+ * computed only once. Expressions that have no compiled form are evaluated by {@link
+ * ZetaSQLFunction} and {@link ZetaSQLFilter} as before.
+ */
+public class ZetaSQLCompiler {
+    private static final Object[] EMPTY_FIELDS = new Object[0];
+
+    private static final Set<String> NON_DETERMINISTIC_FUNCTIONS =
+            new HashSet<>(
+                    Arrays.asList(
+                            ZetaSQLFunction.RAND,
+                            ZetaSQLFunction.RANDOM,
+                            ZetaSQLFunction.UUID,
+                            ZetaSQLFunction.NOW));
+
+    /** Compiled expression which computes a value from the input fields. */
+    @FunctionalInterface
+    public interface ValueEvaluator {
+        Object evaluate(Object[] inputFields);
+    }
+
+    /** Compiled condition which tests the input fields. */
+    @FunctionalInterface
+    public interface FilterEvaluator {
+        boolean test(Object[] inputFields);
+    }
+
+    private static final class ConstantEvaluator implements ValueEvaluator {
+        private final Object value;
+
+        private ConstantEvaluator(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(Object[] inputFields) {
+            return value;
+        }
+    }
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+    private final ZetaSQLType zetaSQLType;
+    private final Set<String> udfNames;
+
+    public ZetaSQLCompiler(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter,
+            ZetaSQLType zetaSQLType,
+            List<ZetaUDF> udfList) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+        this.zetaSQLType = zetaSQLType;
+        this.udfNames = new HashSet<>();
+        for (ZetaUDF udf : udfList) {
+            udfNames.add(udf.functionName().toUpperCase());
+        }
+    }
+
+    public ValueEvaluator compileValue(Expression expression) {
+        if (expression instanceof NullValue) {
+            return new ConstantEvaluator(null);
+        }
+        if (expression instanceof DoubleValue
+                || expression instanceof LongValue
+                || expression instanceof StringValue) {
+            return new ConstantEvaluator(zetaSQLFunction.computeForValue(expression, EMPTY_FIELDS));
+        }
+        if (expression instanceof Parenthesis) {
+            return compileValue(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof Column) {
+            int index = resolveColumnIndex((Column) expression);
+            if (index != -1) {
+                return inputFields -> inputFields[index];
+            }
+            // nested row or map access
+            return fallback(expression);
+        }
+        if (expression instanceof SignedExpression) {
+            return compileSignedExpr((SignedExpression) expression);
+        }
+        if (expression instanceof Function) {
+            return compileFunctionExpr((Function) expression);
+        }
+        if (expression instanceof ExtractExpression) {
+            ExtractExpression extract = (ExtractExpression) expression;
+            ValueEvaluator argEvaluator = compileValue(extract.getExpression());
+            String name = extract.getName();
+            return foldIfConstant(
+                    inputFields -> {
+                        List<Object> functionArgs = new ArrayList<>(2);
+                        functionArgs.add(argEvaluator.evaluate(inputFields));
+                        functionArgs.add(name);
+                        return zetaSQLFunction.executeFunctionExpr(
+                                ZetaSQLFunction.EXTRACT, functionArgs);
+                    },
+                    argEvaluator);
+        }
+        if (expression instanceof CaseExpression) {
+            return compileCaseExpr((CaseExpression) expression);
+        }
+        if (expression instanceof Concat) {
+            Concat concat = (Concat) expression;
+            ValueEvaluator[] argEvaluators = {
+                compileValue(concat.getLeftExpression()), compileValue(concat.getRightExpression())
+            };
+            return compileFunctionCall(ZetaSQLFunction.CONCAT, argEvaluators);
+        }
+        if (expression instanceof Addition
+                || expression instanceof Subtraction
+                || expression instanceof Multiplication
+                || expression instanceof Division
+                || expression instanceof Modulo) {
+            return compileArithmeticExpr((BinaryExpression) expression);
+        }
+        if (expression instanceof CastExpression) {
+            CastExpression castExpression = (CastExpression) expression;
+            ValueEvaluator leftEvaluator = compileValue(castExpression.getLeftExpression());
+            return foldIfConstant(
+                    inputFields ->
+                            zetaSQLFunction.executeCastExpr(
+                                    castExpression, leftEvaluator.evaluate(inputFields)),
+                    leftEvaluator);
+        }
+        return fallback(expression);
+    }
+
+    public FilterEvaluator compileFilter(Expression whereExpr) {
+        if (whereExpr == null) {
+            return inputFields -> true;
+        }
+        if (whereExpr instanceof Function) {
+            ValueEvaluator evaluator = compileValue(whereExpr);
+            return inputFields -> {
+                Boolean result = (Boolean) evaluator.evaluate(inputFields);
+                return result != null && result;
+            };
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            ValueEvaluator leftEvaluator = compileValue(isNullExpression.getLeftExpression());
+            if (isNullExpression.isNot()) {
+                return inputFields -> leftEvaluator.evaluate(inputFields) != null;
+            }
+            return inputFields -> leftEvaluator.evaluate(inputFields) == null;
+        }
+        if (whereExpr instanceof InExpression
+                && ((InExpression) whereExpr).getRightExpression()
+                        instanceof ParenthesedExpressionList) {
+            return compileInExpr((InExpression) whereExpr);
+        }
+        if (whereExpr instanceof LikeExpression) {
+            return compileLikeExpr((LikeExpression) whereExpr);
+        }
+        if (whereExpr instanceof EqualsTo) {
+            return compileComparison((EqualsTo) whereExpr, zetaSQLFilter::equalsToExpr);
+        }
+        if (whereExpr instanceof NotEqualsTo) {
+            return compileComparison((NotEqualsTo) whereExpr, zetaSQLFilter::notEqualsToExpr);
+        }
+        if (whereExpr instanceof GreaterThan) {
+            return compileComparison((GreaterThan) whereExpr, zetaSQLFilter::greaterThanExpr);
+        }
+        if (whereExpr instanceof GreaterThanEquals) {
+            return compileComparison(
+                    (GreaterThanEquals) whereExpr, zetaSQLFilter::greaterThanEqualsExpr);
+        }
+        if (whereExpr instanceof MinorThan) {
+            return compileComparison((MinorThan) whereExpr, zetaSQLFilter::minorThanExpr);
+        }
+        if (whereExpr instanceof MinorThanEquals) {
+            return compileComparison(
+                    (MinorThanEquals) whereExpr, zetaSQLFilter::minorThanEqualsExpr);
+        }
+        if (whereExpr instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) whereExpr;
+            FilterEvaluator left = compileFilter(andExpression.getLeftExpression());
+            FilterEvaluator right = compileFilter(andExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) && right.test(inputFields);
+        }
+        if (whereExpr instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) whereExpr;
+            FilterEvaluator left = compileFilter(orExpression.getLeftExpression());
+            FilterEvaluator right = compileFilter(orExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) || right.test(inputFields);
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return compileFilter(((Parenthesis) whereExpr).getExpression());
+        }
+        return inputFields -> zetaSQLFilter.executeFilter(whereExpr, inputFields);
+    }
+
+    private int resolveColumnIndex(Column column) {
+        String columnName = column.getColumnName();
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            columnName = columnName.substring(1, columnName.length() - 1);
+            index = inputRowType.indexOf(columnName, false);
+        }
+        return index;
+    }
+
+    private ValueEvaluator compileSignedExpr(SignedExpression signedExpression) {
+        ValueEvaluator evaluator = compileValue(signedExpression.getExpression());
+        if (signedExpression.getSign() != '-') {
+            return evaluator;
+        }
+        return foldIfConstant(
+                inputFields -> {
+                    Object value = evaluator.evaluate(inputFields);
+                    if (value instanceof Integer) {
+                        return -((Integer) value);
+                    }
+                    if (value instanceof Long) {
+                        return -((Long) value);
+                    }
+                    if (value instanceof Double) {
+                        return -((Double) value);
+                    }
+                    if (value instanceof Number) {
+                        return -((Number) value).doubleValue();
+                    }
+                    // keep the error reporting of the interpreter
+                    return zetaSQLFunction.computeForValue(signedExpression, inputFields);
+                },
+                evaluator);
+    }
+
+    private ValueEvaluator compileFunctionExpr(Function function) {
+        ExpressionList<Expression> expressionList =
+                (ExpressionList<Expression>) function.getParameters();
+        List<ValueEvaluator> argEvaluators = new ArrayList<>();
+        if (expressionList != null) {
+            for (Expression funcArgExpression : expressionList.getExpressions()) {
+                argEvaluators.add(compileValue(funcArgExpression));
+            }
+        }
+        return compileFunctionCall(
+                function.getName(), argEvaluators.toArray(new ValueEvaluator[0]));
+    }
+
+    private ValueEvaluator compileFunctionCall(String functionName, ValueEvaluator[] args) {
+        ValueEvaluator evaluator =
+                inputFields -> {
+                    List<Object> functionArgs = new ArrayList<>(args.length);
+                    for (ValueEvaluator arg : args) {
+                        functionArgs.add(arg.evaluate(inputFields));
+                    }
+                    return zetaSQLFunction.executeFunctionExpr(functionName, functionArgs);
+                };
+        String upperName = functionName.toUpperCase();
+        if (NON_DETERMINISTIC_FUNCTIONS.contains(upperName) || udfNames.contains(upperName)) {
+            return evaluator;
+        }
+        return foldIfConstant(evaluator, args);
+    }
+
+    private ValueEvaluator compileArithmeticExpr(BinaryExpression binaryExpression) {
+        ValueEvaluator leftEvaluator = compileValue(binaryExpression.getLeftExpression());
+        ValueEvaluator rightEvaluator = compileValue(binaryExpression.getRightExpression());
+        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        return foldIfConstant(
+                inputFields -> {
+                    Number leftValue = (Number) leftEvaluator.evaluate(inputFields);
+                    Number rightValue = (Number) rightEvaluator.evaluate(inputFields);
+                    if (leftValue == null || rightValue == null) {
+                        return null;
+                    }
+                    return zetaSQLFunction.executeBinaryExpr(
+                            binaryExpression, resultType, leftValue, rightValue);
+                },
+                leftEvaluator,
+                rightEvaluator);
+    }
+
+    private ValueEvaluator compileCaseExpr(CaseExpression caseExpression) {
+        Expression switchExpr = caseExpression.getSwitchExpression();
+        ValueEvaluator switchEvaluator = switchExpr == null ? null : compileValue(switchExpr);
+        List<WhenClause> whenClauses = caseExpression.getWhenClauses();
+        ValueEvaluator[] whenEvaluators = new ValueEvaluator[whenClauses.size()];
+        ValueEvaluator[] thenEvaluators = new ValueEvaluator[whenClauses.size()];
+        for (int i = 0; i < whenClauses.size(); i++) {
+            Expression whenExpression = whenClauses.get(i).getWhenExpression();
+            if (zetaSQLFilter.isConditionExpr(whenExpression)) {
+                FilterEvaluator condition = compileFilter(whenExpression);
+                whenEvaluators[i] = condition::test;
+            } else {
+                whenEvaluators[i] = compileValue(whenExpression);
+            }
+            thenEvaluators[i] = compileValue(whenClauses.get(i).getThenExpression());
+        }
+        Expression elseExpression = caseExpression.getElseExpression();
+        ValueEvaluator elseEvaluator = elseExpression == null ? null : compileValue(elseExpression);
+        SeaTunnelDataType<?> type = zetaSQLType.getExpressionType(caseExpression);
+        return inputFields -> {
+            Object switchValue =
+                    switchEvaluator == null ? null : switchEvaluator.evaluate(inputFields);
+            Object value = null;
+            boolean matched = false;
+            for (int i = 0; i < whenEvaluators.length; i++) {
+                Object when = whenEvaluators[i].evaluate(inputFields);
+                // match: case [column] when column1 compare other
+                if ((when instanceof Boolean && (boolean) when)
+                        || zetaSQLFilter.equalsToExpr(Pair.of(switchValue, when))) {
+                    value = thenEvaluators[i].evaluate(inputFields);
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched && elseEvaluator != null) {
+                value = elseEvaluator.evaluate(inputFields);
+            }
+            return SystemFunction.castAs(value, type);
+        };
+    }
+
+    private FilterEvaluator compileInExpr(InExpression inExpression) {
+        ValueEvaluator leftEvaluator = compileValue(inExpression.getLeftExpression());
+        ParenthesedExpressionList<Expression> itemsList =
+                (ParenthesedExpressionList) inExpression.getRightExpression();
+        ValueEvaluator[] itemEvaluators = new ValueEvaluator[itemsList.getExpressions().size()];
+        for (int i = 0; i < itemEvaluators.length; i++) {
+            itemEvaluators[i] = compileValue(itemsList.getExpressions().get(i));
+        }
+        boolean isNot = inExpression.isNot();
+        return inputFields -> {
+            Object leftValue = leftEvaluator.evaluate(inputFields);
+            for (ValueEvaluator itemEvaluator : itemEvaluators) {
+                Object rightValue = itemEvaluator.evaluate(inputFields);
+                if (leftValue == null && rightValue == null) {
+                    return true;
+                }
+                if (leftValue == null) {
+                    return false;
+                }
+                if (leftValue instanceof Number && rightValue instanceof Number) {
+                    if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
+                        return !isNot;
+                    }
+                } else if (leftValue.equals(rightValue)) {
+                    return !isNot;
+                }
+            }
+            return isNot;
+        };
+    }
+
+    private FilterEvaluator compileLikeExpr(LikeExpression likeExpression) {
+        ValueEvaluator leftEvaluator = compileValue(likeExpression.getLeftExpression());
+        ValueEvaluator rightEvaluator = compileValue(likeExpression.getRightExpression());
+        boolean isNot = likeExpression.isNot();
+        Pattern constantPattern =
+                rightEvaluator instanceof ConstantEvaluator
+                                && ((ConstantEvaluator) rightEvaluator).value != null
+                        ? ZetaSQLFilter.likePattern(
+                                ((ConstantEvaluator) rightEvaluator).value.toString())
+                        : null;
+        return inputFields -> {
+            Object leftVal = leftEvaluator.evaluate(inputFields);
+            if (leftVal == null) {
+                return false;
+            }
+            Pattern pattern =
+                    constantPattern != null
+                            ? constantPattern
+                            : ZetaSQLFilter.likePattern(
+                                    rightEvaluator.evaluate(inputFields).toString());
+            return pattern.matcher(leftVal.toString()).matches() != isNot;
+        };
+    }
+
+    private FilterEvaluator compileComparison(
+            BinaryExpression comparison, Predicate<Pair<Object, Object>> op) {
+        ValueEvaluator leftEvaluator = compileValue(comparison.getLeftExpression());
+        ValueEvaluator rightEvaluator = compileValue(comparison.getRightExpression());
+        return inputFields ->
+                op.test(
+                        Pair.of(
+                                leftEvaluator.evaluate(inputFields),
+                                rightEvaluator.evaluate(inputFields)));
+    }
+
+    private ValueEvaluator fallback(Expression expression) {
+        return inputFields -> zetaSQLFunction.computeForValue(expression, inputFields);
+    }
+
+    private ValueEvaluator foldIfConstant(ValueEvaluator evaluator, ValueEvaluator... children) {
+        for (ValueEvaluator child : children) {
+            if (!(child instanceof ConstantEvaluator)) {
+                return evaluator;
+            }
+        }
+        try {
+            return new ConstantEvaluator(evaluator.evaluate(EMPTY_FIELDS));
+        } catch (RuntimeException e) {
+            // report the error when the expression is evaluated, as the interpreter does
+            return evaluator;
+        }
+    }
+}
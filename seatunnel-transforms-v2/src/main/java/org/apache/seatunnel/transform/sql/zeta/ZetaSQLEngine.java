@@ -66,9 +66,14 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFunction zetaSQLFunction;
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
+    private ZetaSQLCompiler zetaSQLCompiler;
 
     private Integer allColumnsCount = null;
 
+    private ZetaSQLCompiler.FilterEvaluator compiledFilter;
+    // null for `*` select items
+    private ZetaSQLCompiler.ValueEvaluator[] compiledProjection;
+
     public ZetaSQLEngine() {}
 
     @Override
@@ -89,6 +94,9 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLType = new ZetaSQLType(inputRowType, udfList);
         this.zetaSQLFunction = new ZetaSQLFunction(inputRowType, zetaSQLType, udfList);
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+        this.zetaSQLCompiler =
+                new ZetaSQLCompiler(
+                        inputRowType, zetaSQLFunction, zetaSQLFilter, zetaSQLType, udfList);
 
         parseSQL();
     }
@@ -235,8 +243,12 @@ public class ZetaSQLEngine implements SQLEngine {
         // Scan Table
         Object[] inputFields = scanTable(inputRow);
 
+        if (compiledFilter == null) {
+            compileSQL();
+        }
+
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain = compiledFilter.test(inputFields);
         if (!retain) {
             return null;
         }
@@ -260,23 +272,32 @@ public class ZetaSQLEngine implements SQLEngine {
         return inputRow.getFields();
     }
 
-    private Object[] project(Object[] inputFields) {
+    private void compileSQL() {
         List<SelectItem<?>> selectItems = selectBody.getSelectItems();
+        ZetaSQLCompiler.ValueEvaluator[] projection =
+                new ZetaSQLCompiler.ValueEvaluator[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            Expression expression = selectItems.get(i).getExpression();
+            if (!(expression instanceof AllColumns)) {
+                projection[i] = zetaSQLCompiler.compileValue(expression);
+            }
+        }
+        this.compiledProjection = projection;
+        this.compiledFilter = zetaSQLCompiler.compileFilter(selectBody.getWhere());
+    }
 
-        int columnsSize = countColumnsSize(selectItems);
+    private Object[] project(Object[] inputFields) {
+        int columnsSize = countColumnsSize(selectBody.getSelectItems());
 
         Object[] fields = new Object[columnsSize];
 
         int idx = 0;
-        for (SelectItem selectItem : selectItems) {
-            if (selectItem.getExpression() instanceof AllColumns) {
-                for (Object inputField : inputFields) {
-                    fields[idx] = inputField;
-                    idx++;
-                }
+        for (ZetaSQLCompiler.ValueEvaluator evaluator : compiledProjection) {
+            if (evaluator == null) {
+                System.arraycopy(inputFields, 0, fields, idx, inputFields.length);
+                idx += inputFields.length;
             } else {
-                Expression expression = selectItem.getExpression();
-                fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
+                fields[idx] = evaluator.evaluate(inputFields);
                 idx++;
             }
         }
@@ -182,26 +182,7 @@ public class ZetaSQLFilter {
         if (rightVal == null && regex.length() > 0) {
             return false;
         }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = likePattern(regex);
         Matcher matcher = pattern.matcher(leftVal.toString());
 
         return matcher.matches();
@@ -226,6 +207,19 @@ public class ZetaSQLFilter {
         if (rightVal == null && regex.length() > 0) {
             return false;
         }
+        Pattern pattern = likePattern(regex);
+        Matcher matcher = pattern.matcher(leftVal.toString());
+
+        return !matcher.matches();
+    }
+
+    /**
+     * Convert a SQL LIKE pattern to a regular expression pattern.
+     *
+     * @param regex SQL LIKE pattern
+     * @return compiled pattern
+     */
+    static Pattern likePattern(String regex) {
         String likeIdent = "%";
         if (regex.startsWith(likeIdent)) {
             regex = regex.replaceFirst(likeIdent, ".*");
@@ -245,10 +239,7 @@ public class ZetaSQLFilter {
         if (regex.startsWith("'") && regex.endsWith("'")) {
             regex = regex.substring(0, regex.length() - 1).substring(1);
         }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return !matcher.matches();
+        return Pattern.compile(regex);
     }
 
     private Pair<Object, Object> executeComparisonOperator(
@@ -272,7 +263,7 @@ public class ZetaSQLFilter {
         return leftVal.equals(rightVal);
     }
 
-    private boolean notEqualsToExpr(Pair<Object, Object> pair) {
+    boolean notEqualsToExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null) {
@@ -284,7 +275,7 @@ public class ZetaSQLFilter {
         return !leftVal.equals(rightVal);
     }
 
-    private boolean greaterThanExpr(Pair<Object, Object> pair) {
+    boolean greaterThanExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
@@ -312,7 +303,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
+    boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
@@ -342,7 +333,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanExpr(Pair<Object, Object> pair) {
+    boolean minorThanExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
@@ -370,7 +361,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
+    boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
@@ -619,6 +619,14 @@ public class ZetaSQLFunction {
             return null;
         }
         SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        return executeBinaryExpr(binaryExpression, resultType, leftValue, rightValue);
+    }
+
+    Object executeBinaryExpr(
+            BinaryExpression binaryExpression,
+            SeaTunnelDataType<?> resultType,
+            Number leftValue,
+            Number rightValue) {
         if (resultType.getSqlType() == SqlType.INT) {
             if (binaryExpression instanceof Addition) {
                 return leftValue.intValue() + rightValue.intValue();
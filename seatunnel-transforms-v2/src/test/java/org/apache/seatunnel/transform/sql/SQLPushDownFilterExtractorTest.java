@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql;
+
+import org.apache.seatunnel.api.source.filter.FieldPredicate;
+import org.apache.seatunnel.api.source.filter.PushDownFilter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+public class SQLPushDownFilterExtractorTest {
+
+    @Test
+    public void testExtractPredicatesAndProjection() {
+        PushDownFilter filter =
+                SQLPushDownFilterExtractor.extract(
+                                "select id, name from dual where age >= 18 and (10 < id)"
+                                        + " and name in ('a', 'b''c') and score is not null")
+                        .get();
+        Assertions.assertEquals(
+                Arrays.asList(
+                        new FieldPredicate(
+                                "age",
+                                FieldPredicate.Operator.GREATER_THAN_OR_EQUAL,
+                                Collections.singletonList(18L)),
+                        new FieldPredicate(
+                                "id",
+                                FieldPredicate.Operator.GREATER_THAN,
+                                Collections.singletonList(10L)),
+                        new FieldPredicate(
+                                "name", FieldPredicate.Operator.IN, Arrays.asList("a", "b'c")),
+                        new FieldPredicate(
+                                "score",
+                                FieldPredicate.Operator.IS_NOT_NULL,
+                                Collections.emptyList())),
+                filter.getPredicates());
+        Assertions.assertEquals(
+                Arrays.asList("age", "id", "name", "score"), filter.getProjectedFields());
+        Assertions.assertEquals(
+                "age >= 18 AND id > 10 AND name IN ('a', 'b''c') AND score IS NOT NULL",
+                filter.toSql(name -> name, value -> "'" + value.replace("'", "''") + "'"));
+    }
+
+    @Test
+    public void testSkipUnsupportedConditions() {
+        PushDownFilter filter =
+                SQLPushDownFilterExtractor.extract(
+                                "select id, name from dual where age > -1 and name <> 'a'"
+                                        + " and (id = 1 or id = 2)")
+                        .get();
+        Assertions.assertEquals(
+                Collections.singletonList(
+                        new FieldPredicate(
+                                "age",
+                                FieldPredicate.Operator.GREATER_THAN,
+                                Collections.singletonList(-1L))),
+                filter.getPredicates());
+        // the columns of the skipped conditions are unknown
+        Assertions.assertNull(filter.getProjectedFields());
+    }
+
+    @Test
+    public void testNothingToPushDown() {
+        Assertions.assertEquals(
+                Optional.empty(), SQLPushDownFilterExtractor.extract("select * from dual"));
+        Assertions.assertEquals(
+                Optional.empty(),
+                SQLPushDownFilterExtractor.extract(
+                        "select id, upper(name) as name from dual where name like 'a%'"));
+        Assertions.assertEquals(
+                Collections.singletonList("id"),
+                SQLPushDownFilterExtractor.extract("select id from dual")
+                        .get()
+                        .getProjectedFields());
+        // only the columns qualified by the table name are fields of the source
+        Assertions.assertNull(
+                SQLPushDownFilterExtractor.extract(
+                                "select test.id, c_row.c_int from test where test.age > 1")
+                        .get()
+                        .getProjectedFields());
+    }
+}
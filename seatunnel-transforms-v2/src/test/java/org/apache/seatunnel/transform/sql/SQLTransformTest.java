@@ -282,4 +282,40 @@ public class SQLTransformTest {
                 BasicType.STRING_TYPE, tableSchema.getColumns().get(1).getDataType());
         Assertions.assertEquals("a", result.get(0).getField(1));
     }
+
+    @Test
+    public void testCompiledExpression() {
+        CatalogTable table =
+                CatalogTableUtil.getCatalogTable(
+                        "test",
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name", "score"},
+                                new SeaTunnelDataType[] {
+                                    BasicType.INT_TYPE, BasicType.STRING_TYPE, BasicType.LONG_TYPE
+                                }));
+        ReadonlyConfig config =
+                ReadonlyConfig.fromMap(
+                        Collections.singletonMap(
+                                "query",
+                                "select id, upper(name) as name, score * (2 + 3) as score, "
+                                        + "case when id > 1 then 'big' else 'small' end as size "
+                                        + "from dual where (name like 'a%' or id in (3, 4)) "
+                                        + "and score is not null"));
+        SQLTransform sqlTransform = new SQLTransform(config, table);
+        sqlTransform.transformTableSchema();
+
+        List<SeaTunnelRow> result =
+                sqlTransform.transformRow(new SeaTunnelRow(new Object[] {1, "abc", 2L}));
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertArrayEquals(
+                new Object[] {1, "ABC", 10L, "small"}, result.get(0).getFields());
+
+        result = sqlTransform.transformRow(new SeaTunnelRow(new Object[] {3, "xyz", 1L}));
+        Assertions.assertArrayEquals(new Object[] {3, "XYZ", 5L, "big"}, result.get(0).getFields());
+
+        Assertions.assertNull(
+                sqlTransform.transformRow(new SeaTunnelRow(new Object[] {2, "xyz", 1L})));
+        Assertions.assertNull(
+                sqlTransform.transformRow(new SeaTunnelRow(new Object[] {1, "abc", null})));
+    }
 }
@@ -46,6 +46,8 @@ public class FlinkRowCollector implements Collector<SeaTunnelRow> {
 
     private final Meter sourceReadQPS;
 
+    private boolean emptyThisPollNext = true;
+
     public FlinkRowCollector(Config envConfig, MetricsContext metricsContext) {
         this.flowControlGate = FlowControlGate.create(FlowControlStrategy.fromConfig(envConfig));
         this.sourceReadCount = metricsContext.counter(MetricNames.SOURCE_RECEIVED_COUNT);
@@ -58,6 +60,7 @@ public class FlinkRowCollector implements Collector<SeaTunnelRow> {
         flowControlGate.audit(record);
         try {
             readerOutput.collect(record);
+            emptyThisPollNext = false;
             sourceReadCount.inc();
             sourceReadBytes.inc(record.getBytesSize());
             sourceReadQPS.markEvent();
@@ -71,6 +74,16 @@ public class FlinkRowCollector implements Collector<SeaTunnelRow> {
         return this;
     }
 
+    @Override
+    public boolean isEmptyThisPollNext() {
+        return emptyThisPollNext;
+    }
+
+    @Override
+    public void resetEmptyThisPollNext() {
+        this.emptyThisPollNext = true;
+    }
+
     public FlinkRowCollector withReaderOutput(ReaderOutput<SeaTunnelRow> readerOutput) {
         this.readerOutput = readerOutput;
         return this;
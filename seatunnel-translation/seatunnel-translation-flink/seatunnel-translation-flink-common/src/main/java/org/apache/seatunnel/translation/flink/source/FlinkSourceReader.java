@@ -55,6 +55,9 @@ public class FlinkSourceReader<SplitT extends SourceSplit>
 
     private InputStatus inputStatus = InputStatus.MORE_AVAILABLE;
 
+    // completed when something other than the reader data makes the task runnable again
+    private CompletableFuture<Void> wakeUpFuture = new CompletableFuture<>();
+
     public FlinkSourceReader(
             org.apache.seatunnel.api.source.SourceReader<SeaTunnelRow, SplitT> sourceReader,
             org.apache.seatunnel.api.source.SourceReader.Context context,
@@ -76,8 +79,16 @@ public class FlinkSourceReader<SplitT extends SourceSplit>
 
     @Override
     public InputStatus pollNext(ReaderOutput<SeaTunnelRow> output) throws Exception {
-        if (!((FlinkSourceReaderContext) context).isSendNoMoreElementEvent()) {
+        FlinkSourceReaderContext readerContext = (FlinkSourceReaderContext) context;
+        if (!readerContext.isSendNoMoreElementEvent()) {
+            flinkRowCollector.resetEmptyThisPollNext();
             sourceReader.pollNext(flinkRowCollector.withReaderOutput(output));
+            if (inputStatus == InputStatus.MORE_AVAILABLE
+                    && flinkRowCollector.isEmptyThisPollNext()
+                    && !readerContext.isSendNoMoreElementEvent()) {
+                // flink parks the task on #isAvailable() instead of polling again at once
+                return InputStatus.NOTHING_AVAILABLE;
+            }
         } else {
             // reduce CPU idle
             Thread.sleep(1000L);
@@ -97,18 +108,33 @@ public class FlinkSourceReader<SplitT extends SourceSplit>
 
     @Override
     public CompletableFuture<Void> isAvailable() {
-        return CompletableFuture.completedFuture(null);
+        if (wakeUpFuture.isDone()) {
+            wakeUpFuture = new CompletableFuture<>();
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> readerAvailability = sourceReader.isAvailable();
+        if (readerAvailability.isDone()) {
+            return readerAvailability;
+        }
+        return CompletableFuture.anyOf(readerAvailability, wakeUpFuture).thenApply(ignored -> null);
+    }
+
+    /** Wake up the task parked on {@link #isAvailable()}, e.g. to see the end of input. */
+    private void wakeUp() {
+        wakeUpFuture.complete(null);
     }
 
     @Override
     public void addSplits(List<SplitWrapper<SplitT>> splits) {
         sourceReader.addSplits(
                 splits.stream().map(SplitWrapper::getSourceSplit).collect(Collectors.toList()));
+        wakeUp();
     }
 
     @Override
     public void notifyNoMoreSplits() {
         sourceReader.handleNoMoreSplits();
+        wakeUp();
     }
 
     @Override
@@ -119,6 +145,7 @@ public class FlinkSourceReader<SplitT extends SourceSplit>
         if (sourceEvent instanceof SourceEventWrapper) {
             sourceReader.handleSourceEvent((((SourceEventWrapper) sourceEvent).getSourceEvent()));
         }
+        wakeUp();
     }
 
     @Override
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.source;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.apache.flink.api.connector.source.ReaderOutput;
+import org.apache.flink.core.io.InputStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FlinkSourceReaderTest {
+
+    private final CompletableFuture<Void> readerAvailability = new CompletableFuture<>();
+
+    private SourceReader<SeaTunnelRow, SourceSplit> sourceReader;
+
+    private FlinkSourceReaderContext context;
+
+    private ReaderOutput<SeaTunnelRow> output;
+
+    private FlinkSourceReader<SourceSplit> flinkSourceReader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        sourceReader = mock(SourceReader.class);
+        when(sourceReader.isAvailable()).thenReturn(readerAvailability);
+        MetricsContext metricsContext = mock(MetricsContext.class);
+        when(metricsContext.counter(anyString())).thenReturn(mock(Counter.class));
+        when(metricsContext.meter(anyString())).thenReturn(mock(Meter.class));
+        context = mock(FlinkSourceReaderContext.class);
+        when(context.getMetricsContext()).thenReturn(metricsContext);
+        output = mock(ReaderOutput.class);
+        flinkSourceReader = new FlinkSourceReader<>(sourceReader, context, ConfigFactory.empty());
+    }
+
+    @Test
+    public void testParkOnReaderAvailabilityAfterEmptyPoll() throws Exception {
+        Assertions.assertEquals(InputStatus.NOTHING_AVAILABLE, flinkSourceReader.pollNext(output));
+
+        CompletableFuture<Void> available = flinkSourceReader.isAvailable();
+        Assertions.assertFalse(available.isDone());
+        readerAvailability.complete(null);
+        Assertions.assertTrue(available.isDone());
+    }
+
+    @Test
+    public void testMoreAvailableAfterRecords() throws Exception {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1});
+        doAnswer(
+                        invocation -> {
+                            Collector<SeaTunnelRow> collector = invocation.getArgument(0);
+                            collector.collect(row);
+                            return null;
+                        })
+                .doNothing()
+                .when(sourceReader)
+                .pollNext(any());
+
+        Assertions.assertEquals(InputStatus.MORE_AVAILABLE, flinkSourceReader.pollNext(output));
+        verify(output).collect(row);
+        // the emptiness is tracked per poll
+        Assertions.assertEquals(InputStatus.NOTHING_AVAILABLE, flinkSourceReader.pollNext(output));
+    }
+
+    @Test
+    public void testReaderWithUnknownAvailability() throws Exception {
+        when(sourceReader.isAvailable()).thenReturn(SourceReader.AVAILABILITY_UNKNOWN);
+
+        Assertions.assertEquals(InputStatus.NOTHING_AVAILABLE, flinkSourceReader.pollNext(output));
+        Assertions.assertTrue(flinkSourceReader.isAvailable().isDone());
+    }
+
+    @Test
+    public void testWakeUpOnSplitsAndEvents() throws Exception {
+        Assertions.assertEquals(InputStatus.NOTHING_AVAILABLE, flinkSourceReader.pollNext(output));
+        CompletableFuture<Void> available = flinkSourceReader.isAvailable();
+        flinkSourceReader.addSplits(Collections.emptyList());
+        Assertions.assertTrue(available.isDone());
+        // the wake up is consumed once the task is runnable again
+        Assertions.assertTrue(flinkSourceReader.isAvailable().isDone());
+        Assertions.assertFalse(flinkSourceReader.isAvailable().isDone());
+
+        available = flinkSourceReader.isAvailable();
+        flinkSourceReader.handleSourceEvents(new NoMoreElementEvent(0));
+        Assertions.assertTrue(available.isDone());
+        Assertions.assertEquals(InputStatus.END_OF_INPUT, flinkSourceReader.pollNext(output));
+    }
+
+    @Test
+    public void testNoParkingOnceNoMoreElementIsSignaled() throws Exception {
+        // the reader signals the end of its splits during the poll
+        when(context.isSendNoMoreElementEvent()).thenReturn(false, true);
+
+        Assertions.assertEquals(InputStatus.MORE_AVAILABLE, flinkSourceReader.pollNext(output));
+    }
+}